@@ -0,0 +1,200 @@
+package com.redis.vl.extensions;
+
+import java.time.Duration;
+
+/**
+ * Settings for the write-behind mode of {@link com.redis.vl.extensions.cache.SemanticCache} and
+ * {@link com.redis.vl.extensions.messagehistory.SemanticMessageHistory}.
+ *
+ * <p>In write-behind mode stores return as soon as the entry is queued. A background worker takes
+ * up to {@link #getMaxBatchSize()} queued entries at a time, waiting up to {@link #getMaxDelay()}
+ * for a batch to fill, and writes them with one batch embedding call and one pipeline.
+ */
+public final class WriteBehindOptions {
+
+  /** What a store does when the queue is full. */
+  public enum OverflowPolicy {
+    /** Wait for room in the queue (backpressure). */
+    BLOCK,
+    /** Drop the new entry; its future fails with a {@code RejectedExecutionException}. */
+    DROP_NEWEST,
+    /** Drop the oldest queued entry; its future fails with a {@code RejectedExecutionException}. */
+    DROP_OLDEST
+  }
+
+  private final int capacity;
+  private final int maxBatchSize;
+  private final Duration maxDelay;
+  private final OverflowPolicy overflowPolicy;
+  private final Duration closeTimeout;
+
+  private WriteBehindOptions(Builder builder) {
+    this.capacity = builder.capacity;
+    this.maxBatchSize = builder.maxBatchSize;
+    this.maxDelay = builder.maxDelay;
+    this.overflowPolicy = builder.overflowPolicy;
+    this.closeTimeout = builder.closeTimeout;
+  }
+
+  /**
+   * Get the default settings.
+   *
+   * @return Default write-behind settings
+   */
+  public static WriteBehindOptions defaults() {
+    return builder().build();
+  }
+
+  /**
+   * Create a new builder.
+   *
+   * @return A builder with the default settings
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Get the maximum number of queued entries.
+   *
+   * @return Queue capacity
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Get the maximum number of entries written together.
+   *
+   * @return Maximum batch size
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Get how long the worker waits for a batch to fill once an entry is queued.
+   *
+   * @return Maximum added delay
+   */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Get what a store does when the queue is full.
+   *
+   * @return Overflow policy
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Get how long closing waits for queued entries to be written.
+   *
+   * @return Close timeout
+   */
+  public Duration getCloseTimeout() {
+    return closeTimeout;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "WriteBehindOptions(capacity=%d, max_batch_size=%d, max_delay=%s, overflow_policy=%s)",
+        capacity, maxBatchSize, maxDelay, overflowPolicy);
+  }
+
+  /** Builder for WriteBehindOptions. */
+  public static final class Builder {
+    private int capacity = 10_000;
+    private int maxBatchSize = 64;
+    private Duration maxDelay = Duration.ofMillis(5);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Duration closeTimeout = Duration.ofSeconds(30);
+
+    private Builder() {}
+
+    /**
+     * Set the maximum number of queued entries.
+     *
+     * @param capacity Queue capacity (default: 10000)
+     * @return This builder
+     */
+    public Builder capacity(int capacity) {
+      if (capacity <= 0) {
+        throw new IllegalArgumentException("Write-behind capacity must be positive");
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of entries embedded and written together.
+     *
+     * @param maxBatchSize Maximum batch size (default: 64)
+     * @return This builder
+     */
+    public Builder maxBatchSize(int maxBatchSize) {
+      if (maxBatchSize <= 0) {
+        throw new IllegalArgumentException("Write-behind batch size must be positive");
+      }
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * Set how long the worker waits for more entries once one is queued. Zero writes whatever is
+     * queued straight away.
+     *
+     * @param maxDelay Maximum added delay (default: 5 ms)
+     * @return This builder
+     */
+    public Builder maxDelay(Duration maxDelay) {
+      if (maxDelay == null || maxDelay.isNegative()) {
+        throw new IllegalArgumentException("Write-behind delay cannot be negative");
+      }
+      this.maxDelay = maxDelay;
+      return this;
+    }
+
+    /**
+     * Set what a store does when the queue is full.
+     *
+     * @param overflowPolicy Overflow policy (default: {@link OverflowPolicy#BLOCK})
+     * @return This builder
+     */
+    public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+      if (overflowPolicy == null) {
+        throw new IllegalArgumentException("Overflow policy cannot be null");
+      }
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    /**
+     * Set how long closing waits for queued entries to be written. Entries still queued after it
+     * are dropped.
+     *
+     * @param closeTimeout Close timeout (default: 30 seconds)
+     * @return This builder
+     */
+    public Builder closeTimeout(Duration closeTimeout) {
+      if (closeTimeout == null || closeTimeout.isNegative()) {
+        throw new IllegalArgumentException("Close timeout cannot be negative");
+      }
+      this.closeTimeout = closeTimeout;
+      return this;
+    }
+
+    /**
+     * Build the options.
+     *
+     * @return WriteBehindOptions instance
+     */
+    public WriteBehindOptions build() {
+      return new WriteBehindOptions(this);
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package com.redis.vl.extensions;
+
+import com.redis.vl.exceptions.RedisVLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded queue of pending writes drained in micro-batches by one background thread.
+ *
+ * <p>The worker takes the oldest entry, waits up to {@link WriteBehindOptions#getMaxDelay()} for
+ * more to arrive, and hands up to {@link WriteBehindOptions#getMaxBatchSize()} entries to the
+ * writer in submission order. Each entry's future completes once its batch is written, or fails
+ * with the writer's exception. When the queue is full, stores block or drop entries according to
+ * the {@link WriteBehindOptions.OverflowPolicy}.
+ *
+ * <p>Futures are completed on the worker thread, so dependent stages should not block.
+ *
+ * @param <T> The type of queued entries
+ */
+@Slf4j
+public final class WriteBehindQueue<T> implements AutoCloseable {
+
+  private final WriteBehindOptions options;
+  private final Consumer<List<T>> writer;
+  private final ArrayDeque<Entry<T>> queue = new ArrayDeque<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Condition settled = lock.newCondition();
+  private final Thread worker;
+  private final LongAdder written = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private long nextSequence;
+  // First sequence number of the batch being written, if any
+  private long writingFrom = Long.MAX_VALUE;
+  private boolean closed;
+
+  /**
+   * Start a write-behind queue.
+   *
+   * @param name Name used for the worker thread
+   * @param options Queue settings
+   * @param writer Writes one batch of entries; a thrown exception fails the whole batch
+   */
+  public WriteBehindQueue(String name, WriteBehindOptions options, Consumer<List<T>> writer) {
+    if (options == null) {
+      throw new IllegalArgumentException("Write-behind options cannot be null");
+    }
+    if (writer == null) {
+      throw new IllegalArgumentException("Writer cannot be null");
+    }
+    this.options = options;
+    this.writer = writer;
+    this.worker = new Thread(this::run, "redisvl-write-behind-" + name);
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Queue an entry for writing.
+   *
+   * @param item The entry
+   * @return A future completed once the entry is written. It fails with a {@link
+   *     RejectedExecutionException} if the entry is dropped by the overflow policy, or with a
+   *     {@link RedisVLException} if the queue is closed first.
+   */
+  public CompletableFuture<Void> submit(T item) {
+    Entry<T> entry = new Entry<>(item);
+    Entry<T> evicted = null;
+    RuntimeException rejection = null;
+    lock.lock();
+    try {
+      while (!closed && queue.size() >= options.getCapacity() && rejection == null) {
+        switch (options.getOverflowPolicy()) {
+          case BLOCK -> notFull.await();
+          case DROP_NEWEST ->
+              rejection =
+                  new RejectedExecutionException(
+                      "Write-behind queue is full (" + queue.size() + " entries)");
+          case DROP_OLDEST -> {
+            evicted = queue.pollFirst();
+            settled.signalAll();
+          }
+        }
+      }
+      if (rejection == null && closed) {
+        rejection = new RedisVLException("Write-behind queue is closed");
+      }
+      if (rejection == null) {
+        entry.sequence = nextSequence++;
+        queue.addLast(entry);
+        notEmpty.signal();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejection = new RedisVLException("Interrupted while waiting for room in the queue", e);
+    } finally {
+      lock.unlock();
+    }
+
+    if (evicted != null) {
+      dropped.increment();
+      evicted.future.completeExceptionally(
+          new RejectedExecutionException("Dropped from the full write-behind queue"));
+    }
+    if (rejection != null) {
+      dropped.increment();
+      entry.future.completeExceptionally(rejection);
+    }
+    return entry.future;
+  }
+
+  /**
+   * Wait until every entry queued before this call has been written, failed or dropped.
+   *
+   * @throws RedisVLException if interrupted while waiting
+   */
+  public void flush() {
+    lock.lock();
+    try {
+      long target = nextSequence;
+      while (!settledBefore(target)) {
+        settled.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisVLException("Interrupted while flushing the write-behind queue", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of entries written so far.
+   *
+   * @return Entries written
+   */
+  public long getWrittenCount() {
+    return written.sum();
+  }
+
+  /**
+   * Get the number of batches written so far.
+   *
+   * @return Batches written
+   */
+  public long getBatchCount() {
+    return batches.sum();
+  }
+
+  /**
+   * Get the number of entries dropped by the overflow policy or by closing.
+   *
+   * @return Entries dropped
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Get the number of entries whose batch failed to be written.
+   *
+   * @return Entries failed
+   */
+  public long getFailedCount() {
+    return failed.sum();
+  }
+
+  /**
+   * Get the number of entries waiting to be written, excluding the batch being written.
+   *
+   * @return Queued entries
+   */
+  public int getPendingCount() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stop accepting entries and write those already queued, waiting up to {@link
+   * WriteBehindOptions#getCloseTimeout()}. Entries still queued after that are dropped.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+
+    long timeoutMillis = options.getCloseTimeout().toMillis();
+    if (timeoutMillis > 0 && Thread.currentThread() != worker) {
+      try {
+        worker.join(timeoutMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    List<Entry<T>> remaining;
+    lock.lock();
+    try {
+      remaining = new ArrayList<>(queue);
+      queue.clear();
+      settled.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    if (!remaining.isEmpty()) {
+      log.warn("Dropping {} write-behind entries not written before close", remaining.size());
+    }
+    for (Entry<T> entry : remaining) {
+      dropped.increment();
+      entry.future.completeExceptionally(
+          new RedisVLException("Write-behind queue closed before the entry was written"));
+    }
+  }
+
+  private boolean settledBefore(long target) {
+    Entry<T> oldest = queue.peekFirst();
+    return (oldest == null || oldest.sequence >= target) && writingFrom >= target;
+  }
+
+  private void run() {
+    int maxBatchSize = options.getMaxBatchSize();
+    long maxDelayNanos = options.getMaxDelay().toNanos();
+    List<Entry<T>> batch = new ArrayList<>(maxBatchSize);
+    while (true) {
+      lock.lock();
+      try {
+        while (queue.isEmpty()) {
+          if (closed) {
+            return;
+          }
+          notEmpty.await();
+        }
+        // Give concurrent stores a moment to join the batch
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (!closed && queue.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          notEmpty.awaitNanos(remaining);
+        }
+        while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+          batch.add(queue.pollFirst());
+        }
+        if (batch.isEmpty()) {
+          // Everything was dropped while waiting
+          continue;
+        }
+        writingFrom = batch.get(0).sequence;
+        notFull.signalAll();
+      } catch (InterruptedException e) {
+        log.debug("Write-behind worker interrupted", e);
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        write(batch);
+      } finally {
+        batch.clear();
+        lock.lock();
+        try {
+          writingFrom = Long.MAX_VALUE;
+          settled.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+
+  private void write(List<Entry<T>> batch) {
+    List<T> items = new ArrayList<>(batch.size());
+    for (Entry<T> entry : batch) {
+      items.add(entry.item);
+    }
+    long start = System.nanoTime();
+    try {
+      writer.accept(items);
+    } catch (RuntimeException | Error e) {
+      log.warn("Write-behind batch of {} entries failed", batch.size(), e);
+      failed.add(batch.size());
+      for (Entry<T> entry : batch) {
+        entry.future.completeExceptionally(e);
+      }
+      return;
+    }
+    log.debug(
+        "Wrote {} entries in {} ms",
+        batch.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    written.add(batch.size());
+    batches.increment();
+    for (Entry<T> entry : batch) {
+      entry.future.complete(null);
+    }
+  }
+
+  /** A queued entry and the future waiting for it to be written. */
+  private static final class Entry<T> {
+    private final T item;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private long sequence;
+
+    Entry(T item) {
+      this.item = item;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.redis.vl.extensions.cache;
+
+import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.StandardVectorCodec;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Value formats for embeddings stored by an {@link EmbeddingsCache}.
+ *
+ * <p>{@link #FLOAT32} is the raw little-endian layout written by earlier versions and has no
+ * header. The compact formats start with a 4-byte header: the magic bytes {@code "RV"}, a format
+ * version and the format id. Reading is self-describing, so a cache decodes values written in any
+ * format, whichever format it writes; a value without a recognized header is read as raw float32.
+ */
+public enum EmbeddingFormat {
+  /** Raw little-endian float32, 4 bytes per element. Lossless. */
+  FLOAT32(0) {
+    @Override
+    public byte[] encode(float[] vector) {
+      return ArrayUtils.floatArrayToBytes(vector);
+    }
+
+    @Override
+    boolean matches(int length) {
+      return length % Float.BYTES == 0;
+    }
+
+    @Override
+    float[] decodeBody(byte[] bytes) {
+      return ArrayUtils.bytesToFloatArray(bytes);
+    }
+  },
+
+  /** IEEE 754 half precision, 2 bytes per element. Relative error about 0.05%. */
+  FLOAT16(1) {
+    @Override
+    public byte[] encode(float[] vector) {
+      if (vector == null) {
+        return null;
+      }
+      byte[] bytes = header(vector.length * 2);
+      StandardVectorCodec.FLOAT16.encode(vector, bytes, HEADER_SIZE);
+      return bytes;
+    }
+
+    @Override
+    boolean matches(int length) {
+      return length >= HEADER_SIZE && (length - HEADER_SIZE) % 2 == 0;
+    }
+
+    @Override
+    float[] decodeBody(byte[] bytes) {
+      float[] vector = new float[(bytes.length - HEADER_SIZE) / 2];
+      StandardVectorCodec.FLOAT16.decode(bytes, HEADER_SIZE, vector);
+      return vector;
+    }
+  },
+
+  /**
+   * Signed 8-bit integers scaled by the largest absolute element, 1 byte per element plus a
+   * float32 scale. Absolute error up to 0.4% of the largest element.
+   */
+  INT8(2) {
+    @Override
+    public byte[] encode(float[] vector) {
+      if (vector == null) {
+        return null;
+      }
+      float maxAbs = 0;
+      for (float value : vector) {
+        maxAbs = Math.max(maxAbs, Math.abs(value));
+      }
+      float scale = maxAbs / 127f;
+      float inverse = scale > 0 ? 1 / scale : 0;
+
+      byte[] bytes = header(Float.BYTES + vector.length);
+      FLOAT_LE.set(bytes, HEADER_SIZE, scale);
+      int offset = HEADER_SIZE + Float.BYTES;
+      for (int i = 0; i < vector.length; i++) {
+        bytes[offset + i] = (byte) Math.max(-127, Math.min(127, Math.round(vector[i] * inverse)));
+      }
+      return bytes;
+    }
+
+    @Override
+    boolean matches(int length) {
+      return length >= HEADER_SIZE + Float.BYTES;
+    }
+
+    @Override
+    float[] decodeBody(byte[] bytes) {
+      float scale = (float) FLOAT_LE.get(bytes, HEADER_SIZE);
+      int offset = HEADER_SIZE + Float.BYTES;
+      float[] vector = new float[bytes.length - offset];
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = bytes[offset + i] * scale;
+      }
+      return vector;
+    }
+  };
+
+  /** Size of the header of the compact formats. */
+  static final int HEADER_SIZE = 4;
+
+  private static final byte MAGIC_0 = 'R';
+  private static final byte MAGIC_1 = 'V';
+  private static final byte VERSION = 1;
+  private static final VarHandle FLOAT_LE =
+      MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final byte id;
+
+  EmbeddingFormat(int id) {
+    this.id = (byte) id;
+  }
+
+  /**
+   * Encode an embedding in this format.
+   *
+   * @param vector The embedding
+   * @return The encoded value, or null if {@code vector} is null
+   */
+  public abstract byte[] encode(float[] vector);
+
+  /** Whether a value of this many bytes, header included, is well formed. */
+  abstract boolean matches(int length);
+
+  /** Decode a value known to be in this format. */
+  abstract float[] decodeBody(byte[] bytes);
+
+  /** Allocate a value with this format's header followed by {@code bodySize} bytes. */
+  byte[] header(int bodySize) {
+    byte[] bytes = new byte[HEADER_SIZE + bodySize];
+    bytes[0] = MAGIC_0;
+    bytes[1] = MAGIC_1;
+    bytes[2] = VERSION;
+    bytes[3] = id;
+    return bytes;
+  }
+
+  /**
+   * Detect the format of a stored value from its header.
+   *
+   * @param bytes The stored value
+   * @return The format, {@link #FLOAT32} if the value has no recognized header
+   */
+  public static EmbeddingFormat of(byte[] bytes) {
+    if (bytes.length >= HEADER_SIZE
+        && bytes[0] == MAGIC_0
+        && bytes[1] == MAGIC_1
+        && bytes[2] == VERSION) {
+      for (EmbeddingFormat format : values()) {
+        if (format != FLOAT32 && format.id == bytes[3] && format.matches(bytes.length)) {
+          return format;
+        }
+      }
+    }
+    return FLOAT32;
+  }
+
+  /**
+   * Decode a stored value in any format.
+   *
+   * @param bytes The stored value
+   * @return The embedding, or null if {@code bytes} is null
+   */
+  public static float[] decode(byte[] bytes) {
+    return bytes != null ? of(bytes).decodeBody(bytes) : null;
+  }
+}
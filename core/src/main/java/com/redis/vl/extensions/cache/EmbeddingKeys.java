@@ -0,0 +1,153 @@
+package com.redis.vl.extensions.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Builds {@link EmbeddingsCache} keys: the cache prefix, the model name, a separator and a hash of
+ * the text, written straight into one byte array.
+ *
+ * <p>SHA-256 digests are reused per thread. Hex digits are written from a lookup table, and the
+ * {@link EmbeddingsCache.KeyScheme#SHA256_HEX} layout is byte-for-byte the key earlier versions
+ * built as a string, so existing entries are still found.
+ */
+final class EmbeddingKeys {
+
+  private static final byte SEPARATOR = ':';
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new IllegalStateException("SHA-256 algorithm not available", e);
+            }
+          });
+
+  private final byte[] prefix;
+  private final EmbeddingsCache.KeyScheme scheme;
+
+  EmbeddingKeys(String prefix, EmbeddingsCache.KeyScheme scheme) {
+    this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+    this.scheme = scheme;
+  }
+
+  /**
+   * Build the key of a text and model.
+   *
+   * @param text The input text
+   * @param modelName The name of the embedding model
+   * @return The Redis key
+   */
+  byte[] key(String text, String modelName) {
+    byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+    byte[] hash =
+        scheme.isMurmur() ? murmur3x64x128(textBytes) : SHA_256.get().digest(textBytes);
+    byte[] model = modelName.getBytes(StandardCharsets.UTF_8);
+
+    int hashLength = scheme.isBinary() ? hash.length : hash.length * 2;
+    byte[] key = new byte[prefix.length + model.length + 1 + hashLength];
+    System.arraycopy(prefix, 0, key, 0, prefix.length);
+    System.arraycopy(model, 0, key, prefix.length, model.length);
+    int offset = prefix.length + model.length;
+    key[offset++] = SEPARATOR;
+
+    if (scheme.isBinary()) {
+      System.arraycopy(hash, 0, key, offset, hash.length);
+    } else {
+      for (byte b : hash) {
+        key[offset++] = HEX_DIGITS[(b >> 4) & 0xf];
+        key[offset++] = HEX_DIGITS[b & 0xf];
+      }
+    }
+    return key;
+  }
+
+  /** MurmurHash3 x64 128-bit with seed 0, as two big-endian longs. */
+  static byte[] murmur3x64x128(byte[] data) {
+    final long c1 = 0x87c37b91114253d5L;
+    final long c2 = 0x4cf5ad432745937fL;
+    int blocks = data.length / 16;
+    long h1 = 0;
+    long h2 = 0;
+
+    for (int i = 0; i < blocks; i++) {
+      long k1 = littleEndianLong(data, i * 16);
+      long k2 = littleEndianLong(data, i * 16 + 8);
+
+      k1 *= c1;
+      k1 = Long.rotateLeft(k1, 31);
+      k1 *= c2;
+      h1 ^= k1;
+      h1 = Long.rotateLeft(h1, 27);
+      h1 += h2;
+      h1 = h1 * 5 + 0x52dce729;
+
+      k2 *= c2;
+      k2 = Long.rotateLeft(k2, 33);
+      k2 *= c1;
+      h2 ^= k2;
+      h2 = Long.rotateLeft(h2, 31);
+      h2 += h1;
+      h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    int tail = blocks * 16;
+    long k1 = 0;
+    long k2 = 0;
+    int remaining = data.length - tail;
+    for (int i = remaining - 1; i >= 8; i--) {
+      k2 ^= (data[tail + i] & 0xffL) << ((i - 8) * 8);
+    }
+    if (remaining > 8) {
+      k2 *= c2;
+      k2 = Long.rotateLeft(k2, 33);
+      k2 *= c1;
+      h2 ^= k2;
+    }
+    for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+      k1 ^= (data[tail + i] & 0xffL) << (i * 8);
+    }
+    if (remaining > 0) {
+      k1 *= c1;
+      k1 = Long.rotateLeft(k1, 31);
+      k1 *= c2;
+      h1 ^= k1;
+    }
+
+    h1 ^= data.length;
+    h2 ^= data.length;
+    h1 += h2;
+    h2 += h1;
+    h1 = fmix64(h1);
+    h2 = fmix64(h2);
+    h1 += h2;
+    h2 += h1;
+
+    byte[] hash = new byte[16];
+    for (int i = 0; i < 8; i++) {
+      hash[i] = (byte) (h1 >>> (56 - i * 8));
+      hash[8 + i] = (byte) (h2 >>> (56 - i * 8));
+    }
+    return hash;
+  }
+
+  private static long littleEndianLong(byte[] data, int offset) {
+    long value = 0;
+    for (int i = 7; i >= 0; i--) {
+      value = (value << 8) | (data[offset + i] & 0xffL);
+    }
+    return value;
+  }
+
+  private static long fmix64(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
@@ -1,26 +1,68 @@
 package com.redis.vl.extensions.cache;
 
-import com.redis.vl.utils.ArrayUtils;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import redis.clients.jedis.AbstractPipeline;
 import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
 /**
  * Cache for storing and retrieving text embeddings.
  *
  * <p>This cache stores exact embeddings for text inputs, allowing retrieval of previously computed
  * embeddings.
+ *
+ * <p>Built with {@link Builder}, a cache can also keep recently used embeddings in a byte-budgeted
+ * local tier ({@link Builder#localCache(long)}), answering repeated lookups without a round trip,
+ * and store values in a compact {@link EmbeddingFormat} to save Redis memory.
+ *
+ * <p>Keys are the cache prefix, the model name and a hash of the text. The {@link KeyScheme}
+ * chooses the hash and whether it is hex-encoded or stored as raw bytes; the default keeps the
+ * keys of earlier versions.
  */
 public class EmbeddingsCache extends BaseCache {
 
-  private static final String KEY_SEPARATOR = ":";
+  /** How the text is hashed into the key. */
+  public enum KeyScheme {
+    /** Hex-encoded SHA-256, the key layout of earlier versions (default). */
+    SHA256_HEX(false, false),
+    /** Raw SHA-256 bytes: 32 bytes shorter keys. */
+    SHA256_BINARY(false, true),
+    /** Hex-encoded 128-bit MurmurHash3: faster, not collision resistant against adversaries. */
+    MURMUR3_128_HEX(true, false),
+    /** Raw 128-bit MurmurHash3 bytes: the fastest and shortest keys. */
+    MURMUR3_128_BINARY(true, true);
+
+    private final boolean murmur;
+    private final boolean binary;
+
+    KeyScheme(boolean murmur, boolean binary) {
+      this.murmur = murmur;
+      this.binary = binary;
+    }
+
+    boolean isMurmur() {
+      return murmur;
+    }
+
+    boolean isBinary() {
+      return binary;
+    }
+  }
+
+  private final EmbeddingKeys keys;
+  private final EmbeddingKeys legacyKeys;
+  private final EmbeddingFormat format;
+  private final LocalEmbeddingStore localStore;
+  private final AtomicLong localHitCount = new AtomicLong(0);
 
   /**
    * Creates a new EmbeddingsCache instance.
@@ -31,6 +73,10 @@ public class EmbeddingsCache extends BaseCache {
    */
   public EmbeddingsCache(String name, UnifiedJedis redisClient, Integer ttl) {
     super(name, redisClient, ttl);
+    this.keys = new EmbeddingKeys(prefix, KeyScheme.SHA256_HEX);
+    this.legacyKeys = null;
+    this.format = EmbeddingFormat.FLOAT32;
+    this.localStore = null;
   }
 
   /**
@@ -43,27 +89,36 @@ public class EmbeddingsCache extends BaseCache {
     this(name, redisClient, null);
   }
 
-  private static String bytesToHex(byte[] bytes) {
-    StringBuilder result = new StringBuilder();
-    for (byte b : bytes) {
-      result.append(String.format("%02x", b));
+  private EmbeddingsCache(Builder builder) {
+    super(builder.name, builder.redisClient, builder.ttl);
+    this.keys = new EmbeddingKeys(prefix, builder.keyScheme);
+    this.legacyKeys =
+        builder.legacyKeyFallback && builder.keyScheme != KeyScheme.SHA256_HEX
+            ? new EmbeddingKeys(prefix, KeyScheme.SHA256_HEX)
+            : null;
+    this.format = builder.format;
+    if (builder.localCacheBytes > 0) {
+      Duration localTtl = builder.localCacheTtl;
+      if (ttl != null && ttl > 0 && Duration.ofSeconds(ttl).compareTo(localTtl) < 0) {
+        localTtl = Duration.ofSeconds(ttl);
+      }
+      this.localStore = new LocalEmbeddingStore(builder.localCacheBytes, localTtl);
+    } else {
+      this.localStore = null;
     }
-    return result.toString();
   }
 
   /**
-   * Generate a unique cache key for a text and model combination. Uses SHA256 hash of the text to
-   * handle special characters and long texts.
+   * Generate a unique cache key for a text and model combination. Hashes the text to handle
+   * special characters and long texts.
    */
-  private String generateKey(String text, String modelName) {
-    try {
-      MessageDigest digest = MessageDigest.getInstance("SHA-256");
-      byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
-      String textHash = bytesToHex(hash);
-      return makeKey(modelName + KEY_SEPARATOR + textHash);
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException("SHA-256 algorithm not available", e);
-    }
+  byte[] generateKey(String text, String modelName) {
+    return keys.key(text, modelName);
+  }
+
+  /** The key earlier versions used, when reads fall back to it; otherwise null. */
+  private byte[] legacyKey(String text, String modelName) {
+    return legacyKeys != null ? legacyKeys.key(text, modelName) : null;
   }
 
   /**
@@ -74,10 +129,9 @@ public class EmbeddingsCache extends BaseCache {
    * @param embedding The embedding vector
    */
   public void set(String text, String modelName, float[] embedding) {
-    String key = generateKey(text, modelName);
-    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-    byte[] valueBytes = ArrayUtils.floatArrayToBytes(embedding);
-    setWithTtl(keyBytes, valueBytes, null);
+    byte[] key = generateKey(text, modelName);
+    setWithTtl(key, format.encode(embedding), null);
+    cacheLocally(key, embedding);
   }
 
   /**
@@ -89,10 +143,9 @@ public class EmbeddingsCache extends BaseCache {
    * @param ttl Time-to-live in seconds
    */
   public void setWithTTL(String text, String modelName, float[] embedding, int ttl) {
-    String key = generateKey(text, modelName);
-    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-    byte[] valueBytes = ArrayUtils.floatArrayToBytes(embedding);
-    setWithTtl(keyBytes, valueBytes, ttl);
+    byte[] key = generateKey(text, modelName);
+    setWithTtl(key, format.encode(embedding), ttl);
+    cacheLocally(key, embedding);
   }
 
   /**
@@ -103,15 +156,25 @@ public class EmbeddingsCache extends BaseCache {
    * @return Optional containing the embedding if found, empty otherwise
    */
   public Optional<float[]> get(String text, String modelName) {
-    String key = generateKey(text, modelName);
-    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-    byte[] valueBytes = redisClient.get(keyBytes);
+    byte[] key = generateKey(text, modelName);
+    float[] local = getLocally(key);
+    if (local != null) {
+      return Optional.of(local);
+    }
+
+    byte[] valueBytes = redisClient.get(key);
+    byte[] legacyKey = valueBytes == null ? legacyKey(text, modelName) : null;
+    if (legacyKey != null) {
+      valueBytes = redisClient.get(legacyKey);
+    }
 
     if (valueBytes == null) {
       return Optional.empty();
     }
 
-    return Optional.of(ArrayUtils.bytesToFloatArray(valueBytes));
+    float[] embedding = EmbeddingFormat.decode(valueBytes);
+    cacheLocally(key, embedding);
+    return Optional.of(embedding);
   }
 
   /**
@@ -122,8 +185,12 @@ public class EmbeddingsCache extends BaseCache {
    * @return true if the embedding exists, false otherwise
    */
   public boolean exists(String text, String modelName) {
-    String key = generateKey(text, modelName);
-    return redisClient.exists(key);
+    byte[] key = generateKey(text, modelName);
+    if (getLocally(key) != null || redisClient.exists(key)) {
+      return true;
+    }
+    byte[] legacyKey = legacyKey(text, modelName);
+    return legacyKey != null && redisClient.exists(legacyKey);
   }
 
   /**
@@ -133,8 +200,16 @@ public class EmbeddingsCache extends BaseCache {
    * @param modelName The name of the embedding model
    */
   public void drop(String text, String modelName) {
-    String key = generateKey(text, modelName);
-    redisClient.del(key);
+    byte[] key = generateKey(text, modelName);
+    if (localStore != null) {
+      localStore.remove(localKey(key));
+    }
+    byte[] legacyKey = legacyKey(text, modelName);
+    if (legacyKey != null) {
+      redisClient.del(key, legacyKey);
+    } else {
+      redisClient.del(key);
+    }
   }
 
   /**
@@ -145,8 +220,14 @@ public class EmbeddingsCache extends BaseCache {
    * @param ttl New time-to-live in seconds
    */
   public void updateTTL(String text, String modelName, int ttl) {
-    String key = generateKey(text, modelName);
-    expire(key, ttl);
+    if (ttl <= 0) {
+      return;
+    }
+    redisClient.expire(generateKey(text, modelName), ttl);
+    byte[] legacyKey = legacyKey(text, modelName);
+    if (legacyKey != null) {
+      redisClient.expire(legacyKey, ttl);
+    }
   }
 
   /**
@@ -162,9 +243,9 @@ public class EmbeddingsCache extends BaseCache {
 
     try (AbstractPipeline pipeline = redisClient.pipelined()) {
       for (Map.Entry<String, float[]> entry : embeddings.entrySet()) {
-        String key = generateKey(entry.getKey(), modelName);
-        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        byte[] valueBytes = ArrayUtils.floatArrayToBytes(entry.getValue());
+        byte[] keyBytes = generateKey(entry.getKey(), modelName);
+        byte[] valueBytes = format.encode(entry.getValue());
+        cacheLocally(keyBytes, entry.getValue());
 
         if (ttl != null && ttl > 0) {
           pipeline.set(keyBytes, valueBytes, new redis.clients.jedis.params.SetParams().ex(ttl));
@@ -190,13 +271,30 @@ public class EmbeddingsCache extends BaseCache {
     }
 
     Map<String, float[]> results = new HashMap<>();
+    Map<String, byte[]> missingKeys = new HashMap<>();
+    for (String text : texts) {
+      byte[] key = generateKey(text, modelName);
+      float[] local = getLocally(key);
+      if (local != null) {
+        results.put(text, local);
+      } else {
+        missingKeys.put(text, key);
+      }
+    }
+    if (missingKeys.isEmpty()) {
+      return results;
+    }
+
     Map<String, Response<byte[]>> responses = new HashMap<>();
+    Map<String, Response<byte[]>> legacyResponses = new HashMap<>();
 
     try (AbstractPipeline pipeline = redisClient.pipelined()) {
-      for (String text : texts) {
-        String key = generateKey(text, modelName);
-        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        responses.put(text, pipeline.get(keyBytes));
+      for (Map.Entry<String, byte[]> entry : missingKeys.entrySet()) {
+        responses.put(entry.getKey(), pipeline.get(entry.getValue()));
+        byte[] legacyKey = legacyKey(entry.getKey(), modelName);
+        if (legacyKey != null) {
+          legacyResponses.put(entry.getKey(), pipeline.get(legacyKey));
+        }
       }
 
       pipeline.sync();
@@ -204,8 +302,13 @@ public class EmbeddingsCache extends BaseCache {
 
     for (Map.Entry<String, Response<byte[]>> entry : responses.entrySet()) {
       byte[] valueBytes = entry.getValue().get();
+      if (valueBytes == null && legacyResponses.containsKey(entry.getKey())) {
+        valueBytes = legacyResponses.get(entry.getKey()).get();
+      }
       if (valueBytes != null) {
-        results.put(entry.getKey(), ArrayUtils.bytesToFloatArray(valueBytes));
+        float[] embedding = EmbeddingFormat.decode(valueBytes);
+        cacheLocally(missingKeys.get(entry.getKey()), embedding);
+        results.put(entry.getKey(), embedding);
       }
     }
 
@@ -226,18 +329,23 @@ public class EmbeddingsCache extends BaseCache {
 
     Map<String, Boolean> results = new HashMap<>();
     Map<String, Response<Boolean>> responses = new HashMap<>();
+    Map<String, Response<Boolean>> legacyResponses = new HashMap<>();
 
     try (AbstractPipeline pipeline = redisClient.pipelined()) {
       for (String text : texts) {
-        String key = generateKey(text, modelName);
-        responses.put(text, pipeline.exists(key));
+        responses.put(text, pipeline.exists(generateKey(text, modelName)));
+        byte[] legacyKey = legacyKey(text, modelName);
+        if (legacyKey != null) {
+          legacyResponses.put(text, pipeline.exists(legacyKey));
+        }
       }
 
       pipeline.sync();
     }
 
     for (Map.Entry<String, Response<Boolean>> entry : responses.entrySet()) {
-      results.put(entry.getKey(), entry.getValue().get());
+      Response<Boolean> legacy = legacyResponses.get(entry.getKey());
+      results.put(entry.getKey(), entry.getValue().get() || (legacy != null && legacy.get()));
     }
 
     return results;
@@ -254,8 +362,251 @@ public class EmbeddingsCache extends BaseCache {
       return;
     }
 
-    String[] keys = texts.stream().map(text -> generateKey(text, modelName)).toArray(String[]::new);
+    List<byte[]> keysToDelete = new ArrayList<>(texts.size());
+    for (String text : texts) {
+      byte[] key = generateKey(text, modelName);
+      keysToDelete.add(key);
+      if (localStore != null) {
+        localStore.remove(localKey(key));
+      }
+      byte[] legacyKey = legacyKey(text, modelName);
+      if (legacyKey != null) {
+        keysToDelete.add(legacyKey);
+      }
+    }
+
+    redisClient.del(keysToDelete.toArray(new byte[0][]));
+  }
+
+  /**
+   * Clear the cache, including the local tier. Keys are scanned as bytes, so binary keys are
+   * deleted too.
+   */
+  @Override
+  public void clear() {
+    if (localStore != null) {
+      localStore.clear();
+    }
+
+    byte[] cursor = ScanParams.SCAN_POINTER_START_BINARY;
+    ScanParams scanParams = new ScanParams();
+    scanParams.match((prefix + "*").getBytes(StandardCharsets.UTF_8));
+    scanParams.count(100);
+
+    ScanResult<byte[]> scanResult;
+    do {
+      scanResult = redisClient.scan(cursor, scanParams);
+      List<byte[]> keys = scanResult.getResult();
+
+      if (!keys.isEmpty()) {
+        redisClient.del(keys.toArray(new byte[0][]));
+      }
+
+      cursor = scanResult.getCursorAsBytes();
+    } while (!scanResult.isCompleteIteration());
+  }
+
+  /**
+   * Get the format new values are written in.
+   *
+   * @return The value format
+   */
+  public EmbeddingFormat getFormat() {
+    return format;
+  }
+
+  /**
+   * Get the number of lookups answered by the local tier.
+   *
+   * @return Local tier hits, 0 when the local tier is disabled
+   */
+  public long getLocalHitCount() {
+    return localHitCount.get();
+  }
+
+  /**
+   * Get the number of embeddings held by the local tier.
+   *
+   * @return Local tier entries, 0 when the local tier is disabled
+   */
+  public int getLocalCacheSize() {
+    return localStore != null ? localStore.size() : 0;
+  }
+
+  /**
+   * Get the estimated memory held by the local tier.
+   *
+   * @return Estimated bytes, 0 when the local tier is disabled
+   */
+  public long getLocalCacheBytes() {
+    return localStore != null ? localStore.usedBytes() : 0;
+  }
+
+  /** Local tier key: the Redis key bytes, one char per byte. */
+  private static String localKey(byte[] key) {
+    return new String(key, StandardCharsets.ISO_8859_1);
+  }
+
+  private float[] getLocally(byte[] key) {
+    if (localStore == null) {
+      return null;
+    }
+    float[] embedding = localStore.get(localKey(key));
+    if (embedding != null) {
+      localHitCount.incrementAndGet();
+    }
+    return embedding;
+  }
+
+  private void cacheLocally(byte[] key, float[] embedding) {
+    if (localStore != null && embedding != null) {
+      localStore.put(localKey(key), embedding);
+    }
+  }
+
+  /** Builder for EmbeddingsCache. */
+  public static class Builder {
+    private String name;
+    private UnifiedJedis redisClient;
+    private Integer ttl;
+    private EmbeddingFormat format = EmbeddingFormat.FLOAT32;
+    private long localCacheBytes;
+    private Duration localCacheTtl = Duration.ofMinutes(10);
+    private KeyScheme keyScheme = KeyScheme.SHA256_HEX;
+    private boolean legacyKeyFallback;
+
+    /** Create a new Builder instance */
+    public Builder() {
+      // Default constructor
+    }
+
+    /**
+     * Set the cache name
+     *
+     * @param name Cache name
+     * @return This builder
+     */
+    public Builder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Set the Redis client
+     *
+     * @param redisClient UnifiedJedis client
+     * @return This builder
+     */
+    @edu.umd.cs.findbugs.annotations.SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification =
+            "UnifiedJedis is a connection client intentionally shared across components")
+    public Builder redisClient(UnifiedJedis redisClient) {
+      this.redisClient = redisClient;
+      return this;
+    }
+
+    /**
+     * Set the TTL for cache entries
+     *
+     * @param ttl Time-to-live in seconds
+     * @return This builder
+     */
+    public Builder ttl(Integer ttl) {
+      this.ttl = ttl;
+      return this;
+    }
+
+    /**
+     * Set the format new values are written in. Values in any format are read, so caches sharing
+     * a name may use different formats, e.g. during a migration.
+     *
+     * @param format Value format (default: {@link EmbeddingFormat#FLOAT32})
+     * @return This builder
+     */
+    public Builder format(EmbeddingFormat format) {
+      if (format == null) {
+        throw new IllegalArgumentException("Embedding format cannot be null");
+      }
+      this.format = format;
+      return this;
+    }
+
+    /**
+     * Enable an in-process tier holding recently used embeddings within an estimated memory
+     * budget, evicting least-recently-used entries. Entries dropped or changed through other
+     * clients are served until their local TTL runs out.
+     *
+     * @param maxBytes Memory budget in bytes (0 disables the local tier, the default)
+     * @return This builder
+     */
+    public Builder localCache(long maxBytes) {
+      if (maxBytes < 0) {
+        throw new IllegalArgumentException("Local cache size cannot be negative");
+      }
+      this.localCacheBytes = maxBytes;
+      return this;
+    }
 
-    redisClient.del(keys);
+    /**
+     * Set how long the local tier serves an embedding before reading Redis again. Capped at the
+     * cache TTL when one is set.
+     *
+     * @param ttl Local entry lifetime (default: 10 minutes)
+     * @return This builder
+     */
+    public Builder localCacheTtl(Duration ttl) {
+      if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+        throw new IllegalArgumentException("Local cache TTL must be positive");
+      }
+      this.localCacheTtl = ttl;
+      return this;
+    }
+
+    /**
+     * Set how texts are hashed into keys. Entries written under another scheme are not found;
+     * enable {@link #legacyKeyFallback(boolean)} to keep reading those of the default scheme
+     * while migrating.
+     *
+     * @param keyScheme Key scheme (default: {@link KeyScheme#SHA256_HEX})
+     * @return This builder
+     */
+    public Builder keyScheme(KeyScheme keyScheme) {
+      if (keyScheme == null) {
+        throw new IllegalArgumentException("Key scheme cannot be null");
+      }
+      this.keyScheme = keyScheme;
+      return this;
+    }
+
+    /**
+     * When a key is missing under a non-default {@link KeyScheme}, also look for the entry under
+     * its {@link KeyScheme#SHA256_HEX} key, as written by earlier versions. Drops and TTL updates
+     * apply to both keys. New entries are only written under the configured scheme, so the
+     * fallback can be turned off once the old entries have expired or been cleared.
+     *
+     * @param enabled Whether to read legacy keys (default: false)
+     * @return This builder
+     */
+    public Builder legacyKeyFallback(boolean enabled) {
+      this.legacyKeyFallback = enabled;
+      return this;
+    }
+
+    /**
+     * Build the EmbeddingsCache
+     *
+     * @return EmbeddingsCache instance
+     */
+    public EmbeddingsCache build() {
+      if (name == null || name.isEmpty()) {
+        throw new IllegalArgumentException("Cache name is required");
+      }
+      if (redisClient == null) {
+        throw new IllegalArgumentException("Redis client is required");
+      }
+
+      return new EmbeddingsCache(this);
+    }
   }
 }
@@ -0,0 +1,119 @@
+package com.redis.vl.extensions.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-process tier in front of an {@link EmbeddingsCache}.
+ *
+ * <p>Embeddings are kept as primitive float arrays keyed by their Redis key. The total estimated
+ * size of keys and arrays is kept within {@code maxBytes} by evicting least-recently-used entries,
+ * and entries expire after {@code ttl}. Arrays are copied on the way in and out, so callers cannot
+ * change cached values.
+ */
+final class LocalEmbeddingStore {
+
+  // Rough per-entry cost of the map node, entry record, key string and array headers
+  private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+  private final long maxBytes;
+  private final long ttlNanos;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long usedBytes;
+
+  LocalEmbeddingStore(long maxBytes, Duration ttl) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Local cache size must be positive");
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Local cache TTL must be positive");
+    }
+    this.maxBytes = maxBytes;
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /**
+   * Get a copy of the embedding stored for a key.
+   *
+   * @param key The Redis key
+   * @return The embedding, or null if absent or expired
+   */
+  synchronized float[] get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (System.nanoTime() - entry.expiresAt() >= 0) {
+      remove(key);
+      return null;
+    }
+    return entry.vector().clone();
+  }
+
+  /**
+   * Store a copy of an embedding, evicting least-recently-used entries to stay within the byte
+   * budget. Embeddings larger than the whole budget are not stored.
+   *
+   * @param key The Redis key
+   * @param vector The embedding
+   */
+  synchronized void put(String key, float[] vector) {
+    remove(key);
+    long size = sizeOf(key, vector);
+    if (size > maxBytes) {
+      return;
+    }
+    entries.put(key, new Entry(vector.clone(), size, System.nanoTime() + ttlNanos));
+    usedBytes += size;
+
+    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+    while (usedBytes > maxBytes && eldest.hasNext()) {
+      usedBytes -= eldest.next().getValue().size();
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Drop the embedding stored for a key.
+   *
+   * @param key The Redis key
+   */
+  synchronized void remove(String key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      usedBytes -= removed.size();
+    }
+  }
+
+  /** Drop every embedding. */
+  synchronized void clear() {
+    entries.clear();
+    usedBytes = 0;
+  }
+
+  /**
+   * Get the number of embeddings held.
+   *
+   * @return Entries held, including expired ones not yet removed
+   */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Get the estimated memory held by keys and embeddings.
+   *
+   * @return Estimated bytes used
+   */
+  synchronized long usedBytes() {
+    return usedBytes;
+  }
+
+  private static long sizeOf(String key, float[] vector) {
+    return ENTRY_OVERHEAD_BYTES + 2L * key.length() + (long) Float.BYTES * vector.length;
+  }
+
+  private record Entry(float[] vector, long size, long expiresAt) {}
+}
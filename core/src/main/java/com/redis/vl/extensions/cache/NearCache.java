@@ -0,0 +1,387 @@
+package com.redis.vl.extensions.cache;
+
+import com.redis.vl.utils.Utils;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * Bounded in-process tier in front of a {@link SemanticCache}'s Redis index.
+ *
+ * <p>Hits served by Redis are kept by exact prompt (and filter), so a prompt that repeats word for
+ * word is answered without embedding it or searching the index. Optionally the normalized query
+ * embeddings of those prompts are kept too, and a new prompt whose embedding is close enough to
+ * one of them is served locally after embedding but without a search.
+ *
+ * <p>Entries are evicted least-recently-used beyond {@code maxEntries} and expire after {@code
+ * ttl}. Changes made through the owning cache invalidate entries directly; changes made by other
+ * clients, and Redis TTL expiry, are only seen through keyspace notifications (see {@link
+ * #listen(UnifiedJedis, String)}), otherwise entries may be served until their local TTL runs out.
+ */
+@Slf4j
+final class NearCache implements AutoCloseable {
+
+  private static final String NO_FILTER = "";
+  private static final long RESUBSCRIBE_DELAY_MILLIS = 1000;
+
+  private final int maxEntries;
+  private final long ttlNanos;
+  private final boolean similaritySearch;
+  private final LinkedHashMap<EntryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Set<EntryKey>> keysByRedisKey = new HashMap<>();
+  // Generation of the latest invalidation of each recently invalidated Redis key
+  private final LinkedHashMap<String, Long> recentInvalidations;
+  private long generation;
+  // Latest generation of an invalidation not recorded per key: a broad one or a forgotten one
+  private long untrackedInvalidation;
+  private volatile Invalidator invalidator;
+
+  NearCache(int maxEntries, Duration ttl, boolean similaritySearch) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("Near cache size must be positive");
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Near cache TTL must be positive");
+    }
+    this.maxEntries = maxEntries;
+    this.ttlNanos = ttl.toNanos();
+    this.similaritySearch = similaritySearch;
+    this.recentInvalidations =
+        new LinkedHashMap<>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            if (size() <= maxEntries) {
+              return false;
+            }
+            untrackedInvalidation = Math.max(untrackedInvalidation, eldest.getValue());
+            return true;
+          }
+        };
+  }
+
+  /**
+   * Get the current invalidation generation. Read it before searching Redis and pass it to {@link
+   * #put}, so that a hit invalidated while the search was in flight is not kept.
+   *
+   * @return The generation
+   */
+  synchronized long generation() {
+    return generation;
+  }
+
+  /**
+   * Look up a previously served hit for the exact prompt and filter.
+   *
+   * @param prompt The prompt
+   * @param filter The filter query string, or null
+   * @param distanceThreshold The cache's current distance threshold
+   * @return The hit, or null
+   */
+  synchronized CacheHit get(String prompt, String filter, float distanceThreshold) {
+    EntryKey key = new EntryKey(prompt, filter != null ? filter : NO_FILTER);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime()) || entry.hit().getDistance() > distanceThreshold) {
+      remove(key);
+      return null;
+    }
+    return entry.hit();
+  }
+
+  /**
+   * Look up the unfiltered entry whose query embedding is closest to {@code vector}. The returned
+   * hit's distance is the local cosine distance plus the distance of the original hit, and must
+   * not exceed the threshold.
+   *
+   * @param vector The query embedding
+   * @param distanceThreshold The cache's current distance threshold
+   * @return The hit, or null if similarity search is disabled or nothing is close enough
+   */
+  synchronized CacheHit getSimilar(float[] vector, float distanceThreshold) {
+    if (!similaritySearch || entries.isEmpty()) {
+      return null;
+    }
+    float[] normalized = normalize(vector);
+    if (normalized == null) {
+      return null;
+    }
+    long now = System.nanoTime();
+    Entry best = null;
+    float bestDistance = Float.MAX_VALUE;
+    for (Entry entry : entries.values()) {
+      if (entry.vector() == null
+          || !NO_FILTER.equals(entry.key().filter())
+          || entry.isExpired(now)
+          || entry.vector().length != normalized.length) {
+        continue;
+      }
+      float distance = 1f - dot(entry.vector(), normalized) + entry.hit().getDistance();
+      if (distance < bestDistance) {
+        best = entry;
+        bestDistance = distance;
+      }
+    }
+    if (best == null || bestDistance > distanceThreshold) {
+      return null;
+    }
+    // Touch the entry so that it counts as recently used
+    entries.get(best.key());
+    CacheHit hit = best.hit();
+    return new CacheHit(
+        hit.getPrompt(), hit.getResponse(), Math.max(0f, bestDistance), hit.getMetadata());
+  }
+
+  /**
+   * Keep a hit served by Redis, unless its key or the prompt was invalidated since {@code
+   * generation} was read.
+   *
+   * @param prompt The prompt that was checked
+   * @param filter The filter query string, or null
+   * @param redisKey The key of the matched cache entry
+   * @param hit The hit
+   * @param vector The prompt's embedding
+   * @param generation The {@link #generation()} read before the search
+   */
+  synchronized void put(
+      String prompt,
+      String filter,
+      String redisKey,
+      CacheHit hit,
+      float[] vector,
+      long generation) {
+    if (generation < untrackedInvalidation
+        || generation < recentInvalidations.getOrDefault(redisKey, Long.MIN_VALUE)) {
+      return;
+    }
+    EntryKey key = new EntryKey(prompt, filter != null ? filter : NO_FILTER);
+    remove(key);
+    entries.put(
+        key,
+        new Entry(
+            key,
+            redisKey,
+            hit,
+            similaritySearch ? normalize(vector) : null,
+            System.nanoTime() + ttlNanos));
+    keysByRedisKey.computeIfAbsent(redisKey, k -> new HashSet<>()).add(key);
+
+    Iterator<Map.Entry<EntryKey, Entry>> eldest = entries.entrySet().iterator();
+    while (entries.size() > maxEntries && eldest.hasNext()) {
+      Entry evicted = eldest.next().getValue();
+      eldest.remove();
+      unlink(evicted);
+    }
+  }
+
+  /**
+   * Drop every entry served from a Redis key.
+   *
+   * @param redisKey The Redis key that changed
+   */
+  synchronized void invalidateKey(String redisKey) {
+    recentInvalidations.put(redisKey, ++generation);
+    Set<EntryKey> keys = keysByRedisKey.remove(redisKey);
+    if (keys != null) {
+      for (EntryKey key : keys) {
+        entries.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Drop every entry for a prompt, whatever its filter.
+   *
+   * @param prompt The prompt
+   */
+  synchronized void invalidatePrompt(String prompt) {
+    untrackedInvalidation = ++generation;
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (entry.key().prompt().equals(prompt)) {
+        iterator.remove();
+        unlink(entry);
+      }
+    }
+  }
+
+  /** Drop every entry. */
+  synchronized void invalidateAll() {
+    untrackedInvalidation = ++generation;
+    recentInvalidations.clear();
+    entries.clear();
+    keysByRedisKey.clear();
+  }
+
+  /**
+   * Get the number of entries held.
+   *
+   * @return Entries held, including expired ones not yet removed
+   */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Invalidate entries from Redis keyspace notifications for keys under {@code prefix}, on a
+   * background thread holding one connection.
+   *
+   * <p>The server must publish generic, expired, evicted and hash events for keyspace channels,
+   * e.g. {@code CONFIG SET notify-keyspace-events Kghxe}. Notifications are not delivered while the
+   * subscription is down, so every entry is dropped whenever it is (re)established. On a cluster
+   * only the notifications of the node serving the subscription are received.
+   *
+   * @param client The Redis client
+   * @param prefix The key prefix of the cache entries
+   */
+  synchronized void listen(UnifiedJedis client, String prefix) {
+    if (invalidator != null) {
+      return;
+    }
+    invalidator = new Invalidator(client, "__keyspace@*__:" + Utils.escapeGlob(prefix) + "*");
+    Thread thread = new Thread(invalidator, "redisvl-near-cache-" + prefix);
+    thread.setDaemon(true);
+    invalidator.thread = thread;
+    thread.start();
+  }
+
+  /** Stop listening for invalidations and drop every entry. */
+  @Override
+  public void close() {
+    Invalidator current;
+    synchronized (this) {
+      current = invalidator;
+      invalidator = null;
+    }
+    if (current != null) {
+      current.stop();
+    }
+    invalidateAll();
+  }
+
+  private void remove(EntryKey key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      unlink(removed);
+    }
+  }
+
+  private void unlink(Entry entry) {
+    Set<EntryKey> keys = keysByRedisKey.get(entry.redisKey());
+    if (keys != null && keys.remove(entry.key()) && keys.isEmpty()) {
+      keysByRedisKey.remove(entry.redisKey());
+    }
+  }
+
+  private static float[] normalize(float[] vector) {
+    if (vector == null) {
+      return null;
+    }
+    double norm = 0;
+    for (float v : vector) {
+      norm += v * v;
+    }
+    if (norm == 0) {
+      return null;
+    }
+    float scale = (float) (1 / Math.sqrt(norm));
+    float[] normalized = new float[vector.length];
+    for (int i = 0; i < vector.length; i++) {
+      normalized[i] = vector[i] * scale;
+    }
+    return normalized;
+  }
+
+  private static float dot(float[] a, float[] b) {
+    float sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+  private record EntryKey(String prompt, String filter) {}
+
+  private record Entry(
+      EntryKey key, String redisKey, CacheHit hit, float[] vector, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+
+  /** Keyspace notification subscriber; resubscribes until stopped. */
+  private final class Invalidator extends JedisPubSub implements Runnable {
+    private final UnifiedJedis client;
+    private final String pattern;
+    private volatile boolean stopped;
+    private Thread thread;
+
+    Invalidator(UnifiedJedis client, String pattern) {
+      this.client = client;
+      this.pattern = pattern;
+    }
+
+    @Override
+    public void run() {
+      while (!stopped) {
+        try {
+          client.psubscribe(this, pattern);
+        } catch (Exception e) {
+          if (stopped) {
+            break;
+          }
+          log.warn("Near cache invalidation subscription failed; retrying", e);
+        }
+        if (stopped) {
+          break;
+        }
+        // Notifications were missed while unsubscribed
+        invalidateAll();
+        try {
+          TimeUnit.MILLISECONDS.sleep(RESUBSCRIBE_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    }
+
+    @Override
+    public void onPSubscribe(String pattern, int subscribedChannels) {
+      invalidateAll();
+      if (stopped) {
+        punsubscribe();
+      }
+    }
+
+    @Override
+    public void onPMessage(String pattern, String channel, String message) {
+      int separator = channel.indexOf("__:");
+      if (separator >= 0) {
+        invalidateKey(channel.substring(separator + 3));
+      }
+    }
+
+    void stop() {
+      stopped = true;
+      try {
+        if (isSubscribed()) {
+          punsubscribe();
+        }
+      } catch (Exception e) {
+        log.debug("Failed to unsubscribe near cache invalidation", e);
+      }
+      thread.interrupt();
+    }
+  }
+}
@@ -2,14 +2,18 @@ package com.redis.vl.extensions.cache;
 
 import static com.redis.vl.extensions.ExtensionConstants.*;
 
+import com.redis.vl.extensions.WriteBehindOptions;
+import com.redis.vl.extensions.WriteBehindQueue;
 import com.redis.vl.index.SearchIndex;
 import com.redis.vl.query.Filter;
 import com.redis.vl.query.VectorQuery;
 import com.redis.vl.schema.IndexSchema;
 import com.redis.vl.schema.VectorField;
 import com.redis.vl.utils.vectorize.BaseVectorizer;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import redis.clients.jedis.UnifiedJedis;
@@ -20,6 +24,14 @@ import redis.clients.jedis.search.SearchResult;
 /**
  * Semantic cache for LLM responses using vector similarity. Port of
  * redis-vl-python/redisvl/extensions/cache/llm/semantic.py
+ *
+ * <p>An optional in-process near cache ({@link Builder#nearCache(int)}) answers repeated prompts
+ * without an embedding or a search round trip. Hits are then counted per tier: see {@link
+ * #getL1HitCount()} and {@link #getL2HitCount()}.
+ *
+ * <p>In write-behind mode ({@link Builder#writeBehind(WriteBehindOptions)}) stores are queued and
+ * written in the background, many at a time, so they add no embedding or Redis latency to the
+ * caller. A queued entry is not visible to checks until it is written; see {@link #flush()}.
  */
 public class SemanticCache extends BaseCache {
 
@@ -28,6 +40,10 @@ public class SemanticCache extends BaseCache {
   // Statistics tracking
   private final AtomicLong hitCount = new AtomicLong(0);
   private final AtomicLong missCount = new AtomicLong(0);
+  private final AtomicLong l1HitCount = new AtomicLong(0);
+  private final AtomicLong l2HitCount = new AtomicLong(0);
+  private final NearCache nearCache;
+  private final WriteBehindQueue<PendingStore> writeBehind;
   private float distanceThreshold;
 
   private SemanticCache(Builder builder) {
@@ -44,6 +60,25 @@ public class SemanticCache extends BaseCache {
     } catch (Exception e) {
       // Index might already exist, try to use it
     }
+
+    if (builder.nearCacheSize > 0) {
+      Duration nearCacheTtl = builder.nearCacheTtl;
+      if (ttl != null && ttl > 0 && Duration.ofSeconds(ttl).compareTo(nearCacheTtl) < 0) {
+        nearCacheTtl = Duration.ofSeconds(ttl);
+      }
+      this.nearCache =
+          new NearCache(builder.nearCacheSize, nearCacheTtl, builder.nearCacheSimilaritySearch);
+      if (builder.nearCacheInvalidation) {
+        nearCache.listen(builder.redisClient, prefix);
+      }
+    } else {
+      this.nearCache = null;
+    }
+
+    this.writeBehind =
+        builder.writeBehind != null
+            ? new WriteBehindQueue<>(name, builder.writeBehind, this::writeStores)
+            : null;
   }
 
   private SearchIndex createIndex(String name, int dimensions, UnifiedJedis client) {
@@ -102,35 +137,108 @@ public class SemanticCache extends BaseCache {
    * @param metadata Additional metadata
    */
   public void store(String prompt, String response, Map<String, Object> metadata) {
+    storeEntry(new PendingStore(prompt, response, metadata, entryTtl()));
+  }
+
+  /**
+   * Store a prompt-response pair, completing the returned future once it is written. In
+   * write-behind mode this returns as soon as the pair is queued; otherwise it is written before
+   * returning.
+   *
+   * @param prompt The prompt text
+   * @param response The response text
+   * @return A future completed once the pair is stored, or failed with the write error
+   */
+  public CompletableFuture<Void> storeAsync(String prompt, String response) {
+    return storeAsync(prompt, response, null);
+  }
+
+  /**
+   * Store a prompt-response pair with metadata, completing the returned future once it is
+   * written. In write-behind mode this returns as soon as the pair is queued; otherwise it is
+   * written before returning.
+   *
+   * @param prompt The prompt text
+   * @param response The response text
+   * @param metadata Additional metadata
+   * @return A future completed once the pair is stored, or failed with the write error
+   */
+  public CompletableFuture<Void> storeAsync(
+      String prompt, String response, Map<String, Object> metadata) {
+    try {
+      return storeEntry(new PendingStore(prompt, response, metadata, entryTtl()));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /** Queue the entry in write-behind mode, otherwise embed and write it now. */
+  private CompletableFuture<Void> storeEntry(PendingStore entry) {
+    if (nearCache != null) {
+      nearCache.invalidatePrompt(entry.prompt());
+    }
+    if (writeBehind != null) {
+      return writeBehind.submit(entry);
+    }
+
     // Generate embedding for prompt
-    float[] embedding = vectorizer.embed(prompt);
+    float[] embedding = vectorizer.embed(entry.prompt());
+
+    // Store in Redis, setting the TTL in the same pipeline
+    Map<String, Object> doc =
+        cacheDocument(entry.prompt(), entry.response(), embedding, entry.metadata());
+    index.load(List.of(doc), "id", null, entry.ttl());
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /** Write a batch of queued entries with one embedding call and one pipeline per TTL. */
+  private void writeStores(List<PendingStore> entries) {
+    List<String> prompts = new ArrayList<>(entries.size());
+    for (PendingStore entry : entries) {
+      prompts.add(entry.prompt());
+    }
+    List<float[]> embeddings = vectorizer.embedBatch(prompts);
+
+    // Entries normally share the cache TTL, so this is usually a single group
+    Map<Integer, List<Map<String, Object>>> documentsByTtl = new LinkedHashMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      PendingStore entry = entries.get(i);
+      Map<String, Object> document =
+          cacheDocument(entry.prompt(), entry.response(), embeddings.get(i), entry.metadata());
+      documentsByTtl.computeIfAbsent(entry.ttl(), k -> new ArrayList<>()).add(document);
+    }
+    documentsByTtl.forEach((entryTtl, documents) -> index.load(documents, "id", null, entryTtl));
+
+    if (nearCache != null) {
+      // A check may have refilled the near cache while the entry was queued
+      prompts.forEach(nearCache::invalidatePrompt);
+    }
+  }
 
-    // Create document
+  /** Build the document stored for a prompt-response pair, with a new unique ID. */
+  private Map<String, Object> cacheDocument(
+      String prompt, String response, float[] embedding, Map<String, Object> metadata) {
+    long now = Instant.now().getEpochSecond();
     Map<String, Object> doc = new HashMap<>();
     doc.put(PROMPT_FIELD_NAME, prompt);
     doc.put(RESPONSE_FIELD_NAME, response);
     doc.put(CACHE_VECTOR_FIELD_NAME, embedding);
-    doc.put(INSERTED_AT_FIELD_NAME, Instant.now().getEpochSecond());
-    doc.put(UPDATED_AT_FIELD_NAME, Instant.now().getEpochSecond());
+    doc.put(INSERTED_AT_FIELD_NAME, now);
+    doc.put(UPDATED_AT_FIELD_NAME, now);
 
     // Add metadata fields
     if (metadata != null) {
-      for (Map.Entry<String, Object> entry : metadata.entrySet()) {
-        doc.put(entry.getKey(), entry.getValue());
-      }
+      doc.putAll(metadata);
     }
 
     // Generate a unique ID for the document
-    String entryId = UUID.randomUUID().toString();
-    doc.put("id", entryId);
-
-    // Store in Redis and get the actual keys created
-    List<String> keys = index.load(List.of(doc), "id");
+    doc.put("id", UUID.randomUUID().toString());
+    return doc;
+  }
 
-    // Set TTL if configured - use the actual key returned by the index
-    if (ttl != null && ttl > 0 && !keys.isEmpty()) {
-      expire(keys.get(0), ttl);
-    }
+  /** The TTL to set on new entries, or null for none. */
+  private Integer entryTtl() {
+    return ttl != null && ttl > 0 ? ttl : null;
   }
 
   /**
@@ -142,10 +250,7 @@ public class SemanticCache extends BaseCache {
    * @param ttl Time-to-live in seconds
    */
   public void storeWithTTL(String prompt, String response, Map<String, Object> metadata, int ttl) {
-    Integer originalTtl = this.ttl;
-    this.ttl = ttl;
-    store(prompt, response, metadata);
-    this.ttl = originalTtl;
+    storeEntry(new PendingStore(prompt, response, metadata, ttl > 0 ? ttl : null));
   }
 
   /**
@@ -166,29 +271,59 @@ public class SemanticCache extends BaseCache {
    * @return Optional containing the cache hit if found
    */
   public Optional<CacheHit> check(String prompt, Filter filter) {
+    String filterQuery = filter != null ? filter.build() : null;
+    if (nearCache != null) {
+      CacheHit localHit = nearCache.get(prompt, filterQuery, distanceThreshold);
+      if (localHit != null) {
+        return recordL1Hit(localHit);
+      }
+    }
+
     // Generate embedding for query
     float[] queryEmbedding = vectorizer.embed(prompt);
 
-    // Create vector query
-    VectorQuery.Builder queryBuilder =
+    if (nearCache != null && filter == null) {
+      CacheHit localHit = nearCache.getSimilar(queryEmbedding, distanceThreshold);
+      if (localHit != null) {
+        return recordL1Hit(localHit);
+      }
+    }
+
+    // Execute search
+    long nearCacheGeneration = nearCache != null ? nearCache.generation() : 0;
+    SearchResult searchResult = index.search(cacheQuery(queryEmbedding, filter));
+    return toCacheHit(prompt, filterQuery, queryEmbedding, searchResult, nearCacheGeneration);
+  }
+
+  /** Build the KNN query for a prompt embedding. */
+  private VectorQuery cacheQuery(float[] embedding, Filter filter) {
+    VectorQuery query =
         VectorQuery.builder()
             .field(CACHE_VECTOR_FIELD_NAME)
-            .vector(queryEmbedding)
+            .vector(embedding)
             .numResults(filter != null ? 100 : 1) // When filtering, search more results
             .distanceMetric(VectorField.DistanceMetric.COSINE)
-            .returnDistance(true); // Request the vector_distance field
-
-    VectorQuery query = queryBuilder.build();
+            .returnDistance(true) // Request the vector_distance field
+            .build();
 
     // Add filter if provided
     if (filter != null) {
       query.setFilter(filter);
     }
+    return query;
+  }
 
-    // Execute search
-    SearchResult searchResult = index.search(query);
-
-    if (searchResult.getTotalResults() == 0) {
+  /**
+   * Turn the result of a cache query into a hit or miss, updating statistics. {@code
+   * nearCacheGeneration} is the near cache generation read before the search.
+   */
+  private Optional<CacheHit> toCacheHit(
+      String prompt,
+      String filterQuery,
+      float[] queryEmbedding,
+      SearchResult searchResult,
+      long nearCacheGeneration) {
+    if (searchResult.getTotalResults() == 0 || searchResult.getDocuments().isEmpty()) {
       missCount.incrementAndGet();
       return Optional.empty();
     }
@@ -222,6 +357,7 @@ public class SemanticCache extends BaseCache {
     }
 
     hitCount.incrementAndGet();
+    l2HitCount.incrementAndGet();
 
     // Extract metadata
     Map<String, Object> metadata = new HashMap<>();
@@ -233,7 +369,17 @@ public class SemanticCache extends BaseCache {
       }
     }
 
-    return Optional.of(new CacheHit(matchedPrompt, response, distance, metadata));
+    CacheHit hit = new CacheHit(matchedPrompt, response, distance, metadata);
+    if (nearCache != null) {
+      nearCache.put(prompt, filterQuery, doc.getId(), hit, queryEmbedding, nearCacheGeneration);
+    }
+    return Optional.of(hit);
+  }
+
+  private Optional<CacheHit> recordL1Hit(CacheHit hit) {
+    hitCount.incrementAndGet();
+    l1HitCount.incrementAndGet();
+    return Optional.of(hit);
   }
 
   /**
@@ -326,6 +472,9 @@ public class SemanticCache extends BaseCache {
 
       // Delete the old entry
       redisClient.del(docId);
+      if (nearCache != null) {
+        nearCache.invalidateKey(docId);
+      }
 
       // Store the new entry with the updated response
       Map<String, Object> metadata = new HashMap<>();
@@ -344,7 +493,8 @@ public class SemanticCache extends BaseCache {
   }
 
   /**
-   * Batch store multiple prompt-response pairs.
+   * Batch store multiple prompt-response pairs. The pairs are written before returning, also in
+   * write-behind mode.
    *
    * @param pairs List of prompt-response pairs
    */
@@ -353,57 +503,98 @@ public class SemanticCache extends BaseCache {
       return;
     }
 
-    // Prepare all documents
-    List<Map<String, Object>> documents = new ArrayList<>();
-
+    List<String> prompts = new ArrayList<>(pairs.size());
     for (PromptResponsePair pair : pairs) {
-      // Generate embedding for prompt
-      float[] embedding = vectorizer.embed(pair.getPrompt());
-
-      // Create document
-      Map<String, Object> doc = new HashMap<>();
-      doc.put(PROMPT_FIELD_NAME, pair.getPrompt());
-      doc.put(RESPONSE_FIELD_NAME, pair.getResponse());
-      doc.put(CACHE_VECTOR_FIELD_NAME, embedding);
-      doc.put(INSERTED_AT_FIELD_NAME, Instant.now().getEpochSecond());
-      doc.put(UPDATED_AT_FIELD_NAME, Instant.now().getEpochSecond());
-
-      // Add metadata fields
-      if (pair.getMetadata() != null) {
-        for (Map.Entry<String, Object> entry : pair.getMetadata().entrySet()) {
-          doc.put(entry.getKey(), entry.getValue());
-        }
+      prompts.add(pair.getPrompt());
+      if (nearCache != null) {
+        nearCache.invalidatePrompt(pair.getPrompt());
       }
-
-      // Generate a unique ID for the document
-      String entryId = UUID.randomUUID().toString();
-      doc.put("id", entryId);
-
-      documents.add(doc);
     }
 
-    // Store all documents in batch
-    List<String> keys = index.load(documents, "id");
+    // Embed all prompts in one batch
+    List<float[]> embeddings = vectorizer.embedBatch(prompts);
 
-    // Set TTL if configured - use pipeline for batch TTL setting
-    if (ttl != null && ttl > 0 && !keys.isEmpty()) {
-      try (var pipeline = redisClient.pipelined()) {
-        for (String key : keys) {
-          pipeline.expire(key, ttl);
-        }
-        pipeline.sync();
-      }
+    // Prepare all documents
+    List<Map<String, Object>> documents = new ArrayList<>(pairs.size());
+    for (int i = 0; i < pairs.size(); i++) {
+      PromptResponsePair pair = pairs.get(i);
+      documents.add(
+          cacheDocument(
+              pair.getPrompt(), pair.getResponse(), embeddings.get(i), pair.getMetadata()));
     }
+
+    // Store all documents and their TTLs in one pipelined pass
+    index.load(documents, "id", null, entryTtl());
   }
 
   /**
-   * Batch check multiple prompts.
+   * Batch check multiple prompts. Prompts not answered by the near cache are embedded in one batch
+   * and their searches are sent in one pipeline.
    *
    * @param prompts List of prompts to check
-   * @return List of optional cache hits
+   * @return List of optional cache hits, in prompt order
    */
   public List<Optional<CacheHit>> checkBatch(List<String> prompts) {
-    return prompts.stream().map(this::check).collect(Collectors.toList());
+    List<Optional<CacheHit>> results = new ArrayList<>(prompts.size());
+    List<Integer> pending = new ArrayList<>();
+    for (int i = 0; i < prompts.size(); i++) {
+      CacheHit localHit =
+          nearCache != null ? nearCache.get(prompts.get(i), null, distanceThreshold) : null;
+      results.add(localHit != null ? recordL1Hit(localHit) : Optional.empty());
+      if (localHit == null) {
+        pending.add(i);
+      }
+    }
+    if (pending.isEmpty()) {
+      return results;
+    }
+
+    List<String> pendingPrompts = new ArrayList<>(pending.size());
+    for (int i : pending) {
+      pendingPrompts.add(prompts.get(i));
+    }
+    List<float[]> embeddings = vectorizer.embedBatch(pendingPrompts);
+
+    List<Integer> searched = new ArrayList<>(pending.size());
+    List<VectorQuery> queries = new ArrayList<>(pending.size());
+    for (int j = 0; j < pending.size(); j++) {
+      CacheHit localHit =
+          nearCache != null ? nearCache.getSimilar(embeddings.get(j), distanceThreshold) : null;
+      if (localHit != null) {
+        results.set(pending.get(j), recordL1Hit(localHit));
+      } else {
+        searched.add(j);
+        queries.add(cacheQuery(embeddings.get(j), null));
+      }
+    }
+    if (queries.isEmpty()) {
+      return results;
+    }
+
+    long nearCacheGeneration = nearCache != null ? nearCache.generation() : 0;
+    List<SearchResult> searchResults = index.batchSearch(queries);
+    for (int k = 0; k < searched.size(); k++) {
+      int j = searched.get(k);
+      results.set(
+          pending.get(j),
+          toCacheHit(
+              pendingPrompts.get(j),
+              null,
+              embeddings.get(j),
+              searchResults.get(k),
+              nearCacheGeneration));
+    }
+    return results;
+  }
+
+  /** Clear the cache, including entries still queued for writing. */
+  @Override
+  public void clear() {
+    flush();
+    super.clear();
+    if (nearCache != null) {
+      nearCache.invalidateAll();
+    }
   }
 
   /**
@@ -415,6 +606,8 @@ public class SemanticCache extends BaseCache {
     if (filter == null) {
       clear();
     } else {
+      flush();
+
       // Search for matching documents
       Query searchQuery = new Query(filter.build());
       searchQuery.limit(0, 1000); // Get up to 1000 matches
@@ -431,6 +624,9 @@ public class SemanticCache extends BaseCache {
       if (!idsToDelete.isEmpty()) {
         redisClient.del(idsToDelete.toArray(new String[0]));
       }
+      if (nearCache != null) {
+        idsToDelete.forEach(nearCache::invalidateKey);
+      }
     }
   }
 
@@ -483,12 +679,133 @@ public class SemanticCache extends BaseCache {
     return (float) hitCount.get() / total;
   }
 
+  /**
+   * Get the number of hits served by the near cache without searching Redis. These are included
+   * in {@link #getHitCount()}.
+   *
+   * @return Number of near cache hits
+   */
+  public long getL1HitCount() {
+    return l1HitCount.get();
+  }
+
+  /**
+   * Get the number of hits served by searching the Redis index. These are included in {@link
+   * #getHitCount()}.
+   *
+   * @return Number of Redis hits
+   */
+  public long getL2HitCount() {
+    return l2HitCount.get();
+  }
+
+  /**
+   * Get the share of all checks served by the near cache.
+   *
+   * @return Near cache hit rate (0.0 to 1.0)
+   */
+  public float getL1HitRate() {
+    long total = hitCount.get() + missCount.get();
+    if (total == 0) {
+      return 0.0f;
+    }
+    return (float) l1HitCount.get() / total;
+  }
+
+  /**
+   * Get the share of checks that reached Redis (near cache misses) and were hits there.
+   *
+   * @return Redis hit rate (0.0 to 1.0)
+   */
+  public float getL2HitRate() {
+    long lookups = l2HitCount.get() + missCount.get();
+    if (lookups == 0) {
+      return 0.0f;
+    }
+    return (float) l2HitCount.get() / lookups;
+  }
+
+  /**
+   * Get the number of entries held by the near cache.
+   *
+   * @return Near cache entries, or 0 if the near cache is disabled
+   */
+  public int getNearCacheSize() {
+    return nearCache != null ? nearCache.size() : 0;
+  }
+
   /** Reset statistics counters. */
   public void resetStatistics() {
     hitCount.set(0);
     missCount.set(0);
+    l1HitCount.set(0);
+    l2HitCount.set(0);
+  }
+
+  /**
+   * Stop near cache invalidation and drop its entries, leaving the Redis client open. Later
+   * checks may refill the near cache, but it is no longer invalidated by keyspace notifications.
+   */
+  public void closeNearCache() {
+    if (nearCache != null) {
+      nearCache.close();
+    }
+  }
+
+  /**
+   * Wait until every store queued in write-behind mode before this call has been written, failed
+   * or dropped. Returns immediately when write-behind is disabled.
+   */
+  public void flush() {
+    if (writeBehind != null) {
+      writeBehind.flush();
+    }
+  }
+
+  /**
+   * Get the number of stores queued in write-behind mode and not yet being written.
+   *
+   * @return Queued stores, or 0 when write-behind is disabled
+   */
+  public int getPendingWriteCount() {
+    return writeBehind != null ? writeBehind.getPendingCount() : 0;
   }
 
+  /**
+   * Get the number of stores dropped in write-behind mode, by the overflow policy or because the
+   * cache was disconnected before they were written.
+   *
+   * @return Dropped stores, or 0 when write-behind is disabled
+   */
+  public long getDroppedWriteCount() {
+    return writeBehind != null ? writeBehind.getDroppedCount() : 0;
+  }
+
+  /**
+   * Write queued stores and stop the write-behind worker, leaving the Redis client open. Stores
+   * still queued after the close timeout are dropped, and later stores are rejected.
+   */
+  public void closeWriteBehind() {
+    if (writeBehind != null) {
+      writeBehind.close();
+    }
+  }
+
+  /**
+   * Write queued stores, stop near cache invalidation and disconnect from Redis. Stores still
+   * queued after the write-behind close timeout are dropped.
+   */
+  @Override
+  public void disconnect() {
+    closeWriteBehind();
+    closeNearCache();
+    super.disconnect();
+  }
+
+  /** A store waiting in the write-behind queue. */
+  private record PendingStore(
+      String prompt, String response, Map<String, Object> metadata, Integer ttl) {}
+
   @Override
   public String toString() {
     return String.format(
@@ -502,6 +819,11 @@ public class SemanticCache extends BaseCache {
     private BaseVectorizer vectorizer;
     private float distanceThreshold = 0.2f;
     private Integer ttl;
+    private int nearCacheSize;
+    private Duration nearCacheTtl = Duration.ofMinutes(5);
+    private boolean nearCacheSimilaritySearch;
+    private boolean nearCacheInvalidation;
+    private WriteBehindOptions writeBehind;
 
     /** Create a new Builder instance */
     public Builder() {
@@ -570,6 +892,80 @@ public class SemanticCache extends BaseCache {
       return this;
     }
 
+    /**
+     * Enable an in-process near cache holding up to {@code maxEntries} hits served by Redis, keyed
+     * by exact prompt and filter. Repeated prompts are then answered without embedding or
+     * searching. Entries are evicted least-recently-used.
+     *
+     * @param maxEntries Maximum number of entries (0 disables the near cache, the default)
+     * @return This builder
+     */
+    public Builder nearCache(int maxEntries) {
+      if (maxEntries < 0) {
+        throw new IllegalArgumentException("Near cache size cannot be negative");
+      }
+      this.nearCacheSize = maxEntries;
+      return this;
+    }
+
+    /**
+     * Set how long near cache entries are served before Redis is searched again. Capped at the
+     * cache TTL when one is set.
+     *
+     * @param ttl Near cache entry lifetime (default: 5 minutes)
+     * @return This builder
+     */
+    public Builder nearCacheTtl(Duration ttl) {
+      if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+        throw new IllegalArgumentException("Near cache TTL must be positive");
+      }
+      this.nearCacheTtl = ttl;
+      return this;
+    }
+
+    /**
+     * Also serve unfiltered prompts whose embedding is close to one already in the near cache.
+     * The prompt is still embedded, but no search is sent. The reported distance adds the local
+     * distance to the distance of the original hit, which must stay within the threshold.
+     *
+     * @param enabled Whether to search near cache embeddings (default: false)
+     * @return This builder
+     */
+    public Builder nearCacheSimilaritySearch(boolean enabled) {
+      this.nearCacheSimilaritySearch = enabled;
+      return this;
+    }
+
+    /**
+     * Invalidate near cache entries from Redis keyspace notifications, so that deletes, updates
+     * and TTL expiry by any client are seen. Uses one connection for a background subscription
+     * and needs {@code notify-keyspace-events} to include keyspace generic, expired, evicted and
+     * hash events (e.g. {@code Kghxe}). Without it, only changes made through this cache
+     * invalidate entries and others are seen once the near cache TTL runs out.
+     *
+     * @param enabled Whether to subscribe to keyspace notifications (default: false)
+     * @return This builder
+     */
+    public Builder nearCacheInvalidation(boolean enabled) {
+      this.nearCacheInvalidation = enabled;
+      return this;
+    }
+
+    /**
+     * Enable write-behind mode: {@link SemanticCache#store(String, String)} and {@link
+     * SemanticCache#storeAsync(String, String)} queue the entry and return at once, and a
+     * background worker embeds queued prompts in batches and writes them, with their TTLs, in one
+     * pipeline. Failures of {@code store} are only logged; use {@code storeAsync} to observe
+     * them. Queued stores are written when the cache is disconnected.
+     *
+     * @param options Queue size, batching and overflow settings, or null to disable (the default)
+     * @return This builder
+     */
+    public Builder writeBehind(WriteBehindOptions options) {
+      this.writeBehind = options;
+      return this;
+    }
+
     /**
      * Build the SemanticCache
      *
@@ -6,6 +6,7 @@ import com.github.f4b6a3.ulid.UlidCreator;
 import com.redis.vl.index.SearchIndex;
 import com.redis.vl.query.CountQuery;
 import com.redis.vl.query.Filter;
+import com.redis.vl.utils.Utils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -169,6 +170,22 @@ public abstract class BaseMessageHistory {
     return context;
   }
 
+  /**
+   * Timestamps for messages added together: the current time plus one microsecond per message, so
+   * that the messages get distinct IDs and keep their insertion order when sorted by timestamp.
+   *
+   * @param count Number of messages
+   * @return One timestamp per message, in insertion order
+   */
+  protected static double[] messageTimestamps(int count) {
+    double baseTimestamp = Utils.currentTimestamp();
+    double[] timestamps = new double[count];
+    for (int i = 0; i < count; i++) {
+      timestamps[i] = baseTimestamp + (i * 0.000001);
+    }
+    return timestamps;
+  }
+
   /**
    * Validate and normalize role parameter for filtering messages.
    *
@@ -6,7 +6,6 @@ import com.redis.vl.index.SearchIndex;
 import com.redis.vl.query.Filter;
 import com.redis.vl.query.FilterQuery;
 import com.redis.vl.schema.IndexSchema;
-import com.redis.vl.utils.Utils;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -229,9 +228,7 @@ public class MessageHistory extends BaseMessageHistory {
     String effectiveSessionTag = (sessionTag != null) ? sessionTag : this.sessionTag;
     List<Map<String, Object>> chatMessages = new ArrayList<>();
 
-    // Use a base timestamp and increment by a small offset per message to guarantee
-    // insertion order is preserved when sorting by timestamp.
-    double baseTimestamp = Utils.currentTimestamp();
+    double[] timestamps = messageTimestamps(messages.size());
 
     for (int i = 0; i < messages.size(); i++) {
       Map<String, String> message = messages.get(i);
@@ -240,7 +237,7 @@ public class MessageHistory extends BaseMessageHistory {
               .role(message.get(ROLE_FIELD_NAME))
               .content(message.get(CONTENT_FIELD_NAME))
               .sessionTag(effectiveSessionTag)
-              .timestamp(baseTimestamp + (i * 0.000001)); // 1 microsecond offset per message
+              .timestamp(timestamps[i]);
 
       if (message.containsKey(TOOL_FIELD_NAME)) {
         builder.toolCallId(message.get(TOOL_FIELD_NAME));
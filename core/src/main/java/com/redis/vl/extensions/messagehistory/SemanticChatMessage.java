@@ -2,8 +2,8 @@ package com.redis.vl.extensions.messagehistory;
 
 import static com.redis.vl.extensions.Constants.*;
 
-import com.redis.vl.utils.ArrayUtils;
 import com.redis.vl.utils.Utils;
+import com.redis.vl.utils.VectorCodec;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.HashMap;
 import java.util.Map;
@@ -91,9 +91,9 @@ public final class SemanticChatMessage {
       data.put(METADATA_FIELD_NAME, metadata);
     }
 
-    // Convert vector to byte array for Redis storage
+    // Encode vector for Redis storage using the index's vector data type
     if (vectorField != null) {
-      data.put(MESSAGE_VECTOR_FIELD_NAME, ArrayUtils.floatArrayToBytes(vectorField));
+      data.put(MESSAGE_VECTOR_FIELD_NAME, codecFor(dtype).encode(vectorField));
     }
 
     return data;
@@ -115,6 +115,17 @@ public final class SemanticChatMessage {
    * @return SemanticChatMessage instance
    */
   public static SemanticChatMessage fromDict(Map<String, Object> data) {
+    return fromDict(data, "float32");
+  }
+
+  /**
+   * Creates a SemanticChatMessage from a Map, decoding the vector with the given data type.
+   *
+   * @param data Map containing message fields
+   * @param dtype The data type the vector field was encoded with (e.g., "float16")
+   * @return SemanticChatMessage instance
+   */
+  public static SemanticChatMessage fromDict(Map<String, Object> data, String dtype) {
     SemanticChatMessageBuilder builder =
         SemanticChatMessage.builder()
             .entryId((String) data.get(ID_FIELD_NAME))
@@ -128,7 +139,7 @@ public final class SemanticChatMessage {
     // Handle vector field if present
     Object vectorData = data.get(MESSAGE_VECTOR_FIELD_NAME);
     if (vectorData instanceof byte[]) {
-      builder.vectorField(ArrayUtils.bytesToFloatArray((byte[]) vectorData));
+      builder.vectorField(codecFor(dtype).decode((byte[]) vectorData));
     } else if (vectorData instanceof float[]) {
       builder.vectorField((float[]) vectorData);
     }
@@ -136,6 +147,10 @@ public final class SemanticChatMessage {
     return builder.build();
   }
 
+  private static VectorCodec codecFor(String dtype) {
+    return VectorCodec.forDataType(SemanticMessageHistorySchema.mapDataType(dtype));
+  }
+
   private static Double convertToDouble(Object value) {
     if (value == null) return null;
     if (value instanceof Double) return (Double) value;
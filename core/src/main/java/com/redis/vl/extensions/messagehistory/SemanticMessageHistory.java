@@ -2,6 +2,8 @@ package com.redis.vl.extensions.messagehistory;
 
 import static com.redis.vl.extensions.Constants.*;
 
+import com.redis.vl.extensions.WriteBehindOptions;
+import com.redis.vl.extensions.WriteBehindQueue;
 import com.redis.vl.index.SearchIndex;
 import com.redis.vl.query.Filter;
 import com.redis.vl.query.FilterQuery;
@@ -13,6 +15,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import redis.clients.jedis.UnifiedJedis;
 
 /**
@@ -23,6 +26,11 @@ import redis.clients.jedis.UnifiedJedis;
  * prompts with semantically relevant session context. Messages are tagged by session to support
  * multiple concurrent conversations.
  *
+ * <p>In write-behind mode (see {@link #SemanticMessageHistory(String, String, String,
+ * BaseVectorizer, double, UnifiedJedis, boolean, WriteBehindOptions)}) messages are queued and
+ * embedded and written in the background, many at a time. A queued message is not returned by
+ * reads until it is written; see {@link #flush()}.
+ *
  * <p>Matches the Python SemanticMessageHistory from
  * redisvl.extensions.message_history.semantic_history
  *
@@ -33,7 +41,7 @@ import redis.clients.jedis.UnifiedJedis;
     justification =
         "SearchIndex, UnifiedJedis and BaseVectorizer are intentionally shared; "
             + "CT_CONSTRUCTOR_THROW suppressed as class is final preventing finalizer attacks")
-public final class SemanticMessageHistory extends BaseMessageHistory {
+public final class SemanticMessageHistory extends BaseMessageHistory implements AutoCloseable {
 
   /** Default distance threshold for semantic search. */
   public static final double DEFAULT_DISTANCE_THRESHOLD = 0.3;
@@ -42,6 +50,7 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
   private final UnifiedJedis redisClient;
   private final BaseVectorizer vectorizer;
   private final Filter defaultSessionFilter;
+  private final WriteBehindQueue<SemanticChatMessage> writeBehind;
   private double distanceThreshold;
 
   /**
@@ -94,6 +103,36 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
       double distanceThreshold,
       UnifiedJedis redisClient,
       boolean overwrite) {
+    this(name, sessionTag, prefix, vectorizer, distanceThreshold, redisClient, overwrite, null);
+  }
+
+  /**
+   * Initialize semantic message history with all parameters and optional write-behind mode. In
+   * write-behind mode, {@code store} and {@code addMessages} queue the messages and return at
+   * once, and a background worker embeds queued messages in batches and writes them in one
+   * pipeline. Their failures are only logged; use {@link #addMessagesAsync(List, String)} to
+   * observe them. Queued messages are written on {@link #close()}.
+   *
+   * @param name The name of the message history index
+   * @param sessionTag Tag to be added to entries to link to a specific conversation session.
+   *     Defaults to instance ULID.
+   * @param prefix Prefix for the keys for this conversation data. Defaults to the index name.
+   * @param vectorizer The vectorizer used to create embeddings
+   * @param distanceThreshold The maximum semantic distance for results. Defaults to 0.3.
+   * @param redisClient A Jedis client instance
+   * @param overwrite Whether to overwrite existing index schema. Defaults to false.
+   * @param writeBehind Queue size, batching and overflow settings, or null to write messages
+   *     before returning
+   */
+  public SemanticMessageHistory(
+      String name,
+      String sessionTag,
+      String prefix,
+      BaseVectorizer vectorizer,
+      double distanceThreshold,
+      UnifiedJedis redisClient,
+      boolean overwrite,
+      WriteBehindOptions writeBehind) {
     super(name, sessionTag);
 
     if (vectorizer == null) {
@@ -114,6 +153,10 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
     this.index.create(overwrite);
 
     this.defaultSessionFilter = Filter.tag(SESSION_FIELD_NAME, this.sessionTag);
+    this.writeBehind =
+        writeBehind != null
+            ? new WriteBehindQueue<>(name, writeBehind, this::writeMessages)
+            : null;
   }
 
   /**
@@ -164,17 +207,21 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
 
   @Override
   public void clear() {
+    flush();
     index.clear();
   }
 
   @Override
   public void delete() {
+    flush();
     index.delete(true);
   }
 
   @Override
   public void drop(String id) {
     if (id == null) {
+      flush();
+
       // Get the most recent message
       List<Map<String, Object>> recent = getRecent(1, false, true, null, null);
       if (!recent.isEmpty()) {
@@ -397,6 +444,45 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
 
   @Override
   public void store(String prompt, String response, String sessionTag) {
+    addMessages(exchange(prompt, response), sessionTag);
+  }
+
+  /**
+   * Insert a prompt:response pair into the message history using the default session tag.
+   *
+   * @param prompt The user prompt to the LLM
+   * @param response The corresponding LLM response
+   */
+  public void store(String prompt, String response) {
+    store(prompt, response, null);
+  }
+
+  /**
+   * Insert a prompt:response pair, completing the returned future once both are written. In
+   * write-behind mode this returns as soon as they are queued.
+   *
+   * @param prompt The user prompt to the LLM
+   * @param response The corresponding LLM response
+   * @param sessionTag The tag to mark the messages with. Defaults to instance session tag.
+   * @return A future completed once the messages are stored, or failed with the write error
+   */
+  public CompletableFuture<Void> storeAsync(String prompt, String response, String sessionTag) {
+    return addMessagesAsync(exchange(prompt, response), sessionTag);
+  }
+
+  /**
+   * Insert a prompt:response pair using the default session tag, completing the returned future
+   * once both are written. In write-behind mode this returns as soon as they are queued.
+   *
+   * @param prompt The user prompt to the LLM
+   * @param response The corresponding LLM response
+   * @return A future completed once the messages are stored, or failed with the write error
+   */
+  public CompletableFuture<Void> storeAsync(String prompt, String response) {
+    return storeAsync(prompt, response, null);
+  }
+
+  private static List<Map<String, String>> exchange(String prompt, String response) {
     List<Map<String, String>> messages = new ArrayList<>();
 
     Map<String, String> userMessage = new HashMap<>();
@@ -409,37 +495,65 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
     llmMessage.put(CONTENT_FIELD_NAME, response);
     messages.add(llmMessage);
 
-    addMessages(messages, sessionTag);
+    return messages;
+  }
+
+  @Override
+  public void addMessages(List<Map<String, String>> messages, String sessionTag) {
+    List<SemanticChatMessage> chatMessages = chatMessages(messages, sessionTag);
+    if (writeBehind != null) {
+      chatMessages.forEach(writeBehind::submit);
+    } else {
+      writeMessages(chatMessages);
+    }
   }
 
   /**
-   * Insert a prompt:response pair into the message history using the default session tag.
+   * Insert a list of prompts and responses, completing the returned future once all are written.
+   * In write-behind mode this returns as soon as they are queued.
    *
-   * @param prompt The user prompt to the LLM
-   * @param response The corresponding LLM response
+   * @param messages The list of user prompts and LLM responses
+   * @param sessionTag The tag to mark the messages with. Defaults to instance session tag.
+   * @return A future completed once the messages are stored, or failed with the first error
    */
-  public void store(String prompt, String response) {
-    store(prompt, response, null);
+  public CompletableFuture<Void> addMessagesAsync(
+      List<Map<String, String>> messages, String sessionTag) {
+    List<SemanticChatMessage> chatMessages;
+    try {
+      chatMessages = chatMessages(messages, sessionTag);
+      if (writeBehind == null) {
+        writeMessages(chatMessages);
+        return CompletableFuture.completedFuture(null);
+      }
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[chatMessages.size()];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = writeBehind.submit(chatMessages.get(i));
+    }
+    return CompletableFuture.allOf(futures);
   }
 
-  @Override
-  public void addMessages(List<Map<String, String>> messages, String sessionTag) {
+  /**
+   * Build the messages to store, without their embeddings. Timestamps are taken now, so queued
+   * messages keep the order in which they were added.
+   */
+  private List<SemanticChatMessage> chatMessages(
+      List<Map<String, String>> messages, String sessionTag) {
     String effectiveSessionTag = (sessionTag != null) ? sessionTag : this.sessionTag;
-    List<Map<String, Object>> chatMessages = new ArrayList<>();
+    List<SemanticChatMessage> chatMessages = new ArrayList<>(messages.size());
 
-    for (Map<String, String> message : messages) {
-      String content = message.get(CONTENT_FIELD_NAME);
+    double[] timestamps = messageTimestamps(messages.size());
 
-      // Generate embedding for the content
-      float[] contentVector = vectorizer.embed(content);
-
-      // Build chat message with vector
+    for (int i = 0; i < messages.size(); i++) {
+      Map<String, String> message = messages.get(i);
       SemanticChatMessage.SemanticChatMessageBuilder builder =
           SemanticChatMessage.builder()
               .role(message.get(ROLE_FIELD_NAME))
-              .content(content)
+              .content(message.get(CONTENT_FIELD_NAME))
               .sessionTag(effectiveSessionTag)
-              .vectorField(contentVector);
+              .timestamp(timestamps[i]);
 
       if (message.containsKey(TOOL_FIELD_NAME)) {
         builder.toolCallId(message.get(TOOL_FIELD_NAME));
@@ -449,11 +563,27 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
         builder.metadata(message.get(METADATA_FIELD_NAME));
       }
 
-      SemanticChatMessage chatMessage = builder.build();
-      chatMessages.add(chatMessage.toDict(vectorizer.getDataType()));
+      chatMessages.add(builder.build());
+    }
+    return chatMessages;
+  }
+
+  /** Embed messages with one batch call and write them in one pipeline. */
+  private void writeMessages(List<SemanticChatMessage> chatMessages) {
+    List<String> contents = new ArrayList<>(chatMessages.size());
+    for (SemanticChatMessage chatMessage : chatMessages) {
+      contents.add(chatMessage.getContent());
+    }
+    List<float[]> contentVectors = vectorizer.embedBatch(contents);
+
+    List<Map<String, Object>> documents = new ArrayList<>(chatMessages.size());
+    for (int i = 0; i < chatMessages.size(); i++) {
+      SemanticChatMessage chatMessage = chatMessages.get(i);
+      chatMessage.setVectorField(contentVectors.get(i));
+      documents.add(chatMessage.toDict(vectorizer.getDataType()));
     }
 
-    index.load(chatMessages, ID_FIELD_NAME);
+    index.load(documents, ID_FIELD_NAME);
   }
 
   @Override
@@ -479,6 +609,38 @@ public final class SemanticMessageHistory extends BaseMessageHistory {
     addMessages(messages, null);
   }
 
+  /**
+   * Wait until every message queued in write-behind mode before this call has been written,
+   * failed or dropped. Returns immediately when write-behind is disabled.
+   */
+  public void flush() {
+    if (writeBehind != null) {
+      writeBehind.flush();
+    }
+  }
+
+  /**
+   * Get the number of messages dropped in write-behind mode, by the overflow policy or because the
+   * history was closed before they were written.
+   *
+   * @return Dropped messages, or 0 when write-behind is disabled
+   */
+  public long getDroppedWriteCount() {
+    return writeBehind != null ? writeBehind.getDroppedCount() : 0;
+  }
+
+  /**
+   * Write queued messages and stop the write-behind worker. Messages still queued after the close
+   * timeout are dropped, and later stores are rejected. The Redis client is left open. Does
+   * nothing when write-behind is disabled.
+   */
+  @Override
+  public void close() {
+    if (writeBehind != null) {
+      writeBehind.close();
+    }
+  }
+
   /**
    * Combine a session filter with role filters.
    *
@@ -56,7 +56,7 @@ public class SemanticMessageHistorySchema {
    * @param dtype The dtype string (e.g., "float32", "float16", "FLOAT32")
    * @return The corresponding VectorDataType
    */
-  private static VectorField.VectorDataType mapDataType(String dtype) {
+  static VectorField.VectorDataType mapDataType(String dtype) {
     if (dtype == null) {
       return VectorField.VectorDataType.FLOAT32;
     }
@@ -65,6 +65,8 @@ public class SemanticMessageHistorySchema {
       case "float16" -> VectorField.VectorDataType.FLOAT16;
       case "float64" -> VectorField.VectorDataType.FLOAT64;
       case "bfloat16" -> VectorField.VectorDataType.BFLOAT16;
+      case "int8" -> VectorField.VectorDataType.INT8;
+      case "uint8" -> VectorField.VectorDataType.UINT8;
       default -> VectorField.VectorDataType.FLOAT32;
     };
   }
@@ -0,0 +1,397 @@
+package com.redis.vl.extensions.router;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of a router's reference vectors, scored on the client instead of with {@code
+ * FT.AGGREGATE}.
+ *
+ * <p>References are held as unit vectors in one row-major float matrix, so the cosine distance of a
+ * query to every reference is a single pass of dot products. Distances are filtered and aggregated
+ * per route the way the server-side query does: references farther than the largest route
+ * threshold are ignored, the remaining distances are aggregated with the {@link
+ * DistanceAggregationMethod}, and a route matches if its aggregated distance is below its own
+ * threshold.
+ *
+ * <p>Each route also keeps the sum of its unit reference vectors, updated as references are added
+ * and removed. With a number of candidate routes, matching first ranks routes by the cosine
+ * distance of the query to these centroids and then scores only the references of the closest
+ * candidates, so the cost grows with the number of routes and the size of the candidate routes
+ * rather than with the total number of references.
+ *
+ * <p>Updates copy the arrays and publish a new immutable snapshot, so routing never blocks on
+ * writers. References are keyed by {@code routeName:referenceId}.
+ */
+final class LocalRouteIndex {
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  /**
+   * Add or replace references.
+   *
+   * @param routeNames The route of each reference
+   * @param keys The key of each reference, {@code routeName:referenceId}
+   * @param vectors The embedding of each reference
+   */
+  synchronized void put(List<String> routeNames, List<String> keys, List<float[]> vectors) {
+    Snapshot current = snapshot;
+    int dimensions = current.dimensions;
+    for (float[] vector : vectors) {
+      if (dimensions == 0) {
+        dimensions = vector.length;
+      } else if (vector.length != dimensions) {
+        throw new IllegalArgumentException(
+            "Reference vector has " + vector.length + " dimensions, expected " + dimensions);
+      }
+    }
+
+    Map<String, Integer> rows = new HashMap<>(current.rowByKey);
+    List<String> routes = new ArrayList<>(current.routeNames);
+    int size = current.keys.length;
+    float[] matrix = Arrays.copyOf(current.matrix, (size + keys.size()) * dimensions);
+    int[] routeIds = Arrays.copyOf(current.routeIds, size + keys.size());
+    String[] rowKeys = Arrays.copyOf(current.keys, size + keys.size());
+    float[] centroids =
+        Arrays.copyOf(current.centroids, (routes.size() + keys.size()) * dimensions);
+    int[] routeSizes = Arrays.copyOf(current.routeSizes, routes.size() + keys.size());
+
+    for (int i = 0; i < keys.size(); i++) {
+      Integer row = rows.get(keys.get(i));
+      if (row == null) {
+        row = size++;
+        rows.put(keys.get(i), row);
+      } else {
+        // Replacing a reference, so take the old vector out of its route's centroid
+        addToCentroid(matrix, row, routeIds[row], -1, centroids, routeSizes, dimensions);
+      }
+      int routeId = routes.indexOf(routeNames.get(i));
+      if (routeId < 0) {
+        routeId = routes.size();
+        routes.add(routeNames.get(i));
+      }
+      routeIds[row] = routeId;
+      rowKeys[row] = keys.get(i);
+      writeUnitVector(vectors.get(i), matrix, row * dimensions);
+      addToCentroid(matrix, row, routeId, 1, centroids, routeSizes, dimensions);
+    }
+
+    snapshot =
+        new Snapshot(
+            dimensions,
+            Arrays.copyOf(matrix, size * dimensions),
+            Arrays.copyOf(routeIds, size),
+            Arrays.copyOf(rowKeys, size),
+            List.copyOf(routes),
+            Map.copyOf(rows),
+            Arrays.copyOf(centroids, routes.size() * dimensions),
+            Arrays.copyOf(routeSizes, routes.size()));
+  }
+
+  /**
+   * Remove references.
+   *
+   * @param keys The keys of the references, {@code routeName:referenceId}
+   * @return The number of references removed
+   */
+  synchronized int remove(Collection<String> keys) {
+    Snapshot current = snapshot;
+    int dimensions = current.dimensions;
+    float[] matrix = current.matrix.clone();
+    int[] routeIds = current.routeIds.clone();
+    String[] rowKeys = current.keys.clone();
+    Map<String, Integer> rows = new HashMap<>(current.rowByKey);
+    float[] centroids = current.centroids.clone();
+    int[] routeSizes = current.routeSizes.clone();
+    int size = rowKeys.length;
+    int removed = 0;
+
+    for (String key : keys) {
+      Integer row = rows.remove(key);
+      if (row == null) {
+        continue;
+      }
+      addToCentroid(matrix, row, routeIds[row], -1, centroids, routeSizes, dimensions);
+      // Move the last row into the gap
+      int last = --size;
+      if (row != last) {
+        System.arraycopy(matrix, last * dimensions, matrix, row * dimensions, dimensions);
+        routeIds[row] = routeIds[last];
+        rowKeys[row] = rowKeys[last];
+        rows.put(rowKeys[row], row);
+      }
+      removed++;
+    }
+
+    if (size == 0) {
+      snapshot = Snapshot.EMPTY;
+    } else if (removed > 0) {
+      snapshot =
+          new Snapshot(
+              dimensions,
+              Arrays.copyOf(matrix, size * dimensions),
+              Arrays.copyOf(routeIds, size),
+              Arrays.copyOf(rowKeys, size),
+              current.routeNames,
+              Map.copyOf(rows),
+              centroids,
+              routeSizes);
+    }
+    return removed;
+  }
+
+  /** Remove every reference. */
+  synchronized void clear() {
+    snapshot = Snapshot.EMPTY;
+  }
+
+  /**
+   * Get the number of references held.
+   *
+   * @return The number of references
+   */
+  int size() {
+    return snapshot.keys.length;
+  }
+
+  /**
+   * Match a query vector against all references.
+   *
+   * @param vector The query vector
+   * @param aggregationMethod How the distances of a route's references are combined
+   * @param thresholds The distance threshold of each route; routes without one never match
+   * @param maxK The maximum number of routes to return
+   * @return Matching routes, closest first
+   */
+  List<RouteMatch> match(
+      float[] vector,
+      DistanceAggregationMethod aggregationMethod,
+      Map<String, Double> thresholds,
+      int maxK) {
+    return match(vector, aggregationMethod, thresholds, maxK, 0);
+  }
+
+  /**
+   * Match a query vector against the references.
+   *
+   * @param vector The query vector
+   * @param aggregationMethod How the distances of a route's references are combined
+   * @param thresholds The distance threshold of each route; routes without one never match
+   * @param maxK The maximum number of routes to return
+   * @param candidateRoutes The number of routes, closest by centroid, whose references are scored;
+   *     0 scores every reference
+   * @return Matching routes, closest first
+   */
+  List<RouteMatch> match(
+      float[] vector,
+      DistanceAggregationMethod aggregationMethod,
+      Map<String, Double> thresholds,
+      int maxK,
+      int candidateRoutes) {
+    Snapshot current = snapshot;
+    int size = current.keys.length;
+    if (size == 0) {
+      return List.of();
+    }
+    int dimensions = current.dimensions;
+    if (vector.length != dimensions) {
+      throw new IllegalArgumentException(
+          "Query vector has " + vector.length + " dimensions, expected " + dimensions);
+    }
+    float[] query = new float[dimensions];
+    writeUnitVector(vector, query, 0);
+
+    double maxThreshold =
+        thresholds.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
+    int routeCount = current.routeNames.size();
+    double[] sums = new double[routeCount];
+    double[] mins = new double[routeCount];
+    int[] counts = new int[routeCount];
+    Arrays.fill(mins, Double.POSITIVE_INFINITY);
+
+    float[] matrix = current.matrix;
+    if (candidateRoutes > 0 && candidateRoutes < routeCount) {
+      for (int routeId : closestRoutes(current, query, candidateRoutes)) {
+        for (int i = current.routeStarts[routeId]; i < current.routeStarts[routeId + 1]; i++) {
+          int row = current.rowsByRoute[i];
+          double distance = 1.0 - dot(matrix, row * dimensions, query);
+          if (distance <= maxThreshold) {
+            sums[routeId] += distance;
+            mins[routeId] = Math.min(mins[routeId], distance);
+            counts[routeId]++;
+          }
+        }
+      }
+    } else {
+      for (int row = 0; row < size; row++) {
+        double distance = 1.0 - dot(matrix, row * dimensions, query);
+        if (distance <= maxThreshold) {
+          int routeId = current.routeIds[row];
+          sums[routeId] += distance;
+          mins[routeId] = Math.min(mins[routeId], distance);
+          counts[routeId]++;
+        }
+      }
+    }
+
+    List<RouteMatch> matches = new ArrayList<>();
+    for (int routeId = 0; routeId < routeCount; routeId++) {
+      if (counts[routeId] == 0) {
+        continue;
+      }
+      String routeName = current.routeNames.get(routeId);
+      Double threshold = thresholds.get(routeName);
+      double distance =
+          switch (aggregationMethod) {
+            case MIN -> mins[routeId];
+            case SUM -> sums[routeId];
+            case AVG -> sums[routeId] / counts[routeId];
+          };
+      if (threshold != null && distance < threshold) {
+        matches.add(RouteMatch.builder().name(routeName).distance(distance).build());
+      }
+    }
+    matches.sort(Comparator.comparingDouble(RouteMatch::getDistance));
+    return matches.size() > maxK ? List.copyOf(matches.subList(0, maxK)) : matches;
+  }
+
+  /** Get the routes whose centroids are closest to a unit query vector. */
+  private static int[] closestRoutes(Snapshot current, float[] query, int limit) {
+    int dimensions = current.dimensions;
+    List<Integer> routeIds = new ArrayList<>();
+    double[] distances = new double[current.routeSizes.length];
+    for (int routeId = 0; routeId < distances.length; routeId++) {
+      if (current.routeSizes[routeId] == 0) {
+        continue;
+      }
+      double norm = current.centroidNorms[routeId];
+      distances[routeId] =
+          norm > 0 ? 1.0 - dot(current.centroids, routeId * dimensions, query) / norm : 1.0;
+      routeIds.add(routeId);
+    }
+    routeIds.sort(Comparator.comparingDouble(routeId -> distances[routeId]));
+    return routeIds.stream().limit(limit).mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Dot product of a matrix row and a vector, with independent partial sums per lane. */
+  private static float dot(float[] matrix, int offset, float[] vector) {
+    float s0 = 0;
+    float s1 = 0;
+    float s2 = 0;
+    float s3 = 0;
+    int i = 0;
+    for (int bound = vector.length & ~3; i < bound; i += 4) {
+      s0 += matrix[offset + i] * vector[i];
+      s1 += matrix[offset + i + 1] * vector[i + 1];
+      s2 += matrix[offset + i + 2] * vector[i + 2];
+      s3 += matrix[offset + i + 3] * vector[i + 3];
+    }
+    for (; i < vector.length; i++) {
+      s0 += matrix[offset + i] * vector[i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  /** Write a vector scaled to unit length; a zero vector is written as is. */
+  private static void writeUnitVector(float[] vector, float[] target, int offset) {
+    double norm = 0;
+    for (float value : vector) {
+      norm += (double) value * value;
+    }
+    float scale = norm > 0 ? (float) (1.0 / Math.sqrt(norm)) : 1f;
+    for (int i = 0; i < vector.length; i++) {
+      target[offset + i] = vector[i] * scale;
+    }
+  }
+
+  /** Add a unit vector of the matrix to, or with a sign of -1 subtract it from, a centroid. */
+  private static void addToCentroid(
+      float[] matrix,
+      int row,
+      int routeId,
+      int sign,
+      float[] centroids,
+      int[] routeSizes,
+      int dimensions) {
+    int source = row * dimensions;
+    int target = routeId * dimensions;
+    for (int i = 0; i < dimensions; i++) {
+      centroids[target + i] += sign * matrix[source + i];
+    }
+    routeSizes[routeId] += sign;
+  }
+
+  private static final class Snapshot {
+    static final Snapshot EMPTY =
+        new Snapshot(
+            0,
+            new float[0],
+            new int[0],
+            new String[0],
+            List.of(),
+            Map.of(),
+            new float[0],
+            new int[0]);
+
+    final int dimensions;
+    final float[] matrix;
+    final int[] routeIds;
+    final String[] keys;
+    final List<String> routeNames;
+    final Map<String, Integer> rowByKey;
+    // Sum of the unit reference vectors of each route, and the number of references
+    final float[] centroids;
+    final int[] routeSizes;
+    final double[] centroidNorms;
+    // Rows grouped by route: the rows of route r are rowsByRoute[routeStarts[r]..routeStarts[r+1])
+    final int[] routeStarts;
+    final int[] rowsByRoute;
+
+    Snapshot(
+        int dimensions,
+        float[] matrix,
+        int[] routeIds,
+        String[] keys,
+        List<String> routeNames,
+        Map<String, Integer> rowByKey,
+        float[] centroids,
+        int[] routeSizes) {
+      this.dimensions = dimensions;
+      this.matrix = matrix;
+      this.routeIds = routeIds;
+      this.keys = keys;
+      this.routeNames = routeNames;
+      this.rowByKey = rowByKey;
+      this.centroids = centroids;
+      this.routeSizes = routeSizes;
+
+      int routeCount = routeSizes.length;
+      this.centroidNorms = new double[routeCount];
+      for (int routeId = 0; routeId < routeCount; routeId++) {
+        double norm = 0;
+        for (int i = routeId * dimensions; i < (routeId + 1) * dimensions; i++) {
+          norm += (double) centroids[i] * centroids[i];
+        }
+        centroidNorms[routeId] = Math.sqrt(norm);
+      }
+
+      this.routeStarts = new int[routeCount + 1];
+      for (int routeId : routeIds) {
+        routeStarts[routeId + 1]++;
+      }
+      for (int routeId = 0; routeId < routeCount; routeId++) {
+        routeStarts[routeId + 1] += routeStarts[routeId];
+      }
+      this.rowsByRoute = new int[routeIds.length];
+      int[] next = Arrays.copyOf(routeStarts, routeCount);
+      for (int row = 0; row < routeIds.length; row++) {
+        rowsByRoute[next[routeIds[row]]++] = row;
+      }
+    }
+  }
+}
@@ -15,6 +15,20 @@ public class RoutingConfig {
   @Builder.Default
   private DistanceAggregationMethod aggregationMethod = DistanceAggregationMethod.AVG;
 
+  /**
+   * Maximum number of references, closest first, aggregated per query by server-side routing; 0
+   * aggregates every reference within the largest route threshold. A window bounds the cost of the
+   * aggregation on routers with many references, at the price of leaving farther references out of
+   * SUM and AVG distances.
+   */
+  @Builder.Default private int aggregationWindow = 0;
+
+  /**
+   * With local routing, the number of routes, closest to the query by centroid, whose references
+   * are scored; 0 scores every reference. Other routes are not matched.
+   */
+  @Builder.Default private int candidateRoutes = 0;
+
   /**
    * Validate the routing configuration.
    *
@@ -24,5 +38,11 @@ public class RoutingConfig {
     if (maxK <= 0) {
       throw new IllegalArgumentException("maxK must be greater than 0");
     }
+    if (aggregationWindow < 0) {
+      throw new IllegalArgumentException("aggregationWindow must not be negative");
+    }
+    if (candidateRoutes < 0) {
+      throw new IllegalArgumentException("candidateRoutes must not be negative");
+    }
   }
 }
@@ -1,16 +1,28 @@
 package com.redis.vl.extensions.router;
 
 import com.redis.vl.index.SearchIndex;
+import com.redis.vl.utils.VectorCodec;
 import com.redis.vl.utils.vectorize.BaseVectorizer;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Getter;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
 
 /**
  * Semantic Router for managing and querying route vectors. Ported from Python:
  * redisvl/extensions/router/semantic.py:33
+ *
+ * <p>With {@link SemanticRouterBuilder#localRouting(boolean) local routing}, the router also keeps
+ * its reference vectors in memory and scores queries on the client, so routing makes no call to
+ * Redis. The in-memory copy is loaded from Redis when the router attaches to an existing index,
+ * and is updated by this router's reference additions, deletions and clears; call {@link
+ * #reloadLocalIndex()} to pick up changes made by other clients.
  */
 @Getter
 @SuppressFBWarnings(
@@ -18,6 +30,9 @@ import redis.clients.jedis.UnifiedJedis;
     justification =
         "SemanticRouter fields are intentionally exposed for Python API compatibility and shared references")
 public class SemanticRouter {
+  // Number of queries embedded and sent in one pipeline by the batch routing methods
+  private static final int ROUTE_BATCH_CHUNK_SIZE = 1000;
+
   private final String name;
   private final List<Route> routes;
   private RoutingConfig routingConfig;
@@ -25,6 +40,10 @@ public class SemanticRouter {
   private final UnifiedJedis unifiedJedis;
   private SearchIndex index;
 
+  // In-memory reference vectors when local routing is enabled, otherwise null
+  @Getter(AccessLevel.NONE)
+  private final LocalRouteIndex localIndex;
+
   /**
    * Legacy constructor for backwards compatibility.
    *
@@ -37,6 +56,7 @@ public class SemanticRouter {
     this.vectorizer = null;
     this.unifiedJedis = null;
     this.index = null;
+    this.localIndex = null;
   }
 
   /**
@@ -56,6 +76,7 @@ public class SemanticRouter {
     this.vectorizer = builder.vectorizer;
     this.unifiedJedis = builder.unifiedJedis;
     this.index = null; // Will be initialized when needed
+    this.localIndex = builder.localRouting ? new LocalRouteIndex() : null;
   }
 
   /** Builder for SemanticRouter. */
@@ -67,6 +88,7 @@ public class SemanticRouter {
     private BaseVectorizer vectorizer;
     private UnifiedJedis unifiedJedis;
     private boolean overwrite = false;
+    private boolean localRouting = false;
 
     /**
      * Set the router name.
@@ -134,6 +156,18 @@ public class SemanticRouter {
       return this;
     }
 
+    /**
+     * Set whether routes are matched against an in-memory copy of the reference vectors instead of
+     * with an aggregation query in Redis (default false).
+     *
+     * @param localRouting true to route locally
+     * @return this builder
+     */
+    public SemanticRouterBuilder localRouting(boolean localRouting) {
+      this.localRouting = localRouting;
+      return this;
+    }
+
     /**
      * Build the SemanticRouter.
      *
@@ -273,10 +307,77 @@ public class SemanticRouter {
     return map;
   }
 
-  /** Clear all route data from Redis. Ported from Python: clear() (line 501) */
+  /**
+   * Check whether routes are matched locally against in-memory reference vectors.
+   *
+   * @return true if local routing is enabled
+   */
+  public boolean isLocalRouting() {
+    return localIndex != null;
+  }
+
+  /**
+   * Replace the in-memory reference vectors with those stored in Redis, for example after another
+   * client changed the route references. Does nothing unless local routing is enabled.
+   */
+  public void reloadLocalIndex() {
+    if (localIndex == null || index == null) {
+      return;
+    }
+    List<String> keys = scanByPattern(unifiedJedis, index.getPrefix() + ":*:*");
+    VectorCodec codec = VectorCodec.forDtype(vectorizer.getDataType());
+    byte[] routeNameField = "route_name".getBytes(StandardCharsets.UTF_8);
+    byte[] referenceIdField = "reference_id".getBytes(StandardCharsets.UTF_8);
+    byte[] vectorField =
+        SemanticRouterIndexSchema.ROUTE_VECTOR_FIELD_NAME.getBytes(StandardCharsets.UTF_8);
+
+    List<Response<List<byte[]>>> responses = new ArrayList<>(keys.size());
+    try (AbstractPipeline pipeline = unifiedJedis.pipelined()) {
+      for (String key : keys) {
+        responses.add(
+            pipeline.hmget(
+                key.getBytes(StandardCharsets.UTF_8),
+                routeNameField,
+                referenceIdField,
+                vectorField));
+      }
+      pipeline.sync();
+    }
+
+    List<String> routeNames = new ArrayList<>();
+    List<String> localKeys = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    for (Response<List<byte[]>> response : responses) {
+      List<byte[]> fields = response.get();
+      if (fields.get(0) == null || fields.get(1) == null || fields.get(2) == null) {
+        continue; // Not a route reference
+      }
+      String routeName = new String(fields.get(0), StandardCharsets.UTF_8);
+      String referenceId = new String(fields.get(1), StandardCharsets.UTF_8);
+      routeNames.add(routeName);
+      localKeys.add(routeRefKey(index, routeName, referenceId));
+      vectors.add(codec.decode(fields.get(2)));
+    }
+
+    localIndex.clear();
+    localIndex.put(routeNames, localKeys, vectors);
+  }
+
+  /**
+   * Clear all route references from Redis and from each route. Ported from Python: clear() (line
+   * 501)
+   */
   public void clear() {
     if (index != null) {
-      // TODO: Implement clearing route data from Redis
+      index.clear();
+      for (Route route : routes) {
+        route.setReferences(new ArrayList<>());
+      }
+      // Clearing removes every key under the prefix, including the router configuration
+      saveRouterConfig();
+    }
+    if (localIndex != null) {
+      localIndex.clear();
     }
   }
 
@@ -314,6 +415,10 @@ public class SemanticRouter {
       // Save router configuration as JSON (Python: line 110)
       saveRouterConfig();
     }
+    if (existed) {
+      // An existing index may hold references this router did not add
+      reloadLocalIndex();
+    }
   }
 
   /** Add routes to the router and index. Ported from Python: _add_routes() (line 227) */
@@ -323,6 +428,9 @@ public class SemanticRouter {
     }
 
     java.util.List<java.util.Map<String, Object>> routeReferences = new java.util.ArrayList<>();
+    java.util.List<String> routeNames = new java.util.ArrayList<>();
+    java.util.List<String> keys = new java.util.ArrayList<>();
+    java.util.List<float[]> vectors = new java.util.ArrayList<>();
 
     for (Route route : routesToAdd) {
       // Embed route references as a batch
@@ -344,12 +452,18 @@ public class SemanticRouter {
         doc.put("vector", vector);
 
         routeReferences.add(doc);
+        routeNames.add(route.getName());
+        keys.add(key);
+        vectors.add(vector);
       }
     }
 
     // Load all route references into Redis using "id" as the key field
     if (!routeReferences.isEmpty()) {
       index.load(routeReferences, "id");
+      if (localIndex != null) {
+        localIndex.put(routeNames, keys, vectors);
+      }
     }
   }
 
@@ -403,21 +517,37 @@ public class SemanticRouter {
       aggregationMethod = routingConfig.getAggregationMethod();
     }
 
-    List<RouteMatch> matches = getRouteMatches(vector, aggregationMethod, 1);
-    if (matches.isEmpty()) {
-      return RouteMatch.builder().build();
-    }
+    return bestMatch(getRouteMatches(vector, aggregationMethod, 1), getRouteThresholds());
+  }
 
-    RouteMatch match = matches.get(0);
-    // Check distance threshold
-    if (match.getDistance() != null) {
-      Double threshold = getRouteThresholds().get(match.getName());
-      if (threshold != null && match.getDistance() > threshold) {
-        return RouteMatch.builder().build();
-      }
-    }
+  /**
+   * Route each query of a batch to its best matching route. Queries are embedded with {@link
+   * BaseVectorizer#embedBatch(List)} and matched with pipelined aggregation requests, or in memory
+   * with {@link SemanticRouterBuilder#localRouting(boolean) local routing}.
+   *
+   * @param texts the query texts
+   * @return the best matching route of each query, in input order; a RouteMatch with null name
+   *     where a query has no match
+   */
+  public List<RouteMatch> routeBatch(List<String> texts) {
+    return routeBatch(texts, null, null);
+  }
 
-    return match;
+  /**
+   * Route each query of a batch to its best matching route with full control.
+   *
+   * @param texts the query texts (optional if vectors provided)
+   * @param vectors pre-computed embedding vectors (optional if texts provided)
+   * @param aggregationMethod method to aggregate distances (null uses config default)
+   * @return the best matching route of each query, in input order; a RouteMatch with null name
+   *     where a query has no match
+   */
+  public List<RouteMatch> routeBatch(
+      List<String> texts, List<float[]> vectors, DistanceAggregationMethod aggregationMethod) {
+    java.util.Map<String, Double> thresholds = getRouteThresholds();
+    return routeBatchMatches(texts, vectors, aggregationMethod, 1).stream()
+        .map(matches -> bestMatch(matches, thresholds))
+        .toList();
   }
 
   /**
@@ -457,10 +587,104 @@ public class SemanticRouter {
       aggregationMethod = routingConfig.getAggregationMethod();
     }
 
-    List<RouteMatch> matches = getRouteMatches(vector, aggregationMethod, maxK);
+    return withinThresholds(
+        getRouteMatches(vector, aggregationMethod, maxK), getRouteThresholds());
+  }
+
+  /**
+   * Route each query of a batch to its matching routes. See {@link #routeBatch(List)}.
+   *
+   * @param texts the query texts
+   * @return the matching routes of each query, in input order
+   */
+  public List<List<RouteMatch>> routeManyBatch(List<String> texts) {
+    return routeManyBatch(texts, null, null, null);
+  }
 
-    // Filter by distance thresholds
+  /**
+   * Route each query of a batch to its matching routes with full control.
+   *
+   * @param texts the query texts (optional if vectors provided)
+   * @param maxK maximum number of routes to return per query (null uses config default)
+   * @param vectors pre-computed embedding vectors (optional if texts provided)
+   * @param aggregationMethod method to aggregate distances (null uses config default)
+   * @return the matching routes of each query, in input order
+   */
+  public List<List<RouteMatch>> routeManyBatch(
+      List<String> texts,
+      Integer maxK,
+      List<float[]> vectors,
+      DistanceAggregationMethod aggregationMethod) {
+    if (maxK == null) {
+      maxK = routingConfig.getMaxK();
+    }
     java.util.Map<String, Double> thresholds = getRouteThresholds();
+    return routeBatchMatches(texts, vectors, aggregationMethod, maxK).stream()
+        .map(matches -> withinThresholds(matches, thresholds))
+        .toList();
+  }
+
+  /**
+   * Match a batch of queries, embedding and querying Redis one chunk of {@link
+   * #ROUTE_BATCH_CHUNK_SIZE} queries at a time.
+   */
+  private List<List<RouteMatch>> routeBatchMatches(
+      List<String> texts,
+      List<float[]> vectors,
+      DistanceAggregationMethod aggregationMethod,
+      int maxK) {
+    if (vectors == null) {
+      if (texts == null) {
+        throw new IllegalArgumentException("Must provide texts or vectors");
+      }
+      for (String text : texts) {
+        if (text == null || text.isEmpty()) {
+          throw new IllegalArgumentException("Texts must be non-empty strings");
+        }
+      }
+    } else if (texts != null && texts.size() != vectors.size()) {
+      throw new IllegalArgumentException(
+          "Got " + texts.size() + " texts but " + vectors.size() + " vectors");
+    }
+    if (aggregationMethod == null) {
+      aggregationMethod = routingConfig.getAggregationMethod();
+    }
+
+    int size = vectors != null ? vectors.size() : texts.size();
+    List<List<RouteMatch>> results = new ArrayList<>(size);
+    for (int start = 0; start < size; start += ROUTE_BATCH_CHUNK_SIZE) {
+      int end = Math.min(start + ROUTE_BATCH_CHUNK_SIZE, size);
+      List<float[]> chunk =
+          vectors != null
+              ? vectors.subList(start, end)
+              : vectorizer.embedBatch(texts.subList(start, end));
+      results.addAll(getRouteMatchesBatch(chunk, aggregationMethod, maxK));
+    }
+    return results;
+  }
+
+  /** Get the best match of a query, or an empty match if none is within its route's threshold. */
+  private static RouteMatch bestMatch(
+      List<RouteMatch> matches, java.util.Map<String, Double> thresholds) {
+    if (matches.isEmpty()) {
+      return RouteMatch.builder().build();
+    }
+
+    RouteMatch match = matches.get(0);
+    // Check distance threshold
+    if (match.getDistance() != null) {
+      Double threshold = thresholds.get(match.getName());
+      if (threshold != null && match.getDistance() > threshold) {
+        return RouteMatch.builder().build();
+      }
+    }
+
+    return match;
+  }
+
+  /** Filter matches by their route's distance threshold. */
+  private static List<RouteMatch> withinThresholds(
+      List<RouteMatch> matches, java.util.Map<String, Double> thresholds) {
     return matches.stream()
         .filter(
             match -> {
@@ -487,7 +711,66 @@ public class SemanticRouter {
     if (index == null) {
       throw new IllegalStateException("Index not initialized");
     }
+    if (localIndex != null) {
+      return localIndex.match(
+          vector,
+          aggregationMethod,
+          getRouteThresholds(),
+          maxK,
+          routingConfig.getCandidateRoutes());
+    }
+
+    // Execute search with aggregation
+    redis.clients.jedis.search.aggr.AggregationResult result =
+        unifiedJedis.ftAggregate(
+            index.getName(), buildRouteAggregation(vector, aggregationMethod, maxK));
+    return toRouteMatches(result);
+  }
+
+  /**
+   * Get the route matches of several query vectors, sending the aggregation requests in one
+   * pipeline.
+   *
+   * @param vectors the query vectors
+   * @param aggregationMethod method to aggregate distances
+   * @param maxK maximum number of routes to return per query
+   * @return the route matches of each vector, in input order
+   */
+  private List<List<RouteMatch>> getRouteMatchesBatch(
+      List<float[]> vectors, DistanceAggregationMethod aggregationMethod, int maxK) {
+    if (index == null) {
+      throw new IllegalStateException("Index not initialized");
+    }
+    List<List<RouteMatch>> results = new ArrayList<>(vectors.size());
+    if (localIndex != null) {
+      java.util.Map<String, Double> thresholds = getRouteThresholds();
+      for (float[] vector : vectors) {
+        results.add(
+            localIndex.match(
+                vector, aggregationMethod, thresholds, maxK, routingConfig.getCandidateRoutes()));
+      }
+      return results;
+    }
 
+    List<Response<redis.clients.jedis.search.aggr.AggregationResult>> responses =
+        new ArrayList<>(vectors.size());
+    try (AbstractPipeline pipeline = unifiedJedis.pipelined()) {
+      for (float[] vector : vectors) {
+        responses.add(
+            pipeline.ftAggregate(
+                index.getName(), buildRouteAggregation(vector, aggregationMethod, maxK)));
+      }
+      pipeline.sync();
+    }
+    for (Response<redis.clients.jedis.search.aggr.AggregationResult> response : responses) {
+      results.add(toRouteMatches(response.get()));
+    }
+    return results;
+  }
+
+  /** Build the aggregation request that matches one query vector against the routes. */
+  private redis.clients.jedis.search.aggr.AggregationBuilder buildRouteAggregation(
+      float[] vector, DistanceAggregationMethod aggregationMethod, int maxK) {
     // Get max distance threshold across all routes (Python: line 334)
     double maxThreshold =
         routes.stream().mapToDouble(Route::getDistanceThreshold).max().orElse(1.0);
@@ -498,7 +781,7 @@ public class SemanticRouter {
             .vector(vector)
             .field("vector")
             .distanceThreshold(maxThreshold)
-            .numResults(1000) // Get many results for aggregation
+            .numResults(1000) // Not applied by FT.AGGREGATE, see aggregationWindow
             .build();
 
     // Determine the reducer based on aggregation method
@@ -545,18 +828,25 @@ public class SemanticRouter {
     redis.clients.jedis.search.aggr.AggregationBuilder aggregation =
         new redis.clients.jedis.search.aggr.AggregationBuilder(vectorQuery.toQueryString())
             .params(vectorQuery.toParams())
-            .load("route_name", "vector_distance")
-            .groupBy("@route_name", distanceReducer)
-            .filter(filterBuilder.toString()) // Apply per-route distance thresholds
-            .sortBy(redis.clients.jedis.search.aggr.SortedField.asc("@" + reducedField))
-            .limit(0, maxK)
-            .dialect(2); // Use dialect 2 for filter support (Python: line 315)
-
-    // Execute search with aggregation
-    redis.clients.jedis.search.aggr.AggregationResult result =
-        unifiedJedis.ftAggregate(index.getName(), aggregation);
+            .load("route_name", "vector_distance");
+    if (routingConfig.getAggregationWindow() > 0) {
+      // Keep only the closest references before grouping them by route
+      aggregation.sortBy(
+          routingConfig.getAggregationWindow(),
+          redis.clients.jedis.search.aggr.SortedField.asc("@vector_distance"));
+    }
+    return aggregation
+        .groupBy("@route_name", distanceReducer)
+        .filter(filterBuilder.toString()) // Apply per-route distance thresholds
+        .sortBy(redis.clients.jedis.search.aggr.SortedField.asc("@" + reducedField))
+        .limit(0, maxK)
+        .dialect(2); // Use dialect 2 for filter support (Python: line 315)
+  }
 
-    // Convert results to RouteMatch list
+  /** Convert aggregation results to route matches. */
+  private static List<RouteMatch> toRouteMatches(
+      redis.clients.jedis.search.aggr.AggregationResult result) {
+    String reducedField = "distance"; // Output field name of the distance reducer
     java.util.List<RouteMatch> matches = new java.util.ArrayList<>();
     for (java.util.Map<String, Object> row : result.getResults()) {
       String routeName = (String) row.get("route_name");
@@ -619,6 +909,10 @@ public class SemanticRouter {
 
     // Load references into Redis using "id" as the key field
     index.load(routeReferences, "id");
+    if (localIndex != null) {
+      localIndex.put(
+          java.util.Collections.nCopies(references.size(), routeName), keys, referenceVectors);
+    }
 
     // Update the route's references list
     Route route = get(routeName);
@@ -734,6 +1028,16 @@ public class SemanticRouter {
 
     // Delete keys from Redis
     int deleted = index.dropKeys(keysToDelete);
+    if (localIndex != null) {
+      List<String> localKeys = new java.util.ArrayList<>(keysToDelete.size());
+      for (String key : keysToDelete) {
+        String[] parts = key.split(":");
+        if (parts.length >= 2) {
+          localKeys.add(parts[parts.length - 2] + ":" + parts[parts.length - 1]);
+        }
+      }
+      localIndex.remove(localKeys);
+    }
 
     // Update route references lists
     for (java.util.Map.Entry<String, String> entry : toBeDeleted) {
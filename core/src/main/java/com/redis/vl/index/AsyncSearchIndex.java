@@ -0,0 +1,514 @@
+package com.redis.vl.index;
+
+import com.redis.vl.query.CountQuery;
+import com.redis.vl.query.Filter;
+import com.redis.vl.query.FilterQuery;
+import com.redis.vl.query.TextQuery;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.query.VectorRangeQuery;
+import com.redis.vl.schema.IndexSchema;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.search.FTSearchParams;
+import redis.clients.jedis.search.SearchResult;
+
+/**
+ * Non-blocking view of a {@link SearchIndex} whose operations return {@link CompletableFuture}s.
+ *
+ * <p>Searches, counts and fetches are queued and sent by a few dispatcher threads, each of which
+ * packs every command waiting at that moment into a single pipeline. Thousands of concurrent
+ * queries therefore share {@code connections} pooled connections instead of holding one thread and
+ * one connection each, and the number of round trips drops as load grows. Operations that take
+ * several dependent round trips ({@code load}, {@code paginate} and hybrid and aggregation
+ * queries) run the blocking {@link SearchIndex} method on an executor.
+ *
+ * <pre>{@code
+ * try (AsyncSearchIndex async = index.async().connections(4).virtualThreads(true).build()) {
+ *   CompletableFuture<List<Map<String, Object>>> a = async.query(queryA);
+ *   CompletableFuture<List<Map<String, Object>>> b = async.query(queryB);
+ *   CompletableFuture.allOf(a, b).join();
+ * }
+ * }</pre>
+ *
+ * <p>Futures of pipelined operations are completed on dispatcher threads; use the {@code *Async}
+ * variants of {@link CompletableFuture} for dependent stages that block. Waiting for a future from
+ * a virtual thread parks the virtual thread without pinning a carrier thread.
+ */
+@Slf4j
+public final class AsyncSearchIndex implements AutoCloseable {
+
+  /** Default number of dispatcher threads, each using one pooled connection at a time. */
+  public static final int DEFAULT_CONNECTIONS = 2;
+
+  /** Default maximum number of commands sent in one pipeline. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+  /** Default maximum number of commands waiting to be sent. */
+  public static final int DEFAULT_MAX_PENDING = 10_000;
+
+  /** Default number of threads running blocking operations when no executor is supplied. */
+  public static final int DEFAULT_BLOCKING_THREADS = 8;
+
+  private static final AtomicInteger EXECUTOR_SEQUENCE = new AtomicInteger();
+
+  private final SearchIndex index;
+  private final PipelineDispatcher dispatcher;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+
+  private AsyncSearchIndex(Builder builder) {
+    this.index = builder.index;
+    if (builder.executor != null) {
+      this.executor = builder.executor;
+      this.ownedExecutor = null;
+    } else {
+      this.ownedExecutor =
+          builder.virtualThreads
+              ? newVirtualThreadExecutor()
+              : Executors.newFixedThreadPool(builder.blockingThreads, daemonThreads());
+      this.executor = ownedExecutor;
+    }
+    this.dispatcher =
+        new PipelineDispatcher(
+            index::getUnifiedJedis, builder.connections, builder.maxBatchSize, builder.maxPending);
+  }
+
+  /**
+   * Get the index this view operates on.
+   *
+   * @return The underlying search index
+   */
+  public SearchIndex getIndex() {
+    return index;
+  }
+
+  /**
+   * Search the index using a query string.
+   *
+   * @param query Query string
+   * @return Future search results
+   */
+  public CompletableFuture<SearchResult> search(String query) {
+    return search(query, null, 0, SearchIndex.DEFAULT_NUM_RESULTS);
+  }
+
+  /**
+   * Search the index using a query string with parameters.
+   *
+   * @param query Query string
+   * @param params Query parameters
+   * @return Future search results
+   */
+  public CompletableFuture<SearchResult> search(String query, Map<String, Object> params) {
+    return search(query, params, 0, SearchIndex.DEFAULT_NUM_RESULTS);
+  }
+
+  /**
+   * Search the index using a query string with parameters, offset and limit.
+   *
+   * @param query Query string
+   * @param params Query parameters
+   * @param offset Number of results to skip
+   * @param limit Maximum number of results to return
+   * @return Future search results
+   */
+  public CompletableFuture<SearchResult> search(
+      String query, Map<String, Object> params, int offset, int limit) {
+    return submitSearch(
+        () -> query, () -> index.searchParams(params, offset, limit), "Failed to search index: ");
+  }
+
+  /**
+   * Search the index using a VectorQuery.
+   *
+   * @param query Vector query to execute
+   * @return Future search results
+   */
+  public CompletableFuture<SearchResult> search(VectorQuery query) {
+    return submitSearch(
+        query::toQueryString, () -> index.vectorSearchParams(query), "Failed to search index: ");
+  }
+
+  /**
+   * Count documents matching a query.
+   *
+   * @param query The count query
+   * @return Future number of matching documents
+   */
+  public CompletableFuture<Long> count(CountQuery query) {
+    String queryString = query.getFilterString();
+    FTSearchParams searchParams = FTSearchParams.searchParams().limit(0, 0).noContent();
+    return dispatcher.submit(
+        pipeline -> pipeline.ftSearch(index.getName(), queryString, searchParams),
+        SearchResult::getTotalResults,
+        e -> index.searchFailure("Failed to count documents: ", e),
+        index::ensureIndexExists);
+  }
+
+  /**
+   * Fetch a document by ID or key.
+   *
+   * @param idOrKey Document ID or full key
+   * @return Future document, completed with null if the document does not exist
+   */
+  public CompletableFuture<Map<String, Object>> fetch(String idOrKey) {
+    return fetch(idOrKey, null);
+  }
+
+  /**
+   * Fetch some fields of a document by ID or key. Vector fields of HASH documents are returned as
+   * raw bytes (see {@link SearchIndex#decodeVector}).
+   *
+   * @param idOrKey Document ID or full key
+   * @param fields Fields to return, or null for all fields
+   * @return Future document, completed with null if the document does not exist
+   */
+  public CompletableFuture<Map<String, Object>> fetch(String idOrKey, Collection<String> fields) {
+    String key = index.resolveKey(idOrKey);
+    if (index.getStorageType() == IndexSchema.StorageType.HASH) {
+      byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+      return dispatcher.submit(
+          pipeline -> pipeline.hgetAll(keyBytes),
+          hash -> index.hashDocument(hash, fields),
+          null,
+          null);
+    }
+    return dispatcher.submit(
+        pipeline -> pipeline.jsonGet(key),
+        json -> {
+          if (json == null) {
+            return null;
+          }
+          try {
+            Map<String, Object> document = index.jsonDocument(json, fields);
+            return document != null ? document : Collections.<String, Object>emptyMap();
+          } catch (Exception e) {
+            log.error("Failed to fetch JSON document: {}", key, e);
+            return Collections.<String, Object>emptyMap();
+          }
+        },
+        null,
+        null);
+  }
+
+  /**
+   * Query the index and return results as a list of maps, like {@link SearchIndex#query(Object)}.
+   *
+   * <p>Query strings, {@link VectorQuery}, {@link VectorRangeQuery}, {@link Filter}, {@link
+   * TextQuery}, {@link FilterQuery} and {@link CountQuery} are pipelined. Other query types run on
+   * the executor.
+   *
+   * @param query Query object
+   * @return Future list of document maps
+   */
+  public CompletableFuture<List<Map<String, Object>>> query(Object query) {
+    if (query instanceof CountQuery cq) {
+      // Like SearchIndex.query: the count is only available through count()
+      return count(cq).thenApply(count -> new ArrayList<>());
+    } else if (query instanceof VectorQuery vq) {
+      VectorQuery resolved;
+      try {
+        resolved = index.resolveVectorQuery(vq);
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+      return process(search(resolved));
+    } else if (query instanceof VectorRangeQuery vrq) {
+      return process(
+          submitSearch(
+              vrq::toQueryString,
+              () -> index.rangeSearchParams(vrq, 0, vrq.getNumResults()),
+              "Failed to execute range query: "));
+    } else if (query instanceof Filter filter) {
+      return process(search(filter.build()));
+    } else if (query instanceof TextQuery tq) {
+      return process(
+          submitSearch(
+              tq::toQueryString,
+              () -> index.textSearchParams(tq),
+              "Failed to execute text query: "));
+    } else if (query instanceof FilterQuery fq) {
+      return process(
+          dispatcher.submit(
+              pipeline -> pipeline.ftSearch(index.getName(), fq.buildRedisQuery()),
+              Function.identity(),
+              e -> index.searchFailure("Failed to execute filter query: ", e),
+              index::ensureIndexExists));
+    } else if (query instanceof String queryString) {
+      return process(search(queryString));
+    }
+    return supplyBlocking(() -> index.query(query));
+  }
+
+  /**
+   * Load documents on the executor. Writes are pipelined by the underlying storage.
+   *
+   * @param data Documents to load
+   * @return Future list of keys
+   */
+  public CompletableFuture<List<String>> load(List<Map<String, Object>> data) {
+    return load(data, null, null);
+  }
+
+  /**
+   * Load documents on the executor.
+   *
+   * @param data Documents to load
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @return Future list of keys
+   */
+  public CompletableFuture<List<String>> load(List<Map<String, Object>> data, String idField) {
+    return load(data, idField, null);
+  }
+
+  /**
+   * Load documents with preprocessing on the executor.
+   *
+   * @param data Documents to load
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @param preprocess Optional preprocessing function
+   * @return Future list of keys
+   */
+  public CompletableFuture<List<String>> load(
+      List<Map<String, Object>> data,
+      String idField,
+      Function<Map<String, Object>, Map<String, Object>> preprocess) {
+    return supplyBlocking(() -> index.load(data, idField, preprocess));
+  }
+
+  /**
+   * Read all pages of a query on the executor, like {@link SearchIndex#paginate(Object, int)}.
+   *
+   * @param query The query to execute
+   * @param pageSize Number of results per page
+   * @return Future list of pages
+   */
+  public CompletableFuture<List<List<Map<String, Object>>>> paginate(Object query, int pageSize) {
+    return supplyBlocking(
+        () -> {
+          List<List<Map<String, Object>>> pages = new ArrayList<>();
+          for (List<Map<String, Object>> page : index.paginate(query, pageSize)) {
+            pages.add(page);
+          }
+          return pages;
+        });
+  }
+
+  /**
+   * Get counters of the pipelined operations.
+   *
+   * @return Snapshot of the dispatcher counters
+   */
+  public Stats stats() {
+    return new Stats(
+        dispatcher.commandCount(), dispatcher.pipelineCount(), dispatcher.pendingCount());
+  }
+
+  /**
+   * Stop the dispatcher threads and, if it was created by this view, the executor. Operations not
+   * sent yet fail with a {@link com.redis.vl.exceptions.RedisVLException}; the underlying index and
+   * its connection are left open.
+   */
+  @Override
+  public void close() {
+    dispatcher.close();
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  private CompletableFuture<SearchResult> submitSearch(
+      Supplier<String> query, Supplier<FTSearchParams> params, String failureMessage) {
+    String queryString;
+    FTSearchParams searchParams;
+    try {
+      queryString = query.get();
+      searchParams = params.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return dispatcher.submit(
+        pipeline -> pipeline.ftSearch(index.getName(), queryString, searchParams),
+        Function.identity(),
+        e -> index.searchFailure(failureMessage, e),
+        index::ensureIndexExists);
+  }
+
+  private CompletableFuture<List<Map<String, Object>>> process(
+      CompletableFuture<SearchResult> result) {
+    return result.thenApply(index::processSearchResult);
+  }
+
+  private <T> CompletableFuture<T> supplyBlocking(Supplier<T> operation) {
+    return CompletableFuture.supplyAsync(operation, executor);
+  }
+
+  private static ThreadFactory daemonThreads() {
+    int executorId = EXECUTOR_SEQUENCE.incrementAndGet();
+    AtomicInteger threadIds = new AtomicInteger();
+    return runnable -> {
+      Thread thread =
+          new Thread(
+              runnable, "redisvl-async-" + executorId + "-worker-" + threadIds.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** Create a virtual-thread-per-task executor; looked up reflectively to keep Java 17 support. */
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new UnsupportedOperationException(
+          "Virtual threads require Java 21 or later (running " + Runtime.version() + ")", e);
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Failed to create a virtual thread executor: " + e.getCause(), e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create a virtual thread executor", e);
+    }
+  }
+
+  /**
+   * Counters of the pipelined operations.
+   *
+   * @param commands Commands sent so far
+   * @param pipelines Pipelines executed so far
+   * @param pending Commands currently waiting to be sent
+   */
+  public record Stats(long commands, long pipelines, int pending) {
+
+    /**
+     * Get the average number of commands per pipeline.
+     *
+     * @return Commands per pipeline, or 0 if nothing was sent
+     */
+    public double averageBatchSize() {
+      return pipelines > 0 ? (double) commands / pipelines : 0;
+    }
+  }
+
+  /** Builder for {@link AsyncSearchIndex}, obtained from {@link SearchIndex#async()}. */
+  public static final class Builder {
+    private final SearchIndex index;
+    private int connections = DEFAULT_CONNECTIONS;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxPending = DEFAULT_MAX_PENDING;
+    private int blockingThreads = DEFAULT_BLOCKING_THREADS;
+    private boolean virtualThreads = false;
+    private Executor executor;
+
+    Builder(SearchIndex index) {
+      this.index = index;
+    }
+
+    /**
+     * Set the number of dispatcher threads (default 2). Each holds at most one pooled connection
+     * while it executes a pipeline, so this must not exceed the client's pool size.
+     *
+     * @param connections Number of dispatcher threads, at least 1
+     * @return This builder
+     */
+    public Builder connections(int connections) {
+      if (connections < 1) {
+        throw new IllegalArgumentException("connections must be at least 1");
+      }
+      this.connections = connections;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of commands sent in one pipeline (default 128).
+     *
+     * @param maxBatchSize Commands per pipeline, at least 1
+     * @return This builder
+     */
+    public Builder maxBatchSize(int maxBatchSize) {
+      if (maxBatchSize < 1) {
+        throw new IllegalArgumentException("maxBatchSize must be at least 1");
+      }
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of commands waiting to be sent (default 10,000). Further operations
+     * fail immediately with a {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param maxPending Maximum queued commands, at least 1
+     * @return This builder
+     */
+    public Builder maxPending(int maxPending) {
+      if (maxPending < 1) {
+        throw new IllegalArgumentException("maxPending must be at least 1");
+      }
+      this.maxPending = maxPending;
+      return this;
+    }
+
+    /**
+     * Set the number of platform threads running blocking operations (default 8). Ignored when an
+     * executor is supplied or virtual threads are enabled.
+     *
+     * @param blockingThreads Number of threads, at least 1
+     * @return This builder
+     */
+    public Builder blockingThreads(int blockingThreads) {
+      if (blockingThreads < 1) {
+        throw new IllegalArgumentException("blockingThreads must be at least 1");
+      }
+      this.blockingThreads = blockingThreads;
+      return this;
+    }
+
+    /**
+     * Run blocking operations on a new virtual thread each instead of a bounded platform thread
+     * pool (default false). Requires Java 21 or later at runtime.
+     *
+     * @param virtualThreads Whether to use virtual threads
+     * @return This builder
+     */
+    public Builder virtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    /**
+     * Run blocking operations on the given executor. The executor is not shut down by {@link
+     * AsyncSearchIndex#close()}.
+     *
+     * @param executor Executor for blocking operations
+     * @return This builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Build the asynchronous view and start its dispatcher threads.
+     *
+     * @return The asynchronous index
+     * @throws UnsupportedOperationException if virtual threads were requested on Java 20 or older
+     */
+    public AsyncSearchIndex build() {
+      return new AsyncSearchIndex(this);
+    }
+  }
+}
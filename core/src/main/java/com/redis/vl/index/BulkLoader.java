@@ -0,0 +1,493 @@
+package com.redis.vl.index;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.storage.DocumentReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multi-threaded, pipelined loader for streaming large numbers of documents into a {@link
+ * SearchIndex}.
+ *
+ * <p>The calling thread pulls documents from the source and groups them into batches. Each batch
+ * is preprocessed, validated, vector-encoded and written through its own pipeline on a worker
+ * thread. At most {@code maxInFlightBatches} batches are queued or executing at any time, so the
+ * caller blocks (instead of buffering the whole source in memory) when Redis or the workers fall
+ * behind.
+ *
+ * <p>Each worker borrows a connection from the index's client for the duration of its pipeline.
+ * The client's connection pool should allow at least {@code workers} connections, otherwise
+ * workers wait for each other.
+ *
+ * <pre>{@code
+ * BulkLoader.Result result = index.bulkLoader()
+ *     .workers(8)
+ *     .batchSize(500)
+ *     .idField("id")
+ *     .onProgress(p -> log.info("{} documents loaded", p.totalLoaded()))
+ *     .build()
+ *     .load(documents.stream());
+ * }</pre>
+ *
+ * <p>A BulkLoader is immutable and may be reused; every call to {@code load} runs on its own worker
+ * pool.
+ */
+@Slf4j
+public final class BulkLoader {
+
+  /** Default number of worker threads. */
+  public static final int DEFAULT_WORKERS = 4;
+
+  /** Default number of documents per pipelined batch. */
+  public static final int DEFAULT_BATCH_SIZE = 200;
+
+  private static final AtomicInteger LOADER_SEQUENCE = new AtomicInteger();
+
+  private final SearchIndex index;
+  private final int workers;
+  private final int batchSize;
+  private final int maxInFlightBatches;
+  private final String idField;
+  private final Integer ttl;
+  private final Function<Map<String, Object>, Map<String, Object>> preprocess;
+  private final boolean failFast;
+  private final Consumer<BatchProgress> onProgress;
+
+  private BulkLoader(Builder builder) {
+    this.index = builder.index;
+    this.workers = builder.workers;
+    this.batchSize = builder.batchSize;
+    this.maxInFlightBatches =
+        builder.maxInFlightBatches != null ? builder.maxInFlightBatches : builder.workers * 2;
+    this.idField = builder.idField;
+    this.ttl = builder.ttl;
+    this.preprocess = builder.preprocess;
+    this.failFast = builder.failFast;
+    this.onProgress = builder.onProgress;
+  }
+
+  /**
+   * Load all documents from a stream. The stream is consumed but not closed.
+   *
+   * @param documents Documents to load
+   * @return Summary of the load
+   * @throws RedisVLException if fail-fast is enabled and a batch fails, or the caller is
+   *     interrupted
+   */
+  public Result load(Stream<Map<String, Object>> documents) {
+    if (documents == null) {
+      throw new IllegalArgumentException("Documents cannot be null");
+    }
+    return load(documents.iterator());
+  }
+
+  /**
+   * Load all documents from an iterable.
+   *
+   * @param documents Documents to load
+   * @return Summary of the load
+   * @throws RedisVLException if fail-fast is enabled and a batch fails, or the caller is
+   *     interrupted
+   */
+  public Result load(Iterable<Map<String, Object>> documents) {
+    if (documents == null) {
+      throw new IllegalArgumentException("Documents cannot be null");
+    }
+    return load(documents.iterator());
+  }
+
+  /**
+   * Load all documents from a file reader and close it afterwards. Documents are read one batch
+   * ahead of the workers, so heap usage does not depend on the size of the file.
+   *
+   * @param reader Reader over the documents to load
+   * @return Summary of the load
+   * @throws RedisVLException if fail-fast is enabled and a batch fails, the file cannot be read, or
+   *     the caller is interrupted
+   */
+  public Result load(DocumentReader reader) {
+    if (reader == null) {
+      throw new IllegalArgumentException("Reader cannot be null");
+    }
+    try (reader) {
+      return load((Iterator<Map<String, Object>>) reader);
+    }
+  }
+
+  /**
+   * Load all documents from an iterator.
+   *
+   * @param documents Documents to load
+   * @return Summary of the load
+   * @throws RedisVLException if fail-fast is enabled and a batch fails, or the caller is
+   *     interrupted
+   */
+  public Result load(Iterator<Map<String, Object>> documents) {
+    if (documents == null) {
+      throw new IllegalArgumentException("Documents cannot be null");
+    }
+
+    LoadState state = new LoadState(System.nanoTime());
+    Semaphore inFlight = new Semaphore(maxInFlightBatches);
+    ExecutorService executor = Executors.newFixedThreadPool(workers, newThreadFactory());
+    long batchIndex = 0;
+    long offset = 0;
+    boolean completed = false;
+
+    try {
+      while (documents.hasNext() && !state.aborted.get()) {
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && documents.hasNext()) {
+          batch.add(documents.next());
+        }
+
+        // Backpressure: wait for a free slot before handing the batch to a worker
+        inFlight.acquire();
+        long currentBatch = batchIndex++;
+        long currentOffset = offset;
+        offset += batch.size();
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  runBatch(state, currentBatch, currentOffset, batch);
+                } finally {
+                  inFlight.release();
+                }
+              });
+        } catch (RuntimeException e) {
+          inFlight.release();
+          throw e;
+        }
+      }
+
+      // Wait for all in-flight batches to finish
+      inFlight.acquire(maxInFlightBatches);
+      inFlight.release(maxInFlightBatches);
+      completed = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisVLException("Interrupted while bulk loading documents", e);
+    } finally {
+      if (!completed) {
+        // Queued batches are skipped; running ones finish before the error propagates
+        state.aborted.set(true);
+      }
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+
+    Result result = state.toResult();
+    if (failFast && !result.failures().isEmpty()) {
+      BatchFailure failure = result.failures().get(0);
+      throw new RedisVLException(
+          String.format(
+              "Bulk load failed at batch %d (documents %d-%d): %s",
+              failure.batchIndex(),
+              failure.firstDocument(),
+              failure.firstDocument() + failure.size() - 1,
+              failure.error().getMessage()),
+          failure.error());
+    }
+    return result;
+  }
+
+  private void runBatch(
+      LoadState state, long batchIndex, long firstDocument, List<Map<String, Object>> batch) {
+    long start = System.nanoTime();
+    int written = 0;
+    Exception error = null;
+    if (!state.aborted.get()) {
+      try {
+        written = index.writeBatch(batch, idField, ttl, preprocess).size();
+      } catch (Exception e) {
+        error = e;
+      }
+    } else {
+      error = new RedisVLException("Skipped after the load was aborted");
+    }
+
+    int failed = batch.size() - written;
+    long totalLoaded = state.loaded.addAndGet(written);
+    long totalFailed = state.failed.addAndGet(failed);
+    if (error != null) {
+      log.warn(
+          "Bulk load batch {} ({} documents) failed: {}",
+          batchIndex,
+          batch.size(),
+          error.getMessage());
+      state.failures.add(new BatchFailure(batchIndex, firstDocument, batch.size(), error));
+      if (failFast) {
+        state.aborted.set(true);
+      }
+    }
+
+    if (onProgress != null) {
+      try {
+        onProgress.accept(
+            new BatchProgress(
+                batchIndex,
+                written,
+                failed,
+                totalLoaded,
+                totalFailed,
+                Duration.ofNanos(System.nanoTime() - start),
+                error));
+      } catch (RuntimeException e) {
+        log.warn("Bulk load progress callback failed", e);
+      }
+    }
+  }
+
+  /**
+   * Wait for the workers to finish, so that no batch is still writing when {@code load} returns.
+   * An interrupt does not cut the wait short; the interrupt status is restored afterwards.
+   */
+  private static void awaitTermination(ExecutorService executor) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+          break;
+        }
+        log.debug("Waiting for bulk load workers to terminate");
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ThreadFactory newThreadFactory() {
+    int loaderId = LOADER_SEQUENCE.incrementAndGet();
+    AtomicInteger threadId = new AtomicInteger();
+    return runnable -> {
+      Thread thread =
+          new Thread(
+              runnable, "redisvl-bulk-load-" + loaderId + "-worker-" + threadId.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** Mutable counters shared by the workers of a single load. */
+  private static final class LoadState {
+    final long startNanos;
+    final AtomicLong loaded = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicBoolean aborted = new AtomicBoolean();
+    final List<BatchFailure> failures = Collections.synchronizedList(new ArrayList<>());
+
+    LoadState(long startNanos) {
+      this.startNanos = startNanos;
+    }
+
+    Result toResult() {
+      List<BatchFailure> sorted;
+      synchronized (failures) {
+        sorted = new ArrayList<>(failures);
+      }
+      sorted.sort((a, b) -> Long.compare(a.batchIndex(), b.batchIndex()));
+      return new Result(
+          loaded.get(),
+          failed.get(),
+          List.copyOf(sorted),
+          Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  /**
+   * Progress report for a single batch, delivered on the worker thread that wrote it.
+   *
+   * @param batchIndex Zero-based index of the batch in the source
+   * @param loaded Documents written by this batch
+   * @param failed Documents of this batch that were not confirmed written
+   * @param totalLoaded Documents written so far across all batches
+   * @param totalFailed Documents failed so far across all batches
+   * @param elapsed Time spent preprocessing and writing this batch
+   * @param error The failure, or null if the batch succeeded
+   */
+  public record BatchProgress(
+      long batchIndex,
+      int loaded,
+      int failed,
+      long totalLoaded,
+      long totalFailed,
+      Duration elapsed,
+      Exception error) {}
+
+  /**
+   * A batch that could not be written.
+   *
+   * @param batchIndex Zero-based index of the batch in the source
+   * @param firstDocument Zero-based position of the batch's first document in the source
+   * @param size Number of documents in the batch
+   * @param error The failure
+   */
+  public record BatchFailure(long batchIndex, long firstDocument, int size, Exception error) {}
+
+  /**
+   * Summary of a completed bulk load.
+   *
+   * @param loaded Number of documents written
+   * @param failed Number of documents that were not written
+   * @param failures Failed batches in source order
+   * @param elapsed Wall-clock duration of the load
+   */
+  public record Result(long loaded, long failed, List<BatchFailure> failures, Duration elapsed) {
+
+    /**
+     * Get the write throughput of the load.
+     *
+     * @return Documents written per second
+     */
+    public double documentsPerSecond() {
+      double seconds = elapsed.toNanos() / 1_000_000_000.0;
+      return seconds > 0 ? loaded / seconds : 0;
+    }
+  }
+
+  /** Builder for {@link BulkLoader}, obtained from {@link SearchIndex#bulkLoader()}. */
+  public static final class Builder {
+    private final SearchIndex index;
+    private int workers = DEFAULT_WORKERS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private Integer maxInFlightBatches;
+    private String idField;
+    private Integer ttl;
+    private Function<Map<String, Object>, Map<String, Object>> preprocess;
+    private boolean failFast = false;
+    private Consumer<BatchProgress> onProgress;
+
+    Builder(SearchIndex index) {
+      this.index = index;
+    }
+
+    /**
+     * Set the number of worker threads (default 4).
+     *
+     * @param workers Number of workers, at least 1
+     * @return This builder
+     */
+    public Builder workers(int workers) {
+      if (workers < 1) {
+        throw new IllegalArgumentException("workers must be at least 1");
+      }
+      this.workers = workers;
+      return this;
+    }
+
+    /**
+     * Set the number of documents written per pipeline (default 200).
+     *
+     * @param batchSize Documents per batch, at least 1
+     * @return This builder
+     */
+    public Builder batchSize(int batchSize) {
+      if (batchSize < 1) {
+        throw new IllegalArgumentException("batchSize must be at least 1");
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of batches queued or executing at once (default twice the number of
+     * workers). This bounds memory use to roughly {@code maxInFlightBatches * batchSize} documents.
+     *
+     * @param maxInFlightBatches Maximum batches in flight, at least 1
+     * @return This builder
+     */
+    public Builder maxInFlightBatches(int maxInFlightBatches) {
+      if (maxInFlightBatches < 1) {
+        throw new IllegalArgumentException("maxInFlightBatches must be at least 1");
+      }
+      this.maxInFlightBatches = maxInFlightBatches;
+      return this;
+    }
+
+    /**
+     * Set the field used as document ID (default: auto-generated ULIDs).
+     *
+     * @param idField Field name
+     * @return This builder
+     */
+    public Builder idField(String idField) {
+      this.idField = idField;
+      return this;
+    }
+
+    /**
+     * Set a time-to-live applied to every loaded key.
+     *
+     * @param ttl Time-to-live in seconds, or null for no expiry
+     * @return This builder
+     */
+    public Builder ttl(Integer ttl) {
+      this.ttl = ttl;
+      return this;
+    }
+
+    /**
+     * Set a preprocessing function applied to each document on a worker thread.
+     *
+     * @param preprocess Preprocessing function; must be thread-safe
+     * @return This builder
+     */
+    public Builder preprocess(Function<Map<String, Object>, Map<String, Object>> preprocess) {
+      this.preprocess = preprocess;
+      return this;
+    }
+
+    /**
+     * Stop reading the source after the first failed batch and throw once in-flight batches have
+     * drained (default false: failures are collected in the {@link Result}).
+     *
+     * @param failFast Whether to abort on the first failure
+     * @return This builder
+     */
+    public Builder failFast(boolean failFast) {
+      this.failFast = failFast;
+      return this;
+    }
+
+    /**
+     * Set a callback invoked after every batch. The callback runs on worker threads and must be
+     * thread-safe.
+     *
+     * @param onProgress Progress callback
+     * @return This builder
+     */
+    public Builder onProgress(Consumer<BatchProgress> onProgress) {
+      this.onProgress = onProgress;
+      return this;
+    }
+
+    /**
+     * Build the bulk loader.
+     *
+     * @return The configured bulk loader
+     */
+    public BulkLoader build() {
+      return new BulkLoader(this);
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.redis.vl.index;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.utils.Utils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanIteration;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Incremental deletion of all documents of a {@link SearchIndex} without blocking Redis.
+ *
+ * <p>Keys under the index prefixes are walked with cursor-based {@code SCAN} and removed with
+ * pipelined {@code UNLINK} commands, one pipeline per batch, so neither Redis nor the client ever
+ * holds the full key set. {@code UNLINK} frees memory in the background on the server. Against a
+ * Redis Cluster every primary node is scanned in turn and each key is routed to its own slot.
+ *
+ * <pre>{@code
+ * IndexClearer.Result result = index.clearer()
+ *     .batchSize(1_000)
+ *     .maxKeysPerSecond(50_000)
+ *     .onProgress(p -> log.info("{} keys deleted", p.deleted()))
+ *     .build()
+ *     .clear();
+ * }</pre>
+ *
+ * <p>Keys written while a clear is running may or may not be deleted. An IndexClearer is immutable
+ * and may be reused.
+ */
+@Slf4j
+public final class IndexClearer {
+
+  /** Default number of keys per SCAN page and per UNLINK pipeline. */
+  public static final int DEFAULT_BATCH_SIZE = 500;
+
+  private final SearchIndex index;
+  private final int batchSize;
+  private final double maxKeysPerSecond;
+  private final Consumer<Progress> onProgress;
+
+  private IndexClearer(Builder builder) {
+    this.index = builder.index;
+    this.batchSize = builder.batchSize;
+    this.maxKeysPerSecond = builder.maxKeysPerSecond;
+    this.onProgress = builder.onProgress;
+  }
+
+  /**
+   * Delete every key under the index prefixes. The index definition itself is kept.
+   *
+   * @return Summary of the clear
+   * @throws RedisVLException if Redis fails or the calling thread is interrupted
+   */
+  public Result clear() {
+    UnifiedJedis jedis = index.getUnifiedJedis();
+    long start = System.nanoTime();
+    long scanned = 0;
+    long deleted = 0;
+    long batches = 0;
+    List<String> pending = new ArrayList<>(batchSize);
+
+    try {
+      for (String pattern : keyPatterns(index.getSchema())) {
+        ScanIteration iteration = jedis.scanIteration(batchSize, pattern);
+        while (!iteration.isIterationCompleted()) {
+          ScanResult<String> page = iteration.nextBatch();
+          for (String key : page.getResult()) {
+            pending.add(key);
+            scanned++;
+            if (pending.size() == batchSize) {
+              deleted += unlink(jedis, pending);
+              batches++;
+              afterBatch(start, scanned, deleted, batches);
+            }
+          }
+        }
+      }
+      if (!pending.isEmpty()) {
+        deleted += unlink(jedis, pending);
+        batches++;
+        afterBatch(start, scanned, deleted, batches);
+      }
+    } finally {
+      index.releaseUnifiedJedis(jedis);
+    }
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    log.debug(
+        "Cleared {} of {} scanned keys of index {} in {}",
+        deleted,
+        scanned,
+        index.getName(),
+        elapsed);
+    return new Result(scanned, deleted, elapsed);
+  }
+
+  private long unlink(UnifiedJedis jedis, List<String> keys) {
+    List<Response<Long>> responses = new ArrayList<>(keys.size());
+    // One UNLINK per key keeps every command within a single cluster slot
+    try (AbstractPipeline pipeline = jedis.pipelined()) {
+      for (String key : keys) {
+        responses.add(pipeline.unlink(key));
+      }
+      pipeline.sync();
+    }
+    keys.clear();
+    long unlinked = 0;
+    for (Response<Long> response : responses) {
+      unlinked += response.get();
+    }
+    return unlinked;
+  }
+
+  private void afterBatch(long start, long scanned, long deleted, long batches) {
+    long elapsedNanos = System.nanoTime() - start;
+    if (onProgress != null) {
+      onProgress.accept(new Progress(batches, scanned, deleted, Duration.ofNanos(elapsedNanos)));
+    }
+    if (maxKeysPerSecond > 0) {
+      long aheadNanos = (long) (scanned * 1_000_000_000.0 / maxKeysPerSecond) - elapsedNanos;
+      if (aheadNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RedisVLException("Interrupted while clearing index " + index.getName(), e);
+        }
+      }
+    }
+  }
+
+  /** Build one SCAN MATCH pattern per index prefix, escaping glob characters in the prefix. */
+  static List<String> keyPatterns(IndexSchema schema) {
+    List<String> patterns = new ArrayList<>();
+    if (schema == null) {
+      return patterns;
+    }
+    Object rawPrefix = schema.getIndex().getPrefixRaw();
+    if (rawPrefix instanceof List<?> prefixes) {
+      for (Object prefix : prefixes) {
+        if (prefix != null) {
+          patterns.add(Utils.escapeGlob(prefix.toString()) + "*");
+        }
+      }
+    } else if (schema.getPrefix() != null) {
+      patterns.add(Utils.escapeGlob(schema.getPrefix()) + "*");
+    }
+    return patterns;
+  }
+
+  /**
+   * Progress report delivered on the calling thread after every UNLINK pipeline.
+   *
+   * @param batches Pipelines executed so far
+   * @param scanned Keys returned by SCAN so far
+   * @param deleted Keys deleted so far
+   * @param elapsed Time since the clear started
+   */
+  public record Progress(long batches, long scanned, long deleted, Duration elapsed) {}
+
+  /**
+   * Summary of a completed clear.
+   *
+   * @param scanned Number of keys returned by SCAN
+   * @param deleted Number of keys deleted (keys that expired or were deleted concurrently are
+   *     scanned but not counted)
+   * @param elapsed Wall-clock duration of the clear
+   */
+  public record Result(long scanned, long deleted, Duration elapsed) {}
+
+  /** Builder for {@link IndexClearer}, obtained from {@link SearchIndex#clearer()}. */
+  public static final class Builder {
+    private final SearchIndex index;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private double maxKeysPerSecond = 0;
+    private Consumer<Progress> onProgress;
+
+    Builder(SearchIndex index) {
+      this.index = index;
+    }
+
+    /**
+     * Set the SCAN {@code COUNT} hint and the number of keys unlinked per pipeline (default 500).
+     *
+     * @param batchSize Keys per batch, at least 1
+     * @return This builder
+     */
+    public Builder batchSize(int batchSize) {
+      if (batchSize < 1) {
+        throw new IllegalArgumentException("batchSize must be at least 1");
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Limit the rate at which keys are scanned and deleted (default 0: unlimited). The clear
+     * sleeps between batches whenever it is ahead of the limit.
+     *
+     * @param maxKeysPerSecond Maximum keys per second, or 0 for no limit
+     * @return This builder
+     */
+    public Builder maxKeysPerSecond(double maxKeysPerSecond) {
+      if (maxKeysPerSecond < 0 || Double.isNaN(maxKeysPerSecond)) {
+        throw new IllegalArgumentException("maxKeysPerSecond must not be negative");
+      }
+      this.maxKeysPerSecond = maxKeysPerSecond;
+      return this;
+    }
+
+    /**
+     * Set a callback invoked after every batch on the thread running the clear.
+     *
+     * @param onProgress Progress callback
+     * @return This builder
+     */
+    public Builder onProgress(Consumer<Progress> onProgress) {
+      this.onProgress = onProgress;
+      return this;
+    }
+
+    /**
+     * Build the clearer.
+     *
+     * @return The configured clearer
+     */
+    public IndexClearer build() {
+      return new IndexClearer(this);
+    }
+  }
+}
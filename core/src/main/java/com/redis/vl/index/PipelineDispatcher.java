@@ -0,0 +1,248 @@
+package com.redis.vl.index;
+
+import com.redis.vl.exceptions.RedisVLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * Executes commands submitted concurrently from many threads through a small, fixed number of
+ * pipelines.
+ *
+ * <p>Each dispatcher thread takes the next queued command, drains whatever else is waiting (up to
+ * {@code maxBatchSize} commands), sends them all in one pipeline and completes their futures. Under
+ * load many commands share one round trip and one pooled connection; when idle, a single command
+ * is sent as soon as it arrives.
+ *
+ * <p>Futures are completed on the dispatcher threads, so dependent stages should not block.
+ */
+@Slf4j
+final class PipelineDispatcher implements AutoCloseable {
+
+  private static final AtomicInteger DISPATCHER_SEQUENCE = new AtomicInteger();
+
+  private final Supplier<UnifiedJedis> client;
+  private final int maxBatchSize;
+  private final BlockingQueue<Call<?, ?>> queue;
+  private final List<Thread> threads;
+  private final LongAdder commands = new LongAdder();
+  private final LongAdder pipelines = new LongAdder();
+  private volatile boolean closed;
+
+  PipelineDispatcher(
+      Supplier<UnifiedJedis> client, int connections, int maxBatchSize, int maxPending) {
+    this.client = client;
+    this.maxBatchSize = maxBatchSize;
+    this.queue = new LinkedBlockingQueue<>(maxPending);
+    this.threads = new ArrayList<>(connections);
+
+    int dispatcherId = DISPATCHER_SEQUENCE.incrementAndGet();
+    for (int i = 0; i < connections; i++) {
+      Thread thread = new Thread(this::run, "redisvl-pipeline-" + dispatcherId + "-" + (i + 1));
+      thread.setDaemon(true);
+      threads.add(thread);
+      thread.start();
+    }
+  }
+
+  /**
+   * Queue a command for the next pipeline.
+   *
+   * @param command Adds the command to a pipeline and returns its response
+   * @param mapper Converts the reply; runs on a dispatcher thread
+   * @param errors Translates command failures into the exception the future fails with
+   * @param precondition Checked on a dispatcher thread before the command is sent, or null
+   * @return A future completed with the mapped reply
+   */
+  <R, T> CompletableFuture<T> submit(
+      Function<AbstractPipeline, Response<R>> command,
+      Function<? super R, ? extends T> mapper,
+      Function<Exception, RuntimeException> errors,
+      Runnable precondition) {
+    Call<R, T> call = new Call<>(command, mapper, errors, precondition);
+    if (closed) {
+      call.reject(new RedisVLException("Pipeline dispatcher is closed"));
+    } else if (!queue.offer(call)) {
+      call.reject(
+          new RejectedExecutionException(
+              "Too many pending commands (" + queue.size() + "); the dispatcher is saturated"));
+    } else if (closed && queue.remove(call)) {
+      // Lost a race with close(): nobody will drain the queue any more
+      call.reject(new RedisVLException("Pipeline dispatcher is closed"));
+    }
+    return call.future;
+  }
+
+  /**
+   * Get the number of commands sent so far.
+   *
+   * @return Commands sent
+   */
+  long commandCount() {
+    return commands.sum();
+  }
+
+  /**
+   * Get the number of pipelines executed so far.
+   *
+   * @return Pipelines executed
+   */
+  long pipelineCount() {
+    return pipelines.sum();
+  }
+
+  /**
+   * Get the number of commands waiting for a dispatcher thread.
+   *
+   * @return Queued commands
+   */
+  int pendingCount() {
+    return queue.size();
+  }
+
+  private void run() {
+    List<Call<?, ?>> batch = new ArrayList<>(maxBatchSize);
+    while (!closed) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        // close() interrupts idle dispatchers; the loop condition ends the thread
+        continue;
+      }
+      queue.drainTo(batch, maxBatchSize - 1);
+      execute(batch);
+      batch.clear();
+    }
+  }
+
+  private void execute(List<Call<?, ?>> batch) {
+    List<Call<?, ?>> ready = new ArrayList<>(batch.size());
+    for (Call<?, ?> call : batch) {
+      if (call.checkPrecondition()) {
+        ready.add(call);
+      }
+    }
+    if (ready.isEmpty()) {
+      return;
+    }
+
+    try (AbstractPipeline pipeline = client.get().pipelined()) {
+      for (Call<?, ?> call : ready) {
+        call.enqueue(pipeline);
+      }
+      pipeline.sync();
+    } catch (Exception e) {
+      log.debug("Pipeline of {} commands failed", ready.size(), e);
+      for (Call<?, ?> call : ready) {
+        call.fail(e);
+      }
+      return;
+    }
+
+    for (Call<?, ?> call : ready) {
+      call.complete();
+    }
+    commands.add(ready.size());
+    pipelines.increment();
+  }
+
+  /** Stop the dispatcher threads and fail every command that has not been sent yet. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (Thread thread : threads) {
+      thread.interrupt();
+    }
+    for (Thread thread : threads) {
+      try {
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    List<Call<?, ?>> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    for (Call<?, ?> call : remaining) {
+      call.reject(new RedisVLException("Pipeline dispatcher is closed"));
+    }
+  }
+
+  /** A queued command and the future waiting for its reply. */
+  private static final class Call<R, T> {
+    private final Function<AbstractPipeline, Response<R>> command;
+    private final Function<? super R, ? extends T> mapper;
+    private final Function<Exception, RuntimeException> errors;
+    private final Runnable precondition;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private Response<R> response;
+
+    Call(
+        Function<AbstractPipeline, Response<R>> command,
+        Function<? super R, ? extends T> mapper,
+        Function<Exception, RuntimeException> errors,
+        Runnable precondition) {
+      this.command = command;
+      this.mapper = mapper;
+      this.errors = errors;
+      this.precondition = precondition;
+    }
+
+    boolean checkPrecondition() {
+      if (precondition == null) {
+        return true;
+      }
+      try {
+        precondition.run();
+        return true;
+      } catch (RuntimeException e) {
+        reject(e);
+        return false;
+      }
+    }
+
+    void enqueue(AbstractPipeline pipeline) {
+      try {
+        response = command.apply(pipeline);
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    void complete() {
+      if (response == null) {
+        return;
+      }
+      try {
+        future.complete(mapper.apply(response.get()));
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    /** Fail with a command error, translated for the caller. */
+    void fail(Exception e) {
+      future.completeExceptionally(errors != null ? errors.apply(e) : e);
+    }
+
+    /** Fail without sending the command. */
+    void reject(Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,325 @@
+package com.redis.vl.index;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.query.Filter;
+import com.redis.vl.query.FilterQuery;
+import com.redis.vl.query.TextQuery;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.query.VectorRangeQuery;
+import com.redis.vl.schema.BaseField;
+import com.redis.vl.schema.VectorField;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.search.FieldName;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.aggr.SortedField;
+
+/**
+ * Streaming iterator over every result of a query, backed by an {@code FT.AGGREGATE ...
+ * WITHCURSOR} cursor.
+ *
+ * <p>The query runs once on the server; each page is then read with {@code FT.CURSOR READ}, so
+ * exporting all matches of a query costs time linear in the number of matches. {@link
+ * SearchIndex#paginate(Object, int)} instead re-runs the query with a growing {@code LIMIT} offset
+ * for every page. Each page is a list of documents holding the document key under {@code id} and
+ * the loaded fields: the query's return fields, or every schema field except vector fields.
+ *
+ * <p>Results of a KNN {@link VectorQuery} are ordered by distance (or its sort field). Range, text
+ * and filter queries stream their matches in index order without sorting or scoring, since a sort
+ * would have to collect every match on the server before the first page; their sort and scorer
+ * settings are ignored.
+ *
+ * <pre>{@code
+ * try (SearchCursor cursor = index.cursor(query).pageSize(5_000).build()) {
+ *   while (cursor.hasNext()) {
+ *     export(cursor.next());
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>The server deletes a cursor once it is exhausted or has been idle for longer than {@link
+ * Builder#maxIdle(Duration)}. Closing a cursor early deletes it with {@code FT.CURSOR DEL}. A
+ * SearchCursor is not thread-safe and can be iterated only once.
+ */
+public final class SearchCursor implements Iterator<List<Map<String, Object>>>, AutoCloseable {
+
+  /** Default number of documents per page. */
+  public static final int DEFAULT_PAGE_SIZE = 1_000;
+
+  /** Default time the server keeps an unread cursor alive. */
+  public static final Duration DEFAULT_MAX_IDLE = Duration.ofMinutes(5);
+
+  private static final String KEY_FIELD = "__key";
+
+  private final SearchIndex index;
+  private final AggregationBuilder aggregation;
+  private final int pageSize;
+  private UnifiedJedis jedis;
+  private List<Map<String, Object>> nextPage;
+  private long cursorId;
+  private boolean started;
+  private boolean closed;
+
+  private SearchCursor(Builder builder) {
+    this.index = builder.index;
+    this.pageSize = builder.pageSize;
+    this.aggregation = aggregation(builder.index, builder.query);
+    aggregation.cursor(pageSize, builder.maxIdle.toMillis());
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (nextPage == null && !closed) {
+      if (started && cursorId == 0) {
+        close();
+        return false;
+      }
+      List<Map<String, Object>> page = readPage();
+      if (!page.isEmpty()) {
+        nextPage = page;
+      }
+    }
+    return nextPage != null;
+  }
+
+  @Override
+  public List<Map<String, Object>> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    List<Map<String, Object>> page = nextPage;
+    nextPage = null;
+    return page;
+  }
+
+  /**
+   * Delete the server-side cursor if it is not exhausted yet and release the connection. Closing a
+   * closed cursor has no effect.
+   *
+   * @throws RedisVLException if the cursor cannot be deleted
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    nextPage = null;
+    if (jedis == null) {
+      return;
+    }
+    try {
+      if (cursorId != 0) {
+        jedis.ftCursorDel(index.getName(), cursorId);
+        cursorId = 0;
+      }
+    } catch (Exception e) {
+      throw new RedisVLException("Failed to delete search cursor " + cursorId, e);
+    } finally {
+      index.releaseUnifiedJedis(jedis);
+      jedis = null;
+    }
+  }
+
+  private List<Map<String, Object>> readPage() {
+    AggregationResult result;
+    try {
+      if (!started) {
+        index.ensureIndexExists();
+        jedis = index.getUnifiedJedis();
+        started = true;
+        result = jedis.ftAggregate(index.getName(), aggregation);
+      } else {
+        result = jedis.ftCursorRead(index.getName(), cursorId, pageSize);
+      }
+    } catch (RuntimeException e) {
+      RuntimeException failure = readFailure(e);
+      // The cursor is gone or in an unknown state: release the connection without FT.CURSOR DEL
+      cursorId = 0;
+      close();
+      throw failure;
+    }
+    cursorId = result.getCursorId();
+    return toPage(result);
+  }
+
+  private RuntimeException readFailure(RuntimeException e) {
+    if (e instanceof RedisVLException) {
+      return e;
+    }
+    String message = e.getMessage();
+    if (started
+        && cursorId != 0
+        && message != null
+        && message.toLowerCase(Locale.ROOT).contains("cursor not found")) {
+      return new RedisVLException(
+          "Search cursor "
+              + cursorId
+              + " expired on the server; read pages faster or increase maxIdle",
+          e);
+    }
+    return index.searchFailure("Failed to read search cursor: ", e);
+  }
+
+  private static List<Map<String, Object>> toPage(AggregationResult result) {
+    List<Map<String, Object>> page = new ArrayList<>();
+    if (result.getResults() == null) {
+      return page;
+    }
+    for (Map<String, Object> row : result.getResults()) {
+      Map<String, Object> doc = new LinkedHashMap<>();
+      Object key = row.get(KEY_FIELD);
+      if (key != null) {
+        doc.put("id", key);
+      }
+      row.forEach(
+          (name, value) -> {
+            if (!KEY_FIELD.equals(name)) {
+              doc.put(name, value);
+            }
+          });
+      page.add(doc);
+    }
+    return page;
+  }
+
+  /**
+   * Translate a query into the aggregation run by the cursor: the same query string and parameters
+   * as a search, loading the document key and the return fields (every schema field except vector
+   * fields by default).
+   */
+  static AggregationBuilder aggregation(SearchIndex index, Object query) {
+    AggregationBuilder aggregation;
+    List<String> returnFields = List.of();
+    if (query instanceof VectorQuery original) {
+      VectorQuery vq = index.resolveVectorQuery(original);
+      aggregation = new AggregationBuilder(vq.toQueryString());
+      aggregation.params(index.vectorQueryParams(vq));
+      returnFields = vq.getReturnFields();
+      // KNN returns at most numResults documents, so ordering them stays cheap
+      if (vq.getSortBy() != null && !vq.getSortBy().isEmpty()) {
+        aggregation.sortBy(vq.getNumResults(), sortField(vq.getSortBy(), !vq.isSortDescending()));
+      } else if (vq.isReturnDistance()) {
+        aggregation.sortBy(
+            vq.getNumResults(), SortedField.asc("@" + VectorRangeQuery.DISTANCE_FIELD));
+      }
+    } else if (query instanceof VectorRangeQuery vrq) {
+      aggregation = new AggregationBuilder(vrq.toQueryString());
+      Map<String, Object> params = vrq.toParams();
+      if (vrq.getDtype() == null) {
+        index.encodeForVectorField(params, vrq.getField(), vrq.getVector());
+      }
+      aggregation.params(params);
+      returnFields = vrq.getReturnFields();
+    } else if (query instanceof TextQuery tq) {
+      aggregation = new AggregationBuilder(tq.toQueryString());
+      returnFields = tq.getReturnFields();
+    } else if (query instanceof FilterQuery fq) {
+      Filter filter = fq.getFilterExpression();
+      aggregation = new AggregationBuilder(filter != null ? filter.build() : "*");
+      if (fq.getParams() != null && !fq.getParams().isEmpty()) {
+        aggregation.params(fq.getParams());
+      }
+      returnFields = fq.getReturnFields();
+    } else if (query instanceof Filter filter) {
+      aggregation = new AggregationBuilder(filter.build());
+    } else if (query instanceof String queryString) {
+      aggregation = new AggregationBuilder(queryString);
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported query type for a search cursor: "
+              + (query == null ? "null" : query.getClass().getName()));
+    }
+    aggregation.load(loadFields(index, returnFields));
+    aggregation.dialect(2);
+    return aggregation;
+  }
+
+  private static FieldName[] loadFields(SearchIndex index, List<String> returnFields) {
+    Map<String, FieldName> fields = new LinkedHashMap<>();
+    fields.put(KEY_FIELD, new FieldName("@" + KEY_FIELD));
+    if (returnFields != null && !returnFields.isEmpty()) {
+      returnFields.forEach(field -> fields.putIfAbsent(field, new FieldName(field)));
+    } else {
+      for (BaseField field : index.getSchema().getFields()) {
+        // FT.AGGREGATE would return binary vectors as corrupted strings
+        if (field instanceof VectorField) {
+          continue;
+        }
+        String attribute = field.getAlias() != null ? field.getAlias() : field.getName();
+        fields.putIfAbsent(attribute, field.toJedisFieldName());
+      }
+    }
+    // Distances are yielded by the query itself and ids are the loaded keys
+    fields.remove(VectorRangeQuery.DISTANCE_FIELD);
+    if (index.getSchema().resolveField("id") == null) {
+      fields.remove("id");
+    }
+    return fields.values().toArray(new FieldName[0]);
+  }
+
+  private static SortedField sortField(String field, boolean ascending) {
+    String property = field.startsWith("@") ? field : "@" + field;
+    return ascending ? SortedField.asc(property) : SortedField.desc(property);
+  }
+
+  /** Builder for {@link SearchCursor}, obtained from {@link SearchIndex#cursor(Object)}. */
+  public static final class Builder {
+    private final SearchIndex index;
+    private final Object query;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private Duration maxIdle = DEFAULT_MAX_IDLE;
+
+    Builder(SearchIndex index, Object query) {
+      this.index = index;
+      this.query = query;
+    }
+
+    /**
+     * Set the number of documents read per page (default 1000).
+     *
+     * @param pageSize Documents per page, at least 1
+     * @return This builder
+     */
+    public Builder pageSize(int pageSize) {
+      if (pageSize < 1) {
+        throw new IllegalArgumentException("pageSize must be at least 1");
+      }
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * Set how long the server keeps the cursor alive between two page reads (default 5 minutes).
+     * The server caps this at its {@code CURSOR_MAX_IDLE} setting.
+     *
+     * @param maxIdle Maximum idle time, at least one millisecond
+     * @return This builder
+     */
+    public Builder maxIdle(Duration maxIdle) {
+      if (maxIdle == null || maxIdle.toMillis() < 1) {
+        throw new IllegalArgumentException("maxIdle must be at least 1 millisecond");
+      }
+      this.maxIdle = maxIdle;
+      return this;
+    }
+
+    /**
+     * Build the cursor. The query runs on the first call to {@link SearchCursor#hasNext()}.
+     *
+     * @return The configured cursor
+     * @throws IllegalArgumentException if the query type is not supported
+     */
+    public SearchCursor build() {
+      return new SearchCursor(this);
+    }
+  }
+}
@@ -9,18 +9,28 @@ import com.redis.vl.schema.BaseField;
 import com.redis.vl.schema.IndexSchema;
 import com.redis.vl.schema.VectorField;
 import com.redis.vl.storage.BaseStorage;
+import com.redis.vl.storage.DocumentReader;
 import com.redis.vl.storage.HashStorage;
 import com.redis.vl.storage.JsonStorage;
 import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.JsonVector;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.AbstractPipeline;
 import redis.clients.jedis.RedisClient;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.search.Document;
 import redis.clients.jedis.search.FTCreateParams;
@@ -54,6 +64,16 @@ public final class SearchIndex {
   private UnifiedJedis unifiedClient;
   @Getter private boolean validateOnLoad = false;
 
+  /** Default interval after which a cached index existence check is re-validated. */
+  public static final Duration DEFAULT_INDEX_STATE_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+  /** How long a successful existence check is trusted before FT.INFO is issued again. */
+  @Getter
+  private volatile Duration indexStateRefreshInterval = DEFAULT_INDEX_STATE_REFRESH_INTERVAL;
+
+  /** Last validated index state, or null if the index must be checked with FT.INFO. */
+  private volatile IndexState indexState;
+
   /**
    * Create a SearchIndex with connection manager and schema
    *
@@ -410,7 +430,7 @@ public final class SearchIndex {
    *
    * <p>Returns the client from either the direct unifiedClient field or from the connectionManager.
    */
-  private UnifiedJedis getUnifiedJedis() {
+  UnifiedJedis getUnifiedJedis() {
     if (unifiedClient != null) {
       return unifiedClient;
     } else if (connectionManager != null) {
@@ -421,9 +441,16 @@ public final class SearchIndex {
     }
   }
 
+  /** Release a client obtained from {@link #getUnifiedJedis()} once it is no longer needed. */
+  void releaseUnifiedJedis(UnifiedJedis jedis) {
+    if (unifiedClient == null) {
+      jedis.close();
+    }
+  }
+
   /** Initialize storage based on schema storage type */
   private BaseStorage initializeStorage(IndexSchema schema) {
-    if (schema.getIndex().getStorageType() == IndexSchema.StorageType.JSON) {
+    if (schema.getStorageType() == IndexSchema.StorageType.JSON) {
       return new JsonStorage(schema);
     } else {
       return new HashStorage(schema);
@@ -479,7 +506,9 @@ public final class SearchIndex {
       // If stopwords is null, use Redis default stopwords (don't set anything)
 
       // Create the index
+      invalidateIndexState();
       String result = jedis.ftCreate(schema.getName(), createParams, schemaFields);
+      indexState = IndexState.validatedNow();
 
       log.info(
           "Created index: {} with {} fields, result: {}",
@@ -512,11 +541,12 @@ public final class SearchIndex {
       if (indexName == null) {
         return false;
       }
+      invalidateIndexState();
       String result = jedis.ftDropIndex(indexName);
       log.info("Dropped index: {}, result: {}", indexName, result);
       return "OK".equals(result);
     } catch (Exception e) {
-      if (e.getMessage() != null && e.getMessage().contains("Unknown index")) {
+      if (isUnknownIndexError(e)) {
         return false;
       }
       throw new RuntimeException("Failed to drop index: " + e.getMessage(), e);
@@ -541,11 +571,12 @@ public final class SearchIndex {
       if (indexName == null) {
         return false;
       }
+      invalidateIndexState();
       String result = jedis.ftDropIndexDD(indexName);
       log.info("Dropped index with data: {}, result: {}", indexName, result);
       return "OK".equals(result);
     } catch (Exception e) {
-      if (e.getMessage() != null && e.getMessage().contains("Unknown index")) {
+      if (isUnknownIndexError(e)) {
         return false;
       }
       throw new RuntimeException("Failed to drop index with data: " + e.getMessage(), e);
@@ -573,9 +604,12 @@ public final class SearchIndex {
         return false;
       }
       Map<String, Object> info = jedis.ftInfo(indexName);
-      return info != null && !info.isEmpty();
+      boolean found = info != null && !info.isEmpty();
+      indexState = found ? IndexState.of(info, schema) : null;
+      return found;
     } catch (Exception e) {
       // Index doesn't exist or error occurred
+      invalidateIndexState();
       return false;
     } finally {
       // Close connection if we created a new UnifiedJedis
@@ -595,6 +629,79 @@ public final class SearchIndex {
     create();
   }
 
+  /**
+   * Set how long a successful existence check is trusted by the search methods.
+   *
+   * <p>Searches only issue FT.INFO when no validated state is cached or the cached state is older
+   * than this interval. If the index disappears in between (e.g. it is dropped by another client),
+   * the "unknown index" error returned by the server is mapped to a {@link RedisVLException} and
+   * the cached state is discarded. Use {@link Duration#ZERO} to check on every search.
+   *
+   * @param refreshInterval Refresh interval, must not be negative
+   */
+  public void setIndexStateRefreshInterval(Duration refreshInterval) {
+    if (refreshInterval == null || refreshInterval.isNegative()) {
+      throw new IllegalArgumentException("Refresh interval must be zero or positive");
+    }
+    this.indexStateRefreshInterval = refreshInterval;
+  }
+
+  /**
+   * Discard the cached index state so that the next search re-validates the index with FT.INFO.
+   *
+   * <p>The state is invalidated automatically by {@link #create()}, {@link #drop()}, {@link
+   * #dropWithData()} and {@link #recreate()}; call this after modifying the index through another
+   * client.
+   */
+  public void invalidateIndexState() {
+    indexState = null;
+  }
+
+  /**
+   * Ensure the index exists and indexes every schema field, using the cached state when it is
+   * still fresh.
+   *
+   * @throws RedisVLException if the index does not exist or lacks fields of the schema
+   */
+  void ensureIndexExists() {
+    IndexState state = indexState;
+    if (state == null || !state.isFresh(indexStateRefreshInterval)) {
+      if (!exists()) {
+        throw new RedisVLException("Index " + getName() + " does not exist");
+      }
+      state = indexState;
+    }
+    if (state != null && !state.missingFields().isEmpty()) {
+      throw new RedisVLException(
+          "Index "
+              + getName()
+              + " does not index schema fields "
+              + state.missingFields()
+              + "; recreate the index or call invalidateIndexState() after changing it");
+    }
+  }
+
+  /**
+   * Map a failed search to the exception thrown to callers, translating the server's unknown index
+   * error into a {@link RedisVLException} and discarding the cached index state.
+   */
+  RuntimeException searchFailure(String message, Exception e) {
+    if (isUnknownIndexError(e)) {
+      invalidateIndexState();
+      return new RedisVLException("Index " + getName() + " does not exist", e);
+    }
+    return new RuntimeException(message + e.getMessage(), e);
+  }
+
+  private static boolean isUnknownIndexError(Exception e) {
+    String message = e.getMessage();
+    if (message == null) {
+      return false;
+    }
+    String lower = message.toLowerCase(Locale.ROOT);
+    return lower.contains("unknown index") || lower.contains("no such index");
+  }
+
   /**
    * Preprocess document to convert Lists to arrays for vector fields
    *
@@ -604,22 +711,16 @@ public final class SearchIndex {
   private Map<String, Object> preprocessDocument(Map<String, Object> document) {
     Map<String, Object> processed = new HashMap<>(document);
 
-    if (schema == null || schema.getFields() == null) {
+    if (schema == null) {
       return processed;
     }
 
-    for (BaseField field : schema.getFields()) {
+    for (BaseField field : schema.getFieldLookup().vectorFields()) {
       String fieldName = field.getName();
       Object value = document.get(fieldName);
 
-      if (field instanceof VectorField && value instanceof List) {
-        @SuppressWarnings("unchecked")
-        List<Number> list = (List<Number>) value;
-        float[] floatArray = new float[list.size()];
-        for (int i = 0; i < list.size(); i++) {
-          floatArray[i] = list.get(i).floatValue();
-        }
-        processed.put(fieldName, floatArray);
+      if (field instanceof VectorField && value instanceof List<?> list) {
+        processed.put(fieldName, ArrayUtils.numberListToFloats(list));
       }
     }
 
@@ -633,11 +734,11 @@ public final class SearchIndex {
    * @throws IllegalArgumentException if validation fails
    */
   private void validateDocument(Map<String, Object> document) {
-    if (schema == null || schema.getFields() == null) {
+    if (schema == null) {
       return;
     }
 
-    for (BaseField field : schema.getFields()) {
+    for (BaseField field : schema.getFieldLookup().fields()) {
       String fieldName = field.getName();
       Object value = document.get(fieldName);
 
@@ -732,15 +833,11 @@ public final class SearchIndex {
     try {
       if (getStorageType() == IndexSchema.StorageType.JSON) {
         // For JSON storage, vectors are stored as JSON arrays
-        // Convert float[] to List<Float> for proper JSON serialization
+        // Wrap float[] so it is serialized without boxing every element
         Map<String, Object> jsonDocument = new HashMap<>(document);
         for (Map.Entry<String, Object> entry : document.entrySet()) {
           if (entry.getValue() instanceof float[] floatArray) {
-            List<Float> floatList = new ArrayList<>();
-            for (float f : floatArray) {
-              floatList.add(f);
-            }
-            jsonDocument.put(entry.getKey(), floatList);
+            jsonDocument.put(entry.getKey(), JsonVector.of(floatArray));
           }
         }
 
@@ -760,18 +857,9 @@ public final class SearchIndex {
           Object value = entry.getValue();
 
           BaseField field = (schema != null) ? schema.getField(key) : null;
-          if (field instanceof VectorField && value != null) {
-            // Store vectors as binary data
-            byte[] vectorBytes = null;
-            if (value instanceof byte[]) {
-              // Already in byte array format
-              vectorBytes = (byte[]) value;
-            } else if (value instanceof float[]) {
-              vectorBytes = ArrayUtils.floatArrayToBytes((float[]) value);
-            } else if (value instanceof double[]) {
-              float[] floats = ArrayUtils.doubleArrayToFloats((double[]) value);
-              vectorBytes = ArrayUtils.floatArrayToBytes(floats);
-            }
+          if (field instanceof VectorField vectorField && value != null) {
+            // Store vectors as binary data encoded for the field's data type
+            byte[] vectorBytes = vectorField.getCodec().toBytes(value);
             if (vectorBytes != null) {
               binaryFields.put(key.getBytes(StandardCharsets.UTF_8), vectorBytes);
             }
@@ -882,10 +970,10 @@ public final class SearchIndex {
    * @return Index name
    */
   public String getName() {
-    if (schema == null || schema.getIndex() == null) {
+    if (schema == null) {
       return null;
     }
-    return schema.getIndex().getName();
+    return schema.getName();
   }
 
   /**
@@ -894,10 +982,10 @@ public final class SearchIndex {
    * @return Key prefix
    */
   public String getPrefix() {
-    if (schema == null || schema.getIndex() == null) {
+    if (schema == null) {
       return null;
     }
-    return schema.getIndex().getPrefix();
+    return schema.getPrefix();
   }
 
   /**
@@ -906,10 +994,10 @@ public final class SearchIndex {
    * @return Key separator (default is ":")
    */
   public String getKeySeparator() {
-    if (schema == null || schema.getIndex() == null) {
+    if (schema == null) {
       return ":";
     }
-    return schema.getIndex().getKeySeparator();
+    return schema.getKeySeparator();
   }
 
   /**
@@ -918,10 +1006,10 @@ public final class SearchIndex {
    * @return Storage type (HASH or JSON)
    */
   public IndexSchema.StorageType getStorageType() {
-    if (schema == null || schema.getIndex() == null) {
+    if (schema == null) {
       return IndexSchema.StorageType.HASH;
     }
-    return schema.getIndex().getStorageType();
+    return schema.getStorageType();
   }
 
   /**
@@ -979,27 +1067,26 @@ public final class SearchIndex {
   }
 
   /**
-   * Clear all documents from the index without dropping the index itself
+   * Clear all documents from the index without dropping the index itself.
+   *
+   * <p>Keys are deleted incrementally with SCAN and pipelined UNLINK batches (see {@link
+   * IndexClearer}), so clearing a large index does not block Redis. Use {@link #clearer()} to
+   * tune the batch size, limit the deletion rate or observe progress.
    *
    * @return Number of keys deleted
    */
   public int clear() {
-    UnifiedJedis jedis = getUnifiedJedis();
-    try {
-      if (getPrefix() != null) {
-        var keys = jedis.keys(getPrefix() + "*");
-        if (!keys.isEmpty()) {
-          jedis.del(keys.toArray(new String[0]));
-          return keys.size();
-        }
-      }
-      return 0;
-    } finally {
-      // Close connection if we created a new UnifiedJedis
-      if (unifiedClient == null) {
-        jedis.close();
-      }
-    }
+    long deleted = clearer().build().clear().deleted();
+    return (int) Math.min(deleted, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Create a builder for an incremental, rate-limited clear of the index's documents.
+   *
+   * @return A new clearer builder bound to this index
+   */
+  public IndexClearer.Builder clearer() {
+    return new IndexClearer.Builder(this);
   }
 
   /**
@@ -1035,30 +1122,143 @@ public final class SearchIndex {
       List<Map<String, Object>> data,
       String idField,
       Function<Map<String, Object>, Map<String, Object>> preprocess) {
-    // Create a combined preprocess function that includes validation if needed
-    Function<Map<String, Object>, Map<String, Object>> combinedPreprocess =
-        obj -> {
-          // Apply user preprocessing first
-          Map<String, Object> processed = preprocess != null ? preprocess.apply(obj) : obj;
-
-          if (processed == null) {
-            return null; // Will be handled by storage
-          }
+    return load(data, idField, preprocess, null);
+  }
 
-          // Apply preprocessing for Lists to arrays for vector fields
-          processed = preprocessDocument(processed);
+  /**
+   * Load data with preprocessing and a time-to-live. Each key's EXPIRE is sent in the same
+   * pipeline as its write.
+   *
+   * @param data List of documents to load
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @param preprocess Optional preprocessing function
+   * @param ttl Optional time-to-live in seconds
+   * @return List of keys
+   */
+  public List<String> load(
+      List<Map<String, Object>> data,
+      String idField,
+      Function<Map<String, Object>, Map<String, Object>> preprocess,
+      Integer ttl) {
+    // Use the storage class for batch loading (with validation disabled since we handle it in the
+    // combined preprocess function)
+    UnifiedJedis jedis = getUnifiedJedis();
+    return storage.write(
+        jedis, data, idField, null, ttl, null, loadPreprocessor(preprocess), false);
+  }
 
-          // Apply validation if validateOnLoad is true
-          if (validateOnLoad) {
-            validateDocument(processed);
-          }
+  /**
+   * Create a bulk loader for streaming large numbers of documents into this index.
+   *
+   * <p>Unlike {@link #load(List)}, the bulk loader consumes a {@link java.util.stream.Stream} or
+   * {@link Iterator} of documents and preprocesses, validates and writes them in batches on a
+   * worker pool, with a bounded number of batches in flight.
+   *
+   * @return A builder for configuring the bulk loader
+   */
+  public BulkLoader.Builder bulkLoader() {
+    return new BulkLoader.Builder(this);
+  }
 
-          return processed;
-        };
+  /**
+   * Create a builder for a non-blocking view of this index whose operations return {@link
+   * java.util.concurrent.CompletableFuture}s and share a few pipelined connections.
+   *
+   * @return A new asynchronous index builder bound to this index
+   */
+  public AsyncSearchIndex.Builder async() {
+    return new AsyncSearchIndex.Builder(this);
+  }
 
-    // Use the storage class for batch loading (with validation disabled since we handle it above)
-    UnifiedJedis jedis = getUnifiedJedis();
-    return storage.write(jedis, data, idField, null, null, null, combinedPreprocess, false);
+  /**
+   * Stream documents from a JSON Lines file into the index without loading the file into memory.
+   *
+   * @param path JSONL file with one document per line
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @return Summary of the load
+   */
+  public BulkLoader.Result loadJsonl(Path path, String idField) {
+    return bulkLoader().idField(idField).build().load(DocumentReader.jsonl(path, schema));
+  }
+
+  /**
+   * Stream documents from a CSV file with a header record into the index without loading the file
+   * into memory.
+   *
+   * @param path CSV file whose header names the columns
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @return Summary of the load
+   */
+  public BulkLoader.Result loadCsv(Path path, String idField) {
+    return bulkLoader().idField(idField).build().load(DocumentReader.csv(path, schema));
+  }
+
+  /**
+   * Stream vectors from a two-dimensional NumPy {@code .npy} file into the index, one document
+   * per row.
+   *
+   * @param path NPY file holding one vector per row
+   * @param vectorField Vector field the rows are loaded into
+   * @param idField Field that receives the row number and is used as document ID (null for
+   *     auto-generated ULIDs)
+   * @return Summary of the load
+   */
+  public BulkLoader.Result loadNpy(Path path, String vectorField, String idField) {
+    return bulkLoader()
+        .idField(idField)
+        .build()
+        .load(DocumentReader.npy(path, schema, vectorField, idField));
+  }
+
+  /**
+   * Write a single batch of documents, used by {@link BulkLoader} worker threads.
+   *
+   * @param batch Documents to write
+   * @param idField Field to use as document ID (null for auto-generated ULIDs)
+   * @param ttl Optional time-to-live in seconds
+   * @param preprocess Optional preprocessing function
+   * @return List of keys written
+   */
+  List<String> writeBatch(
+      List<Map<String, Object>> batch,
+      String idField,
+      Integer ttl,
+      Function<Map<String, Object>, Map<String, Object>> preprocess) {
+    return storage.write(
+        getUnifiedJedis(),
+        batch,
+        idField,
+        null,
+        ttl,
+        batch.size(),
+        loadPreprocessor(preprocess),
+        false);
+  }
+
+  /**
+   * Combine a user preprocessing function with vector list conversion and, if enabled, schema
+   * validation.
+   */
+  private Function<Map<String, Object>, Map<String, Object>> loadPreprocessor(
+      Function<Map<String, Object>, Map<String, Object>> preprocess) {
+    return obj -> {
+      // Apply user preprocessing first
+      Map<String, Object> processed = preprocess != null ? preprocess.apply(obj) : obj;
+
+      if (processed == null) {
+        return null; // Will be handled by storage
+      }
+
+      // Apply preprocessing for Lists to arrays for vector fields
+      processed = preprocessDocument(processed);
+
+      // Apply validation if validateOnLoad is true
+      if (validateOnLoad) {
+        validateDocument(processed);
+      }
+
+      return processed;
+    };
   }
 
   /**
@@ -1068,79 +1268,39 @@ public final class SearchIndex {
    * @return Document fields as a map, or null if not found
    */
   public Map<String, Object> fetch(String idOrKey) {
-    // If input already contains the prefix, use it as-is, otherwise construct the key
-    String key;
-    if (getPrefix() != null && !getPrefix().isEmpty()) {
-      // Normalize prefix to avoid double separator issues (issue #368)
-      String normalizedPrefix = getPrefix();
-      String separator = getKeySeparator();
-      if (separator != null && !separator.isEmpty() && normalizedPrefix.endsWith(separator)) {
-        normalizedPrefix =
-            normalizedPrefix.substring(0, normalizedPrefix.length() - separator.length());
-      }
-      String prefixWithSeparator = normalizedPrefix + separator;
+    return fetch(idOrKey, null);
+  }
 
-      if (idOrKey.startsWith(prefixWithSeparator)) {
-        key = idOrKey; // Already a full key
-      } else {
-        key = key(idOrKey); // Just an ID, construct the key
-      }
-    } else {
-      key = key(idOrKey); // Just an ID, construct the key
-    }
+  /**
+   * Fetch only some fields of a document by ID or key. For HASH storage only the requested fields
+   * are transferred; vector fields are returned as raw bytes (see {@link #decodeVector}).
+   *
+   * @param idOrKey Document ID or full key
+   * @param fields Fields to return, or null for all fields
+   * @return Document fields as a map, or null if not found
+   */
+  public Map<String, Object> fetch(String idOrKey, Collection<String> fields) {
+    String key = resolveKey(idOrKey);
     UnifiedJedis jedis = getUnifiedJedis();
 
     try {
+      if (getStorageType() == IndexSchema.StorageType.HASH) {
+        // A single binary-safe HGETALL (or HMGET for projections); missing keys yield no result
+        List<Map<String, Object>> results = storage.get(jedis, List.of(key), 1, fields);
+        return results.isEmpty() ? null : results.get(0);
+      }
+
       if (!jedis.exists(key)) {
         return null;
       }
 
-      if (getStorageType() == IndexSchema.StorageType.HASH) {
-        // Get all string fields
-        Map<String, String> stringData = jedis.hgetAll(key);
-        Map<String, Object> result = new HashMap<>(stringData);
-
-        // Now retrieve vector fields as binary data
-        if (schema != null) {
-          for (BaseField field : schema.getFields()) {
-            if (field instanceof VectorField) {
-              String fieldName = field.getName();
-              // Get the vector field as binary
-              byte[] vectorBytes =
-                  jedis.hget(
-                      key.getBytes(StandardCharsets.UTF_8),
-                      fieldName.getBytes(StandardCharsets.UTF_8));
-              if (vectorBytes != null) {
-                // Store as byte array - caller can convert as needed
-                result.put(fieldName, vectorBytes);
-              }
-            }
-          }
-        }
-
-        return result;
-      } else {
-        // JSON storage - use JSON.GET command
-        try {
-          Object jsonObj = jedis.jsonGet(key);
-          if (jsonObj != null) {
-            // The jsonGet returns the parsed object directly when using default Path
-            if (jsonObj instanceof Map) {
-              @SuppressWarnings("unchecked")
-              Map<String, Object> result = (Map<String, Object>) jsonObj;
-              return result;
-            } else if (jsonObj instanceof String) {
-              // If it's a string, parse it
-              @SuppressWarnings("unchecked")
-              Map<String, Object> result = jsonMapper.readValue((String) jsonObj, Map.class);
-              return result;
-            }
-          }
-          return Collections.emptyMap();
-        } catch (Exception e) {
-          log.error("Failed to fetch JSON document: {}", key, e);
-          return Collections.emptyMap();
-        }
+      // JSON storage - use JSON.GET command
+      try {
+        Map<String, Object> result = jsonDocument(jedis.jsonGet(key), fields);
+        return result != null ? result : Collections.emptyMap();
+      } catch (Exception e) {
+        log.error("Failed to fetch JSON document: {}", key, e);
+        return Collections.emptyMap();
       }
     } finally {
       // Close connection if we created a new UnifiedJedis
@@ -1150,6 +1310,69 @@ public final class SearchIndex {
     }
   }
 
+  /**
+   * Convert the reply of JSON.GET into a document, keeping only the requested fields.
+   *
+   * @param jsonObj The reply: a parsed map, a JSON string or null
+   * @param fields Fields to keep, or null for all fields
+   * @return The document, or null if the reply is not a JSON object
+   * @throws java.io.IOException if a JSON string cannot be parsed
+   */
+  Map<String, Object> jsonDocument(Object jsonObj, Collection<String> fields)
+      throws java.io.IOException {
+    Map<String, Object> result = null;
+    // The jsonGet returns the parsed object directly when using default Path
+    if (jsonObj instanceof Map) {
+      @SuppressWarnings("unchecked")
+      Map<String, Object> map = (Map<String, Object>) jsonObj;
+      result = map;
+    } else if (jsonObj instanceof String) {
+      // If it's a string, parse it
+      @SuppressWarnings("unchecked")
+      Map<String, Object> map = jsonMapper.readValue((String) jsonObj, Map.class);
+      result = map;
+    }
+    if (result != null && fields != null) {
+      result.keySet().retainAll(new HashSet<>(fields));
+    }
+    return result;
+  }
+
+  /**
+   * Convert the binary reply of HGETALL into a document, keeping only the requested fields.
+   *
+   * @param hash The reply
+   * @param fields Fields to keep, or null for all fields
+   * @return The document, or null if the hash does not exist
+   */
+  Map<String, Object> hashDocument(Map<byte[], byte[]> hash, Collection<String> fields) {
+    Map<String, Object> result = ((HashStorage) storage).decode(hash);
+    if (result != null && fields != null) {
+      result.keySet().retainAll(new HashSet<>(fields));
+    }
+    return result;
+  }
+
+  /** Resolve a document ID or full key to the full Redis key. */
+  String resolveKey(String idOrKey) {
+    // If input already contains the prefix, use it as-is, otherwise construct the key
+    if (getPrefix() != null && !getPrefix().isEmpty()) {
+      // Normalize prefix to avoid double separator issues (issue #368)
+      String normalizedPrefix = getPrefix();
+      String separator = getKeySeparator();
+      if (separator != null && !separator.isEmpty() && normalizedPrefix.endsWith(separator)) {
+        normalizedPrefix =
+            normalizedPrefix.substring(0, normalizedPrefix.length() - separator.length());
+      }
+      String prefixWithSeparator = normalizedPrefix + separator;
+
+      if (idOrKey.startsWith(prefixWithSeparator)) {
+        return idOrKey; // Already a full key
+      }
+    }
+    return key(idOrKey); // Just an ID, construct the key
+  }
+
   /**
    * Drop a single key
    *
@@ -1195,10 +1418,20 @@ public final class SearchIndex {
    * @return Index information as a map
    */
   public Map<String, Object> info() {
-    if (!exists()) {
-      throw new RedisVLException("Index " + getName() + " does not exist");
+    try {
+      Map<String, Object> info = getInfo();
+      if (info == null || info.isEmpty()) {
+        throw new RedisVLException("Index " + getName() + " does not exist");
+      }
+      indexState = IndexState.of(info, schema);
+      return info;
+    } catch (RuntimeException e) {
+      if (e.getCause() instanceof Exception cause && isUnknownIndexError(cause)) {
+        invalidateIndexState();
+        throw new RedisVLException("Index " + getName() + " does not exist", cause);
+      }
+      throw e;
     }
-    return getInfo();
   }
 
   /**
@@ -1208,13 +1441,9 @@ public final class SearchIndex {
    * @return Search results
    */
   public SearchResult search(VectorQuery query) {
-    if (!exists()) {
-      throw new RedisVLException("Index " + getName() + " does not exist");
-    }
-
     // Convert VectorQuery to search string
     String queryString = query.toQueryString();
-    Map<String, Object> params = query.toParams();
+    Map<String, Object> params = vectorQueryParams(query);
     int numResults = query.getNumResults();
 
     // Handle sorting or inOrder if specified
@@ -1231,6 +1460,55 @@ public final class SearchIndex {
     return search(queryString, params, numResults);
   }
 
+  /**
+   * Build the parameters for a vector query, encoding the query vector with the data type of the
+   * target vector field when the query does not specify a dtype.
+   */
+  Map<String, Object> vectorQueryParams(VectorQuery query) {
+    Map<String, Object> params = query.toParams();
+    if (query.getDtype() == null) {
+      encodeForVectorField(params, query.getField(), query.getVector());
+    }
+    return params;
+  }
+
+  /** Replace the float32 query vector of the parameters when the field stores another type. */
+  void encodeForVectorField(Map<String, Object> params, String field, float[] vector) {
+    VectorField vectorField = schema.getFieldLookup().resolveVector(field);
+    if (vectorField != null && vectorField.getDataType() != VectorField.VectorDataType.FLOAT32) {
+      params.put("vec", vectorField.getCodec().encode(vector));
+    }
+  }
+
+  /**
+   * Decode a vector value returned by {@link #fetch(String)} or a search into floats, using the
+   * data type of the given vector field.
+   *
+   * @param fieldName Name of the vector field
+   * @param value Raw value (encoded bytes, a list of numbers, or a float array)
+   * @return The decoded vector, or null if the value is null
+   * @throws IllegalArgumentException if the field is not a vector field or the value is not a
+   *     vector
+   */
+  public float[] decodeVector(String fieldName, Object value) {
+    if (value == null) {
+      return null;
+    }
+    VectorField vectorField = schema.getFieldLookup().resolveVector(fieldName);
+    if (vectorField == null) {
+      throw new IllegalArgumentException("Field '" + fieldName + "' is not a vector field");
+    }
+    if (value instanceof byte[] bytes) {
+      return vectorField.getCodec().decode(bytes);
+    } else if (value instanceof float[] floats) {
+      return floats;
+    } else if (value instanceof List<?> list) {
+      return ArrayUtils.numberListToFloats(list);
+    }
+    throw new IllegalArgumentException(
+        "Cannot decode " + value.getClass().getSimpleName() + " as a vector");
+  }
+
   /** Default number of results to return when limit is not specified. */
   public static final int DEFAULT_NUM_RESULTS = 10;
 
@@ -1277,31 +1555,96 @@ public final class SearchIndex {
    * @return Search results
    */
   public SearchResult search(String query, Map<String, Object> params, int offset, int limit) {
-    if (!exists()) {
-      throw new RedisVLException("Index " + getName() + " does not exist");
-    }
+    ensureIndexExists();
 
     UnifiedJedis jedis = getUnifiedJedis();
     try {
-      // Convert params to FTSearchParams
-      redis.clients.jedis.search.FTSearchParams searchParams =
-          new redis.clients.jedis.search.FTSearchParams();
+      return jedis.ftSearch(schema.getName(), query, searchParams(params, offset, limit));
+    } catch (Exception e) {
+      throw searchFailure("Failed to search index: ", e);
+    }
+  }
 
-      // Set dialect to 2 for KNN queries
-      searchParams.dialect(2);
+  /** Build the FT.SEARCH arguments for a query string with parameters and a result window. */
+  FTSearchParams searchParams(Map<String, Object> params, int offset, int limit) {
+    FTSearchParams searchParams = new FTSearchParams();
 
-      // Set limit for pagination
-      searchParams.limit(offset, limit);
+    // Set dialect to 2 for KNN queries
+    searchParams.dialect(2);
 
-      // Add vector parameters if present
-      if (params != null && !params.isEmpty()) {
-        addParamsToSearchParams(searchParams, params);
-      }
+    // Set limit for pagination
+    searchParams.limit(offset, limit);
 
-      return jedis.ftSearch(schema.getName(), query, searchParams);
+    // Add vector parameters if present
+    if (params != null && !params.isEmpty()) {
+      addParamsToSearchParams(searchParams, params);
+    }
+    return searchParams;
+  }
+
+  /** Build the FT.SEARCH arguments for a vector query, as used by {@link #search(VectorQuery)}. */
+  FTSearchParams vectorSearchParams(VectorQuery query) {
+    Map<String, Object> params = vectorQueryParams(query);
+    if ((query.getSortBy() != null && !query.getSortBy().isEmpty()) || query.isInOrder()) {
+      return sortedSearchParams(
+          params,
+          query.getSortBy(),
+          query.isSortDescending(),
+          query.isInOrder(),
+          query.getNumResults());
+    }
+    return searchParams(params, 0, query.getNumResults());
+  }
+
+  /**
+   * Execute a range query as a VECTOR_RANGE search, returning up to its number of results.
+   *
+   * @param query The range query
+   * @return Search results
+   */
+  private SearchResult searchRangeQuery(VectorRangeQuery query) {
+    ensureIndexExists();
+
+    UnifiedJedis jedis = getUnifiedJedis();
+    try {
+      return jedis.ftSearch(
+          schema.getName(),
+          query.toQueryString(),
+          rangeSearchParams(query, 0, query.getNumResults()));
     } catch (Exception e) {
-      throw new RuntimeException("Failed to search index: " + e.getMessage(), e);
+      throw searchFailure("Failed to execute range query: ", e);
+    }
+  }
+
+  /**
+   * Build the FT.SEARCH arguments for one page of a range query. Results are sorted by distance
+   * unless the query sorts by another field, so pages follow each other without gaps or repeats.
+   */
+  FTSearchParams rangeSearchParams(VectorRangeQuery query, int offset, int limit) {
+    Map<String, Object> params = query.toParams();
+    if (query.getDtype() == null) {
+      encodeForVectorField(params, query.getField(), query.getVector());
+    }
+    FTSearchParams searchParams = searchParams(params, offset, limit);
+
+    List<String> returnFields = query.getReturnFields();
+    if (returnFields != null && !returnFields.isEmpty()) {
+      if (!returnFields.contains(VectorRangeQuery.DISTANCE_FIELD)) {
+        returnFields.add(VectorRangeQuery.DISTANCE_FIELD);
+      }
+      searchParams.returnFields(returnFields.toArray(new String[0]));
+    }
+
+    boolean sortByField = query.getSortBy() != null && !query.getSortBy().isEmpty();
+    searchParams.sortBy(
+        sortByField ? query.getSortBy() : VectorRangeQuery.DISTANCE_FIELD,
+        sortByField && query.isSortDescending()
+            ? redis.clients.jedis.args.SortingOrder.DESC
+            : redis.clients.jedis.args.SortingOrder.ASC);
+    if (query.isInOrder()) {
+      searchParams.inOrder();
     }
+    return searchParams;
   }
 
   /**
@@ -1311,41 +1654,42 @@ public final class SearchIndex {
    * @return Search results
    */
   private SearchResult searchTextQuery(TextQuery tq) {
-    if (!exists()) {
-      throw new RedisVLException("Index " + getName() + " does not exist");
-    }
+    ensureIndexExists();
 
     UnifiedJedis jedis = getUnifiedJedis();
     try {
-      redis.clients.jedis.search.FTSearchParams searchParams =
-          new redis.clients.jedis.search.FTSearchParams();
+      return jedis.ftSearch(schema.getName(), tq.toQueryString(), textSearchParams(tq));
+    } catch (Exception e) {
+      throw searchFailure("Failed to execute text query: ", e);
+    }
+  }
 
-      searchParams.dialect(2);
-      searchParams.limit(0, tq.getNumResults() != null ? tq.getNumResults() : DEFAULT_NUM_RESULTS);
+  /** Build the FT.SEARCH arguments for a TextQuery. */
+  FTSearchParams textSearchParams(TextQuery tq) {
+    FTSearchParams searchParams = new FTSearchParams();
 
-      // Set return fields if specified
-      if (tq.getReturnFields() != null && !tq.getReturnFields().isEmpty()) {
-        searchParams.returnFields(tq.getReturnFields().toArray(new String[0]));
-      }
+    searchParams.dialect(2);
+    searchParams.limit(0, tq.getNumResults() != null ? tq.getNumResults() : DEFAULT_NUM_RESULTS);
 
-      // Set scorer if specified
-      if (tq.getScorer() != null && !tq.getScorer().isEmpty()) {
-        searchParams.scorer(tq.getScorer());
-      }
+    // Set return fields if specified
+    if (tq.getReturnFields() != null && !tq.getReturnFields().isEmpty()) {
+      searchParams.returnFields(tq.getReturnFields().toArray(new String[0]));
+    }
 
-      // Set sorting if specified
-      if (tq.getSortBy() != null && !tq.getSortBy().isEmpty()) {
-        redis.clients.jedis.args.SortingOrder order =
-            tq.isSortDescending()
-                ? redis.clients.jedis.args.SortingOrder.DESC
-                : redis.clients.jedis.args.SortingOrder.ASC;
-        searchParams.sortBy(tq.getSortBy(), order);
-      }
+    // Set scorer if specified
+    if (tq.getScorer() != null && !tq.getScorer().isEmpty()) {
+      searchParams.scorer(tq.getScorer());
+    }
 
-      return jedis.ftSearch(schema.getName(), tq.toQueryString(), searchParams);
-    } catch (Exception e) {
-      throw new RuntimeException("Failed to execute text query: " + e.getMessage(), e);
+    // Set sorting if specified
+    if (tq.getSortBy() != null && !tq.getSortBy().isEmpty()) {
+      redis.clients.jedis.args.SortingOrder order =
+          tq.isSortDescending()
+              ? redis.clients.jedis.args.SortingOrder.DESC
+              : redis.clients.jedis.args.SortingOrder.ASC;
+      searchParams.sortBy(tq.getSortBy(), order);
     }
+    return searchParams;
   }
 
   /**
@@ -1366,46 +1710,40 @@ public final class SearchIndex {
       boolean descending,
       boolean inOrder,
       int numResults) {
-    if (!exists()) {
-      throw new RedisVLException("Index " + getName() + " does not exist");
-    }
+    ensureIndexExists();
 
     UnifiedJedis jedis = getUnifiedJedis();
     try {
-      // Convert params to FTSearchParams
-      redis.clients.jedis.search.FTSearchParams searchParams =
-          new redis.clients.jedis.search.FTSearchParams();
-
-      // Set dialect to 2 for KNN queries
-      searchParams.dialect(2);
-
-      // Set limit for pagination
-      searchParams.limit(0, numResults);
-
-      // Add vector parameters if present
-      if (params != null && !params.isEmpty()) {
-        addParamsToSearchParams(searchParams, params);
-      }
-
-      // Add sorting if specified
-      if (sortBy != null && !sortBy.isEmpty()) {
-        redis.clients.jedis.args.SortingOrder order =
-            descending
-                ? redis.clients.jedis.args.SortingOrder.DESC
-                : redis.clients.jedis.args.SortingOrder.ASC;
-        searchParams.sortBy(sortBy, order);
-      }
-
-      // Add inOrder if specified
-      if (inOrder) {
-        searchParams.inOrder();
-      }
-
+      FTSearchParams searchParams =
+          sortedSearchParams(params, sortBy, descending, inOrder, numResults);
       return jedis.ftSearch(schema.getName(), query, searchParams);
     } catch (Exception e) {
-      throw new RuntimeException(
-          "Failed to search index with sorting/inOrder: " + e.getMessage(), e);
+      throw searchFailure("Failed to search index with sorting/inOrder: ", e);
+    }
+  }
+
+  private FTSearchParams sortedSearchParams(
+      Map<String, Object> params,
+      String sortBy,
+      boolean descending,
+      boolean inOrder,
+      int numResults) {
+    FTSearchParams searchParams = searchParams(params, 0, numResults);
+
+    // Add sorting if specified
+    if (sortBy != null && !sortBy.isEmpty()) {
+      redis.clients.jedis.args.SortingOrder order =
+          descending
+              ? redis.clients.jedis.args.SortingOrder.DESC
+              : redis.clients.jedis.args.SortingOrder.ASC;
+      searchParams.sortBy(sortBy, order);
+    }
+
+    // Add inOrder if specified
+    if (inOrder) {
+      searchParams.inOrder();
     }
+    return searchParams;
   }
 
   /**
@@ -1466,85 +1804,11 @@ public final class SearchIndex {
       log.debug("CountQuery returned {} results", count);
       return new ArrayList<>();
     } else if (query instanceof VectorQuery vq) {
-      // Validate query parameters based on vector field algorithm
-      String fieldName = vq.getField();
-
-      // Try to find the field - handle both plain names and JSONPath names
-      BaseField field = schema.getField(fieldName);
-      String resolvedFieldName = fieldName;
-
-      if (field == null && !fieldName.startsWith("$.")) {
-        // Try with JSONPath prefix if plain name didn't work
-        field = schema.getField("$." + fieldName);
-        if (field != null) {
-          resolvedFieldName = "$." + fieldName; // Use the JSONPath version
-        }
-      } else if (field == null && fieldName.startsWith("$.")) {
-        // Try without JSONPath prefix if JSONPath didn't work
-        field = schema.getField(fieldName.substring(2));
-        if (field != null) {
-          resolvedFieldName = fieldName.substring(2); // Use the plain version
-        }
-      }
-
-      if (field instanceof VectorField vf
-          && vf.getAlgorithm() == VectorField.Algorithm.FLAT
-          && vq.getEfRuntime() != null) {
-        throw new RedisVLException("EF_RUNTIME is only valid for HNSW algorithm, not FLAT");
-      }
-
-      // Create a new VectorQuery with the resolved field name if it changed
-      VectorQuery finalQuery = vq;
-      if (!resolvedFieldName.equals(fieldName)) {
-        finalQuery =
-            VectorQuery.builder()
-                .field(resolvedFieldName)
-                .vector(vq.getVector())
-                .numResults(vq.getNumResults())
-                .distanceMetric(vq.getDistanceMetric())
-                .returnDistance(vq.isReturnDistance())
-                .returnScore(vq.isReturnScore())
-                .preFilter(vq.getPreFilter())
-                .hybridField(vq.getHybridField())
-                .hybridQuery(vq.getHybridQuery())
-                .efRuntime(vq.getEfRuntime())
-                .returnFields(vq.getReturnFields())
-                .sortBy(vq.getSortBy())
-                .sortDescending(vq.isSortDescending())
-                .inOrder(vq.isInOrder())
-                .build();
-      }
-
       // Execute the search
-      SearchResult result = search(finalQuery);
+      SearchResult result = search(resolveVectorQuery(vq));
       return processSearchResult(result);
     } else if (query instanceof VectorRangeQuery vrq) {
-      // For now, convert to VectorQuery with distance threshold
-      VectorQuery vq =
-          VectorQuery.builder()
-              .vector(vrq.getVector())
-              .field(vrq.getField())
-              .numResults(vrq.getNumResults())
-              .returnDistance(true)
-              .sortBy(vrq.getSortBy())
-              .sortDescending(vrq.isSortDescending())
-              .inOrder(vrq.isInOrder())
-              .build();
-      SearchResult result = search(vq);
-      // Filter results by distance threshold
-      List<Map<String, Object>> allResults = processSearchResult(result);
-      List<Map<String, Object>> filtered = new ArrayList<>();
-      for (Map<String, Object> doc : allResults) {
-        // Check both "distance" and "vector_distance" for compatibility
-        Object distanceObj = doc.getOrDefault("distance", doc.get("vector_distance"));
-        if (distanceObj != null) {
-          double distance = Double.parseDouble(distanceObj.toString());
-          if (distance <= vrq.getDistanceThreshold()) {
-            filtered.add(doc);
-          }
-        }
-      }
-      return filtered;
+      return processSearchResult(searchRangeQuery(vrq));
     } else if (query instanceof Filter fq) {
       SearchResult result = search(fq.build());
       return processSearchResult(result);
@@ -1598,7 +1862,57 @@ public final class SearchIndex {
     return processSearchResult(result);
   }
 
-  private List<Map<String, Object>> processSearchResult(SearchResult result) {
+  /**
+   * Validate a vector query against its vector field and rewrite JSONPath twins of the field name
+   * to the schema's field name.
+   *
+   * @param vq The vector query
+   * @return The query to execute
+   * @throws RedisVLException if EF_RUNTIME is set for a FLAT vector field
+   */
+  VectorQuery resolveVectorQuery(VectorQuery vq) {
+    // Validate query parameters based on vector field algorithm
+    String fieldName = vq.getField();
+
+    // Resolve plain names, JSONPath names and aliases in one lookup. Aliases are already valid
+    // attribute names, so only JSONPath twins are rewritten to the schema's field name.
+    BaseField field = schema.resolveField(fieldName);
+    String resolvedFieldName =
+        field != null && !fieldName.equals(field.getAlias()) ? field.getName() : fieldName;
+
+    if (field instanceof VectorField vf
+        && vf.getAlgorithm() == VectorField.Algorithm.FLAT
+        && vq.getEfRuntime() != null) {
+      throw new RedisVLException("EF_RUNTIME is only valid for HNSW algorithm, not FLAT");
+    }
+
+    // Create a new VectorQuery with the resolved field name if it changed
+    VectorQuery finalQuery = vq;
+    if (!resolvedFieldName.equals(fieldName)) {
+      finalQuery =
+          VectorQuery.builder()
+              .field(resolvedFieldName)
+              .vector(vq.getVector())
+              .numResults(vq.getNumResults())
+              .distanceMetric(vq.getDistanceMetric())
+              .returnDistance(vq.isReturnDistance())
+              .returnScore(vq.isReturnScore())
+              .preFilter(vq.getPreFilter())
+              .hybridField(vq.getHybridField())
+              .hybridQuery(vq.getHybridQuery())
+              .efRuntime(vq.getEfRuntime())
+              .returnFields(vq.getReturnFields())
+              .sortBy(vq.getSortBy())
+              .sortDescending(vq.isSortDescending())
+              .inOrder(vq.isInOrder())
+              .dtype(vq.getDtype())
+              .build();
+    }
+    return finalQuery;
+  }
+
+  /** Convert a search result into one map per document, as returned by {@link #query(Object)}. */
+  List<Map<String, Object>> processSearchResult(SearchResult result) {
     List<Map<String, Object>> processed = new ArrayList<>();
     if (result != null && result.getDocuments() != null) {
       for (redis.clients.jedis.search.Document doc : result.getDocuments()) {
@@ -1736,68 +2050,248 @@ public final class SearchIndex {
   /**
    * Execute multiple search queries in batch
    *
-   * @param queries List of query strings
+   * @param queries List of query strings, or Filter, VectorQuery, TextQuery or FilterQuery objects
    * @return List of search results
    */
-  public List<SearchResult> batchSearch(List<String> queries) {
+  public List<SearchResult> batchSearch(List<?> queries) {
     return batchSearch(queries, Integer.MAX_VALUE);
   }
 
   /**
-   * Execute multiple search queries in batch with specified batch size
+   * Execute multiple search queries in batch with specified batch size. The queries of each batch
+   * are sent in a single pipeline.
    *
-   * @param queries List of query strings
-   * @param batchSize Number of queries to process per batch
-   * @return List of search results
+   * @param queries List of query strings, or Filter, VectorQuery, TextQuery or FilterQuery objects
+   * @param batchSize Number of queries to send per pipeline
+   * @return List of search results, in query order
+   * @throws IllegalArgumentException if a query is not executed as a single FT.SEARCH
    */
-  public List<SearchResult> batchSearch(List<String> queries, int batchSize) {
-    List<SearchResult> results = new ArrayList<>();
-
-    // Process queries in batches
-    for (int i = 0; i < queries.size(); i += batchSize) {
-      int endIndex = Math.min(i + batchSize, queries.size());
-      List<String> batch = queries.subList(i, endIndex);
+  public List<SearchResult> batchSearch(List<?> queries, int batchSize) {
+    return batchSearch(queries, batchSize, 1);
+  }
 
-      // Execute each query in the batch
-      for (String query : batch) {
-        results.add(search(query));
+  /**
+   * Execute multiple search queries in batch, sending each batch in its own pipeline and running up
+   * to {@code workers} batches concurrently, each on its own pooled connection.
+   *
+   * @param queries List of query strings, or Filter, VectorQuery, TextQuery or FilterQuery objects
+   * @param batchSize Number of queries to send per pipeline
+   * @param workers Maximum number of batches in flight at once
+   * @return List of search results, in query order
+   * @throws IllegalArgumentException if a query is not executed as a single FT.SEARCH
+   */
+  public List<SearchResult> batchSearch(List<?> queries, int batchSize, int workers) {
+    List<PreparedSearch> searches = new ArrayList<>(queries.size());
+    for (Object query : queries) {
+      PreparedSearch search = prepareSearch(query);
+      if (search == null) {
+        throw new IllegalArgumentException(
+            "Cannot batch search a "
+                + (query != null ? query.getClass().getSimpleName() : "null query")
+                + "; use batchQuery instead");
       }
+      searches.add(search);
     }
-
-    return results;
+    return executeBatches(searches, batchSize, workers, this::executeSearches);
   }
 
   /**
-   * Execute multiple filter queries in batch
+   * Execute multiple queries in batch
    *
-   * @param queries List of filter queries
+   * @param queries List of queries (Filter, VectorQuery, FilterQuery, TextQuery, etc.)
    * @return List of query results
    */
-  public List<List<Map<String, Object>>> batchQuery(List<Filter> queries) {
+  public List<List<Map<String, Object>>> batchQuery(List<?> queries) {
     return batchQuery(queries, Integer.MAX_VALUE);
   }
 
   /**
-   * Execute multiple filter queries in batch with specified batch size
+   * Execute multiple queries in batch with specified batch size.
    *
-   * @param queries List of filter queries
-   * @param batchSize Number of queries to process per batch
-   * @return List of query results
+   * <p>Query strings, {@link Filter}s, {@link VectorQuery}s, {@link TextQuery}s and {@link
+   * FilterQuery}s are sent as FT.SEARCH commands in one pipeline per batch. Other query types take
+   * several round trips or dedicated commands and are executed one at a time through {@link
+   * #query(Object)}, keeping their place in the results.
+   *
+   * @param queries List of queries (Filter, VectorQuery, FilterQuery, TextQuery, etc.)
+   * @param batchSize Number of queries to send per pipeline
+   * @return List of query results, in query order
    */
-  public List<List<Map<String, Object>>> batchQuery(List<Filter> queries, int batchSize) {
-    List<List<Map<String, Object>>> results = new ArrayList<>();
+  public List<List<Map<String, Object>>> batchQuery(List<?> queries, int batchSize) {
+    return batchQuery(queries, batchSize, 1);
+  }
 
-    // Process queries in batches
+  /**
+   * Execute multiple queries in batch, sending each batch in its own pipeline and running up to
+   * {@code workers} batches concurrently, each on its own pooled connection.
+   *
+   * @param queries List of queries (Filter, VectorQuery, FilterQuery, TextQuery, etc.)
+   * @param batchSize Number of queries to send per pipeline
+   * @param workers Maximum number of batches in flight at once
+   * @return List of query results, in query order
+   * @see #batchQuery(List, int)
+   */
+  public List<List<Map<String, Object>>> batchQuery(List<?> queries, int batchSize, int workers) {
+    return executeBatches(queries, batchSize, workers, this::executeQueryBatch);
+  }
+
+  private List<List<Map<String, Object>>> executeQueryBatch(List<?> batch) {
+    List<PreparedSearch> searches = new ArrayList<>(batch.size());
+    for (Object query : batch) {
+      searches.add(prepareSearch(query));
+    }
+    List<SearchResult> searchResults =
+        executeSearches(searches.stream().filter(Objects::nonNull).toList());
+
+    List<List<Map<String, Object>>> results = new ArrayList<>(batch.size());
+    Iterator<SearchResult> pipelined = searchResults.iterator();
+    for (int i = 0; i < batch.size(); i++) {
+      results.add(
+          searches.get(i) != null ? processSearchResult(pipelined.next()) : query(batch.get(i)));
+    }
+    return results;
+  }
+
+  /**
+   * Split the queries into batches of {@code batchSize} and execute them, on a pool of up to
+   * {@code workers} threads when there is more than one batch.
+   */
+  private <Q, R> List<R> executeBatches(
+      List<Q> queries, int batchSize, int workers, Function<List<Q>, List<R>> executor) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Number of workers must be positive");
+    }
+
+    List<List<Q>> batches = new ArrayList<>();
     for (int i = 0; i < queries.size(); i += batchSize) {
-      int endIndex = Math.min(i + batchSize, queries.size());
-      List<Filter> batch = queries.subList(i, endIndex);
+      batches.add(queries.subList(i, (int) Math.min((long) i + batchSize, queries.size())));
+    }
 
-      // Execute each query in the batch
-      for (Filter query : batch) {
-        results.add(query(query));
+    List<R> results = new ArrayList<>(queries.size());
+    if (workers == 1 || batches.size() <= 1) {
+      for (List<Q> batch : batches) {
+        results.addAll(executor.apply(batch));
       }
+      return results;
     }
 
+    ExecutorService pool =
+        Executors.newFixedThreadPool(
+            Math.min(workers, batches.size()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "redisvl-batch-" + getName());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<Future<List<R>>> futures = new ArrayList<>(batches.size());
+      for (List<Q> batch : batches) {
+        futures.add(pool.submit(() -> executor.apply(batch)));
+      }
+      for (Future<List<R>> future : futures) {
+        results.addAll(future.get());
+      }
+      return results;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new RedisVLException("Batch execution failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisVLException("Interrupted while executing batch", e);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * An FT.SEARCH command prepared for sending in a pipeline: either a query string with its
+   * arguments or, for a {@link FilterQuery}, a complete Jedis query.
+   */
+  record PreparedSearch(
+      String query,
+      FTSearchParams params,
+      redis.clients.jedis.search.Query redisQuery,
+      String failureMessage) {
+
+    Response<SearchResult> enqueue(AbstractPipeline pipeline, String indexName) {
+      return redisQuery != null
+          ? pipeline.ftSearch(indexName, redisQuery)
+          : pipeline.ftSearch(indexName, query, params);
+    }
+  }
+
+  /**
+   * Prepare the FT.SEARCH command that {@link #query(Object)} would send for a query.
+   *
+   * @param query The query
+   * @return The prepared command, or null if the query type is not executed as a single FT.SEARCH
+   */
+  PreparedSearch prepareSearch(Object query) {
+    if (query instanceof String queryString) {
+      return new PreparedSearch(
+          queryString,
+          searchParams(null, 0, DEFAULT_NUM_RESULTS),
+          null,
+          "Failed to search index: ");
+    } else if (query instanceof VectorQuery vq) {
+      VectorQuery resolved = resolveVectorQuery(vq);
+      return new PreparedSearch(
+          resolved.toQueryString(),
+          vectorSearchParams(resolved),
+          null,
+          "Failed to search index: ");
+    } else if (query instanceof VectorRangeQuery vrq) {
+      return new PreparedSearch(
+          vrq.toQueryString(),
+          rangeSearchParams(vrq, 0, vrq.getNumResults()),
+          null,
+          "Failed to execute range query: ");
+    } else if (query instanceof Filter filter) {
+      return prepareSearch(filter.build());
+    } else if (query instanceof TextQuery tq) {
+      return new PreparedSearch(
+          tq.toQueryString(), textSearchParams(tq), null, "Failed to execute text query: ");
+    } else if (query instanceof FilterQuery fq) {
+      return new PreparedSearch(null, null, fq.buildRedisQuery(), "Failed to search index: ");
+    }
+    return null;
+  }
+
+  /**
+   * Send prepared searches in a single pipeline.
+   *
+   * @param searches The searches to send
+   * @return Search results, in the order of the searches
+   */
+  List<SearchResult> executeSearches(List<PreparedSearch> searches) {
+    if (searches.isEmpty()) {
+      return new ArrayList<>();
+    }
+    ensureIndexExists();
+
+    List<Response<SearchResult>> responses = new ArrayList<>(searches.size());
+    try (AbstractPipeline pipeline = getUnifiedJedis().pipelined()) {
+      for (PreparedSearch search : searches) {
+        responses.add(search.enqueue(pipeline, schema.getName()));
+      }
+      pipeline.sync();
+    } catch (Exception e) {
+      throw searchFailure("Failed to execute batch search: ", e);
+    }
+
+    List<SearchResult> results = new ArrayList<>(responses.size());
+    for (int i = 0; i < responses.size(); i++) {
+      try {
+        results.add(responses.get(i).get());
+      } catch (Exception e) {
+        throw searchFailure(searches.get(i).failureMessage(), e);
+      }
+    }
     return results;
   }
 
@@ -1847,9 +2341,13 @@ public final class SearchIndex {
   /**
    * Execute a query and return results in paginated batches.
    *
+   * <p>Every batch re-runs the query with a larger {@code LIMIT} offset. To stream all results of
+   * a large query, use {@link #cursor(Object)}.
+   *
    * @param query The query to execute (VectorQuery, FilterQuery, or TextQuery)
    * @param batchSize Number of results per batch
    * @return Iterable of result batches
+   * @throws RuntimeException from {@code hasNext()} if a batch cannot be fetched
    */
   public Iterable<List<Map<String, Object>>> paginate(Object query, int batchSize) {
     return new Iterable<>() {
@@ -1874,8 +2372,12 @@ public final class SearchIndex {
                 FTSearchParams searchParams = buildSearchParams(query, offset, batchSize);
                 lastResult = executeSearch(queryString, searchParams);
                 hasMore = lastResult != null && !lastResult.getDocuments().isEmpty();
-              } catch (Exception e) {
+              } catch (RuntimeException e) {
                 hasMore = false;
+                if (e instanceof RedisVLException) {
+                  throw e;
+                }
+                throw searchFailure("Failed to paginate query: ", e);
               }
             }
             return hasMore;
@@ -1891,49 +2393,14 @@ public final class SearchIndex {
             lastResult = null;
             offset += batchSize;
 
-            List<Map<String, Object>> results = processSearchResult(result);
-
-            // For VectorRangeQuery, filter by distance threshold
-            if (query instanceof VectorRangeQuery vrq) {
-              List<Map<String, Object>> filtered = new ArrayList<>();
-              for (Map<String, Object> doc : results) {
-                if (doc.containsKey("vector_distance")) {
-                  String distanceStr = doc.get("vector_distance").toString();
-                  // Handle NaN values - skip them
-                  if ("nan".equalsIgnoreCase(distanceStr)) {
-                    continue;
-                  }
-                  try {
-                    double distance = Double.parseDouble(distanceStr);
-                    if (distance <= vrq.getDistanceThreshold()) {
-                      filtered.add(doc);
-                    }
-                  } catch (NumberFormatException e) {
-                    // Skip invalid distance values
-                  }
-                }
-                // If no distance, don't include it for range queries
-                // Range queries are specifically about distance filtering
-              }
-              return filtered;
-            }
-
-            return results;
+            return processSearchResult(result);
           }
 
           private String buildQueryString(Object query) {
             if (query instanceof VectorQuery) {
               return ((VectorQuery) query).toQueryString();
             } else if (query instanceof VectorRangeQuery vrq) {
-              // Convert range query to vector query for execution
-              VectorQuery vq =
-                  VectorQuery.builder()
-                      .vector(vrq.getVector())
-                      .field(vrq.getField())
-                      .numResults(vrq.getNumResults())
-                      .returnDistance(true)
-                      .build();
-              return vq.toQueryString();
+              return vrq.toQueryString();
             } else if (query instanceof Filter) {
               return ((Filter) query).build();
             } else if (query instanceof FilterQuery fq) {
@@ -1947,33 +2414,21 @@ public final class SearchIndex {
           }
 
           private FTSearchParams buildSearchParams(Object query, int offset, int limit) {
+            if (query instanceof VectorRangeQuery vrq) {
+              return rangeSearchParams(vrq, offset, limit);
+            }
             FTSearchParams params = new FTSearchParams();
             params.limit(offset, limit);
             params.dialect(2);
 
             if (query instanceof VectorQuery vq) {
-              Map<String, Object> queryParams = vq.toParams();
+              Map<String, Object> queryParams = vectorQueryParams(vq);
               addParamsToSearchParams(params, queryParams);
 
               // Add return fields if specified
               if (vq.getReturnFields() != null && !vq.getReturnFields().isEmpty()) {
                 params.returnFields(vq.getReturnFields().toArray(new String[0]));
               }
-            } else if (query instanceof VectorRangeQuery vrq) {
-              // Convert range query to vector query for params
-              VectorQuery vq =
-                  VectorQuery.builder()
-                      .vector(vrq.getVector())
-                      .field(vrq.getField())
-                      .numResults(vrq.getNumResults())
-                      .returnDistance(true)
-                      .build();
-
-              Map<String, Object> queryParams = vq.toParams();
-              addParamsToSearchParams(params, queryParams);
-
-              // Always return distance for range queries
-              params.returnFields("vector_distance");
             }
 
             return params;
@@ -1993,4 +2448,74 @@ public final class SearchIndex {
       }
     };
   }
+
+  /**
+   * Create a builder for a cursor that streams every result of a query page by page. The query
+   * runs once as {@code FT.AGGREGATE ... WITHCURSOR} and pages are read with {@code FT.CURSOR
+   * READ}; close the cursor to release it early.
+   *
+   * @param query A VectorQuery, VectorRangeQuery, TextQuery, FilterQuery, Filter or query string
+   * @return A new cursor builder bound to this index
+   * @see SearchCursor
+   */
+  public SearchCursor.Builder cursor(Object query) {
+    return new SearchCursor.Builder(this, query);
+  }
+
+  /**
+   * Snapshot of a successful index check: when FT.INFO was read and which schema fields it did not
+   * list among the index attributes.
+   */
+  private record IndexState(long validatedAtNanos, List<String> missingFields) {
+
+    /** State of an index just created from the schema. */
+    static IndexState validatedNow() {
+      return new IndexState(System.nanoTime(), List.of());
+    }
+
+    /**
+     * State of an index described by an FT.INFO reply. Schema fields are matched by their
+     * identifier (field name or JSON path); no field is reported missing if the reply does not
+     * list attributes.
+     */
+    static IndexState of(Map<String, Object> info, IndexSchema schema) {
+      Set<String> identifiers = attributeIdentifiers(info.get("attributes"));
+      List<String> missing = new ArrayList<>();
+      if (identifiers != null && schema != null && schema.getFields() != null) {
+        for (BaseField field : schema.getFields()) {
+          if (!identifiers.contains(field.getName())) {
+            missing.add(field.getName());
+          }
+        }
+      }
+      return new IndexState(System.nanoTime(), List.copyOf(missing));
+    }
+
+    private static Set<String> attributeIdentifiers(Object attributes) {
+      if (!(attributes instanceof List<?> attributeList)) {
+        return null;
+      }
+      Set<String> identifiers = new HashSet<>();
+      for (Object attr : attributeList) {
+        if (attr instanceof Map<?, ?> attrMap) {
+          // RESP3 replies describe each attribute as a map
+          Object identifier = attrMap.get("identifier");
+          if (identifier != null) {
+            identifiers.add(identifier.toString());
+          }
+        } else if (attr instanceof List<?> fieldDef) {
+          for (int i = 0; i + 1 < fieldDef.size(); i++) {
+            if ("identifier".equals(String.valueOf(fieldDef.get(i)))) {
+              identifiers.add(String.valueOf(fieldDef.get(i + 1)));
+            }
+          }
+        }
+      }
+      return identifiers;
+    }
+
+    boolean isFresh(Duration refreshInterval) {
+      return System.nanoTime() - validatedAtNanos < refreshInterval.toNanos();
+    }
+  }
 }
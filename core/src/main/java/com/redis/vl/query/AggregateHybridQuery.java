@@ -1,7 +1,7 @@
 package com.redis.vl.query;
 
-import com.redis.vl.utils.ArrayUtils;
 import com.redis.vl.utils.FullTextQueryHelper;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
 import redis.clients.jedis.search.aggr.AggregationBuilder;
 import redis.clients.jedis.search.aggr.SortedField;
@@ -326,7 +326,7 @@ public final class AggregateHybridQuery extends AggregationQuery {
 
   @Override
   public Map<String, Object> getParams() {
-    byte[] vectorBytes = ArrayUtils.floatArrayToBytes(vector);
+    byte[] vectorBytes = VectorCodec.forDtype(dtype).encode(vector);
     Map<String, Object> params = new HashMap<>();
     params.put(VECTOR_PARAM, vectorBytes);
     return params;
@@ -1,7 +1,7 @@
 package com.redis.vl.query;
 
-import com.redis.vl.utils.ArrayUtils;
 import com.redis.vl.utils.FullTextQueryHelper;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
 import redis.clients.jedis.search.Combiner;
 import redis.clients.jedis.search.Combiners;
@@ -310,7 +310,7 @@ public final class HybridQuery {
             .vectorSearch(vsimBuilder.build())
             .combine(combiner)
             .postProcessing(postBuilder.build())
-            .param(vectorParamName, ArrayUtils.floatArrayToBytes(vector));
+            .param(vectorParamName, VectorCodec.forDtype(dtype).encode(vector));
 
     return paramsBuilder.build();
   }
@@ -358,7 +358,7 @@ public final class HybridQuery {
    * @return parameter map with vector bytes
    */
   public Map<String, Object> getParams() {
-    byte[] vectorBytes = ArrayUtils.floatArrayToBytes(vector);
+    byte[] vectorBytes = VectorCodec.forDtype(dtype).encode(vector);
     Map<String, Object> params = new HashMap<>();
     params.put(vectorParamName, vectorBytes);
     return params;
@@ -1,6 +1,6 @@
 package com.redis.vl.query;
 
-import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
 import lombok.Getter;
 import redis.clients.jedis.search.aggr.AggregationBuilder;
@@ -173,7 +173,7 @@ public final class MultiVectorQuery extends AggregationQuery {
 
     for (int i = 0; i < vectors.size(); i++) {
       Vector v = vectors.get(i);
-      byte[] vectorBytes = ArrayUtils.floatArrayToBytes(v.getVector());
+      byte[] vectorBytes = VectorCodec.forDtype(v.getDtype()).encode(v.getVector());
       params.put(String.format("vector_%d", i), vectorBytes);
     }
 
@@ -1,7 +1,7 @@
 package com.redis.vl.query;
 
 import com.redis.vl.schema.VectorField;
-import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
 
 /** Represents a vector similarity search query */
@@ -73,6 +73,9 @@ public class VectorQuery {
   /** Fields that should not be decoded from binary format */
   private List<String> skipDecodeFields;
 
+  /** Data type used to encode the query vector (null to use the vector field's data type) */
+  private final String dtype;
+
   /** Private constructor */
   private VectorQuery(
       String field,
@@ -93,7 +96,8 @@ public class VectorQuery {
       String sortBy,
       boolean sortDescending,
       boolean inOrder,
-      List<String> skipDecodeFields) {
+      List<String> skipDecodeFields,
+      String dtype) {
     this.field = field;
     this.vector = vector != null ? vector.clone() : null; // Defensive copy
     this.numResults = numResults;
@@ -114,6 +118,7 @@ public class VectorQuery {
     this.inOrder = inOrder;
     this.skipDecodeFields =
         skipDecodeFields != null ? new ArrayList<>(skipDecodeFields) : new ArrayList<>();
+    this.dtype = dtype;
   }
 
   /**
@@ -190,6 +195,7 @@ public class VectorQuery {
         .hybridField(this.hybridField)
         .hybridQuery(this.hybridQuery)
         .efRuntime(this.efRuntime)
+        .dtype(this.dtype)
         .build();
   }
 
@@ -223,6 +229,7 @@ public class VectorQuery {
         .hybridField(this.hybridField)
         .hybridQuery(this.hybridQuery)
         .efRuntime(this.efRuntime)
+        .dtype(this.dtype)
         .build();
   }
 
@@ -244,6 +251,7 @@ public class VectorQuery {
         .hybridField(this.hybridField)
         .hybridQuery(this.hybridQuery)
         .efRuntime(this.efRuntime)
+        .dtype(this.dtype)
         .build();
   }
 
@@ -304,8 +312,8 @@ public class VectorQuery {
     // Add K parameter for KNN
     params.put("K", numResults);
 
-    // Convert vector to byte array
-    byte[] vectorBytes = ArrayUtils.floatArrayToBytes(vector);
+    // Convert vector to byte array using the requested data type (float32 by default)
+    byte[] vectorBytes = VectorCodec.forDtype(dtype).encode(vector);
     params.put("vec", vectorBytes);
 
     // Add runtime parameters if specified
@@ -619,6 +627,15 @@ public class VectorQuery {
     return skipDecodeFields != null ? new ArrayList<>(skipDecodeFields) : new ArrayList<>();
   }
 
+  /**
+   * Get the data type used to encode the query vector.
+   *
+   * @return Data type (e.g. "float16"), or null if the vector field's data type should be used
+   */
+  public String getDtype() {
+    return dtype;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -668,6 +685,7 @@ public class VectorQuery {
     private boolean sortDescending = false;
     private boolean inOrder = false;
     private List<String> skipDecodeFields = new ArrayList<>();
+    private String dtype;
 
     private static float[] toFloatArray(double[] doubles) {
       if (doubles == null) return null;
@@ -1130,6 +1148,24 @@ public class VectorQuery {
       return this;
     }
 
+    /**
+     * Set the data type used to encode the query vector (e.g. "float32", "float16", "int8").
+     *
+     * <p>When not set, {@link com.redis.vl.index.SearchIndex} encodes the vector with the data type
+     * of the target vector field, and {@link VectorQuery#toParams()} falls back to float32.
+     *
+     * @param dtype Vector data type, case-insensitive
+     * @return This builder
+     * @throws IllegalArgumentException if the data type is not supported
+     */
+    public Builder dtype(String dtype) {
+      if (dtype != null) {
+        VectorCodec.forDtype(dtype);
+      }
+      this.dtype = dtype;
+      return this;
+    }
+
     /**
      * Build the VectorQuery
      *
@@ -1170,7 +1206,8 @@ public class VectorQuery {
           sortBy,
           sortDescending,
           inOrder,
-          skipDecodeFields);
+          skipDecodeFields,
+          dtype);
     }
   }
 }
@@ -1,6 +1,6 @@
 package com.redis.vl.query;
 
-import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
 
 /**
@@ -11,6 +11,9 @@ import java.util.*;
  */
 public final class VectorRangeQuery {
 
+  /** Name of the field the distance of each result is returned in. */
+  public static final String DISTANCE_FIELD = "vector_distance";
+
   private final float[] vector;
   private final String field;
   private final List<String> returnFields;
@@ -34,6 +37,12 @@ public final class VectorRangeQuery {
   private final boolean inOrder;
   private final List<String> skipDecodeFields;
 
+  /** Data type used to encode the query vector (null to use the vector field's data type) */
+  private final String dtype;
+
+  /** Optional filter intersected with the range */
+  private final Filter filterExpression;
+
   private VectorRangeQuery(Builder builder) {
     // Validate before modifying state to avoid partial initialization
     if (builder.vector == null || builder.field == null) {
@@ -60,6 +69,8 @@ public final class VectorRangeQuery {
     this.inOrder = builder.inOrder;
     this.skipDecodeFields =
         builder.skipDecodeFields != null ? List.copyOf(builder.skipDecodeFields) : List.of();
+    this.dtype = builder.dtype;
+    this.filterExpression = builder.filterExpression;
   }
 
   /**
@@ -291,6 +302,24 @@ public final class VectorRangeQuery {
     return skipDecodeFields;
   }
 
+  /**
+   * Get the data type used to encode the query vector.
+   *
+   * @return Data type (e.g. "float16"), or null if the vector field's data type should be used
+   */
+  public String getDtype() {
+    return dtype;
+  }
+
+  /**
+   * Get the filter applied together with the range.
+   *
+   * @return Filter expression or null
+   */
+  public Filter getFilterExpression() {
+    return filterExpression;
+  }
+
   /**
    * Build the query string for Redis range query
    *
@@ -299,7 +328,27 @@ public final class VectorRangeQuery {
   public String toQueryString() {
     // Use VECTOR_RANGE syntax to filter by distance threshold (Python: line 685)
     // Format: @field:[VECTOR_RANGE $threshold $vec]=>{$YIELD_DISTANCE_AS: vector_distance}
-    return "@" + field + ":[VECTOR_RANGE $threshold $vec]=>{$YIELD_DISTANCE_AS: vector_distance}";
+    StringBuilder query = new StringBuilder();
+    query.append("@").append(escapeFieldName(field)).append(":[VECTOR_RANGE $threshold $vec]=>{");
+    if (epsilon != null) {
+      // The value is passed in the EPSILON parameter of toParams()
+      query.append("$EPSILON: $EPSILON; ");
+    }
+    query.append("$YIELD_DISTANCE_AS: ").append(DISTANCE_FIELD).append("}");
+
+    String filter = filterExpression != null ? filterExpression.build() : null;
+    if (filter == null || filter.isEmpty() || "*".equals(filter)) {
+      return query.toString();
+    }
+    return "(" + query + " " + filter + ")";
+  }
+
+  /** Escape the $ and . of a JSONPath field name, as {@link VectorQuery} does. */
+  private static String escapeFieldName(String field) {
+    if (field.startsWith("$.")) {
+      return field.replace("$", "\\$").replace(".", "\\.");
+    }
+    return field;
   }
 
   /**
@@ -312,7 +361,7 @@ public final class VectorRangeQuery {
 
     // Convert vector to byte array
     if (vector != null) {
-      byte[] vectorBytes = ArrayUtils.floatArrayToBytes(vector);
+      byte[] vectorBytes = VectorCodec.forDtype(dtype).encode(vector);
       params.put("vec", vectorBytes);
     }
 
@@ -363,6 +412,8 @@ public final class VectorRangeQuery {
     private boolean sortDescending = false;
     private boolean inOrder = false;
     private List<String> skipDecodeFields = List.of();
+    private String dtype;
+    private Filter filterExpression;
 
     /** Package-private constructor used by builder() method. */
     Builder() {}
@@ -635,6 +686,17 @@ public final class VectorRangeQuery {
       return this;
     }
 
+    /**
+     * Set a filter applied together with the range, so only documents matching both are returned.
+     *
+     * @param filterExpression Filter expression
+     * @return This builder
+     */
+    public Builder filterExpression(Filter filterExpression) {
+      this.filterExpression = filterExpression;
+      return this;
+    }
+
     /**
      * Set fields that should not be decoded from binary format.
      *
@@ -678,6 +740,24 @@ public final class VectorRangeQuery {
       return this;
     }
 
+    /**
+     * Set the data type used to encode the query vector (e.g. "float32", "float16", "int8").
+     *
+     * <p>When not set, {@link com.redis.vl.index.SearchIndex} encodes the vector with the data type
+     * of the target vector field, and {@link VectorRangeQuery#toParams()} falls back to float32.
+     *
+     * @param dtype Vector data type, case-insensitive
+     * @return This builder
+     * @throws IllegalArgumentException if the data type is not supported
+     */
+    public Builder dtype(String dtype) {
+      if (dtype != null) {
+        VectorCodec.forDtype(dtype);
+      }
+      this.dtype = dtype;
+      return this;
+    }
+
     /**
      * Build the VectorRangeQuery instance.
      *
@@ -0,0 +1,108 @@
+package com.redis.vl.schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precomputed lookup of the fields of an {@link IndexSchema}.
+ *
+ * <p>Besides exact names, a field can be resolved by its JSONPath twin ({@code title} for a field
+ * named {@code $.title} and vice versa) and by its alias. Exact names always win over JSONPath
+ * twins, which win over aliases. All lookups are single hash map reads, so the lookup can be used
+ * on per-document hot paths.
+ *
+ * <p>A new instance is built whenever the schema's fields change; callers that hold on to an
+ * instance see a consistent snapshot.
+ */
+public final class FieldLookup {
+
+  private static final String JSON_PATH_PREFIX = "$.";
+
+  private final List<BaseField> fields;
+  private final List<VectorField> vectorFields;
+  private final Map<String, BaseField> byName;
+  private final Map<String, BaseField> byReference;
+
+  FieldLookup(List<BaseField> fields) {
+    this.fields = List.copyOf(fields);
+    Map<String, BaseField> names = new HashMap<>();
+    Map<String, BaseField> references = new HashMap<>();
+    for (BaseField field : this.fields) {
+      names.put(field.getName(), field);
+    }
+    // Lowest precedence first, so later puts override earlier ones
+    for (BaseField field : this.fields) {
+      if (field.getAlias() != null && !field.getAlias().isEmpty()) {
+        references.put(field.getAlias(), field);
+      }
+    }
+    for (BaseField field : this.fields) {
+      references.put(jsonPathTwin(field.getName()), field);
+    }
+    references.putAll(names);
+
+    this.byName = Collections.unmodifiableMap(names);
+    this.byReference = Collections.unmodifiableMap(references);
+    this.vectorFields =
+        this.fields.stream()
+            .filter(VectorField.class::isInstance)
+            .map(VectorField.class::cast)
+            .toList();
+  }
+
+  /**
+   * Get a field by its exact name.
+   *
+   * @param name The field name
+   * @return The field, or null if there is none
+   */
+  public BaseField get(String name) {
+    return name != null ? byName.get(name) : null;
+  }
+
+  /**
+   * Resolve a field by name, JSONPath twin or alias.
+   *
+   * @param reference A field name, JSONPath or alias
+   * @return The field, or null if there is none
+   */
+  public BaseField resolve(String reference) {
+    return reference != null ? byReference.get(reference) : null;
+  }
+
+  /**
+   * Resolve a vector field by name, JSONPath twin or alias.
+   *
+   * @param reference A field name, JSONPath or alias
+   * @return The vector field, or null if the reference does not resolve to a vector field
+   */
+  public VectorField resolveVector(String reference) {
+    return resolve(reference) instanceof VectorField vectorField ? vectorField : null;
+  }
+
+  /**
+   * Get all fields in schema order.
+   *
+   * @return Unmodifiable list of fields
+   */
+  public List<BaseField> fields() {
+    return fields;
+  }
+
+  /**
+   * Get all vector fields in schema order.
+   *
+   * @return Unmodifiable list of vector fields
+   */
+  public List<VectorField> vectorFields() {
+    return vectorFields;
+  }
+
+  private static String jsonPathTwin(String name) {
+    return name.startsWith(JSON_PATH_PREFIX)
+        ? name.substring(JSON_PATH_PREFIX.length())
+        : JSON_PATH_PREFIX + name;
+  }
+}
@@ -25,8 +25,8 @@ public final class IndexSchema {
   /** List of fields in the schema */
   @JsonIgnore private final List<BaseField> fields;
 
-  /** Map of field names to fields for quick lookup */
-  @JsonIgnore private final Map<String, BaseField> fieldMap;
+  /** Precomputed field lookup, rebuilt whenever the fields change */
+  @JsonIgnore private volatile FieldLookup fieldLookup;
 
   /** Private constructor for builder */
   private IndexSchema(String name, String prefix, StorageType storageType, List<BaseField> fields) {
@@ -34,7 +34,7 @@ public final class IndexSchema {
       // Create minimal valid state before throwing exception
       this.index = new Index();
       this.fields = new ArrayList<>();
-      this.fieldMap = new HashMap<>();
+      this.fieldLookup = new FieldLookup(this.fields);
       throw new IllegalArgumentException("Index name is required");
     }
     this.index = new Index(name.trim());
@@ -45,10 +45,7 @@ public final class IndexSchema {
       this.index.setStorageType(storageType);
     }
     this.fields = fields != null ? new ArrayList<>(fields) : new ArrayList<>();
-    this.fieldMap = new HashMap<>();
-    for (BaseField field : this.fields) {
-      this.fieldMap.put(field.getName(), field);
-    }
+    this.fieldLookup = new FieldLookup(this.fields);
   }
 
   /**
@@ -354,6 +351,15 @@ public final class IndexSchema {
     return index.getStorageType();
   }
 
+  /**
+   * Get the key separator
+   *
+   * @return the separator between the key prefix and the document id
+   */
+  public String getKeySeparator() {
+    return index.getKeySeparator();
+  }
+
   /**
    * Get a copy of the fields list
    *
@@ -370,7 +376,29 @@ public final class IndexSchema {
    * @return the field with the given name, or null if not found
    */
   public BaseField getField(String name) {
-    return fieldMap.get(name);
+    return fieldLookup.get(name);
+  }
+
+  /**
+   * Resolve a field by name, JSONPath twin ({@code title} for {@code $.title} and vice versa) or
+   * alias
+   *
+   * @param reference a field name, JSONPath or alias
+   * @return the matching field, or null if not found
+   */
+  public BaseField resolveField(String reference) {
+    return fieldLookup.resolve(reference);
+  }
+
+  /**
+   * Get the precomputed field lookup. The returned lookup is an immutable snapshot and is replaced
+   * when fields are added or removed.
+   *
+   * @return the field lookup for the current fields
+   */
+  @JsonIgnore
+  public FieldLookup getFieldLookup() {
+    return fieldLookup;
   }
 
   /**
@@ -380,7 +408,7 @@ public final class IndexSchema {
    * @return true if a field with the given name exists, false otherwise
    */
   public boolean hasField(String name) {
-    return fieldMap.containsKey(name);
+    return fieldLookup.get(name) != null;
   }
 
   /**
@@ -404,9 +432,9 @@ public final class IndexSchema {
     if (name == null || name.trim().isEmpty()) {
       throw new IllegalArgumentException("Field name is required");
     }
-    BaseField removed = fieldMap.remove(name);
-    if (removed != null) {
+    if (fieldLookup.get(name) != null) {
       fields.removeIf(field -> field.getName().equals(name));
+      fieldLookup = new FieldLookup(fields);
     }
   }
 
@@ -419,11 +447,11 @@ public final class IndexSchema {
     if (field == null) {
       throw new IllegalArgumentException("Field cannot be null");
     }
-    if (fieldMap.containsKey(field.getName())) {
+    if (fieldLookup.get(field.getName()) != null) {
       throw new IllegalArgumentException("Field '" + field.getName() + "' already exists");
     }
     fields.add(field);
-    fieldMap.put(field.getName(), field);
+    fieldLookup = new FieldLookup(fields);
   }
 
   /**
@@ -440,16 +468,14 @@ public final class IndexSchema {
     // First parse all fields to ensure they're valid
     for (Map<String, Object> fieldData : fieldsData) {
       BaseField field = parseField(fieldData, this.index.getStorageType());
-      if (fieldMap.containsKey(field.getName())) {
+      if (fieldLookup.get(field.getName()) != null) {
         throw new IllegalArgumentException("Field '" + field.getName() + "' already exists");
       }
       newFields.add(field);
     }
     // If all fields are valid, add them
-    for (BaseField field : newFields) {
-      fields.add(field);
-      fieldMap.put(field.getName(), field);
-    }
+    fields.addAll(newFields);
+    fieldLookup = new FieldLookup(fields);
   }
 
   /**
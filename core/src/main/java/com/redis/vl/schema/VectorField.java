@@ -1,6 +1,8 @@
 package com.redis.vl.schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.redis.vl.utils.VectorCodec;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
@@ -217,6 +219,16 @@ public class VectorField extends BaseField {
     return distanceMetric;
   }
 
+  /**
+   * Get the codec used to encode and decode vectors for this field's data type.
+   *
+   * @return Vector codec matching {@link #getDataType()}
+   */
+  @JsonIgnore
+  public VectorCodec getCodec() {
+    return VectorCodec.forDataType(dataType);
+  }
+
   @Override
   public FieldType getFieldType() {
     return FieldType.VECTOR;
@@ -1,6 +1,7 @@
 package com.redis.vl.storage;
 
 import com.github.f4b6a3.ulid.UlidCreator;
+import com.redis.vl.schema.BaseField;
 import com.redis.vl.schema.IndexSchema;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.*;
@@ -117,8 +118,7 @@ public abstract class BaseStorage {
       keyValue = obj.get(idField).toString();
     }
 
-    return createKey(
-        keyValue, indexSchema.getIndex().getPrefix(), indexSchema.getIndex().getKeySeparator());
+    return createKey(keyValue, indexSchema.getPrefix(), indexSchema.getKeySeparator());
   }
 
   /**
@@ -157,7 +157,7 @@ public abstract class BaseStorage {
    * @return Validated object
    */
   protected Map<String, Object> validate(Map<String, Object> obj) {
-    if (indexSchema == null || indexSchema.getFields() == null) {
+    if (indexSchema == null) {
       return obj;
     }
 
@@ -167,11 +167,7 @@ public abstract class BaseStorage {
       Object value = entry.getValue();
 
       // Find the field definition in the schema
-      com.redis.vl.schema.BaseField field =
-          indexSchema.getFields().stream()
-              .filter(f -> f.getName().equals(fieldName))
-              .findFirst()
-              .orElse(null);
+      BaseField field = findField(fieldName);
 
       if (field != null && value != null) {
         com.redis.vl.schema.FieldType fieldType = field.getFieldType();
@@ -453,37 +449,107 @@ public abstract class BaseStorage {
    */
   public List<Map<String, Object>> get(
       UnifiedJedis redisClient, Collection<String> keys, Integer batchSize) {
+    return get(redisClient, keys, batchSize, null);
+  }
+
+  /**
+   * Retrieve objects from Redis by keys, returning only the requested fields. Keys that do not
+   * exist are skipped.
+   *
+   * @param redisClient Synchronous Redis client
+   * @param keys Keys to retrieve from Redis
+   * @param batchSize Number of objects to retrieve in a single Redis pipeline execution (null for
+   *     the default batch size)
+   * @param fields Fields to return, or null for all fields
+   * @return List of objects pulled from redis
+   */
+  public List<Map<String, Object>> get(
+      UnifiedJedis redisClient,
+      Collection<String> keys,
+      Integer batchSize,
+      Collection<String> fields) {
     List<Map<String, Object>> results = new ArrayList<>();
 
     if (keys == null || keys.isEmpty()) {
       return results;
     }
 
-    // TODO: Implement batching for large key sets
-    // Currently not using batchSize parameter
+    if (fields != null && fields.isEmpty()) {
+      throw new IllegalArgumentException("At least one field must be requested");
+    }
 
-    // Use a pipeline to batch the retrieval
-    List<Response<Map<String, Object>>> responses = new ArrayList<>();
+    int size = resolveBatchSize(batchSize);
+    List<Response<Map<String, Object>>> responses = new ArrayList<>(Math.min(size, keys.size()));
 
     try (AbstractPipeline pipeline = redisClient.pipelined()) {
       for (String key : keys) {
-        Response<Map<String, Object>> response = getResponse(pipeline, key);
-        responses.add(response);
+        responses.add(getResponse(pipeline, key));
+
+        // Execute in batches
+        if (responses.size() == size) {
+          pipeline.sync();
+          collectResponses(responses, fields, results);
+        }
       }
 
-      // Execute all commands
-      pipeline.sync();
+      // Execute any remaining commands
+      if (!responses.isEmpty()) {
+        pipeline.sync();
+        collectResponses(responses, fields, results);
+      }
     }
 
-    // Process results
+    return results;
+  }
+
+  private void collectResponses(
+      List<Response<Map<String, Object>>> responses,
+      Collection<String> fields,
+      List<Map<String, Object>> results) {
     for (Response<Map<String, Object>> response : responses) {
       Map<String, Object> map = response.get();
       if (map != null) {
-        results.add(convertBytes(map));
+        results.add(project(convertBytes(map), fields));
       }
     }
+    responses.clear();
+  }
 
-    return results;
+  /**
+   * Resolve the pipeline batch size for a bulk operation.
+   *
+   * @param batchSize Requested batch size, or null for the default
+   * @return The batch size to use
+   */
+  protected int resolveBatchSize(Integer batchSize) {
+    if (batchSize == null) {
+      return defaultBatchSize;
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    return batchSize;
+  }
+
+  /**
+   * Keep only the requested fields of an object.
+   *
+   * @param obj The object
+   * @param fields Fields to keep, or null to keep all
+   * @return The projected object
+   */
+  protected static Map<String, Object> project(Map<String, Object> obj, Collection<String> fields) {
+    if (fields == null) {
+      return obj;
+    }
+    Map<String, Object> projected = new HashMap<>();
+    for (String field : fields) {
+      Object value = obj.get(field);
+      if (value != null) {
+        projected.put(field, value);
+      }
+    }
+    return projected;
   }
 
   /**
@@ -513,6 +579,19 @@ public abstract class BaseStorage {
     return result;
   }
 
+  /**
+   * Find the schema field for a document key.
+   *
+   * <p>Uses the schema's precomputed {@link com.redis.vl.schema.FieldLookup}, so the cost does not
+   * depend on the number of fields in the schema. HASH documents must use exact field names.
+   *
+   * @param fieldName The document key
+   * @return The field, or null if the key is not part of the schema
+   */
+  protected BaseField findField(String fieldName) {
+    return indexSchema != null ? indexSchema.getFieldLookup().get(fieldName) : null;
+  }
+
   // Abstract methods to be implemented by subclasses
   /**
    * Set a key-value pair in Redis using a pipeline.
@@ -0,0 +1,181 @@
+package com.redis.vl.storage;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.BaseField;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.VectorField;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads delimited files with a header record, following RFC 4180 quoting (quoted cells may contain
+ * delimiters, doubled quotes and line breaks). Empty cells are omitted from the document.
+ */
+final class CsvDocumentReader implements DocumentReader {
+
+  private final Path path;
+  private final BufferedReader reader;
+  private final char delimiter;
+  private final String[] columns;
+  private final BaseField[] columnFields;
+  private final StringBuilder cell = new StringBuilder();
+  private long record;
+  private Map<String, Object> next;
+  private boolean done;
+
+  CsvDocumentReader(Path path, IndexSchema schema, char delimiter) {
+    this.path = path;
+    this.delimiter = delimiter;
+    try {
+      this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to open CSV file: " + path, e);
+    }
+
+    List<String> header = readRecord();
+    if (header == null) {
+      close();
+      throw new RedisVLException("CSV file has no header: " + path);
+    }
+    // Strip a UTF-8 byte order mark from the first column name
+    if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+      header.set(0, header.get(0).substring(1));
+    }
+    DocumentFieldMapper fields = new DocumentFieldMapper(schema);
+    this.columns = header.stream().map(String::trim).toArray(String[]::new);
+    this.columnFields = new BaseField[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      columnFields[i] = fields.resolve(columns[i]);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      next = readDocument();
+      done = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public Map<String, Object> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Map<String, Object> document = next;
+    next = null;
+    return document;
+  }
+
+  private Map<String, Object> readDocument() {
+    List<String> cells = readRecord();
+    // Skip blank lines
+    while (cells != null && cells.size() == 1 && cells.get(0).isEmpty()) {
+      cells = readRecord();
+    }
+    if (cells == null) {
+      return null;
+    }
+    if (cells.size() > columns.length) {
+      throw new RedisVLException(
+          String.format(
+              "CSV record %d in %s has %d columns but the header has %d",
+              record, path, cells.size(), columns.length));
+    }
+
+    Map<String, Object> document = new LinkedHashMap<>();
+    for (int i = 0; i < cells.size(); i++) {
+      String value = cells.get(i);
+      if (value.isEmpty()) {
+        continue;
+      }
+      BaseField field = columnFields[i];
+      try {
+        if (field instanceof VectorField vectorField) {
+          document.put(columns[i], DocumentFieldMapper.parseVector(value, vectorField));
+        } else {
+          document.put(columns[i], DocumentFieldMapper.convert(field, value));
+        }
+      } catch (NumberFormatException e) {
+        throw new RedisVLException(
+            String.format(
+                "Invalid value for column '%s' in CSV record %d of %s: %s",
+                columns[i], record, path, e.getMessage()),
+            e);
+      }
+    }
+    return document;
+  }
+
+  /** Read one record, or return null at end of file. */
+  private List<String> readRecord() {
+    try {
+      int c = reader.read();
+      if (c == -1) {
+        return null;
+      }
+      record++;
+      List<String> cells = new ArrayList<>();
+      cell.setLength(0);
+      boolean quoted = false;
+      while (true) {
+        if (quoted) {
+          if (c == -1) {
+            throw new RedisVLException(
+                String.format("Unterminated quoted cell in CSV record %d of %s", record, path));
+          }
+          if (c == '"') {
+            reader.mark(1);
+            int peek = reader.read();
+            if (peek == '"') {
+              cell.append('"');
+            } else {
+              quoted = false;
+              reader.reset();
+            }
+          } else {
+            cell.append((char) c);
+          }
+        } else if (c == -1 || c == '\n') {
+          break;
+        } else if (c == '\r') {
+          reader.mark(1);
+          if (reader.read() != '\n') {
+            reader.reset();
+          }
+          break;
+        } else if (c == delimiter) {
+          cells.add(cell.toString());
+          cell.setLength(0);
+        } else if (c == '"' && cell.length() == 0) {
+          quoted = true;
+        } else {
+          cell.append((char) c);
+        }
+        c = reader.read();
+      }
+      cells.add(cell.toString());
+      return cells;
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to read CSV file: " + path, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to close CSV file: " + path, e);
+    }
+  }
+}
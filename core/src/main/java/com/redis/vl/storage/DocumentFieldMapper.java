@@ -0,0 +1,99 @@
+package com.redis.vl.storage;
+
+import com.redis.vl.schema.BaseField;
+import com.redis.vl.schema.FieldLookup;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.VectorField;
+import java.util.Arrays;
+
+/** Maps file columns to schema fields and converts column values for {@link DocumentReader}s. */
+final class DocumentFieldMapper {
+
+  private final FieldLookup lookup;
+
+  DocumentFieldMapper(IndexSchema schema) {
+    this.lookup = schema != null ? schema.getFieldLookup() : null;
+  }
+
+  /**
+   * Find the schema field for a column by name, JSONPath or alias.
+   *
+   * @param column The column name
+   * @return The matching field, or null if the column is not part of the schema
+   */
+  BaseField resolve(String column) {
+    return lookup != null ? lookup.resolve(column) : null;
+  }
+
+  /**
+   * Convert a scalar value read from a file to the type expected by the field.
+   *
+   * @param field The target field, or null for columns outside the schema
+   * @param value The value as read
+   * @return The converted value
+   */
+  static Object convert(BaseField field, Object value) {
+    if (field == null || value == null) {
+      return value;
+    }
+    return switch (field.getFieldType()) {
+      case NUMERIC -> value instanceof String text ? parseNumber(text) : value;
+      case TEXT, TAG, GEO -> value instanceof String ? value : value.toString();
+      case VECTOR -> value;
+    };
+  }
+
+  /**
+   * Parse a number, keeping integral values as {@code Long}.
+   *
+   * @param text The text to parse
+   * @return The parsed number
+   * @throws NumberFormatException if the text is not a number
+   */
+  static Number parseNumber(String text) {
+    String trimmed = text.trim();
+    for (int i = 0; i < trimmed.length(); i++) {
+      char c = trimmed.charAt(i);
+      if (c == '.' || c == 'e' || c == 'E' || c == 'n' || c == 'N' || c == 'i' || c == 'I') {
+        return Double.parseDouble(trimmed);
+      }
+    }
+    return Long.parseLong(trimmed);
+  }
+
+  /**
+   * Parse a vector written as numbers separated by commas, semicolons or whitespace, optionally
+   * wrapped in brackets, straight into a float array.
+   *
+   * @param text The text to parse
+   * @param field The vector field, used to size the buffer
+   * @return The parsed vector
+   * @throws NumberFormatException if an element is not a number
+   */
+  static float[] parseVector(String text, VectorField field) {
+    float[] vector = new float[Math.max(field.getDimensions(), 1)];
+    int count = 0;
+    int length = text.length();
+    int i = 0;
+    while (i < length) {
+      char c = text.charAt(i);
+      if (isVectorSeparator(c)) {
+        i++;
+        continue;
+      }
+      int start = i;
+      while (i < length && !isVectorSeparator(text.charAt(i))) {
+        i++;
+      }
+      if (count == vector.length) {
+        vector = Arrays.copyOf(vector, vector.length * 2);
+      }
+      vector[count++] = Float.parseFloat(text.substring(start, i));
+    }
+    return count == vector.length ? vector : Arrays.copyOf(vector, count);
+  }
+
+  private static boolean isVectorSeparator(char c) {
+    return c == ',' || c == ';' || c == '[' || c == ']' || Character.isWhitespace(c);
+  }
+}
@@ -0,0 +1,80 @@
+package com.redis.vl.storage;
+
+import com.redis.vl.schema.IndexSchema;
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Incremental reader that turns a file into documents one at a time, so a corpus can be loaded
+ * without materializing it as a {@code List<Map<String, Object>>}.
+ *
+ * <p>Columns are mapped to schema fields by name, by JSONPath ({@code $.name}) or by alias. Values
+ * of vector fields are parsed straight into {@code float[]} (or passed through as encoded bytes
+ * when the file already uses the field's data type), numeric fields into numbers and text, tag and
+ * geo fields into strings. Columns that do not match a schema field are kept as read.
+ *
+ * <p>Readers are not thread-safe. Read errors are reported as {@link
+ * com.redis.vl.exceptions.RedisVLException} from {@link #hasNext()} or {@link #next()}.
+ */
+public interface DocumentReader extends Iterator<Map<String, Object>>, Closeable {
+
+  /** Close the underlying file. */
+  @Override
+  void close();
+
+  /**
+   * Open a JSON Lines file: one JSON object per line.
+   *
+   * @param path The file to read
+   * @param schema The schema used to map properties to fields
+   * @return A reader over the file's documents
+   */
+  static DocumentReader jsonl(Path path, IndexSchema schema) {
+    return new JsonlDocumentReader(path, schema);
+  }
+
+  /**
+   * Open a comma-separated file whose first record is a header naming the columns.
+   *
+   * <p>Vector cells hold the elements separated by commas, semicolons or whitespace, optionally
+   * wrapped in brackets (e.g. {@code "[0.1, 0.2, 0.3]"}).
+   *
+   * @param path The file to read
+   * @param schema The schema used to map columns to fields
+   * @return A reader over the file's documents
+   */
+  static DocumentReader csv(Path path, IndexSchema schema) {
+    return csv(path, schema, ',');
+  }
+
+  /**
+   * Open a delimited file whose first record is a header naming the columns.
+   *
+   * @param path The file to read
+   * @param schema The schema used to map columns to fields
+   * @param delimiter The column delimiter (e.g. {@code '\t'} for TSV)
+   * @return A reader over the file's documents
+   */
+  static DocumentReader csv(Path path, IndexSchema schema, char delimiter) {
+    return new CsvDocumentReader(path, schema, delimiter);
+  }
+
+  /**
+   * Open a NumPy {@code .npy} file holding a two-dimensional array of vectors, one per row.
+   *
+   * <p>Supported element types are float16, float32, float64, int8 and uint8 in little-endian C
+   * order. Each row becomes a document containing the vector and, if {@code rowIdField} is set,
+   * the zero-based row number.
+   *
+   * @param path The file to read
+   * @param schema The schema containing the vector field
+   * @param vectorField Name of the vector field the rows are loaded into
+   * @param rowIdField Field that receives the row number, or null to omit it
+   * @return A reader over the file's rows
+   */
+  static DocumentReader npy(Path path, IndexSchema schema, String vectorField, String rowIdField) {
+    return new NpyDocumentReader(path, schema, vectorField, rowIdField);
+  }
+}
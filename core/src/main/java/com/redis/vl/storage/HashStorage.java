@@ -3,14 +3,15 @@ package com.redis.vl.storage;
 import com.redis.vl.schema.BaseField;
 import com.redis.vl.schema.IndexSchema;
 import com.redis.vl.schema.VectorField;
-import com.redis.vl.utils.ArrayUtils;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import redis.clients.jedis.AbstractPipeline;
 import redis.clients.jedis.Response;
+import redis.clients.jedis.UnifiedJedis;
 
 /**
  * Internal subclass of BaseStorage for the Redis hash data type.
@@ -43,17 +44,9 @@ public class HashStorage extends BaseStorage {
 
       // Check if this is a vector field
       BaseField field = findField(fieldName);
-      if (field instanceof VectorField) {
-        // Store vectors as binary data
-        byte[] vectorBytes = null;
-        if (value instanceof byte[]) {
-          vectorBytes = (byte[]) value;
-        } else if (value instanceof float[]) {
-          vectorBytes = ArrayUtils.floatArrayToBytes((float[]) value);
-        } else if (value instanceof double[]) {
-          float[] floats = ArrayUtils.doubleArrayToFloats((double[]) value);
-          vectorBytes = ArrayUtils.floatArrayToBytes(floats);
-        }
+      if (field instanceof VectorField vectorField) {
+        // Store vectors as binary data encoded for the field's data type
+        byte[] vectorBytes = vectorField.getCodec().toBytes(value);
         if (vectorBytes != null) {
           binaryFields.put(fieldName.getBytes(StandardCharsets.UTF_8), vectorBytes);
         }
@@ -82,105 +75,132 @@ public class HashStorage extends BaseStorage {
     return (Response<Map<String, Object>>) (Response<?>) response;
   }
 
-  // Override the get method to handle binary vector fields
+  /**
+   * Retrieve hashes with one binary-safe command per key: {@code HGETALL} for whole documents or
+   * {@code HMGET} when fields are projected. Vector fields are returned as raw bytes and all other
+   * fields are decoded as UTF-8 strings.
+   */
   @Override
   public List<Map<String, Object>> get(
-      redis.clients.jedis.UnifiedJedis redisClient,
-      java.util.Collection<String> keys,
-      Integer batchSize) {
+      UnifiedJedis redisClient,
+      Collection<String> keys,
+      Integer batchSize,
+      Collection<String> fields) {
     List<Map<String, Object>> results = new ArrayList<>();
 
     if (keys == null || keys.isEmpty()) {
       return results;
     }
 
-    // TODO: Implement batching for large key sets
-    // Currently not using batchSize parameter
+    if (fields != null && fields.isEmpty()) {
+      throw new IllegalArgumentException("At least one field must be requested");
+    }
 
-    // Use a pipeline to batch the retrieval
-    List<Response<Map<String, String>>> stringResponses = new ArrayList<>();
-    Map<String, List<Response<byte[]>>> vectorResponses = new HashMap<>();
+    int size = resolveBatchSize(batchSize);
+    List<String> projection = fields != null ? List.copyOf(fields) : null;
+    byte[][] projectionBytes = projection != null ? toBytes(projection) : null;
+    List<Response<Map<byte[], byte[]>>> hashResponses = new ArrayList<>();
+    List<Response<List<byte[]>>> fieldResponses = new ArrayList<>();
 
     try (AbstractPipeline pipeline = redisClient.pipelined()) {
-      // Get all string fields and identify vector fields
+      int pending = 0;
       for (String key : keys) {
-        Response<Map<String, String>> response = pipeline.hgetAll(key);
-        stringResponses.add(response);
-
-        // For each vector field, get the binary data
-        if (indexSchema != null && indexSchema.getFields() != null) {
-          List<Response<byte[]>> keyVectorResponses = new ArrayList<>();
-          for (BaseField field : indexSchema.getFields()) {
-            if (field instanceof VectorField) {
-              Response<byte[]> vectorResponse =
-                  pipeline.hget(
-                      key.getBytes(java.nio.charset.StandardCharsets.UTF_8),
-                      field.getName().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-              keyVectorResponses.add(vectorResponse);
-            }
-          }
-          if (!keyVectorResponses.isEmpty()) {
-            vectorResponses.put(key, keyVectorResponses);
-          }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (projectionBytes == null) {
+          hashResponses.add(pipeline.hgetAll(keyBytes));
+        } else {
+          fieldResponses.add(pipeline.hmget(keyBytes, projectionBytes));
+        }
+
+        // Execute in batches
+        if (++pending == size) {
+          pipeline.sync();
+          collectHashes(hashResponses, results);
+          collectFields(fieldResponses, projection, results);
+          pending = 0;
         }
       }
 
-      // Execute all commands
-      pipeline.sync();
+      // Execute any remaining commands
+      if (pending > 0) {
+        pipeline.sync();
+        collectHashes(hashResponses, results);
+        collectFields(fieldResponses, projection, results);
+      }
     }
 
-    // Process results
-    int keyIndex = 0;
-    for (String key : keys) {
-      Map<String, String> stringMap = stringResponses.get(keyIndex).get();
-      if (stringMap != null && !stringMap.isEmpty()) {
-        Map<String, Object> result = new HashMap<>();
-
-        // Add all non-vector fields
-        for (Map.Entry<String, String> entry : stringMap.entrySet()) {
-          String fieldName = entry.getKey();
-          BaseField field = findField(fieldName);
-          if (!(field instanceof VectorField)) {
-            result.put(fieldName, entry.getValue());
-          }
-        }
+    return results;
+  }
 
-        // Add vector fields from binary responses
-        if (vectorResponses.containsKey(key)) {
-          int vectorFieldIndex = 0;
-          for (BaseField field : indexSchema.getFields()) {
-            if (field instanceof VectorField) {
-              byte[] vectorBytes = vectorResponses.get(key).get(vectorFieldIndex).get();
-              if (vectorBytes != null) {
-                result.put(field.getName(), vectorBytes);
-              }
-              vectorFieldIndex++;
-            }
-          }
-        }
+  private void collectHashes(
+      List<Response<Map<byte[], byte[]>>> responses, List<Map<String, Object>> results) {
+    for (Response<Map<byte[], byte[]>> response : responses) {
+      Map<String, Object> result = decode(response.get());
+      if (result != null) {
+        results.add(result);
+      }
+    }
+    responses.clear();
+  }
+
+  /**
+   * Decode a binary {@code HGETALL} reply. Vector fields are kept as raw bytes and all other fields
+   * are decoded as UTF-8 strings.
+   *
+   * @param hash The reply
+   * @return The decoded document, or null if the hash is empty or missing
+   */
+  public Map<String, Object> decode(Map<byte[], byte[]> hash) {
+    if (hash == null || hash.isEmpty()) {
+      return null;
+    }
+    Map<String, Object> result = new HashMap<>(hash.size() * 2);
+    for (Map.Entry<byte[], byte[]> entry : hash.entrySet()) {
+      String fieldName = new String(entry.getKey(), StandardCharsets.UTF_8);
+      result.put(fieldName, decodeValue(fieldName, entry.getValue()));
+    }
+    return result;
+  }
 
+  private void collectFields(
+      List<Response<List<byte[]>>> responses,
+      List<String> projection,
+      List<Map<String, Object>> results) {
+    for (Response<List<byte[]>> response : responses) {
+      List<byte[]> values = response.get();
+      Map<String, Object> result = new HashMap<>();
+      for (int i = 0; i < projection.size(); i++) {
+        byte[] value = values.get(i);
+        if (value != null) {
+          String fieldName = projection.get(i);
+          result.put(fieldName, decodeValue(fieldName, value));
+        }
+      }
+      // HMGET cannot tell a missing key from missing fields; skip keys without any of the fields
+      if (!result.isEmpty()) {
         results.add(result);
       }
-      keyIndex++;
     }
+    responses.clear();
+  }
 
-    return results;
+  private Object decodeValue(String fieldName, byte[] value) {
+    return findField(fieldName) instanceof VectorField
+        ? value
+        : new String(value, StandardCharsets.UTF_8);
+  }
+
+  private static byte[][] toBytes(List<String> fields) {
+    byte[][] bytes = new byte[fields.size()][];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = fields.get(i).getBytes(StandardCharsets.UTF_8);
+    }
+    return bytes;
   }
 
   @Override
   protected Map<String, Object> convertBytes(Map<String, Object> map) {
-    // This method is not used anymore since we override the get method
-    // But keep it for compatibility
+    // Not used: get() decodes binary responses itself
     return map;
   }
-
-  private BaseField findField(String fieldName) {
-    if (indexSchema == null || indexSchema.getFields() == null) {
-      return null;
-    }
-    return indexSchema.getFields().stream()
-        .filter(f -> f.getName().equals(fieldName))
-        .findFirst()
-        .orElse(null);
-  }
 }
@@ -3,7 +3,8 @@ package com.redis.vl.storage;
 import com.redis.vl.schema.BaseField;
 import com.redis.vl.schema.IndexSchema;
 import com.redis.vl.schema.VectorField;
-import java.util.ArrayList;
+import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.JsonVector;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,34 +43,22 @@ public class JsonStorage extends BaseStorage {
 
       // Check if this is a vector field
       BaseField field = findField(fieldName);
-      if (field instanceof VectorField) {
-        // Convert to List<Float> for proper JSON serialization
-        List<Float> floatList = null;
+      if (field instanceof VectorField vectorField) {
+        // Write vectors as JSON arrays straight from a float[], without boxing elements
+        float[] floats = null;
         if (value instanceof float[] floatArray) {
-          floatList = new ArrayList<>();
-          for (float f : floatArray) {
-            floatList.add(f);
-          }
+          floats = floatArray;
         } else if (value instanceof byte[] bytes) {
-          // Convert byte array to float array first
-          floatList = bytesToFloatList(bytes);
+          // Decode the byte array using the field's data type
+          floats = vectorField.getCodec().decode(bytes);
         } else if (value instanceof double[] doubleArray) {
-          floatList = new ArrayList<>();
-          for (double d : doubleArray) {
-            floatList.add((float) d);
-          }
-        } else if (value instanceof List) {
-          // Already a list, just ensure it's Float
-          @SuppressWarnings("unchecked")
-          List<Number> numberList = (List<Number>) value;
-          floatList = new ArrayList<>();
-          for (Number n : numberList) {
-            floatList.add(n.floatValue());
-          }
+          floats = ArrayUtils.doubleArrayToFloats(doubleArray);
+        } else if (value instanceof List<?> list) {
+          floats = ArrayUtils.numberListToFloats(list);
         }
 
-        if (floatList != null) {
-          jsonDocument.put(fieldName, floatList);
+        if (floats != null) {
+          jsonDocument.put(fieldName, JsonVector.of(floats));
         }
       } else {
         // Store other fields as-is
@@ -109,27 +98,9 @@ public class JsonStorage extends BaseStorage {
     return map;
   }
 
-  private BaseField findField(String fieldName) {
-    if (indexSchema == null || indexSchema.getFields() == null) {
-      return null;
-    }
-    return indexSchema.getFields().stream()
-        .filter(f -> f.getName().equals(fieldName))
-        .findFirst()
-        .orElse(null);
-  }
-
-  private List<Float> bytesToFloatList(byte[] bytes) {
-    List<Float> floats = new ArrayList<>();
-    // Assuming 4 bytes per float, little-endian
-    for (int i = 0; i < bytes.length; i += 4) {
-      int intBits =
-          (bytes[i] & 0xFF)
-              | ((bytes[i + 1] & 0xFF) << 8)
-              | ((bytes[i + 2] & 0xFF) << 16)
-              | ((bytes[i + 3] & 0xFF) << 24);
-      floats.add(Float.intBitsToFloat(intBits));
-    }
-    return floats;
+  /** JSON documents may use plain keys for fields named by JSONPath, or field aliases. */
+  @Override
+  protected BaseField findField(String fieldName) {
+    return indexSchema != null ? indexSchema.getFieldLookup().resolve(fieldName) : null;
   }
 }
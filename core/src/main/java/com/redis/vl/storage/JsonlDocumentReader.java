@@ -0,0 +1,124 @@
+package com.redis.vl.storage;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.BaseField;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.VectorField;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads JSON Lines files with a single streaming parser, parsing vector arrays directly into float
+ * arrays instead of boxed lists.
+ */
+final class JsonlDocumentReader implements DocumentReader {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Path path;
+  private final JsonParser parser;
+  private final DocumentFieldMapper fields;
+  private float[] scratch = new float[0];
+  private Map<String, Object> next;
+  private boolean done;
+
+  JsonlDocumentReader(Path path, IndexSchema schema) {
+    this.path = path;
+    this.fields = new DocumentFieldMapper(schema);
+    try {
+      this.parser =
+          MAPPER.getFactory().createParser(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to open JSONL file: " + path, e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      next = readDocument();
+      done = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public Map<String, Object> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Map<String, Object> document = next;
+    next = null;
+    return document;
+  }
+
+  private Map<String, Object> readDocument() {
+    try {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        return null;
+      }
+      if (token != JsonToken.START_OBJECT) {
+        throw new RedisVLException(
+            String.format(
+                "Expected a JSON object in %s at line %d but found %s",
+                path, parser.currentLocation().getLineNr(), token));
+      }
+
+      Map<String, Object> document = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        JsonToken valueToken = parser.nextToken();
+        BaseField field = fields.resolve(name);
+        Object value;
+        if (field instanceof VectorField vectorField && valueToken == JsonToken.START_ARRAY) {
+          value = readVector(vectorField);
+        } else {
+          value = DocumentFieldMapper.convert(field, parser.readValueAs(Object.class));
+        }
+        if (value != null) {
+          document.put(name, value);
+        }
+      }
+      return document;
+    } catch (IOException e) {
+      throw new RedisVLException(
+          String.format(
+              "Failed to read JSONL file %s at line %d: %s",
+              path, parser.currentLocation().getLineNr(), e.getMessage()),
+          e);
+    }
+  }
+
+  private float[] readVector(VectorField field) throws IOException {
+    if (scratch.length < field.getDimensions()) {
+      scratch = new float[field.getDimensions()];
+    }
+    int count = 0;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (count == scratch.length) {
+        scratch = Arrays.copyOf(scratch, Math.max(16, scratch.length * 2));
+      }
+      scratch[count++] = parser.getFloatValue();
+    }
+    return Arrays.copyOf(scratch, count);
+  }
+
+  @Override
+  public void close() {
+    try {
+      parser.close();
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to close JSONL file: " + path, e);
+    }
+  }
+}
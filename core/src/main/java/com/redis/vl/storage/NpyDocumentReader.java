@@ -0,0 +1,172 @@
+package com.redis.vl.storage;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.BaseField;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.utils.VectorCodec;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads two-dimensional NumPy {@code .npy} arrays row by row. When the file's element type matches
+ * the vector field's data type, rows are passed through as encoded bytes without any conversion;
+ * otherwise they are decoded into float arrays.
+ */
+final class NpyDocumentReader implements DocumentReader {
+
+  private static final byte[] MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+  private static final Pattern DESCR = Pattern.compile("'descr'\\s*:\\s*'([^']+)'");
+  private static final Pattern FORTRAN_ORDER =
+      Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+  private static final Pattern SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(([^)]*)\\)");
+
+  private final Path path;
+  private final DataInputStream input;
+  private final String vectorField;
+  private final String rowIdField;
+  private final BaseField rowIdSchemaField;
+  private final VectorCodec fileCodec;
+  private final boolean passThrough;
+  private final long rows;
+  private final int dimensions;
+  private long row;
+
+  NpyDocumentReader(Path path, IndexSchema schema, String vectorField, String rowIdField) {
+    DocumentFieldMapper fields = new DocumentFieldMapper(schema);
+    BaseField field = fields.resolve(vectorField);
+    if (!(field instanceof VectorField target)) {
+      throw new IllegalArgumentException("'" + vectorField + "' is not a vector field");
+    }
+    this.path = path;
+    this.vectorField = vectorField;
+    this.rowIdField = rowIdField;
+    this.rowIdSchemaField = rowIdField != null ? fields.resolve(rowIdField) : null;
+    try {
+      this.input =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16));
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to open NPY file: " + path, e);
+    }
+
+    try {
+      String header = readHeader();
+      this.fileCodec = codecForDescr(match(DESCR, header));
+      if ("True".equals(match(FORTRAN_ORDER, header))) {
+        throw new RedisVLException("Fortran-ordered NPY arrays are not supported: " + path);
+      }
+      String[] shape = match(SHAPE, header).split(",");
+      if (shape.length < 2 || shape[1].isBlank() || (shape.length > 2 && !shape[2].isBlank())) {
+        throw new RedisVLException("NPY file must hold a two-dimensional array: " + path);
+      }
+      this.rows = Long.parseLong(shape[0].trim());
+      this.dimensions = Integer.parseInt(shape[1].trim());
+    } catch (RuntimeException | IOException e) {
+      close();
+      throw e instanceof RedisVLException redisVLException
+          ? redisVLException
+          : new RedisVLException("Invalid NPY file " + path + ": " + e.getMessage(), e);
+    }
+
+    if (dimensions != target.getDimensions()) {
+      close();
+      throw new RedisVLException(
+          String.format(
+              "NPY file %s holds %d-dimensional vectors but field '%s' expects %d",
+              path, dimensions, vectorField, target.getDimensions()));
+    }
+    this.passThrough = fileCodec.getDataType() == target.getDataType();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return row < rows;
+  }
+
+  @Override
+  public Map<String, Object> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    byte[] bytes = new byte[dimensions * fileCodec.getBytesPerElement()];
+    try {
+      input.readFully(bytes);
+    } catch (IOException e) {
+      throw new RedisVLException(
+          String.format("Failed to read row %d of NPY file %s: %s", row, path, e.getMessage()), e);
+    }
+
+    Map<String, Object> document = new HashMap<>(4);
+    document.put(vectorField, passThrough ? bytes : fileCodec.decode(bytes));
+    if (rowIdField != null) {
+      document.put(rowIdField, DocumentFieldMapper.convert(rowIdSchemaField, row));
+    }
+    row++;
+    return document;
+  }
+
+  private String readHeader() throws IOException {
+    byte[] magic = new byte[MAGIC.length];
+    input.readFully(magic);
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new RedisVLException("Not an NPY file: " + path);
+    }
+    int major = input.readUnsignedByte();
+    input.readUnsignedByte(); // minor version
+    int headerLength;
+    if (major == 1) {
+      headerLength = input.readUnsignedByte() | (input.readUnsignedByte() << 8);
+    } else {
+      headerLength = Integer.reverseBytes(input.readInt());
+    }
+    byte[] header = new byte[headerLength];
+    input.readFully(header);
+    return new String(header, major >= 3 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+  }
+
+  private String match(Pattern pattern, String header) {
+    Matcher matcher = pattern.matcher(header);
+    if (!matcher.find()) {
+      throw new RedisVLException("Invalid NPY header in " + path + ": " + header.trim());
+    }
+    return matcher.group(1);
+  }
+
+  private VectorCodec codecForDescr(String descr) {
+    // '<' is little-endian, '|' means byte order does not apply and '=' is native byte order,
+    // which is little-endian on every platform Redis supports
+    char order = descr.charAt(0);
+    String type = "<>|=".indexOf(order) >= 0 ? descr.substring(1) : descr;
+    boolean singleByte = type.equals("i1") || type.equals("u1");
+    if (order == '>' && !singleByte) {
+      throw new RedisVLException("Big-endian NPY arrays are not supported: " + descr);
+    }
+    return switch (type) {
+      case "f2" -> VectorCodec.forDtype("float16");
+      case "f4" -> VectorCodec.forDtype("float32");
+      case "f8" -> VectorCodec.forDtype("float64");
+      case "i1" -> VectorCodec.forDtype("int8");
+      case "u1" -> VectorCodec.forDtype("uint8");
+      default -> throw new RedisVLException("Unsupported NPY element type: " + descr);
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      input.close();
+    } catch (IOException e) {
+      throw new RedisVLException("Failed to close NPY file: " + path, e);
+    }
+  }
+}
@@ -2,8 +2,15 @@ package com.redis.vl.utils;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.List;
 
-/** Utility class for array conversions. */
+/**
+ * Utility class for array conversions.
+ *
+ * <p>Float/byte conversions copy through bulk little-endian {@link java.nio.FloatBuffer} views
+ * rather than element by element, and have overloads that fill caller-supplied arrays so hot
+ * paths can reuse buffers.
+ */
 public class ArrayUtils {
 
   private ArrayUtils() {
@@ -20,12 +27,40 @@ public class ArrayUtils {
     if (floats == null) {
       return null;
     }
-    ByteBuffer buffer = ByteBuffer.allocate(floats.length * Float.BYTES);
-    buffer.order(ByteOrder.LITTLE_ENDIAN);
-    for (float f : floats) {
-      buffer.putFloat(f);
-    }
-    return buffer.array();
+    byte[] bytes = new byte[floats.length * Float.BYTES];
+    floatArrayToBytes(floats, bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Write a float array into a caller-supplied byte array using little-endian byte order.
+   *
+   * @param floats The float array to convert
+   * @param target The byte array to write to
+   * @param offset Offset in {@code target} at which to start writing
+   * @throws IndexOutOfBoundsException if {@code target} is too small
+   */
+  public static void floatArrayToBytes(float[] floats, byte[] target, int offset) {
+    StandardVectorCodec.FLOAT32.encode(floats, target, offset);
+  }
+
+  /**
+   * Write a float array into a caller-supplied buffer, such as a pooled direct buffer, at its
+   * current position using little-endian byte order. The buffer's position is advanced past the
+   * written bytes; its byte order is left unchanged.
+   *
+   * @param floats The float array to convert
+   * @param target The buffer to write to
+   * @throws java.nio.BufferOverflowException if {@code target} has too little space remaining
+   */
+  public static void floatArrayToBytes(float[] floats, ByteBuffer target) {
+    int length = floats.length * Float.BYTES;
+    target
+        .slice(target.position(), length)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .asFloatBuffer()
+        .put(floats);
+    target.position(target.position() + length);
   }
 
   /**
@@ -38,15 +73,23 @@ public class ArrayUtils {
     if (bytes == null) {
       return null;
     }
-    ByteBuffer buffer = ByteBuffer.wrap(bytes);
-    buffer.order(ByteOrder.LITTLE_ENDIAN);
     float[] floats = new float[bytes.length / Float.BYTES];
-    for (int i = 0; i < floats.length; i++) {
-      floats[i] = buffer.getFloat();
-    }
+    bytesToFloatArray(bytes, 0, floats);
     return floats;
   }
 
+  /**
+   * Read little-endian floats from a byte array into a caller-supplied float array.
+   *
+   * @param bytes The byte array to read
+   * @param offset Offset in {@code bytes} at which to start reading
+   * @param target The float array to fill; its length determines the number of floats read
+   * @throws IndexOutOfBoundsException if {@code bytes} is too small
+   */
+  public static void bytesToFloatArray(byte[] bytes, int offset, float[] target) {
+    StandardVectorCodec.FLOAT32.decode(bytes, offset, target);
+  }
+
   /**
    * Convert double array to float array.
    *
@@ -63,4 +106,22 @@ public class ArrayUtils {
     }
     return floats;
   }
+
+  /**
+   * Convert a list of numbers to a float array.
+   *
+   * @param numbers The numbers to convert
+   * @return The float array representation
+   * @throws ClassCastException if an element is not a {@link Number}
+   */
+  public static float[] numberListToFloats(List<?> numbers) {
+    if (numbers == null) {
+      return null;
+    }
+    float[] floats = new float[numbers.size()];
+    for (int i = 0; i < floats.length; i++) {
+      floats[i] = ((Number) numbers.get(i)).floatValue();
+    }
+    return floats;
+  }
 }
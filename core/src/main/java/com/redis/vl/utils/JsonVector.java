@@ -0,0 +1,97 @@
+package com.redis.vl.utils;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A float vector that serializes to a JSON array of numbers.
+ *
+ * <p>Documents sent with {@code JSON.SET} are serialized by the Jedis Gson mapper, which boxes
+ * every element of a {@code List<Float>} or {@code float[]}. Putting a {@code JsonVector} in the
+ * document instead writes the elements straight from the primitive array. The array is not
+ * copied, so it must not be modified until the document has been serialized.
+ */
+@JsonAdapter(JsonVector.Adapter.class)
+public final class JsonVector {
+
+  private final float[] values;
+
+  private JsonVector(float[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Wrap a float array.
+   *
+   * @param values The vector elements
+   * @return The JSON vector, or null if {@code values} is null
+   */
+  public static JsonVector of(float[] values) {
+    return values != null ? new JsonVector(values) : null;
+  }
+
+  /**
+   * Get the wrapped float array.
+   *
+   * @return The vector elements
+   */
+  public float[] toFloatArray() {
+    return values;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof JsonVector other && Arrays.equals(values, other.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  /** Gson adapter writing and reading the vector as a plain JSON array without boxing. */
+  static final class Adapter extends TypeAdapter<JsonVector> {
+
+    @Override
+    public void write(JsonWriter out, JsonVector vector) throws IOException {
+      if (vector == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginArray();
+      for (float value : vector.values) {
+        out.value(value);
+      }
+      out.endArray();
+    }
+
+    @Override
+    public JsonVector read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      float[] values = new float[16];
+      int size = 0;
+      in.beginArray();
+      while (in.hasNext()) {
+        if (size == values.length) {
+          values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = (float) in.nextDouble();
+      }
+      in.endArray();
+      return new JsonVector(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+  }
+}
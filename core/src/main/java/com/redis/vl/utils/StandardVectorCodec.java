@@ -0,0 +1,282 @@
+package com.redis.vl.utils;
+
+import com.redis.vl.schema.VectorField;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Built-in {@link VectorCodec}s for every {@link VectorField.VectorDataType} supported by Redis.
+ *
+ * <p>All encodings are little-endian. FLOAT32 and FLOAT64 use bulk buffer views; the 16-bit
+ * formats convert element by element through a {@link VarHandle} view so no intermediate buffers
+ * are allocated. FLOAT16 and BFLOAT16 round to nearest even. INT8 and UINT8 round to the nearest
+ * integer and clamp to the representable range.
+ */
+public enum StandardVectorCodec implements VectorCodec {
+  /** IEEE 754 single precision. */
+  FLOAT32(VectorField.VectorDataType.FLOAT32, Float.BYTES) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      ByteBuffer.wrap(target, offset, vector.length * Float.BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .asFloatBuffer()
+          .put(vector);
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      ByteBuffer.wrap(bytes, offset, target.length * Float.BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .asFloatBuffer()
+          .get(target);
+    }
+  },
+
+  /** IEEE 754 double precision. */
+  FLOAT64(VectorField.VectorDataType.FLOAT64, Double.BYTES) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      DoubleBuffer buffer = doubleView(target, offset, vector.length);
+      for (int i = 0; i < vector.length; i++) {
+        buffer.put(i, vector[i]);
+      }
+    }
+
+    @Override
+    public byte[] encode(double[] vector) {
+      if (vector == null) {
+        return null;
+      }
+      byte[] bytes = new byte[vector.length * Double.BYTES];
+      doubleView(bytes, 0, vector.length).put(vector);
+      return bytes;
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      DoubleBuffer buffer = doubleView(bytes, offset, target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = (float) buffer.get(i);
+      }
+    }
+  },
+
+  /** IEEE 754 half precision. */
+  FLOAT16(VectorField.VectorDataType.FLOAT16, 2) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      checkBounds(target.length, offset, vector.length * 2);
+      for (int i = 0; i < vector.length; i++) {
+        SHORT_LE.set(target, offset + i * 2, floatToHalf(vector[i]));
+      }
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      checkBounds(bytes.length, offset, target.length * 2);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = halfToFloat((short) SHORT_LE.get(bytes, offset + i * 2));
+      }
+    }
+  },
+
+  /** Brain floating point: the upper 16 bits of a float32. */
+  BFLOAT16(VectorField.VectorDataType.BFLOAT16, 2) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      checkBounds(target.length, offset, vector.length * 2);
+      for (int i = 0; i < vector.length; i++) {
+        SHORT_LE.set(target, offset + i * 2, floatToBFloat16(vector[i]));
+      }
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      checkBounds(bytes.length, offset, target.length * 2);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = Float.intBitsToFloat(((short) SHORT_LE.get(bytes, offset + i * 2)) << 16);
+      }
+    }
+  },
+
+  /** Signed 8-bit integers. */
+  INT8(VectorField.VectorDataType.INT8, 1) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      checkBounds(target.length, offset, vector.length);
+      for (int i = 0; i < vector.length; i++) {
+        target[offset + i] = (byte) Math.max(-128, Math.min(127, Math.round(vector[i])));
+      }
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      checkBounds(bytes.length, offset, target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = bytes[offset + i];
+      }
+    }
+  },
+
+  /** Unsigned 8-bit integers. */
+  UINT8(VectorField.VectorDataType.UINT8, 1) {
+    @Override
+    public void encode(float[] vector, byte[] target, int offset) {
+      checkBounds(target.length, offset, vector.length);
+      for (int i = 0; i < vector.length; i++) {
+        target[offset + i] = (byte) Math.max(0, Math.min(255, Math.round(vector[i])));
+      }
+    }
+
+    @Override
+    public void decode(byte[] bytes, int offset, float[] target) {
+      checkBounds(bytes.length, offset, target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = bytes[offset + i] & 0xFF;
+      }
+    }
+  };
+
+  private static final VarHandle SHORT_LE =
+      MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final VectorField.VectorDataType dataType;
+  private final int bytesPerElement;
+
+  StandardVectorCodec(VectorField.VectorDataType dataType, int bytesPerElement) {
+    this.dataType = dataType;
+    this.bytesPerElement = bytesPerElement;
+  }
+
+  /**
+   * Get the codec for a vector data type.
+   *
+   * @param dataType The vector data type
+   * @return The matching codec
+   */
+  public static StandardVectorCodec of(VectorField.VectorDataType dataType) {
+    return switch (dataType) {
+      case FLOAT32 -> FLOAT32;
+      case FLOAT64 -> FLOAT64;
+      case FLOAT16 -> FLOAT16;
+      case BFLOAT16 -> BFLOAT16;
+      case INT8 -> INT8;
+      case UINT8 -> UINT8;
+    };
+  }
+
+  @Override
+  public VectorField.VectorDataType getDataType() {
+    return dataType;
+  }
+
+  @Override
+  public int getBytesPerElement() {
+    return bytesPerElement;
+  }
+
+  /**
+   * Convert a float to IEEE 754 half precision bits, rounding to nearest even.
+   *
+   * @param value The float value
+   * @return The half precision bits
+   */
+  public static short floatToHalf(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    int sign = (bits >>> 16) & 0x8000;
+    int exponent = (bits >>> 23) & 0xFF;
+    int mantissa = bits & 0x7FFFFF;
+
+    if (exponent == 0xFF) {
+      // Infinity or NaN (keep NaNs quiet and non-zero)
+      return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 | (mantissa >>> 13) : 0));
+    }
+
+    int halfExponent = exponent - 127 + 15;
+    if (halfExponent >= 0x1F) {
+      // Overflow to infinity
+      return (short) (sign | 0x7C00);
+    }
+
+    if (halfExponent <= 0) {
+      if (halfExponent < -10) {
+        // Too small even for a subnormal half
+        return (short) sign;
+      }
+      // Subnormal half: shift in the implicit leading bit
+      mantissa |= 0x800000;
+      int shift = 14 - halfExponent;
+      int half = mantissa >>> shift;
+      int roundBit = 1 << (shift - 1);
+      int remainder = mantissa & ((roundBit << 1) - 1);
+      if (remainder > roundBit || (remainder == roundBit && (half & 1) != 0)) {
+        half++;
+      }
+      return (short) (sign | half);
+    }
+
+    int half = (halfExponent << 10) | (mantissa >>> 13);
+    int remainder = mantissa & 0x1FFF;
+    if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+      // May carry into the exponent, which correctly rounds up to the next power of two or infinity
+      half++;
+    }
+    return (short) (sign | half);
+  }
+
+  /**
+   * Convert IEEE 754 half precision bits to a float.
+   *
+   * @param half The half precision bits
+   * @return The float value
+   */
+  public static float halfToFloat(short half) {
+    int bits = half & 0xFFFF;
+    int sign = (bits & 0x8000) << 16;
+    int exponent = (bits >>> 10) & 0x1F;
+    int mantissa = bits & 0x3FF;
+
+    if (exponent == 0x1F) {
+      return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+    }
+    if (exponent == 0) {
+      // Zero or subnormal
+      float value = mantissa * 0x1p-24f;
+      return sign != 0 ? -value : value;
+    }
+    return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+  }
+
+  /**
+   * Convert a float to bfloat16 bits, rounding to nearest even.
+   *
+   * @param value The float value
+   * @return The bfloat16 bits
+   */
+  public static short floatToBFloat16(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if ((bits & 0x7FFFFFFF) > 0x7F800000) {
+      // NaN: truncate and force a quiet NaN so the payload cannot round to infinity
+      return (short) ((bits >>> 16) | 0x40);
+    }
+    int rounding = 0x7FFF + ((bits >>> 16) & 1);
+    return (short) ((bits + rounding) >>> 16);
+  }
+
+  private static DoubleBuffer doubleView(byte[] bytes, int offset, int length) {
+    return ByteBuffer.wrap(bytes, offset, length * Double.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .asDoubleBuffer();
+  }
+
+  private static void checkBounds(int arrayLength, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new IndexOutOfBoundsException(
+          String.format(
+              "Range [%d, %d) out of bounds for length %d", offset, offset + length, arrayLength));
+    }
+  }
+}
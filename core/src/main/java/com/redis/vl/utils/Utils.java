@@ -55,6 +55,25 @@ public final class Utils {
     return Math.max(2.0f - 2.0f * value, 0.0f);
   }
 
+  /**
+   * Escape the glob characters of a literal string for use in a Redis {@code SCAN MATCH} or {@code
+   * PSUBSCRIBE} pattern, so that a key prefix such as {@code cache[1]} matches only itself.
+   *
+   * @param literal The literal string, e.g. a key prefix
+   * @return The string with every {@code *}, {@code ?}, {@code [}, {@code ]} and backslash escaped
+   */
+  public static String escapeGlob(String literal) {
+    StringBuilder escaped = new StringBuilder(literal.length() + 4);
+    for (int i = 0; i < literal.length(); i++) {
+      char c = literal.charAt(i);
+      if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+        escaped.append('\\');
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+
   private Utils() {
     // Prevent instantiation
   }
@@ -0,0 +1,151 @@
+package com.redis.vl.utils;
+
+import com.redis.vl.schema.VectorField;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Encodes vectors to and decodes vectors from the binary layout Redis expects for a vector data
+ * type.
+ *
+ * <p>Redis stores HASH vectors and receives query vectors as little-endian packed arrays whose
+ * element size depends on the field's {@link VectorField.VectorDataType}. A codec is chosen from
+ * the field's data type (see {@link VectorField#getCodec()}) or from a Python-style dtype string
+ * (see {@link #forDtype(String)}).
+ *
+ * <p>Implementations must be stateless and thread-safe.
+ */
+public interface VectorCodec {
+
+  /**
+   * Get the vector data type handled by this codec.
+   *
+   * @return The vector data type
+   */
+  VectorField.VectorDataType getDataType();
+
+  /**
+   * Get the number of bytes used to encode a single vector element.
+   *
+   * @return Bytes per element
+   */
+  int getBytesPerElement();
+
+  /**
+   * Encode a vector into a caller-supplied byte array.
+   *
+   * @param vector The vector to encode
+   * @param target The byte array to write to
+   * @param offset Offset in {@code target} at which to start writing
+   * @throws IndexOutOfBoundsException if {@code target} is too small
+   */
+  void encode(float[] vector, byte[] target, int offset);
+
+  /**
+   * Decode a vector from a byte array into a caller-supplied float array.
+   *
+   * @param bytes The encoded vector
+   * @param offset Offset in {@code bytes} at which to start reading
+   * @param target The float array to fill; its length determines the number of elements read
+   * @throws IndexOutOfBoundsException if {@code bytes} is too small
+   */
+  void decode(byte[] bytes, int offset, float[] target);
+
+  /**
+   * Encode a vector into a new byte array.
+   *
+   * @param vector The vector to encode
+   * @return The encoded vector, or null if {@code vector} is null
+   */
+  default byte[] encode(float[] vector) {
+    if (vector == null) {
+      return null;
+    }
+    byte[] bytes = new byte[vector.length * getBytesPerElement()];
+    encode(vector, bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Encode a double vector into a new byte array.
+   *
+   * @param vector The vector to encode
+   * @return The encoded vector, or null if {@code vector} is null
+   */
+  default byte[] encode(double[] vector) {
+    return encode(ArrayUtils.doubleArrayToFloats(vector));
+  }
+
+  /**
+   * Decode a vector from a byte array.
+   *
+   * @param bytes The encoded vector
+   * @return The decoded vector, or null if {@code bytes} is null
+   * @throws IllegalArgumentException if the length is not a multiple of the element size
+   */
+  default float[] decode(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    int elementSize = getBytesPerElement();
+    if (bytes.length % elementSize != 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Cannot decode %d bytes as %s: length must be a multiple of %d",
+              bytes.length, getDataType().getValue(), elementSize));
+    }
+    float[] vector = new float[bytes.length / elementSize];
+    decode(bytes, 0, vector);
+    return vector;
+  }
+
+  /**
+   * Convert a document value into encoded vector bytes.
+   *
+   * <p>Accepts {@code byte[]} (assumed to be already encoded and passed through as-is), {@code
+   * float[]}, {@code double[]} and lists of numbers.
+   *
+   * @param value The vector value
+   * @return The encoded vector, or null if the value is not a supported vector representation
+   */
+  default byte[] toBytes(Object value) {
+    if (value instanceof byte[] bytes) {
+      return bytes;
+    } else if (value instanceof float[] floats) {
+      return encode(floats);
+    } else if (value instanceof double[] doubles) {
+      return encode(doubles);
+    } else if (value instanceof List<?> list) {
+      return encode(ArrayUtils.numberListToFloats(list));
+    }
+    return null;
+  }
+
+  /**
+   * Get the built-in codec for a vector data type.
+   *
+   * @param dataType The vector data type (null means FLOAT32)
+   * @return The codec for the data type
+   */
+  static VectorCodec forDataType(VectorField.VectorDataType dataType) {
+    return StandardVectorCodec.of(dataType != null ? dataType : VectorField.VectorDataType.FLOAT32);
+  }
+
+  /**
+   * Get the built-in codec for a dtype string such as "float32" or "FLOAT16".
+   *
+   * @param dtype The dtype string, case-insensitive (null means float32)
+   * @return The codec for the data type
+   * @throws IllegalArgumentException if the dtype is not supported
+   */
+  static VectorCodec forDtype(String dtype) {
+    if (dtype == null) {
+      return StandardVectorCodec.FLOAT32;
+    }
+    try {
+      return forDataType(VectorField.VectorDataType.valueOf(dtype.toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unsupported vector data type: " + dtype, e);
+    }
+  }
+}
@@ -1,12 +1,21 @@
 package com.redis.vl.utils.vectorize;
 
 import com.redis.vl.extensions.cache.EmbeddingsCache;
-import com.redis.vl.utils.ArrayUtils;
+import com.redis.vl.utils.VectorCodec;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
  * Abstract base class for text vectorizers. Port of redis-vl-python/redisvl/utils/vectorize/base.py
+ *
+ * <p>Concurrent calls that miss the cache for the same preprocessed text are coalesced: one call
+ * generates the embedding and writes it to the cache, and the others wait for it and receive a
+ * copy. This covers {@link #embed(String)} and the cache misses of {@link #embedBatch(List)},
+ * including repeated texts within one batch. Calls with {@code skipCache} set are never coalesced.
  */
 public abstract class BaseVectorizer {
 
@@ -22,6 +31,11 @@ public abstract class BaseVectorizer {
   /** Optional cache for storing embeddings. */
   protected Optional<EmbeddingsCache> cache;
 
+  // Embeddings being generated, by preprocessed text; the model is fixed per vectorizer
+  private final Map<String, CompletableFuture<float[]>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong coalescedCount = new AtomicLong(0);
+  private volatile boolean coalesceRequests = true;
+
   /**
    * Creates a new BaseVectorizer.
    *
@@ -64,6 +78,33 @@ public abstract class BaseVectorizer {
     this.cache = Optional.ofNullable(cache);
   }
 
+  /**
+   * Check whether concurrent requests for the same text are coalesced.
+   *
+   * @return true if coalescing is enabled (the default)
+   */
+  public boolean isCoalesceRequests() {
+    return coalesceRequests;
+  }
+
+  /**
+   * Enable or disable coalescing of concurrent requests for the same text.
+   *
+   * @param coalesceRequests Whether to coalesce requests
+   */
+  public void setCoalesceRequests(boolean coalesceRequests) {
+    this.coalesceRequests = coalesceRequests;
+  }
+
+  /**
+   * Get the number of embeddings served by another call's generation instead of their own.
+   *
+   * @return The number of coalesced requests
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
   /**
    * Get the vector data type.
    *
@@ -123,17 +164,48 @@ public abstract class BaseVectorizer {
       }
     }
 
-    // Generate embedding
-    float[] embedding = generateEmbedding(processedText);
+    if (skipCache || !coalesceRequests) {
+      return generateAndStore(processedText, skipCache, null);
+    }
+
+    // Join a generation already in flight for this text, or lead one
+    CompletableFuture<float[]> mine = new CompletableFuture<>();
+    CompletableFuture<float[]> existing = inFlight.putIfAbsent(processedText, mine);
+    if (existing != null) {
+      coalescedCount.incrementAndGet();
+      return copyOf(await(existing));
+    }
+    try {
+      return generateAndStore(processedText, false, mine);
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(processedText, mine);
+    }
+  }
+
+  /**
+   * Generate an embedding, complete {@code waiting} with it so coalesced callers can return, then
+   * write it to the cache.
+   */
+  private float[] generateAndStore(
+      String text, boolean skipCache, CompletableFuture<float[]> waiting) {
+    float[] embedding = generateEmbedding(text);
 
     // Auto-detect dimensions if not set
     if (dimensions <= 0 && embedding != null) {
       dimensions = embedding.length;
     }
 
+    if (waiting != null) {
+      // Coalesced callers copy from a private array, so this caller may modify its result
+      waiting.complete(copyOf(embedding));
+    }
+
     // Store in cache if available and not skipping
     if (!skipCache && cache.isPresent() && embedding != null) {
-      cache.get().set(processedText, modelName, embedding);
+      cache.get().set(text, modelName, embedding);
     }
 
     return embedding;
@@ -148,7 +220,7 @@ public abstract class BaseVectorizer {
    */
   protected Object processEmbedding(float[] embedding, boolean asBuffer) {
     if (asBuffer) {
-      return ArrayUtils.floatArrayToBytes(embedding);
+      return VectorCodec.forDtype(dtype).encode(embedding);
     }
     return embedding;
   }
@@ -197,10 +269,15 @@ public abstract class BaseVectorizer {
 
     // Generate embeddings for cache misses
     if (!cacheMisses.isEmpty()) {
-      List<float[]> newEmbeddings = generateEmbeddingsBatch(cacheMisses, batchSize);
-
-      // Store new embeddings in cache
-      storeInCacheBatch(cacheMisses, newEmbeddings, skipCache);
+      List<float[]> newEmbeddings;
+      if (skipCache || !coalesceRequests) {
+        newEmbeddings = generateEmbeddingsBatch(cacheMisses, batchSize);
+
+        // Store new embeddings in cache
+        storeInCacheBatch(cacheMisses, newEmbeddings, skipCache);
+      } else {
+        newEmbeddings = generateCoalesced(cacheMisses, batchSize);
+      }
 
       // Insert new embeddings into results array
       for (int i = 0; i < cacheMissIndices.size() && i < newEmbeddings.size(); i++) {
@@ -263,6 +340,84 @@ public abstract class BaseVectorizer {
     return new BatchCacheResult(results, cacheMisses, cacheMissIndices);
   }
 
+  /**
+   * Generate the embeddings of cache misses, leading the generation of texts no other call is
+   * generating and waiting for the rest. Texts this call leads are generated in one batch and
+   * written to the cache.
+   */
+  private List<float[]> generateCoalesced(List<String> texts, int batchSize) {
+    Map<String, CompletableFuture<float[]>> pending = new HashMap<>();
+    List<String> led = new ArrayList<>();
+    for (String text : texts) {
+      if (pending.containsKey(text)) {
+        coalescedCount.incrementAndGet();
+        continue;
+      }
+      CompletableFuture<float[]> mine = new CompletableFuture<>();
+      CompletableFuture<float[]> existing = inFlight.putIfAbsent(text, mine);
+      if (existing == null) {
+        led.add(text);
+        pending.put(text, mine);
+      } else {
+        coalescedCount.incrementAndGet();
+        pending.put(text, existing);
+      }
+    }
+
+    // Complete our own generations before waiting on others, so two batches leading each
+    // other's texts cannot wait on each other
+    Map<String, float[]> generatedByText = new HashMap<>();
+    if (!led.isEmpty()) {
+      try {
+        List<float[]> generated = generateEmbeddingsBatch(led, batchSize);
+        for (int i = 0; i < led.size(); i++) {
+          float[] embedding = i < generated.size() ? generated.get(i) : null;
+          generatedByText.put(led.get(i), embedding);
+          // Coalesced callers copy from a private array, so our own results stay unshared
+          pending.get(led.get(i)).complete(copyOf(embedding));
+        }
+        storeInCacheBatch(led, generated, false);
+      } catch (RuntimeException | Error e) {
+        for (String text : led) {
+          pending.get(text).completeExceptionally(e);
+        }
+        throw e;
+      } finally {
+        for (String text : led) {
+          inFlight.remove(text, pending.get(text));
+        }
+      }
+    }
+
+    // Each caller owns its arrays: the first use of a text this call generated gets the generated
+    // array, every other use a copy of the completed one
+    List<float[]> embeddings = new ArrayList<>(texts.size());
+    for (String text : texts) {
+      float[] generated = generatedByText.remove(text);
+      embeddings.add(generated != null ? generated : copyOf(await(pending.get(text))));
+    }
+    return embeddings;
+  }
+
+  /** Wait for a generation led by another call, rethrowing its failure. */
+  private static float[] await(CompletableFuture<float[]> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static float[] copyOf(float[] embedding) {
+    return embedding != null ? embedding.clone() : null;
+  }
+
   /** Store new embeddings in cache. */
   private void storeInCacheBatch(List<String> texts, List<float[]> embeddings, boolean skipCache) {
     if (skipCache || !cache.isPresent() || texts.size() != embeddings.size()) {
@@ -0,0 +1,315 @@
+package com.redis.vl.utils.vectorize;
+
+import com.redis.vl.exceptions.RedisVLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vectorizer that groups concurrent single-text embeddings into batches for another vectorizer.
+ *
+ * <p>Each cache miss of {@link #embed(String)} is queued instead of generated on the calling
+ * thread. A background thread takes the oldest queued text, waits up to {@code maxLinger} from
+ * when it was queued for more to arrive, and generates up to {@code maxBatchSize} texts with one
+ * call to the delegate's {@link BaseVectorizer#generateEmbeddingsBatch(List, int)}. Batches are
+ * generated one at a time. {@link #embedBatch(List)} calls go to the delegate directly.
+ *
+ * <p>Caching and request coalescing apply to this vectorizer; the delegate's own cache is not
+ * used. Close the vectorizer to stop the background thread.
+ */
+@Slf4j
+public final class MicroBatchingVectorizer extends BaseVectorizer implements AutoCloseable {
+
+  private final BaseVectorizer delegate;
+  private final int maxBatchSize;
+  private final long maxLingerNanos;
+  private final ArrayDeque<Request> queue = new ArrayDeque<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Thread worker;
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder batchedCount = new LongAdder();
+  private final AtomicLongArray batchSizeCounts;
+  private final LongAdder totalQueueNanos = new LongAdder();
+  private final AtomicLong maxQueueNanos = new AtomicLong(0);
+  private boolean closed;
+
+  /**
+   * Creates a new MicroBatchingVectorizer.
+   *
+   * @param delegate The vectorizer that generates the embeddings
+   * @param maxBatchSize The maximum number of texts per batch
+   * @param maxLinger How long a queued text may wait for others to join its batch
+   */
+  public MicroBatchingVectorizer(BaseVectorizer delegate, int maxBatchSize, Duration maxLinger) {
+    super(
+        requireDelegate(delegate).getModelName(),
+        delegate.getDimensions(),
+        delegate.getDataType());
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("Max batch size must be positive");
+    }
+    if (maxLinger == null || maxLinger.isNegative()) {
+      throw new IllegalArgumentException("Max linger must be zero or positive");
+    }
+    this.delegate = delegate;
+    this.maxBatchSize = maxBatchSize;
+    this.maxLingerNanos = maxLinger.toNanos();
+    this.batchSizeCounts = new AtomicLongArray(maxBatchSize + 1);
+    this.worker = new Thread(this::run, "redisvl-micro-batch-" + delegate.getModelName());
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  private static BaseVectorizer requireDelegate(BaseVectorizer delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("Delegate vectorizer cannot be null");
+    }
+    return delegate;
+  }
+
+  /**
+   * Get the vectorizer that generates the embeddings.
+   *
+   * @return The delegate vectorizer
+   */
+  public BaseVectorizer getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public int getDimensions() {
+    return dimensions > 0 ? dimensions : delegate.getDimensions();
+  }
+
+  @Override
+  public String getType() {
+    return delegate.getType();
+  }
+
+  @Override
+  protected float[] generateEmbedding(String text) {
+    Request request = new Request(text, System.nanoTime());
+    lock.lock();
+    try {
+      if (closed) {
+        throw new RedisVLException("Micro-batching vectorizer is closed");
+      }
+      queue.addLast(request);
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      return request.future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisVLException("Interrupted while waiting for a batched embedding", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new RedisVLException("Failed to generate batched embedding", e.getCause());
+    }
+  }
+
+  @Override
+  protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+    return delegate.generateEmbeddingsBatch(texts, batchSize);
+  }
+
+  /**
+   * Get the number of batches generated from queued embeddings.
+   *
+   * @return Batches generated
+   */
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * Get the number of queued embeddings generated in batches.
+   *
+   * @return Embeddings generated
+   */
+  public long getBatchedCount() {
+    return batchedCount.sum();
+  }
+
+  /**
+   * Get the distribution of batch sizes.
+   *
+   * @return Array whose element {@code n} is the number of batches of {@code n} texts
+   */
+  public long[] getBatchSizeCounts() {
+    long[] counts = new long[batchSizeCounts.length()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = batchSizeCounts.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * Get the mean batch size.
+   *
+   * @return Mean texts per batch, or 0 if no batch was generated
+   */
+  public double getMeanBatchSize() {
+    long batches = batchCount.sum();
+    return batches == 0 ? 0 : (double) batchedCount.sum() / batches;
+  }
+
+  /**
+   * Get the mean time embeddings spent queued before their batch was generated.
+   *
+   * @return Mean queueing delay, or zero if no batch was generated
+   */
+  public Duration getMeanQueueDelay() {
+    long batched = batchedCount.sum();
+    return Duration.ofNanos(batched == 0 ? 0 : totalQueueNanos.sum() / batched);
+  }
+
+  /**
+   * Get the longest time an embedding spent queued before its batch was generated.
+   *
+   * @return Maximum queueing delay
+   */
+  public Duration getMaxQueueDelay() {
+    return Duration.ofNanos(maxQueueNanos.get());
+  }
+
+  /**
+   * Get the number of embeddings waiting for a batch.
+   *
+   * @return Queued embeddings
+   */
+  public int getQueuedCount() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stop accepting embeddings and wait for those already queued to be generated. The delegate is
+   * not closed.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    if (Thread.currentThread() != worker) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void run() {
+    List<Request> batch = new ArrayList<>(maxBatchSize);
+    while (true) {
+      lock.lock();
+      try {
+        while (queue.isEmpty()) {
+          if (closed) {
+            return;
+          }
+          notEmpty.await();
+        }
+        // Let concurrent callers join the batch until the oldest text has lingered long enough
+        long deadline = queue.peekFirst().queuedAt + maxLingerNanos;
+        while (!closed && queue.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          notEmpty.awaitNanos(remaining);
+        }
+        while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+          batch.add(queue.pollFirst());
+        }
+      } catch (InterruptedException e) {
+        log.debug("Micro-batching worker interrupted", e);
+        failQueued(new RedisVLException("Micro-batching worker interrupted", e));
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      generate(batch);
+      batch.clear();
+    }
+  }
+
+  private void generate(List<Request> batch) {
+    long start = System.nanoTime();
+    List<String> texts = new ArrayList<>(batch.size());
+    for (Request request : batch) {
+      texts.add(request.text);
+      long queued = start - request.queuedAt;
+      totalQueueNanos.add(queued);
+      maxQueueNanos.accumulateAndGet(queued, Math::max);
+    }
+    batchCount.increment();
+    batchedCount.add(batch.size());
+    batchSizeCounts.incrementAndGet(batch.size());
+
+    try {
+      List<float[]> embeddings = delegate.generateEmbeddingsBatch(texts, texts.size());
+      if (embeddings.size() != texts.size()) {
+        throw new RedisVLException(
+            "Expected " + texts.size() + " embeddings but got " + embeddings.size());
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).future.complete(embeddings.get(i));
+      }
+    } catch (RuntimeException | Error e) {
+      log.debug("Batch of {} embeddings failed", batch.size(), e);
+      for (Request request : batch) {
+        request.future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private void failQueued(RuntimeException cause) {
+    closed = true;
+    for (Request request : queue) {
+      request.future.completeExceptionally(cause);
+    }
+    queue.clear();
+  }
+
+  /** A queued text and the future of its embedding. */
+  private static final class Request {
+    final String text;
+    final long queuedAt;
+    final CompletableFuture<float[]> future = new CompletableFuture<>();
+
+    Request(String text, long queuedAt) {
+      this.text = text;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
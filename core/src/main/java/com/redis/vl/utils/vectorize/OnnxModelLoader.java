@@ -6,6 +6,8 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -19,6 +21,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OnnxModelLoader {
 
+  /** How the token embeddings of an input are pooled into one embedding. */
+  public enum Pooling {
+    /** Average of the non-padding tokens (Sentence Transformers default). */
+    MEAN,
+    /** The embedding of the first token ({@code [CLS]} or {@code <s>}). */
+    CLS,
+    /** Element-wise maximum over the non-padding tokens. */
+    MAX
+  }
+
   private static final Gson GSON = new Gson();
 
   @Getter private int embeddingDimension;
@@ -69,6 +81,25 @@ public class OnnxModelLoader {
       value = "EI_EXPOSE_REP2",
       justification = "OrtEnvironment is a singleton and immutable")
   public OrtSession loadModel(Path modelDir, OrtEnvironment env) throws IOException, OrtException {
+    return loadModel(modelDir, env, OnnxSessionOptions.defaults());
+  }
+
+  /**
+   * Load an ONNX model from the specified directory with a specific environment and session
+   * settings.
+   *
+   * @param modelDir Path to the directory containing the ONNX model files
+   * @param env The ONNX runtime environment to use
+   * @param sessionOptions The session settings
+   * @return The loaded ONNX runtime session
+   * @throws IOException if model files cannot be read
+   * @throws OrtException if the ONNX runtime fails to load the model
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "OrtEnvironment is a singleton and immutable")
+  public OrtSession loadModel(Path modelDir, OrtEnvironment env, OnnxSessionOptions sessionOptions)
+      throws IOException, OrtException {
     this.environment = env;
     log.info("Loading ONNX model from {}", modelDir);
 
@@ -109,16 +140,7 @@ public class OnnxModelLoader {
       }
     }
 
-    // Load ONNX model
-    Path modelPath = modelDir.resolve("model.onnx");
-    if (!Files.exists(modelPath)) {
-      throw new IOException("model.onnx not found in " + modelDir);
-    }
-
-    OrtSession.SessionOptions options = new OrtSession.SessionOptions();
-    options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
-
-    OrtSession session = environment.createSession(modelPath.toString(), options);
+    OrtSession session = createSession(modelDir, sessionOptions);
 
     log.info(
         "Model loaded successfully. Embedding dimension: {}, Max sequence length: {}",
@@ -128,6 +150,32 @@ public class OnnxModelLoader {
     return session;
   }
 
+  /**
+   * Create another session for the model loaded by {@link #loadModel(Path, OrtEnvironment,
+   * OnnxSessionOptions)}, for example to fill a session pool. The tokenizer and configuration are
+   * not read again.
+   *
+   * @param modelDir Path to the directory containing the ONNX model files
+   * @param sessionOptions The session settings
+   * @return A new ONNX runtime session
+   * @throws IOException if the model file is missing
+   * @throws OrtException if the ONNX runtime fails to load the model
+   */
+  public OrtSession createSession(Path modelDir, OnnxSessionOptions sessionOptions)
+      throws IOException, OrtException {
+    Path modelPath = modelDir.resolve("model.onnx");
+    if (!Files.exists(modelPath)) {
+      throw new IOException("model.onnx not found in " + modelDir);
+    }
+    if (environment == null) {
+      environment = OrtEnvironment.getEnvironment();
+    }
+
+    try (OrtSession.SessionOptions options = sessionOptions.toSessionOptions()) {
+      return environment.createSession(modelPath.toString(), options);
+    }
+  }
+
   /**
    * Get the hidden size (same as embedding dimension).
    *
@@ -167,14 +215,46 @@ public class OnnxModelLoader {
     long[][] tokenIds = new long[texts.size()][];
 
     for (int i = 0; i < texts.size(); i++) {
-      tokenIds[i] = tokenizeText(texts.get(i));
+      tokenIds[i] = tokenizeText(texts.get(i), true);
     }
 
     return tokenIds;
   }
 
   /**
-   * Run inference on the model with tokenized input.
+   * Tokenize a text without padding. The sequence starts and ends with the special tokens and is
+   * truncated to the maximum sequence length.
+   *
+   * @param text The text to tokenize
+   * @return The token IDs
+   */
+  public long[] tokenizeUnpadded(String text) {
+    return tokenizeText(text, false);
+  }
+
+  /**
+   * Pad token sequences to the length of the longest one, so a batch of short texts does not pay
+   * for the maximum sequence length.
+   *
+   * @param sequences Unpadded token sequences
+   * @return A 2D array of token IDs, one row per sequence
+   */
+  public long[][] padBatch(List<long[]> sequences) {
+    int length = 0;
+    for (long[] sequence : sequences) {
+      length = Math.max(length, sequence.length);
+    }
+    long[][] tokenIds = new long[sequences.size()][length];
+    for (int i = 0; i < sequences.size(); i++) {
+      long[] sequence = sequences.get(i);
+      System.arraycopy(sequence, 0, tokenIds[i], 0, sequence.length);
+      Arrays.fill(tokenIds[i], sequence.length, length, padTokenId);
+    }
+    return tokenIds;
+  }
+
+  /**
+   * Run inference on the model with tokenized input, mean pooling the token embeddings.
    *
    * @param session The ONNX runtime session
    * @param inputTensor The input tensor containing token IDs
@@ -182,70 +262,180 @@ public class OnnxModelLoader {
    * @throws OrtException if inference fails
    */
   public float[][] runInference(OrtSession session, OnnxTensor inputTensor) throws OrtException {
-    // Check what inputs the model expects
-    Map<String, OnnxTensor> inputs = new HashMap<>();
-    inputs.put("input_ids", inputTensor);
+    return runInference(session, inputTensor, Pooling.MEAN, null);
+  }
 
+  /**
+   * Run inference on the model with tokenized input. Token embeddings are pooled straight from the
+   * output tensor's flat buffer into {@code output}, without building per-token arrays.
+   *
+   * @param session The ONNX runtime session
+   * @param inputTensor The input tensor containing token IDs
+   * @param pooling How token embeddings are pooled into one embedding per input
+   * @param output Array of {@code [batch][hidden]} to write the embeddings into, or null to
+   *     allocate one
+   * @return 2D array of embeddings, one row per input; {@code output} if given
+   * @throws OrtException if inference fails
+   */
+  public float[][] runInference(
+      OrtSession session, OnnxTensor inputTensor, Pooling pooling, float[][] output)
+      throws OrtException {
     long[] shape = inputTensor.getInfo().getShape();
-    long[][] attentionMask = null;
-
-    // Check if model expects token_type_ids (for BERT-style models)
-    boolean needsTokenTypeIds = session.getInputInfo().containsKey("token_type_ids");
-    if (needsTokenTypeIds) {
-      // Create token_type_ids tensor (all zeros for single sentence)
-      long[][] tokenTypeIds = new long[(int) shape[0]][(int) shape[1]];
-      // All zeros for single sentence input
-      OnnxTensor tokenTypeIdsTensor = OnnxTensor.createTensor(environment, tokenTypeIds);
-      inputs.put("token_type_ids", tokenTypeIdsTensor);
-    }
+    int tokens = (int) (shape[0] * shape[1]);
+    Map<String, OnnxTensor> inputs = new HashMap<>();
+    inputs.put("input_ids", inputTensor);
+    List<OnnxTensor> created = new ArrayList<>(2);
+    long[] attentionMask = null;
+
+    try {
+      // Check if model expects token_type_ids (for BERT-style models)
+      if (session.getInputInfo().containsKey("token_type_ids")) {
+        // All zeros for single sentence input
+        OnnxTensor tokenTypeIds =
+            OnnxTensor.createTensor(environment, LongBuffer.wrap(new long[tokens]), shape);
+        created.add(tokenTypeIds);
+        inputs.put("token_type_ids", tokenTypeIds);
+      }
 
-    // Check if model expects attention_mask
-    boolean needsAttentionMask = session.getInputInfo().containsKey("attention_mask");
-    if (needsAttentionMask) {
-      // Create attention_mask tensor (1s for real tokens, 0s for padding)
-      // Extract token IDs from input tensor to detect padding
-      long[][] tokenIds = (long[][]) inputTensor.getValue();
-      attentionMask = new long[(int) shape[0]][(int) shape[1]];
-
-      for (int i = 0; i < shape[0]; i++) {
-        for (int j = 0; j < shape[1]; j++) {
-          // Set to 1 for non-padding tokens, 0 for padding
-          // Use padTokenId (e.g., 1 for MPNet, 0 for BERT) to detect padding
-          attentionMask[i][j] = tokenIds[i][j] != padTokenId ? 1 : 0;
+      // Check if model expects attention_mask
+      if (session.getInputInfo().containsKey("attention_mask")) {
+        // 1 for real tokens, 0 for padding; padTokenId is e.g. 1 for MPNet, 0 for BERT
+        LongBuffer tokenIds = inputTensor.getLongBuffer();
+        attentionMask = new long[tokens];
+        for (int i = 0; i < tokens; i++) {
+          attentionMask[i] = tokenIds.get(i) != padTokenId ? 1 : 0;
         }
+        OnnxTensor mask =
+            OnnxTensor.createTensor(environment, LongBuffer.wrap(attentionMask), shape);
+        created.add(mask);
+        inputs.put("attention_mask", mask);
       }
-      OnnxTensor attentionMaskTensor = OnnxTensor.createTensor(environment, attentionMask);
-      inputs.put("attention_mask", attentionMaskTensor);
-    }
 
-    try (OrtSession.Result result = session.run(inputs)) {
-      // Clean up additional tensors
-      for (Map.Entry<String, OnnxTensor> entry : inputs.entrySet()) {
-        if (!entry.getKey().equals("input_ids")) {
-          entry.getValue().close();
+      try (OrtSession.Result result = session.run(inputs)) {
+        OnnxValue value = result.get(0);
+        if (!(value instanceof OnnxTensor outputTensor)) {
+          throw new RuntimeException("Unexpected output type: " + value.getClass());
         }
+
+        float[][] pooled =
+            pool(
+                outputTensor.getFloatBuffer(),
+                outputTensor.getInfo().getShape(),
+                attentionMask,
+                pooling,
+                output);
+
+        // Normalize if required
+        if (NORMALIZE_EMBEDDINGS) {
+          pooled = normalize(pooled);
+        }
+
+        return pooled;
+      }
+    } finally {
+      for (OnnxTensor tensor : created) {
+        tensor.close();
       }
-      // Get the output tensor
-      OnnxValue output = result.get(0);
+    }
+  }
+
+  /**
+   * Pool token embeddings held in a flat buffer into one embedding per input.
+   *
+   * <p>A buffer of shape {@code [batch, hidden]} is taken as already pooled by the model and
+   * copied as is.
+   *
+   * @param tokenEmbeddings Token embeddings of shape {@code [batch, sequence, hidden]}, row-major
+   * @param shape The shape of {@code tokenEmbeddings}
+   * @param attentionMask Flat attention mask of shape {@code [batch, sequence]} (1=real token,
+   *     0=padding), or null to use every token
+   * @param pooling How token embeddings are pooled
+   * @param output Array of {@code [batch][hidden]} to write the embeddings into, or null to
+   *     allocate one
+   * @return 2D array of pooled embeddings [batch, hidden]; {@code output} if given
+   */
+  public static float[][] pool(
+      FloatBuffer tokenEmbeddings,
+      long[] shape,
+      long[] attentionMask,
+      Pooling pooling,
+      float[][] output) {
+    int batchSize = (int) shape[0];
+    int hiddenSize = (int) shape[shape.length - 1];
+    float[][] pooled = outputArray(output, batchSize, hiddenSize);
+
+    float[] values;
+    int base;
+    if (tokenEmbeddings.hasArray()) {
+      values = tokenEmbeddings.array();
+      base = tokenEmbeddings.arrayOffset() + tokenEmbeddings.position();
+    } else {
+      values = new float[tokenEmbeddings.remaining()];
+      tokenEmbeddings.duplicate().get(values);
+      base = 0;
+    }
 
-      if (output instanceof OnnxTensor outputTensor) {
+    if (shape.length == 2) {
+      for (int b = 0; b < batchSize; b++) {
+        System.arraycopy(values, base + b * hiddenSize, pooled[b], 0, hiddenSize);
+      }
+      return pooled;
+    }
 
-        // Extract embeddings
-        float[][][] tokenEmbeddings = (float[][][]) outputTensor.getValue();
+    int sequenceLength = (int) shape[1];
+    for (int b = 0; b < batchSize; b++) {
+      float[] target = pooled[b];
+      int first = base + b * sequenceLength * hiddenSize;
+      if (pooling == Pooling.CLS) {
+        System.arraycopy(values, first, target, 0, hiddenSize);
+        continue;
+      }
 
-        // Apply attention-masked mean pooling (Sentence Transformers style)
-        float[][] pooledEmbeddings = meanPoolingWithAttention(tokenEmbeddings, attentionMask);
+      Arrays.fill(target, pooling == Pooling.MAX ? Float.NEGATIVE_INFINITY : 0f);
+      int validTokenCount = 0;
+      for (int s = 0; s < sequenceLength; s++) {
+        if (attentionMask != null && attentionMask[b * sequenceLength + s] != 1) {
+          continue;
+        }
+        validTokenCount++;
+        int offset = first + s * hiddenSize;
+        if (pooling == Pooling.MAX) {
+          for (int h = 0; h < hiddenSize; h++) {
+            target[h] = Math.max(target[h], values[offset + h]);
+          }
+        } else {
+          for (int h = 0; h < hiddenSize; h++) {
+            target[h] += values[offset + h];
+          }
+        }
+      }
 
-        // Normalize if required
-        if (NORMALIZE_EMBEDDINGS) {
-          pooledEmbeddings = normalize(pooledEmbeddings);
+      if (validTokenCount == 0) {
+        Arrays.fill(target, 0f);
+      } else if (pooling == Pooling.MEAN) {
+        // Average over valid tokens only
+        for (int h = 0; h < hiddenSize; h++) {
+          target[h] /= validTokenCount;
         }
+      }
+    }
+    return pooled;
+  }
 
-        return pooledEmbeddings;
-      } else {
-        throw new RuntimeException("Unexpected output type: " + output.getClass());
+  private static float[][] outputArray(float[][] output, int batchSize, int hiddenSize) {
+    if (output == null) {
+      return new float[batchSize][hiddenSize];
+    }
+    if (output.length != batchSize) {
+      throw new IllegalArgumentException(
+          "Output has " + output.length + " rows but the batch has " + batchSize);
+    }
+    for (float[] row : output) {
+      if (row == null || row.length != hiddenSize) {
+        throw new IllegalArgumentException("Output rows must have " + hiddenSize + " elements");
       }
     }
+    return output;
   }
 
   /**
@@ -392,7 +582,7 @@ public class OnnxModelLoader {
         unkTokenId);
   }
 
-  private long[] tokenizeText(String text) {
+  private long[] tokenizeText(String text, boolean pad) {
     List<Long> tokens = new ArrayList<>();
     List<String> tokenStrings = new ArrayList<>(); // For debugging
 
@@ -434,7 +624,7 @@ public class OnnxModelLoader {
     log.debug("Tokenized '{}' -> {}", text, String.join(" ", tokenStrings));
 
     // Pad or truncate to max sequence length
-    while (tokens.size() < maxSequenceLength) {
+    while (pad && tokens.size() < maxSequenceLength) {
       tokens.add(padTokenId);
     }
 
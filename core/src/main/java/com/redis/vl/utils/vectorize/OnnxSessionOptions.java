@@ -0,0 +1,182 @@
+package com.redis.vl.utils.vectorize;
+
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import lombok.Getter;
+
+/**
+ * ONNX Runtime session settings for local embedding models.
+ *
+ * <p>An {@link OrtSession} is safe to run from several threads at once, so by default a
+ * vectorizer shares one session between all callers and ONNX Runtime spreads each run over its
+ * intra-op thread pool. With a {@link Builder#sessionPoolSize(int) session pool}, each call
+ * borrows a session of its own instead; this isolates concurrent callers and usually scales better
+ * when intra-op threads are limited to about {@code cores / sessionPoolSize}.
+ */
+@Getter
+public final class OnnxSessionOptions {
+
+  private final int intraOpThreads;
+  private final int interOpThreads;
+  private final ExecutionMode executionMode;
+  private final boolean memoryArena;
+  private final boolean memoryPattern;
+  private final int sessionPoolSize;
+
+  private OnnxSessionOptions(Builder builder) {
+    this.intraOpThreads = builder.intraOpThreads;
+    this.interOpThreads = builder.interOpThreads;
+    this.executionMode = builder.executionMode;
+    this.memoryArena = builder.memoryArena;
+    this.memoryPattern = builder.memoryPattern;
+    this.sessionPoolSize = builder.sessionPoolSize;
+  }
+
+  /**
+   * Get the default settings: one shared session with ONNX Runtime's default thread pools.
+   *
+   * @return The default settings
+   */
+  public static OnnxSessionOptions defaults() {
+    return builder().build();
+  }
+
+  /**
+   * Create a builder for session settings.
+   *
+   * @return A new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Create the ONNX Runtime options for one session. The caller closes them once the session is
+   * created.
+   */
+  OrtSession.SessionOptions toSessionOptions() throws OrtException {
+    OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+    try {
+      options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+      if (intraOpThreads > 0) {
+        options.setIntraOpNumThreads(intraOpThreads);
+      }
+      if (interOpThreads > 0) {
+        options.setInterOpNumThreads(interOpThreads);
+      }
+      options.setExecutionMode(executionMode);
+      options.setCPUArenaAllocator(memoryArena);
+      options.setMemoryPatternOptimization(memoryPattern);
+      return options;
+    } catch (OrtException e) {
+      options.close();
+      throw e;
+    }
+  }
+
+  /** Builder for {@link OnnxSessionOptions}. */
+  public static final class Builder {
+    private int intraOpThreads;
+    private int interOpThreads;
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    private boolean memoryArena = true;
+    private boolean memoryPattern = true;
+    private int sessionPoolSize = 1;
+
+    private Builder() {}
+
+    /**
+     * Set the number of threads used to run a single operator (default 0, the runtime's choice of
+     * one per physical core).
+     *
+     * @param intraOpThreads The number of threads, or 0 for the runtime default
+     * @return This builder
+     */
+    public Builder intraOpThreads(int intraOpThreads) {
+      if (intraOpThreads < 0) {
+        throw new IllegalArgumentException("Intra-op threads must be zero or positive");
+      }
+      this.intraOpThreads = intraOpThreads;
+      return this;
+    }
+
+    /**
+     * Set the number of threads used to run independent operators in parallel (default 0, the
+     * runtime default). Only used with {@link ExecutionMode#PARALLEL}.
+     *
+     * @param interOpThreads The number of threads, or 0 for the runtime default
+     * @return This builder
+     */
+    public Builder interOpThreads(int interOpThreads) {
+      if (interOpThreads < 0) {
+        throw new IllegalArgumentException("Inter-op threads must be zero or positive");
+      }
+      this.interOpThreads = interOpThreads;
+      return this;
+    }
+
+    /**
+     * Set whether operators run one at a time or independent ones in parallel (default
+     * sequential, which suits the linear graphs of transformer encoders).
+     *
+     * @param executionMode The execution mode
+     * @return This builder
+     */
+    public Builder executionMode(ExecutionMode executionMode) {
+      if (executionMode == null) {
+        throw new IllegalArgumentException("Execution mode cannot be null");
+      }
+      this.executionMode = executionMode;
+      return this;
+    }
+
+    /**
+     * Set whether the CPU memory arena is used (default true). Disabling it lowers resident memory
+     * at some cost in allocation time.
+     *
+     * @param memoryArena Whether to use the arena allocator
+     * @return This builder
+     */
+    public Builder memoryArena(boolean memoryArena) {
+      this.memoryArena = memoryArena;
+      return this;
+    }
+
+    /**
+     * Set whether memory allocations are planned from earlier runs of the same input shape
+     * (default true).
+     *
+     * @param memoryPattern Whether to enable memory pattern optimization
+     * @return This builder
+     */
+    public Builder memoryPattern(boolean memoryPattern) {
+      this.memoryPattern = memoryPattern;
+      return this;
+    }
+
+    /**
+     * Set the number of sessions callers borrow from (default 1, one session shared by all
+     * callers). Each session holds its own copy of the model weights.
+     *
+     * @param sessionPoolSize The number of sessions
+     * @return This builder
+     */
+    public Builder sessionPoolSize(int sessionPoolSize) {
+      if (sessionPoolSize <= 0) {
+        throw new IllegalArgumentException("Session pool size must be positive");
+      }
+      this.sessionPoolSize = sessionPoolSize;
+      return this;
+    }
+
+    /**
+     * Build the session settings.
+     *
+     * @return The session settings
+     */
+    public OnnxSessionOptions build() {
+      return new OnnxSessionOptions(this);
+    }
+  }
+}
@@ -9,22 +9,42 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Vectorizer that uses Sentence Transformers models downloaded from HuggingFace. Models are
  * downloaded and cached locally, then run using ONNX Runtime. This provides the same functionality
  * as Python's sentence-transformers library.
+ *
+ * <p>The vectorizer is safe to use from several threads. By default all callers share one ONNX
+ * session, which ONNX Runtime allows to run concurrently; {@link OnnxSessionOptions} sets the
+ * runtime's thread pools, execution mode and memory settings, or a pool of sessions that callers
+ * borrow one at a time.
+ *
+ * <p>Batches are grouped by token length and padded only to their longest text, so short texts are
+ * not batched with, and padded to the length of, a long one. See {@link #setMaxBatchTokens(int)}.
  */
 @Slf4j
 public class SentenceTransformersVectorizer extends BaseVectorizer {
 
+  /** Default maximum padded size of an inference batch: 32 texts of 512 tokens. */
+  public static final int DEFAULT_MAX_BATCH_TOKENS = 16_384;
+
   private final HuggingFaceModelDownloader downloader;
   private final OnnxModelLoader modelLoader;
   private final String cacheDir;
+  private final OnnxSessionOptions sessionOptions;
   private OrtSession session;
+  // Sessions callers borrow one at a time, or null when the single session is shared
+  private BlockingQueue<OrtSession> sessionPool;
+  private final List<OrtSession> pooledSessions = new ArrayList<>();
   private OrtEnvironment environment;
+  private volatile int maxBatchTokens = DEFAULT_MAX_BATCH_TOKENS;
+  private volatile OnnxModelLoader.Pooling pooling = OnnxModelLoader.Pooling.MEAN;
 
   /**
    * Create a vectorizer with default cache directory.
@@ -35,12 +55,17 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
       value = "CT_CONSTRUCTOR_THROW",
       justification = "Cleanup is handled properly before throwing exception")
   public SentenceTransformersVectorizer(String modelName) {
-    super(modelName, -1, "FLOAT32"); // Dimensions will be set after loading model
-    this.cacheDir = getDefaultCacheDir();
-    this.downloader = new HuggingFaceModelDownloader(cacheDir);
-    this.modelLoader = new OnnxModelLoader();
+    this(modelName, getDefaultCacheDir());
+  }
 
-    initializeModelSafely();
+  /**
+   * Create a vectorizer with default cache directory and custom ONNX session settings.
+   *
+   * @param modelName Name of the HuggingFace model to use
+   * @param sessionOptions ONNX Runtime session settings
+   */
+  public SentenceTransformersVectorizer(String modelName, OnnxSessionOptions sessionOptions) {
+    this(modelName, getDefaultCacheDir(), sessionOptions);
   }
 
   /**
@@ -53,8 +78,27 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
       value = "CT_CONSTRUCTOR_THROW",
       justification = "Cleanup is handled properly before throwing exception")
   public SentenceTransformersVectorizer(String modelName, String cacheDir) {
+    this(modelName, cacheDir, OnnxSessionOptions.defaults());
+  }
+
+  /**
+   * Create a vectorizer with custom cache directory and ONNX session settings.
+   *
+   * @param modelName Name of the HuggingFace model to use
+   * @param cacheDir Custom cache directory for model storage
+   * @param sessionOptions ONNX Runtime session settings
+   */
+  @SuppressFBWarnings(
+      value = "CT_CONSTRUCTOR_THROW",
+      justification = "Cleanup is handled properly before throwing exception")
+  public SentenceTransformersVectorizer(
+      String modelName, String cacheDir, OnnxSessionOptions sessionOptions) {
     super(modelName, -1, "FLOAT32"); // Dimensions will be set after loading model
+    if (sessionOptions == null) {
+      throw new IllegalArgumentException("Session options cannot be null");
+    }
     this.cacheDir = cacheDir;
+    this.sessionOptions = sessionOptions;
     this.downloader = new HuggingFaceModelDownloader(cacheDir);
     this.modelLoader = new OnnxModelLoader();
 
@@ -83,7 +127,16 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
     Path modelPath = downloader.downloadModel(modelName);
 
     // Load the ONNX model with the environment
-    this.session = modelLoader.loadModel(modelPath, environment);
+    this.session = modelLoader.loadModel(modelPath, environment, sessionOptions);
+
+    int poolSize = sessionOptions.getSessionPoolSize();
+    if (poolSize > 1) {
+      pooledSessions.add(session);
+      for (int i = 1; i < poolSize; i++) {
+        pooledSessions.add(modelLoader.createSession(modelPath, sessionOptions));
+      }
+      this.sessionPool = new ArrayBlockingQueue<>(poolSize, false, pooledSessions);
+    }
 
     // Update dimensions from loaded model
     this.dimensions = modelLoader.getEmbeddingDimension();
@@ -94,15 +147,15 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
   @Override
   protected float[] generateEmbedding(String text) {
     try {
-      // Tokenize the text
-      long[][] tokenIds = modelLoader.tokenize(text);
+      // Tokenize the text, padded only to its own length
+      long[][] tokenIds = modelLoader.padBatch(List.of(modelLoader.tokenizeUnpadded(text)));
 
       // Create input tensor
       OnnxTensor inputTensor = OnnxTensor.createTensor(environment, tokenIds);
 
       try {
         // Run inference
-        float[][] embeddings = modelLoader.runInference(session, inputTensor);
+        float[][] embeddings = runInference(inputTensor);
 
         // Return the first embedding
         return embeddings[0];
@@ -118,27 +171,34 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
 
   @Override
   protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
-    List<float[]> allEmbeddings = new ArrayList<>();
+    List<long[]> sequences = new ArrayList<>(texts.size());
+    int[] lengths = new int[texts.size()];
+    for (int i = 0; i < texts.size(); i++) {
+      sequences.add(modelLoader.tokenizeUnpadded(texts.get(i)));
+      lengths[i] = sequences.get(i).length;
+    }
 
-    // Process texts in batches
-    for (int i = 0; i < texts.size(); i += batchSize) {
-      int end = Math.min(i + batchSize, texts.size());
-      List<String> batch = texts.subList(i, end);
+    // Batch texts of similar length together and write results back in input order
+    float[][] allEmbeddings = new float[texts.size()][];
+    for (int[] batch : TokenBatchPlanner.plan(lengths, batchSize, maxBatchTokens)) {
+      List<long[]> batchSequences = new ArrayList<>(batch.length);
+      for (int index : batch) {
+        batchSequences.add(sequences.get(index));
+      }
 
       try {
-        // Tokenize batch
-        long[][] tokenIds = modelLoader.tokenizeBatch(batch);
+        // Pad to the longest text of the batch
+        long[][] tokenIds = modelLoader.padBatch(batchSequences);
 
         // Create input tensor
         OnnxTensor inputTensor = OnnxTensor.createTensor(environment, tokenIds);
 
         try {
           // Run inference
-          float[][] embeddings = modelLoader.runInference(session, inputTensor);
+          float[][] embeddings = runInference(inputTensor);
 
-          // Add to results
-          for (float[] embedding : embeddings) {
-            allEmbeddings.add(embedding);
+          for (int i = 0; i < batch.length; i++) {
+            allEmbeddings[batch[i]] = embeddings[i];
           }
 
         } finally {
@@ -150,7 +210,80 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
       }
     }
 
-    return allEmbeddings;
+    return new ArrayList<>(Arrays.asList(allEmbeddings));
+  }
+
+  /**
+   * Get the maximum padded size of an inference batch.
+   *
+   * @return The maximum number of tokens per batch, padding included
+   */
+  public int getMaxBatchTokens() {
+    return maxBatchTokens;
+  }
+
+  /**
+   * Set the maximum padded size of an inference batch: the number of texts times the token length
+   * of the longest one. Batches are also capped by the requested batch size; a text longer than
+   * this budget is run on its own.
+   *
+   * @param maxBatchTokens The maximum number of tokens per batch, padding included
+   */
+  public void setMaxBatchTokens(int maxBatchTokens) {
+    if (maxBatchTokens <= 0) {
+      throw new IllegalArgumentException("Max batch tokens must be positive");
+    }
+    this.maxBatchTokens = maxBatchTokens;
+  }
+
+  /** Run inference on the shared session, or on a session borrowed from the pool. */
+  private float[][] runInference(OnnxTensor inputTensor) throws OrtException {
+    if (sessionPool == null) {
+      return modelLoader.runInference(session, inputTensor, pooling, null);
+    }
+    OrtSession borrowed;
+    try {
+      borrowed = sessionPool.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for an ONNX session", e);
+    }
+    try {
+      return modelLoader.runInference(borrowed, inputTensor, pooling, null);
+    } finally {
+      sessionPool.add(borrowed);
+    }
+  }
+
+  /**
+   * Get how token embeddings are pooled.
+   *
+   * @return The pooling strategy
+   */
+  public OnnxModelLoader.Pooling getPooling() {
+    return pooling;
+  }
+
+  /**
+   * Set how token embeddings are pooled (default mean pooling, which is what Sentence
+   * Transformers models are trained with).
+   *
+   * @param pooling The pooling strategy
+   */
+  public void setPooling(OnnxModelLoader.Pooling pooling) {
+    if (pooling == null) {
+      throw new IllegalArgumentException("Pooling cannot be null");
+    }
+    this.pooling = pooling;
+  }
+
+  /**
+   * Get the ONNX session settings.
+   *
+   * @return The session settings
+   */
+  public OnnxSessionOptions getSessionOptions() {
+    return sessionOptions;
   }
 
   /**
@@ -195,14 +328,19 @@ public class SentenceTransformersVectorizer extends BaseVectorizer {
   }
 
   private void cleanupResources() {
-    if (session != null) {
+    if (session != null && !pooledSessions.contains(session)) {
+      pooledSessions.add(session);
+    }
+    for (OrtSession open : pooledSessions) {
       try {
-        session.close();
-        session = null;
+        open.close();
       } catch (OrtException e) {
         log.warn("Error closing ONNX session during cleanup", e);
       }
     }
+    pooledSessions.clear();
+    session = null;
+    sessionPool = null;
   }
 
   /** Close the vectorizer and clean up resources */
@@ -0,0 +1,53 @@
+package com.redis.vl.utils.vectorize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Groups texts of similar token length into inference batches.
+ *
+ * <p>Texts are ordered by token length and cut into batches of at most {@code maxItems} texts
+ * whose padded size, the batch size times its longest sequence, stays within {@code maxTokens}. A
+ * text longer than the token budget gets a batch of its own.
+ */
+final class TokenBatchPlanner {
+
+  private TokenBatchPlanner() {}
+
+  /**
+   * Plan the batches of a set of texts.
+   *
+   * @param lengths The token length of each text
+   * @param maxItems The maximum number of texts per batch
+   * @param maxTokens The maximum padded size of a batch
+   * @return The batches, each holding the indices of its texts in {@code lengths}
+   */
+  static List<int[]> plan(int[] lengths, int maxItems, int maxTokens) {
+    Integer[] order = new Integer[lengths.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    // Stable, so texts of equal length keep their input order
+    Arrays.sort(order, (a, b) -> Integer.compare(lengths[a], lengths[b]));
+
+    List<int[]> batches = new ArrayList<>();
+    int start = 0;
+    while (start < order.length) {
+      int end = start + 1;
+      // Ordered by length, so the text being added is the longest of the batch
+      while (end < order.length
+          && end - start < maxItems
+          && (long) (end - start + 1) * lengths[order[end]] <= maxTokens) {
+        end++;
+      }
+      int[] batch = new int[end - start];
+      for (int i = start; i < end; i++) {
+        batch[i - start] = order[i];
+      }
+      batches.add(batch);
+      start = end;
+    }
+    return batches;
+  }
+}
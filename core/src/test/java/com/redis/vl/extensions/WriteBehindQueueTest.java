@@ -0,0 +1,217 @@
+package com.redis.vl.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.extensions.WriteBehindOptions.OverflowPolicy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for WriteBehindQueue */
+@DisplayName("WriteBehindQueue Tests")
+class WriteBehindQueueTest {
+
+  private static WriteBehindOptions.Builder options() {
+    return WriteBehindOptions.builder().closeTimeout(Duration.ofSeconds(5));
+  }
+
+  /** A queue whose writer blocks until released, with entry 0 already being written. */
+  private static WriteBehindQueue<Integer> stalledQueue(
+      OverflowPolicy policy, CountDownLatch release, List<Integer> written)
+      throws InterruptedException {
+    CountDownLatch writing = new CountDownLatch(1);
+    WriteBehindOptions settings =
+        options()
+            .capacity(2)
+            .maxBatchSize(1)
+            .maxDelay(Duration.ZERO)
+            .overflowPolicy(policy)
+            .build();
+    WriteBehindQueue<Integer> queue =
+        new WriteBehindQueue<>(
+            "stalled",
+            settings,
+            batch -> {
+              writing.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              written.addAll(batch);
+            });
+    queue.submit(0);
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    return queue;
+  }
+
+  @Test
+  @DisplayName("Should write entries in order, in batches of at most the batch size")
+  void shouldWriteInBatches() {
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> queue =
+        new WriteBehindQueue<>(
+            "batches",
+            options().maxBatchSize(10).maxDelay(Duration.ofMillis(200)).build(),
+            batch -> batches.add(List.copyOf(batch)));
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      futures.add(queue.submit(i));
+    }
+
+    queue.flush();
+
+    assertThat(futures).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+    assertThat(batches).hasSize(3);
+    assertThat(batches.stream().flatMap(List::stream)).containsExactlyElementsOf(range(25));
+    assertThat(queue.getWrittenCount()).isEqualTo(25);
+    assertThat(queue.getBatchCount()).isEqualTo(3);
+    queue.close();
+  }
+
+  @Test
+  @DisplayName("Should fail every future of a batch the writer rejects")
+  void shouldFailBatchOnWriterError() {
+    WriteBehindQueue<Integer> queue =
+        new WriteBehindQueue<>(
+            "failing",
+            options().build(),
+            batch -> {
+              throw new IllegalStateException("boom");
+            });
+
+    CompletableFuture<Void> future = queue.submit(1);
+    queue.flush();
+
+    assertThatThrownBy(future::get).hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(queue.getFailedCount()).isEqualTo(1);
+    queue.close();
+  }
+
+  @Test
+  @DisplayName("Should fail the batch and keep writing when the writer throws an Error")
+  void shouldSurviveWriterError() throws Exception {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> queue =
+        new WriteBehindQueue<>(
+            "erroring",
+            options().maxBatchSize(1).maxDelay(Duration.ZERO).build(),
+            batch -> {
+              if (batch.contains(1)) {
+                throw new AssertionError("boom");
+              }
+              written.addAll(batch);
+            });
+
+    CompletableFuture<Void> failing = queue.submit(1);
+    CompletableFuture<Void> next = queue.submit(2);
+    queue.flush();
+
+    assertThatThrownBy(failing::get).hasCauseInstanceOf(AssertionError.class);
+    next.get(5, TimeUnit.SECONDS);
+    assertThat(written).containsExactly(2);
+    queue.close();
+  }
+
+  @Test
+  @DisplayName("Should block stores while the queue is full")
+  void shouldBlockWhenFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> queue = stalledQueue(OverflowPolicy.BLOCK, release, written);
+    queue.submit(1);
+    queue.submit(2);
+
+    CompletableFuture<CompletableFuture<Void>> blocked =
+        CompletableFuture.supplyAsync(() -> queue.submit(3));
+    Thread.sleep(100);
+    assertThat(blocked).isNotDone();
+
+    release.countDown();
+    blocked.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+    queue.close();
+
+    assertThat(written).containsExactly(0, 1, 2, 3);
+    assertThat(queue.getDroppedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should drop the newest or the oldest entry when the queue is full")
+  void shouldDropWhenFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> newestDropped = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> dropNewest =
+        stalledQueue(OverflowPolicy.DROP_NEWEST, release, newestDropped);
+    List<Integer> oldestDropped = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> dropOldest =
+        stalledQueue(OverflowPolicy.DROP_OLDEST, release, oldestDropped);
+
+    List<CompletableFuture<Void>> newest = new ArrayList<>();
+    List<CompletableFuture<Void>> oldest = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      newest.add(dropNewest.submit(i));
+      oldest.add(dropOldest.submit(i));
+    }
+    release.countDown();
+    dropNewest.close();
+    dropOldest.close();
+
+    assertThat(newestDropped).containsExactly(0, 1, 2);
+    assertThatThrownBy(() -> newest.get(2).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(oldestDropped).containsExactly(0, 2, 3);
+    assertThatThrownBy(() -> oldest.get(0).get())
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(dropNewest.getDroppedCount()).isEqualTo(1);
+    assertThat(dropOldest.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should write queued entries on close and reject later ones")
+  void shouldFlushOnClose() {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    WriteBehindQueue<Integer> queue =
+        new WriteBehindQueue<>(
+            "closing", options().maxDelay(Duration.ofSeconds(10)).build(), written::addAll);
+    for (int i = 0; i < 5; i++) {
+      queue.submit(i);
+    }
+
+    queue.close();
+
+    assertThat(written).containsExactlyElementsOf(range(5));
+    assertThatThrownBy(() -> queue.submit(5).get()).hasCauseInstanceOf(RedisVLException.class);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    assertThatThrownBy(() -> WriteBehindOptions.builder().capacity(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WriteBehindOptions.builder().maxBatchSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WriteBehindOptions.builder().maxDelay(Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WriteBehindOptions.builder().overflowPolicy(null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static List<Integer> range(int n) {
+    List<Integer> values = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      values.add(i);
+    }
+    return values;
+  }
+}
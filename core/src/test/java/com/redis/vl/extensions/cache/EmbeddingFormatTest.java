@@ -0,0 +1,76 @@
+package com.redis.vl.extensions.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.redis.vl.utils.ArrayUtils;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the EmbeddingsCache value formats */
+@DisplayName("EmbeddingFormat Tests")
+class EmbeddingFormatTest {
+
+  private static float[] embedding(int dims) {
+    Random random = new Random(42);
+    float[] vector = new float[dims];
+    for (int i = 0; i < dims; i++) {
+      vector[i] = (float) random.nextGaussian() * 0.05f;
+    }
+    return vector;
+  }
+
+  @Test
+  @DisplayName("FLOAT32 should keep the raw layout written by earlier versions")
+  void shouldKeepRawFloat32Layout() {
+    float[] vector = embedding(8);
+    byte[] bytes = EmbeddingFormat.FLOAT32.encode(vector);
+
+    assertThat(bytes).isEqualTo(ArrayUtils.floatArrayToBytes(vector));
+    assertThat(EmbeddingFormat.of(bytes)).isEqualTo(EmbeddingFormat.FLOAT32);
+    assertThat(EmbeddingFormat.decode(bytes)).containsExactly(vector);
+  }
+
+  @Test
+  @DisplayName("Compact formats should round trip within their precision")
+  void shouldRoundTripCompactFormats() {
+    float[] vector = embedding(768);
+
+    byte[] half = EmbeddingFormat.FLOAT16.encode(vector);
+    assertThat(half).hasSize(4 + 768 * 2);
+    assertThat(EmbeddingFormat.of(half)).isEqualTo(EmbeddingFormat.FLOAT16);
+    assertThat(EmbeddingFormat.decode(half)).containsExactly(vector, within(1e-4f));
+
+    byte[] quantized = EmbeddingFormat.INT8.encode(vector);
+    assertThat(quantized).hasSize(4 + 4 + 768);
+    assertThat(EmbeddingFormat.of(quantized)).isEqualTo(EmbeddingFormat.INT8);
+    float maxAbs = 0;
+    for (float value : vector) {
+      maxAbs = Math.max(maxAbs, Math.abs(value));
+    }
+    assertThat(EmbeddingFormat.decode(quantized)).containsExactly(vector, within(maxAbs / 254));
+  }
+
+  @Test
+  @DisplayName("Should read values without a recognized header as raw float32")
+  void shouldTreatUnknownHeadersAsFloat32() {
+    byte[] futureVersion = EmbeddingFormat.FLOAT16.encode(new float[] {1f, 2f});
+    futureVersion[2] = 2;
+    byte[] truncated = {'R', 'V', 1, 2};
+
+    assertThat(EmbeddingFormat.of(futureVersion)).isEqualTo(EmbeddingFormat.FLOAT32);
+    assertThat(EmbeddingFormat.of(truncated)).isEqualTo(EmbeddingFormat.FLOAT32);
+    assertThat(EmbeddingFormat.decode(truncated)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Should encode zero vectors and nulls")
+  void shouldEncodeEdgeCases() {
+    assertThat(EmbeddingFormat.decode(EmbeddingFormat.INT8.encode(new float[] {0f, 0f})))
+        .containsExactly(0f, 0f);
+    assertThat(EmbeddingFormat.INT8.encode(null)).isNull();
+    assertThat(EmbeddingFormat.FLOAT16.encode(null)).isNull();
+    assertThat(EmbeddingFormat.decode(null)).isNull();
+  }
+}
@@ -0,0 +1,75 @@
+package com.redis.vl.extensions.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.extensions.cache.EmbeddingsCache.KeyScheme;
+import com.redis.vl.test.Benchmark;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Micro-benchmark of EmbeddingsCache key generation throughput: the per-call digest and formatted
+ * hex of earlier versions against each {@link KeyScheme}, for typical chunk lengths.
+ */
+@Tag("slow")
+@DisplayName("EmbeddingKeys benchmark")
+class EmbeddingKeysBenchmarkTest {
+
+  private static final int KEYS = 200_000;
+  private static final String MODEL = "sentence-transformers/all-MiniLM-L6-v2";
+
+  private interface KeyFunction {
+    byte[] key(String text) throws Exception;
+  }
+
+  private static double keysPerSecond(List<String> texts, KeyFunction function) throws Exception {
+    for (int i = 0; i < texts.size() / 4; i++) {
+      Benchmark.consume(function.key(texts.get(i)));
+    }
+    long elapsed =
+        Benchmark.elapsedNanos(
+            () -> {
+              for (String text : texts) {
+                Benchmark.consume(function.key(text));
+              }
+            });
+    return Benchmark.perSecond(texts.size(), elapsed);
+  }
+
+  @ParameterizedTest(name = "{0} chars")
+  @ValueSource(ints = {64, 512, 2048})
+  void benchmarkKeys(int length) throws Exception {
+    StringBuilder base = new StringBuilder();
+    while (base.length() < length) {
+      base.append("Redis vector library chunk text. ");
+    }
+    List<String> texts = new ArrayList<>(KEYS);
+    for (int i = 0; i < KEYS; i++) {
+      texts.add(i + base.substring(0, length));
+    }
+
+    double legacy =
+        keysPerSecond(
+            texts,
+            text ->
+                EmbeddingKeysTest.legacyKey("cache:", text, MODEL)
+                    .getBytes(StandardCharsets.UTF_8));
+    StringBuilder report = new StringBuilder(String.format("legacy %,.0f", legacy));
+    for (KeyScheme scheme : KeyScheme.values()) {
+      EmbeddingKeys keys = new EmbeddingKeys("cache:", scheme);
+      double rate = keysPerSecond(texts, text -> keys.key(text, MODEL));
+      report.append(String.format(" | %s %,.0f", scheme, rate));
+    }
+    System.out.printf("%4d chars, keys/s: %s%n", length, report);
+
+    assertThat(new EmbeddingKeys("cache:", KeyScheme.SHA256_HEX).key(texts.get(0), MODEL))
+        .isEqualTo(
+            EmbeddingKeysTest.legacyKey("cache:", texts.get(0), MODEL)
+                .getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,64 @@
+package com.redis.vl.extensions.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.extensions.cache.EmbeddingsCache.KeyScheme;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for EmbeddingsCache keys */
+@DisplayName("EmbeddingKeys Tests")
+class EmbeddingKeysTest {
+
+  /** The key as earlier versions built it. */
+  static String legacyKey(String prefix, String text, String modelName) throws Exception {
+    byte[] hash =
+        MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+    StringBuilder hex = new StringBuilder();
+    for (byte b : hash) {
+      hex.append(String.format("%02x", b));
+    }
+    return prefix + modelName + ":" + hex;
+  }
+
+  @Test
+  @DisplayName("SHA256_HEX keys should match the keys of earlier versions")
+  void shouldMatchLegacyKeys() throws Exception {
+    EmbeddingKeys keys = new EmbeddingKeys("cache:", KeyScheme.SHA256_HEX);
+
+    for (String text : new String[] {"", "Hello, world!", "héllo 世界 🚀"}) {
+      assertThat(new String(keys.key(text, "model-é"), StandardCharsets.UTF_8))
+          .isEqualTo(legacyKey("cache:", text, "model-é"));
+    }
+  }
+
+  @Test
+  @DisplayName("Binary and MurmurHash3 schemes should shorten keys")
+  void shouldBuildCompactKeys() {
+    String prefix = "cache:model:";
+    int prefixLength = prefix.length();
+
+    assertThat(new EmbeddingKeys("cache:", KeyScheme.SHA256_BINARY).key("text", "model"))
+        .hasSize(prefixLength + 32);
+    assertThat(new EmbeddingKeys("cache:", KeyScheme.MURMUR3_128_HEX).key("text", "model"))
+        .hasSize(prefixLength + 32);
+    byte[] binary = new EmbeddingKeys("cache:", KeyScheme.MURMUR3_128_BINARY).key("text", "model");
+    assertThat(binary).hasSize(prefixLength + 16);
+    assertThat(new String(binary, 0, prefixLength, StandardCharsets.UTF_8)).isEqualTo(prefix);
+  }
+
+  @Test
+  @DisplayName("MurmurHash3 should match the reference implementation")
+  void shouldMatchMurmur3Reference() {
+    byte[] hash =
+        EmbeddingKeys.murmur3x64x128(
+            "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8));
+
+    // h1 and h2 of the reference implementation, each written big-endian
+    assertThat(HexFormat.of().formatHex(hash)).isEqualTo("e34bbc7bbc071b6c7a433ca9c49a9347");
+    assertThat(EmbeddingKeys.murmur3x64x128(new byte[0])).containsOnly(0);
+  }
+}
@@ -230,6 +230,96 @@ public class EmbeddingsCacheIntegrationTest extends BaseIntegrationTest {
     }
   }
 
+  @Test
+  @DisplayName("Local tier: repeated lookups are served without Redis")
+  void testLocalTier() {
+    EmbeddingsCache tiered =
+        new EmbeddingsCache.Builder()
+            .name(CACHE_NAME + "_tiered")
+            .redisClient(unifiedJedis)
+            .localCache(1 << 20)
+            .build();
+    float[] embedding = new float[] {0.1f, 0.2f, 0.3f, 0.4f};
+    tiered.set("cached", MODEL_NAME, embedding);
+
+    // Remove the Redis copy; the local tier still answers
+    unifiedJedis.del(unifiedJedis.keys(tiered.getPrefix() + "*").toArray(new String[0]));
+
+    assertArrayEquals(embedding, tiered.get("cached", MODEL_NAME).orElseThrow());
+    Map<String, float[]> results = tiered.mget(List.of("cached", "missing"), MODEL_NAME);
+    assertEquals(Set.of("cached"), results.keySet());
+    assertEquals(2, tiered.getLocalHitCount());
+    assertEquals(1, tiered.getLocalCacheSize());
+    assertTrue(tiered.getLocalCacheBytes() > embedding.length * Float.BYTES);
+
+    tiered.drop("cached", MODEL_NAME);
+    assertFalse(tiered.get("cached", MODEL_NAME).isPresent());
+    assertEquals(0, tiered.getLocalCacheSize());
+  }
+
+  @Test
+  @DisplayName("Compact formats: smaller values readable by every cache")
+  void testCompactFormats() {
+    float[] embedding = new float[384];
+    for (int i = 0; i < embedding.length; i++) {
+      embedding[i] = (float) Math.sin(i) * 0.1f;
+    }
+    cache.set("raw", MODEL_NAME, embedding);
+    for (EmbeddingFormat format : List.of(EmbeddingFormat.FLOAT16, EmbeddingFormat.INT8)) {
+      EmbeddingsCache compact =
+          new EmbeddingsCache.Builder()
+              .name(CACHE_NAME)
+              .redisClient(unifiedJedis)
+              .format(format)
+              .build();
+      compact.set(format.name(), MODEL_NAME, embedding);
+
+      // Readers decode any format, whichever they write
+      assertArrayEquals(embedding, cache.get(format.name(), MODEL_NAME).orElseThrow(), 0.001f);
+      assertArrayEquals(embedding, compact.get("raw", MODEL_NAME).orElseThrow());
+    }
+
+    Map<String, Long> sizes = new HashMap<>();
+    for (String key : unifiedJedis.keys(cache.getPrefix() + "*")) {
+      float[] decoded = EmbeddingFormat.decode(unifiedJedis.get(key.getBytes()));
+      sizes.put(key, unifiedJedis.strlen(key));
+      assertEquals(embedding.length, decoded.length);
+    }
+    assertEquals(Set.of(384L * 4, 4L + 384 * 2, 4L + 4 + 384), Set.copyOf(sizes.values()));
+  }
+
+  @Test
+  @DisplayName("Key schemes: binary keys and legacy key fallback")
+  void testKeySchemes() {
+    float[] embedding = new float[] {0.1f, 0.2f, 0.3f, 0.4f};
+    cache.set("legacy", MODEL_NAME, embedding);
+
+    EmbeddingsCache migrating =
+        new EmbeddingsCache.Builder()
+            .name(CACHE_NAME)
+            .redisClient(unifiedJedis)
+            .keyScheme(EmbeddingsCache.KeyScheme.MURMUR3_128_BINARY)
+            .legacyKeyFallback(true)
+            .build();
+    migrating.set("binary", MODEL_NAME, embedding);
+
+    // Entries under either key are found; the default cache only sees its own
+    assertArrayEquals(embedding, migrating.get("legacy", MODEL_NAME).orElseThrow());
+    assertEquals(
+        Set.of("legacy", "binary"),
+        migrating.mget(List.of("legacy", "binary", "missing"), MODEL_NAME).keySet());
+    assertTrue(migrating.mexists(List.of("legacy"), MODEL_NAME).get("legacy"));
+    assertFalse(cache.exists("binary", MODEL_NAME));
+
+    migrating.drop("legacy", MODEL_NAME);
+    assertFalse(cache.exists("legacy", MODEL_NAME), "Drop should remove the legacy key");
+
+    // Binary keys are cleared too
+    migrating.clear();
+    assertFalse(migrating.exists("binary", MODEL_NAME));
+    assertEquals(0, cache.size());
+  }
+
   @Test
   @DisplayName("Performance benchmark simulation")
   void testPerformanceBenchmark() {
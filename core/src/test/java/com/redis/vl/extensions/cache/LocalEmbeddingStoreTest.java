@@ -0,0 +1,81 @@
+package com.redis.vl.extensions.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the EmbeddingsCache local tier */
+@DisplayName("LocalEmbeddingStore Tests")
+class LocalEmbeddingStoreTest {
+
+  // Estimated size of an entry with a one-character key and a 32-element vector
+  private static final long ENTRY_BYTES = 128 + 2 + 32 * 4;
+
+  @Test
+  @DisplayName("Should return copies of stored embeddings")
+  void shouldCopyEmbeddings() {
+    LocalEmbeddingStore store = new LocalEmbeddingStore(1 << 20, Duration.ofMinutes(1));
+    float[] vector = {1f, 2f, 3f};
+    store.put("a", vector);
+    vector[0] = 9f;
+
+    float[] cached = store.get("a");
+    assertThat(cached).containsExactly(1f, 2f, 3f);
+    cached[1] = 9f;
+    assertThat(store.get("a")).containsExactly(1f, 2f, 3f);
+    assertThat(store.get("b")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should evict least recently used entries beyond the byte budget")
+  void shouldEvictWithinByteBudget() {
+    LocalEmbeddingStore store = new LocalEmbeddingStore(2 * ENTRY_BYTES, Duration.ofMinutes(1));
+    store.put("a", new float[32]);
+    store.put("b", new float[32]);
+    store.get("a");
+    store.put("c", new float[32]);
+
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(store.usedBytes()).isEqualTo(2 * ENTRY_BYTES);
+    assertThat(store.get("a")).isNotNull();
+    assertThat(store.get("b")).isNull();
+    assertThat(store.get("c")).isNotNull();
+
+    // Larger than the whole budget: not kept, and nothing else is evicted for it
+    store.put("d", new float[1024]);
+    assertThat(store.get("d")).isNull();
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should expire, remove and clear entries")
+  void shouldExpireAndRemove() throws InterruptedException {
+    LocalEmbeddingStore store = new LocalEmbeddingStore(1 << 20, Duration.ofMillis(50));
+    store.put("a", new float[32]);
+    store.put("b", new float[32]);
+    store.remove("b");
+    assertThat(store.get("b")).isNull();
+    assertThat(store.usedBytes()).isEqualTo(ENTRY_BYTES);
+
+    Thread.sleep(100);
+    assertThat(store.get("a")).isNull();
+    assertThat(store.usedBytes()).isZero();
+
+    store.put("c", new float[32]);
+    store.clear();
+    assertThat(store.size()).isZero();
+    assertThat(store.usedBytes()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    assertThatThrownBy(() -> new LocalEmbeddingStore(0, Duration.ofMinutes(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new LocalEmbeddingStore(1024, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
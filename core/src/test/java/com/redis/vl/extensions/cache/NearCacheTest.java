@@ -0,0 +1,142 @@
+package com.redis.vl.extensions.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the SemanticCache near cache tier */
+@DisplayName("NearCache Tests")
+class NearCacheTest {
+
+  private static CacheHit hit(String prompt, float distance) {
+    return new CacheHit(prompt, "answer to " + prompt, distance, Map.of());
+  }
+
+  @Test
+  @DisplayName("Should serve exact prompts per filter")
+  void shouldServeExactPromptsPerFilter() {
+    NearCache cache = new NearCache(10, Duration.ofMinutes(1), false);
+    cache.put("q", null, "cache:1", hit("q", 0.01f), new float[] {1, 0}, cache.generation());
+
+    assertThat(cache.get("q", null, 0.1f).getResponse()).isEqualTo("answer to q");
+    assertThat(cache.get("q", "@user:{alice}", 0.1f)).isNull();
+    assertThat(cache.get("other", null, 0.1f)).isNull();
+    // A tighter threshold no longer accepts the hit
+    assertThat(cache.get("q", null, 0.001f)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict the least recently used entry")
+  void shouldEvictLeastRecentlyUsed() {
+    NearCache cache = new NearCache(2, Duration.ofMinutes(1), false);
+    cache.put("a", null, "cache:a", hit("a", 0f), null, cache.generation());
+    cache.put("b", null, "cache:b", hit("b", 0f), null, cache.generation());
+    cache.get("a", null, 0.1f);
+    cache.put("c", null, "cache:c", hit("c", 0f), null, cache.generation());
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a", null, 0.1f)).isNotNull();
+    assertThat(cache.get("b", null, 0.1f)).isNull();
+    assertThat(cache.get("c", null, 0.1f)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should expire entries after the TTL")
+  void shouldExpireEntries() throws InterruptedException {
+    NearCache cache = new NearCache(10, Duration.ofMillis(50), false);
+    cache.put("q", null, "cache:1", hit("q", 0f), null, cache.generation());
+    assertThat(cache.get("q", null, 0.1f)).isNotNull();
+
+    Thread.sleep(100);
+
+    assertThat(cache.get("q", null, 0.1f)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should invalidate by Redis key, prompt and all")
+  void shouldInvalidate() {
+    NearCache cache = new NearCache(10, Duration.ofMinutes(1), false);
+    cache.put("q1", null, "cache:1", hit("q1", 0f), null, cache.generation());
+    cache.put("q1 again", null, "cache:1", hit("q1", 0.05f), null, cache.generation());
+    cache.put("q2", null, "cache:2", hit("q2", 0f), null, cache.generation());
+    cache.put("q2", "@user:{bob}", "cache:2", hit("q2", 0f), null, cache.generation());
+
+    cache.invalidateKey("cache:1");
+    assertThat(cache.get("q1", null, 0.1f)).isNull();
+    assertThat(cache.get("q1 again", null, 0.1f)).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.invalidatePrompt("q2");
+    assertThat(cache.size()).isZero();
+
+    cache.put("q3", null, "cache:3", hit("q3", 0f), null, cache.generation());
+    cache.invalidateAll();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should serve near-duplicate embeddings when similarity search is enabled")
+  void shouldServeNearDuplicates() {
+    NearCache cache = new NearCache(10, Duration.ofMinutes(1), true);
+    cache.put("q", null, "cache:1", hit("q", 0.02f), new float[] {1f, 0f}, cache.generation());
+    cache.put(
+        "f", "@user:{alice}", "cache:2", hit("f", 0f), new float[] {0f, 1f}, cache.generation());
+
+    CacheHit near = cache.getSimilar(new float[] {2f, 0.1f}, 0.1f);
+    assertThat(near).isNotNull();
+    assertThat(near.getPrompt()).isEqualTo("q");
+    assertThat(near.getDistance()).isGreaterThan(0.02f).isLessThan(0.1f);
+
+    // Filtered entries are never matched by similarity
+    assertThat(cache.getSimilar(new float[] {0f, 1f}, 0.1f)).isNull();
+    assertThat(cache.getSimilar(new float[] {1f, 1f}, 0.1f)).isNull();
+
+    NearCache exactOnly = new NearCache(10, Duration.ofMinutes(1), false);
+    exactOnly.put("q", null, "cache:1", hit("q", 0f), new float[] {1f, 0f}, exactOnly.generation());
+    assertThat(exactOnly.getSimilar(new float[] {1f, 0f}, 0.1f)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should not keep hits invalidated while their search was in flight")
+  void shouldDropHitsInvalidatedDuringSearch() {
+    NearCache cache = new NearCache(2, Duration.ofMinutes(1), false);
+
+    long beforeSearch = cache.generation();
+    cache.invalidateKey("cache:1");
+    cache.put("q1", null, "cache:1", hit("q1", 0f), null, beforeSearch);
+    // Invalidations of other keys do not affect the hit
+    cache.put("q2", null, "cache:2", hit("q2", 0f), null, beforeSearch);
+    assertThat(cache.get("q1", null, 0.1f)).isNull();
+    assertThat(cache.get("q2", null, 0.1f)).isNotNull();
+
+    // Once per-key invalidations are forgotten, older searches are dropped conservatively
+    long stale = cache.generation();
+    cache.invalidateKey("cache:3");
+    cache.invalidateKey("cache:4");
+    cache.invalidateKey("cache:5");
+    cache.put("q6", null, "cache:6", hit("q6", 0f), null, stale);
+    assertThat(cache.get("q6", null, 0.1f)).isNull();
+
+    long beforeClear = cache.generation();
+    cache.invalidateAll();
+    cache.put("q6", null, "cache:6", hit("q6", 0f), null, beforeClear);
+    assertThat(cache.get("q6", null, 0.1f)).isNull();
+
+    cache.put("q6", null, "cache:6", hit("q6", 0f), null, cache.generation());
+    assertThat(cache.get("q6", null, 0.1f)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    assertThatThrownBy(() -> new NearCache(0, Duration.ofMinutes(1), false))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new NearCache(10, Duration.ZERO, false))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -3,16 +3,22 @@ package com.redis.vl.extensions.cache;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.extensions.WriteBehindOptions;
 import com.redis.vl.query.Filter;
 import com.redis.vl.utils.vectorize.BaseVectorizer;
 import com.redis.vl.utils.vectorize.MockVectorizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Protocol;
 
 /**
  * Integration tests for SemanticCache based on the Python notebook:
@@ -299,6 +305,116 @@ public class SemanticCacheIntegrationTest extends BaseIntegrationTest {
     assertEquals("Deep Learning", results.get(3).get().getResponse());
   }
 
+  @Test
+  @DisplayName("Batch operations embed in one batch and set TTLs")
+  void testBatchOperationsUseEmbedBatch() {
+    List<List<String>> batches = new ArrayList<>();
+    List<String> singles = new ArrayList<>();
+    BaseVectorizer recording =
+        new MockVectorizer("mock-model", DIMENSIONS) {
+          private boolean inBatch;
+
+          @Override
+          protected float[] generateEmbedding(String text) {
+            if (!inBatch) {
+              singles.add(text);
+            }
+            return super.generateEmbedding(text);
+          }
+
+          @Override
+          protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+            batches.add(List.copyOf(texts));
+            inBatch = true;
+            try {
+              return super.generateEmbeddingsBatch(texts, batchSize);
+            } finally {
+              inBatch = false;
+            }
+          }
+        };
+    SemanticCache batchCache =
+        new SemanticCache.Builder()
+            .name(CACHE_NAME + "_batch")
+            .redisClient(unifiedJedis)
+            .vectorizer(recording)
+            .ttl(300)
+            .build();
+
+    batchCache.storeBatch(
+        List.of(
+            new PromptResponsePair("What is AI?", "Artificial Intelligence"),
+            new PromptResponsePair("What is ML?", "Machine Learning")));
+    List<Optional<CacheHit>> results =
+        batchCache.checkBatch(List.of("What is ML?", "What is CV?", "What is AI?"));
+
+    assertEquals(List.of("What is AI?", "What is ML?"), batches.get(0));
+    assertEquals(List.of("What is ML?", "What is CV?", "What is AI?"), batches.get(1));
+    assertTrue(singles.isEmpty(), "Batch paths should not embed one prompt at a time");
+
+    assertEquals("Machine Learning", results.get(0).get().getResponse());
+    assertFalse(results.get(1).isPresent());
+    assertEquals("Artificial Intelligence", results.get(2).get().getResponse());
+    assertEquals(2, batchCache.getHitCount());
+    assertEquals(1, batchCache.getMissCount());
+
+    for (String key : unifiedJedis.keys(batchCache.getPrefix() + "*")) {
+      long ttl = unifiedJedis.ttl(key);
+      assertTrue(ttl > 0 && ttl <= 300, "Entry should have a TTL: " + key);
+    }
+  }
+
+  @Test
+  @DisplayName("Write-behind stores are queued and written in batches")
+  void testWriteBehind() {
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    BaseVectorizer recording =
+        new MockVectorizer("mock-model", DIMENSIONS) {
+          @Override
+          protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+            batches.add(List.copyOf(texts));
+            return super.generateEmbeddingsBatch(texts, batchSize);
+          }
+        };
+    SemanticCache writeBehindCache =
+        new SemanticCache.Builder()
+            .name(CACHE_NAME + "_write_behind")
+            .redisClient(unifiedJedis)
+            .vectorizer(recording)
+            .ttl(300)
+            .writeBehind(WriteBehindOptions.builder().maxDelay(Duration.ofMillis(200)).build())
+            .build();
+    try {
+      writeBehindCache.store("What is AI?", "Artificial Intelligence");
+      writeBehindCache.storeWithTTL("What is ML?", "Machine Learning", null, 60);
+      CompletableFuture<Void> stored =
+          writeBehindCache.storeAsync("What is CV?", "Computer Vision", Map.of("user", "bob"));
+      writeBehindCache.flush();
+
+      assertTrue(stored.isDone() && !stored.isCompletedExceptionally());
+      assertEquals(0, writeBehindCache.getPendingWriteCount());
+      assertEquals(
+          List.of(List.of("What is AI?", "What is ML?", "What is CV?")),
+          batches,
+          "Queued prompts should be embedded in one batch");
+      assertEquals(3, writeBehindCache.size());
+      assertEquals("Computer Vision", writeBehindCache.check("What is CV?").get().getResponse());
+      for (String key : unifiedJedis.keys(writeBehindCache.getPrefix() + "*")) {
+        long ttl = unifiedJedis.ttl(key);
+        String prompt = unifiedJedis.hget(key, "prompt");
+        assertTrue(ttl > 0 && ttl <= ("What is ML?".equals(prompt) ? 60 : 300), key);
+      }
+
+      writeBehindCache.store("What is NLP?", "Natural Language Processing");
+      writeBehindCache.closeWriteBehind();
+      assertEquals(4, writeBehindCache.size(), "Closing should write queued stores");
+      assertTrue(writeBehindCache.storeAsync("Late", "late").isCompletedExceptionally());
+      assertEquals(1, writeBehindCache.getDroppedWriteCount());
+    } finally {
+      writeBehindCache.closeWriteBehind();
+    }
+  }
+
   @Test
   @DisplayName("Return top-k similar results")
   void testTopKResults() {
@@ -371,4 +487,80 @@ public class SemanticCacheIntegrationTest extends BaseIntegrationTest {
     assertEquals(0, cache.getMissCount());
     assertEquals(2, cache.size(), "Size should not be affected by reset");
   }
+
+  @Test
+  @DisplayName("Near cache serves repeated prompts and reports tier hit rates")
+  void testNearCache() {
+    SemanticCache tiered =
+        new SemanticCache.Builder()
+            .name(CACHE_NAME + "_near")
+            .redisClient(unifiedJedis)
+            .vectorizer(vectorizer)
+            .distanceThreshold(0.2f)
+            .nearCache(100)
+            .build();
+
+    tiered.store("What is the capital of France?", "Paris");
+    tiered.store("What is 2 + 2?", "4");
+
+    // First check searches Redis, repeats are served locally
+    for (int i = 0; i < 3; i++) {
+      Optional<CacheHit> hit = tiered.check("What is the capital of France?");
+      assertTrue(hit.isPresent());
+      assertEquals("Paris", hit.get().getResponse());
+    }
+    assertFalse(tiered.check("Something never stored").isPresent());
+
+    assertEquals(3, tiered.getHitCount());
+    assertEquals(1, tiered.getMissCount());
+    assertEquals(2, tiered.getL1HitCount());
+    assertEquals(1, tiered.getL2HitCount());
+    assertEquals(0.5f, tiered.getL1HitRate(), 0.001f);
+    assertEquals(0.5f, tiered.getL2HitRate(), 0.001f);
+    assertEquals(1, tiered.getNearCacheSize());
+
+    // Updates and clears through the cache invalidate the near cache
+    tiered.update("What is the capital of France?", "Paris, France");
+    Optional<CacheHit> updated = tiered.check("What is the capital of France?");
+    assertEquals("Paris, France", updated.get().getResponse());
+    tiered.clear();
+    assertEquals(0, tiered.getNearCacheSize());
+    assertFalse(tiered.check("What is the capital of France?").isPresent());
+  }
+
+  @Test
+  @DisplayName("Near cache is invalidated by keyspace notifications")
+  void testNearCacheKeyspaceInvalidation() throws InterruptedException {
+    unifiedJedis.sendCommand(Protocol.Command.CONFIG, "SET", "notify-keyspace-events", "Kghxe");
+    SemanticCache tiered =
+        new SemanticCache.Builder()
+            .name(CACHE_NAME + "_notify")
+            .redisClient(unifiedJedis)
+            .vectorizer(vectorizer)
+            .nearCache(100)
+            .nearCacheInvalidation(true)
+            .build();
+    try {
+      tiered.store("What is 2 + 2?", "4");
+      // Let the subscription come up; it drops the near cache when it does
+      Thread.sleep(500);
+      assertTrue(tiered.check("What is 2 + 2?").isPresent());
+      assertEquals(1, tiered.getNearCacheSize());
+
+      // Another client deletes the entry
+      for (String key : unifiedJedis.keys(tiered.getPrefix() + "*")) {
+        unifiedJedis.del(key);
+      }
+
+      long deadline = System.currentTimeMillis() + 5000;
+      while (tiered.getNearCacheSize() > 0 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(20);
+      }
+      assertEquals(0, tiered.getNearCacheSize());
+      assertFalse(tiered.check("What is 2 + 2?").isPresent());
+    } finally {
+      tiered.closeNearCache();
+      unifiedJedis.sendCommand(Protocol.Command.CONFIG, "SET", "notify-keyspace-events", "");
+    }
+  }
 }
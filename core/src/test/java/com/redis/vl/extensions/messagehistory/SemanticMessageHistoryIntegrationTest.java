@@ -4,9 +4,12 @@ import static com.redis.vl.extensions.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.extensions.WriteBehindOptions;
 import com.redis.vl.utils.vectorize.BaseVectorizer;
 import com.redis.vl.utils.vectorize.MockVectorizer;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.*;
 
 /**
@@ -444,4 +447,56 @@ class SemanticMessageHistoryIntegrationTest extends BaseIntegrationTest {
       // Note: exact results depend on vectorizer behavior
     }
   }
+
+  @Nested
+  @DisplayName("Write-behind tests")
+  class WriteBehindIntegrationTests {
+
+    @Test
+    @DisplayName("should queue messages and write them in batches")
+    void testWriteBehind() {
+      List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+      BaseVectorizer recording =
+          new MockVectorizer("mock-model", 768) {
+            @Override
+            protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+              batches.add(List.copyOf(texts));
+              return super.generateEmbeddingsBatch(texts, batchSize);
+            }
+          };
+      SemanticMessageHistory writeBehind =
+          new SemanticMessageHistory(
+              "test_write_behind_history",
+              null,
+              null,
+              recording,
+              0.3,
+              unifiedJedis,
+              true,
+              WriteBehindOptions.builder().maxDelay(Duration.ofMillis(200)).build());
+      try {
+        writeBehind.store("first prompt", "first response");
+        CompletableFuture<Void> stored = writeBehind.storeAsync("second prompt", "second response");
+        writeBehind.flush();
+
+        assertTrue(stored.isDone() && !stored.isCompletedExceptionally());
+        assertEquals(1, batches.size(), "Queued messages should be embedded in one batch");
+        assertEquals(
+            List.of("first prompt", "first response", "second prompt", "second response"),
+            batches.get(0));
+        List<String> recent = writeBehind.getRecent(10, true, false, null, null);
+        assertEquals(
+            List.of("first prompt", "first response", "second prompt", "second response"),
+            recent);
+
+        writeBehind.store("third prompt", "third response");
+        writeBehind.close();
+        assertEquals(6, writeBehind.getMessages().size(), "Close should write queued messages");
+        assertTrue(writeBehind.storeAsync("late", "late").isCompletedExceptionally());
+      } finally {
+        writeBehind.close();
+        writeBehind.delete();
+      }
+    }
+  }
 }
@@ -0,0 +1,157 @@
+package com.redis.vl.extensions.router;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.test.Benchmark;
+import com.redis.vl.utils.vectorize.BaseVectorizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Latency and accuracy of server-side routing over 50 routes of 40 clustered references each, with
+ * an increasing {@link RoutingConfig#getAggregationWindow() aggregation window}. Accuracy is the
+ * share of queries whose best route matches routing without a window.
+ */
+@Tag("slow")
+@DisplayName("Aggregation window benchmark")
+class AggregationWindowBenchmarkTest extends BaseIntegrationTest {
+
+  private static final int ROUTES = 50;
+  private static final int REFERENCES_PER_ROUTE = 40;
+  private static final int DIMENSIONS = 64;
+  private static final int QUERIES = 200;
+
+  private static SemanticRouter router;
+  private static List<float[]> queries;
+
+  /** Embeds each reference text to the vector generated for it. */
+  private static final class LookupVectorizer extends BaseVectorizer {
+    private final Map<String, float[]> vectors;
+
+    LookupVectorizer(Map<String, float[]> vectors) {
+      super("lookup", DIMENSIONS);
+      this.vectors = vectors;
+    }
+
+    @Override
+    protected float[] generateEmbedding(String text) {
+      return vectors.get(text);
+    }
+
+    @Override
+    protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+      return texts.stream().map(vectors::get).toList();
+    }
+  }
+
+  @BeforeAll
+  static void setup() {
+    Random random = new Random(42);
+    List<float[]> topics = new ArrayList<>();
+    for (int r = 0; r < ROUTES; r++) {
+      topics.add(randomVector(random, null, 0));
+    }
+
+    Map<String, float[]> vectors = new HashMap<>();
+    List<Route> routes = new ArrayList<>();
+    for (int r = 0; r < ROUTES; r++) {
+      List<String> references = new ArrayList<>();
+      for (int i = 0; i < REFERENCES_PER_ROUTE; i++) {
+        String reference = "route" + r + " reference " + i;
+        references.add(reference);
+        vectors.put(reference, randomVector(random, topics.get(r), 0.8f));
+      }
+      routes.add(
+          Route.builder().name("route" + r).references(references).distanceThreshold(1.0).build());
+    }
+    router =
+        SemanticRouter.builder()
+            .name("aggregation-window-bench")
+            .routes(routes)
+            .vectorizer(new LookupVectorizer(vectors))
+            .jedis(unifiedJedis)
+            .overwrite(true)
+            .build();
+
+    queries = new ArrayList<>(QUERIES);
+    for (int q = 0; q < QUERIES; q++) {
+      queries.add(randomVector(random, topics.get(random.nextInt(ROUTES)), 1.0f));
+    }
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (router != null) {
+      router.delete();
+    }
+  }
+
+  /**
+   * Route every query with the given window after one warm-up run, collecting the best route of
+   * each query into {@code names}, and return the time of the measured run in nanoseconds.
+   */
+  private static long route(DistanceAggregationMethod method, int window, List<String> names)
+      throws Exception {
+    router.updateRoutingConfig(
+        RoutingConfig.builder().aggregationMethod(method).aggregationWindow(window).build());
+    router.routeBatch(null, queries, method);
+    return Benchmark.elapsedNanos(
+        () -> {
+          names.clear();
+          for (RouteMatch match : router.routeBatch(null, queries, method)) {
+            names.add(match.getName());
+          }
+        });
+  }
+
+  @Test
+  @DisplayName("Should report latency and accuracy of the aggregation window")
+  void shouldCompareAggregationWindows() throws Exception {
+    for (DistanceAggregationMethod method :
+        List.of(DistanceAggregationMethod.MIN, DistanceAggregationMethod.AVG)) {
+      List<String> exact = new ArrayList<>();
+      double exactMillis = route(method, 0, exact) / 1e6 / QUERIES;
+      System.out.printf(
+          "%s, no window (%d references): %.2f ms/query%n",
+          method, ROUTES * REFERENCES_PER_ROUTE, exactMillis);
+
+      for (int window : new int[] {10, REFERENCES_PER_ROUTE, 5 * REFERENCES_PER_ROUTE}) {
+        List<String> windowed = new ArrayList<>();
+        double millis = route(method, window, windowed) / 1e6 / QUERIES;
+        int agree = 0;
+        for (int q = 0; q < QUERIES; q++) {
+          if (Objects.equals(exact.get(q), windowed.get(q))) {
+            agree++;
+          }
+        }
+        System.out.printf(
+            "%s, window %d: %.2f ms/query, %.1f%% agreement%n",
+            method, window, millis, 100.0 * agree / QUERIES);
+        if (method == DistanceAggregationMethod.MIN) {
+          // The closest reference is always inside the window
+          assertThat(windowed).isEqualTo(exact);
+        }
+      }
+    }
+  }
+
+  /** A random vector, or a random perturbation of a center vector. */
+  private static float[] randomVector(Random random, float[] center, float noise) {
+    float[] vector = new float[DIMENSIONS];
+    for (int i = 0; i < DIMENSIONS; i++) {
+      float value = (float) random.nextGaussian();
+      vector[i] = center == null ? value : center[i] + noise * value;
+    }
+    return vector;
+  }
+}
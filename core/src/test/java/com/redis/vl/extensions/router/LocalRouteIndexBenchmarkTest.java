@@ -0,0 +1,108 @@
+package com.redis.vl.extensions.router;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.test.Benchmark;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Latency and accuracy of local routing over 200 routes of 100 clustered references each: scoring
+ * every reference against the centroid prefilter with an increasing number of candidate routes.
+ * Accuracy is the share of queries whose best route matches the exact result.
+ */
+@Tag("slow")
+@DisplayName("LocalRouteIndex benchmark")
+class LocalRouteIndexBenchmarkTest {
+
+  private static final int ROUTES = 200;
+  private static final int REFERENCES_PER_ROUTE = 100;
+  private static final int DIMENSIONS = 384;
+  private static final int QUERIES = 500;
+
+  @Test
+  @DisplayName("Should report latency and accuracy of centroid prefiltering")
+  void shouldCompareExactAndPrefilteredRouting() throws Exception {
+    Random random = new Random(42);
+    List<float[]> topics = new ArrayList<>();
+    for (int r = 0; r < ROUTES; r++) {
+      topics.add(randomVector(random, null, 0));
+    }
+
+    LocalRouteIndex index = new LocalRouteIndex();
+    List<String> routeNames = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    Map<String, Double> thresholds = new HashMap<>();
+    for (int r = 0; r < ROUTES; r++) {
+      thresholds.put("route" + r, 1.0);
+      for (int i = 0; i < REFERENCES_PER_ROUTE; i++) {
+        routeNames.add("route" + r);
+        keys.add("route" + r + ":" + i);
+        vectors.add(randomVector(random, topics.get(r), 0.8f));
+      }
+    }
+    index.put(routeNames, keys, vectors);
+
+    List<float[]> queries = new ArrayList<>();
+    for (int q = 0; q < QUERIES; q++) {
+      queries.add(randomVector(random, topics.get(random.nextInt(ROUTES)), 1.0f));
+    }
+
+    String[] exact = route(index, queries, thresholds, 0);
+    double exactMicros =
+        Benchmark.elapsedNanos(() -> route(index, queries, thresholds, 0)) / 1e3 / QUERIES;
+    System.out.printf(
+        "exact (%d references): %.1f us/query%n", ROUTES * REFERENCES_PER_ROUTE, exactMicros);
+
+    for (int candidates : new int[] {1, 5, 20}) {
+      String[] prefiltered = route(index, queries, thresholds, candidates);
+      double micros =
+          Benchmark.elapsedNanos(() -> route(index, queries, thresholds, candidates))
+              / 1e3
+              / QUERIES;
+      int agree = 0;
+      for (int q = 0; q < QUERIES; q++) {
+        if (exact[q].equals(prefiltered[q])) {
+          agree++;
+        }
+      }
+      System.out.printf(
+          "%d candidate routes: %.1f us/query, %.1f%% agreement%n",
+          candidates, micros, 100.0 * agree / QUERIES);
+      if (candidates == 20) {
+        assertThat(agree).isGreaterThan(QUERIES * 9 / 10);
+      }
+    }
+  }
+
+  private static String[] route(
+      LocalRouteIndex index,
+      List<float[]> queries,
+      Map<String, Double> thresholds,
+      int candidates) {
+    String[] names = new String[queries.size()];
+    for (int q = 0; q < queries.size(); q++) {
+      List<RouteMatch> matches =
+          index.match(queries.get(q), DistanceAggregationMethod.AVG, thresholds, 1, candidates);
+      names[q] = matches.isEmpty() ? "" : matches.get(0).getName();
+    }
+    return names;
+  }
+
+  /** A random vector, or a random perturbation of a center vector. */
+  private static float[] randomVector(Random random, float[] center, float noise) {
+    float[] vector = new float[DIMENSIONS];
+    for (int i = 0; i < DIMENSIONS; i++) {
+      float value = (float) random.nextGaussian();
+      vector[i] = center == null ? value : center[i] + noise * value;
+    }
+    return vector;
+  }
+}
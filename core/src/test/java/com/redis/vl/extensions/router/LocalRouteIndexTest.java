@@ -0,0 +1,136 @@
+package com.redis.vl.extensions.router;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for LocalRouteIndex */
+@DisplayName("LocalRouteIndex Tests")
+class LocalRouteIndexTest {
+
+  private static final float[] QUERY = {1, 0};
+
+  private LocalRouteIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new LocalRouteIndex();
+    // Cosine distances to QUERY: a1 = 0, a2 = 1, b1 = 0.2, c1 = 1
+    index.put(
+        List.of("a", "a", "b", "c"),
+        List.of("a:1", "a:2", "b:1", "c:1"),
+        List.of(
+            new float[] {2, 0},
+            new float[] {0, 1},
+            new float[] {0.8f, 0.6f},
+            new float[] {0, 3}));
+  }
+
+  @Test
+  @DisplayName("Should aggregate distances per route with each method")
+  void shouldAggregateDistances() {
+    Map<String, Double> thresholds = Map.of("a", 1.5, "b", 1.5, "c", 0.9);
+
+    List<RouteMatch> min = index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5);
+    assertThat(min).extracting(RouteMatch::getName).containsExactly("a", "b");
+    assertThat(min.get(0).getDistance()).isCloseTo(0.0, within(1e-6));
+    assertThat(min.get(1).getDistance()).isCloseTo(0.2, within(1e-6));
+
+    List<RouteMatch> avg = index.match(QUERY, DistanceAggregationMethod.AVG, thresholds, 5);
+    assertThat(avg).extracting(RouteMatch::getName).containsExactly("b", "a");
+    assertThat(avg.get(1).getDistance()).isCloseTo(0.5, within(1e-6));
+
+    List<RouteMatch> sum = index.match(QUERY, DistanceAggregationMethod.SUM, thresholds, 5);
+    assertThat(sum).extracting(RouteMatch::getName).containsExactly("b", "a");
+    assertThat(sum.get(1).getDistance()).isCloseTo(1.0, within(1e-6));
+  }
+
+  @Test
+  @DisplayName("Should ignore references beyond the largest threshold")
+  void shouldIgnoreDistantReferences() {
+    List<RouteMatch> matches =
+        index.match(QUERY, DistanceAggregationMethod.AVG, Map.of("a", 0.3, "b", 0.1), 5);
+
+    // a2 is farther than 0.3, so only a1 counts towards route a
+    assertThat(matches).extracting(RouteMatch::getName).containsExactly("a");
+    assertThat(matches.get(0).getDistance()).isCloseTo(0.0, within(1e-6));
+  }
+
+  @Test
+  @DisplayName("Should apply each route's own threshold and limit to maxK")
+  void shouldApplyThresholdsAndMaxK() {
+    Map<String, Double> thresholds = Map.of("a", 0.5, "b", 0.1, "c", 1.5);
+
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5))
+        .extracting(RouteMatch::getName)
+        .containsExactly("a", "c");
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 1))
+        .extracting(RouteMatch::getName)
+        .containsExactly("a");
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, Map.of("b", 0.5), 5))
+        .extracting(RouteMatch::getName)
+        .containsExactly("b");
+  }
+
+  @Test
+  @DisplayName("Should only score the routes whose centroids are closest to the query")
+  void shouldPrefilterRoutesByCentroid() {
+    Map<String, Double> thresholds = Map.of("a", 1.5, "b", 1.5, "c", 1.5);
+
+    // Centroid distances to QUERY: a ~0.29, b = 0.2, c = 1
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5, 1))
+        .extracting(RouteMatch::getName)
+        .containsExactly("b");
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5, 2))
+        .extracting(RouteMatch::getName)
+        .containsExactly("a", "b");
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5, 3))
+        .isEqualTo(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5));
+
+    // Centroids follow removals: without a2, route a's centroid is the query itself
+    index.remove(List.of("a:2"));
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5, 1))
+        .extracting(RouteMatch::getName)
+        .containsExactly("a");
+  }
+
+  @Test
+  @DisplayName("Should replace references with the same key and remove references by key")
+  void shouldReplaceAndRemoveReferences() {
+    Map<String, Double> thresholds = Map.of("a", 0.9, "b", 0.9);
+
+    index.put(List.of("b"), List.of("b:1"), List.of(new float[] {1, 0}));
+    assertThat(index.size()).isEqualTo(4);
+    List<RouteMatch> replaced = index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5);
+    assertThat(replaced).hasSize(2);
+    assertThat(replaced.get(1).getDistance()).isCloseTo(0.0, within(1e-6));
+
+    assertThat(index.remove(List.of("a:1", "a:2", "missing"))).isEqualTo(2);
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5))
+        .extracting(RouteMatch::getName)
+        .containsExactly("b");
+
+    index.clear();
+    assertThat(index.size()).isZero();
+    assertThat(index.match(QUERY, DistanceAggregationMethod.MIN, thresholds, 5)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should reject vectors of the wrong dimensions")
+  void shouldRejectDimensionMismatch() {
+    assertThatThrownBy(
+            () -> index.put(List.of("a"), List.of("a:3"), List.of(new float[] {1, 0, 0})))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                index.match(new float[] {1, 0, 0}, DistanceAggregationMethod.MIN, Map.of(), 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
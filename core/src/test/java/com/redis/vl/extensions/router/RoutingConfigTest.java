@@ -23,6 +23,8 @@ class RoutingConfigTest {
 
     assertThat(config.getMaxK()).isEqualTo(1);
     assertThat(config.getAggregationMethod()).isEqualTo(DistanceAggregationMethod.AVG);
+    assertThat(config.getAggregationWindow()).isZero();
+    assertThat(config.getCandidateRoutes()).isZero();
   }
 
   @Test
@@ -31,4 +33,14 @@ class RoutingConfigTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("maxK must be greater than 0");
   }
+
+  @Test
+  void testRoutingConfigValidation_NegativeWindowAndCandidates() {
+    assertThatThrownBy(() -> RoutingConfig.builder().aggregationWindow(-1).build().validate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("aggregationWindow");
+    assertThatThrownBy(() -> RoutingConfig.builder().candidateRoutes(-1).build().validate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("candidateRoutes");
+  }
 }
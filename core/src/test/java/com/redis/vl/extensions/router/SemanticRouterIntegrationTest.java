@@ -1,6 +1,7 @@
 package com.redis.vl.extensions.router;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import com.redis.vl.BaseIntegrationTest;
 import com.redis.vl.utils.vectorize.BaseVectorizer;
@@ -312,4 +313,99 @@ class SemanticRouterIntegrationTest extends BaseIntegrationTest {
     Route greetingRoute = router.get("greeting");
     assertThat(greetingRoute.getReferences()).hasSize(1);
   }
+
+  @Test
+  void testLocalRoutingMatchesServerRouting() {
+    String routerName = "test-router-" + System.currentTimeMillis();
+    router =
+        SemanticRouter.builder()
+            .name(routerName)
+            .routes(testRoutes)
+            .vectorizer(vectorizer)
+            .jedis(unifiedJedis)
+            .overwrite(true)
+            .build();
+    SemanticRouter localRouter =
+        SemanticRouter.builder()
+            .name(routerName)
+            .routes(testRoutes)
+            .vectorizer(vectorizer)
+            .jedis(unifiedJedis)
+            .localRouting(true)
+            .build();
+
+    // Attaching to the existing index loads the references from Redis
+    assertThat(localRouter.isLocalRouting()).isTrue();
+    for (String query : List.of("hello", "hi there", "goodbye", "bye now", "what is redis?")) {
+      List<RouteMatch> expected = router.routeMany(query, 2, null, null);
+      List<RouteMatch> actual = localRouter.routeMany(query, 2, null, null);
+      assertThat(actual)
+          .extracting(RouteMatch::getName)
+          .isEqualTo(expected.stream().map(RouteMatch::getName).toList());
+      for (int i = 0; i < expected.size(); i++) {
+        assertThat(actual.get(i).getDistance())
+            .isCloseTo(expected.get(i).getDistance(), within(1e-3));
+      }
+    }
+
+    // Changes made through the local router update its in-memory copy
+    localRouter.deleteRouteReferences("farewell", null, null);
+    assertThat(localRouter.route("goodbye").getName()).isNotEqualTo("farewell");
+    localRouter.addRouteReferences("farewell", List.of("see you later"));
+    assertThat(localRouter.route("see you later").getName()).isEqualTo("farewell");
+
+    // Changes made by another client are picked up on reload
+    router.deleteRouteReferences("greeting", null, null);
+    assertThat(localRouter.route("hello").getName()).isEqualTo("greeting");
+    localRouter.reloadLocalIndex();
+    assertThat(localRouter.route("hello").getName()).isNotEqualTo("greeting");
+  }
+
+  @Test
+  void testRouteBatchMatchesSingleRouting() {
+    router =
+        SemanticRouter.builder()
+            .name("test-router-" + System.currentTimeMillis())
+            .routes(testRoutes)
+            .vectorizer(vectorizer)
+            .jedis(unifiedJedis)
+            .overwrite(true)
+            .build();
+    List<String> queries = List.of("hello", "goodbye", "are aliens real?", "hi there", "bye now");
+
+    List<RouteMatch> batch = router.routeBatch(queries);
+    List<List<RouteMatch>> manyBatch =
+        router.routeManyBatch(queries, 2, vectorizer.embedBatch(queries), null);
+
+    assertThat(batch).hasSize(queries.size());
+    assertThat(manyBatch).hasSize(queries.size());
+    for (int i = 0; i < queries.size(); i++) {
+      assertThat(batch.get(i).getName()).isEqualTo(router.route(queries.get(i)).getName());
+      assertThat(manyBatch.get(i))
+          .extracting(RouteMatch::getName)
+          .isEqualTo(
+              router.routeMany(queries.get(i), 2, null, null).stream()
+                  .map(RouteMatch::getName)
+                  .toList());
+    }
+  }
+
+  @Test
+  void testAggregationWindowLimitsAggregatedReferences() {
+    router =
+        SemanticRouter.builder()
+            .name("test-router-" + System.currentTimeMillis())
+            .routes(testRoutes)
+            .routingConfig(RoutingConfig.builder().aggregationWindow(1).maxK(2).build())
+            .vectorizer(vectorizer)
+            .jedis(unifiedJedis)
+            .overwrite(true)
+            .build();
+
+    // Only the closest reference, "hello" itself, is aggregated
+    List<RouteMatch> matches = router.routeMany("hello", 2, null, DistanceAggregationMethod.AVG);
+
+    assertThat(matches).extracting(RouteMatch::getName).containsExactly("greeting");
+    assertThat(matches.get(0).getDistance()).isCloseTo(0.0, within(1e-3));
+  }
 }
@@ -1,6 +1,7 @@
 package com.redis.vl.extensions.router;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Map;
@@ -124,4 +125,17 @@ class SemanticRouterTest {
     assertThat((List<?>) routerMap.get("routes")).hasSize(1);
     assertThat(routerMap.get("routingConfig")).isNotNull();
   }
+
+  @Test
+  void testRouteBatchRejectsInvalidInputs() {
+    SemanticRouter router = new SemanticRouter("test-router");
+
+    assertThatThrownBy(() -> router.routeBatch(null, null, null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> router.routeBatch(List.of("hello", "")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> router.routeManyBatch(List.of("a", "b"), 2, List.of(new float[] {1}), null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
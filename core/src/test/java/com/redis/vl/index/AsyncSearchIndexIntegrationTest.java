@@ -0,0 +1,148 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.query.CountQuery;
+import com.redis.vl.query.Filter;
+import com.redis.vl.query.FilterQuery;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.query.VectorRangeQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.NumericField;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.*;
+import redis.clients.jedis.search.SearchResult;
+
+/** Integration tests for the pipelined, CompletableFuture-based AsyncSearchIndex */
+@DisplayName("AsyncSearchIndex Integration Tests")
+class AsyncSearchIndexIntegrationTest extends BaseIntegrationTest {
+
+  private static final int NUM_DOCS = 50;
+
+  private SearchIndex index;
+  private AsyncSearchIndex async;
+
+  @BeforeEach
+  void setUp() {
+    String name = "async_" + UUID.randomUUID().toString().substring(0, 8);
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name(name)
+            .prefix(name)
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("id").build())
+            .field(TagField.of("group").build())
+            .field(NumericField.of("rank").build())
+            .field(VectorField.of("embedding", 3).build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+    async = index.async().connections(2).maxBatchSize(16).build();
+
+    List<Map<String, Object>> docs = new ArrayList<>();
+    for (int i = 0; i < NUM_DOCS; i++) {
+      Map<String, Object> doc = new HashMap<>();
+      doc.put("id", String.valueOf(i));
+      doc.put("group", i % 2 == 0 ? "even" : "odd");
+      doc.put("rank", i);
+      doc.put("embedding", new float[] {i, 1.0f, 0.5f});
+      docs.add(doc);
+    }
+    assertThat(async.load(docs, "id").join()).hasSize(NUM_DOCS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    async.close();
+    index.delete(true);
+  }
+
+  @Test
+  @DisplayName("Should pipeline many concurrent searches")
+  void shouldPipelineConcurrentSearches() {
+    VectorQuery query =
+        VectorQuery.builder()
+            .field("embedding")
+            .vector(new float[] {1.0f, 1.0f, 0.5f})
+            .numResults(5)
+            .build();
+
+    List<CompletableFuture<List<Map<String, Object>>>> futures = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      futures.add(async.query(query));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    for (CompletableFuture<List<Map<String, Object>>> future : futures) {
+      assertThat(future.join()).hasSize(5);
+    }
+    AsyncSearchIndex.Stats stats = async.stats();
+    assertThat(stats.commands()).isGreaterThanOrEqualTo(500);
+    assertThat(stats.pipelines()).isLessThan(stats.commands());
+  }
+
+  @Test
+  @DisplayName("Should match the synchronous results")
+  void shouldMatchSynchronousResults() {
+    Filter even = Filter.tag("group", "even");
+
+    assertThat(async.count(new CountQuery(even)).join()).isEqualTo(NUM_DOCS / 2);
+    assertThat(async.query(even).join()).hasSameSizeAs(index.query(even));
+
+    SearchResult result = async.search("@group:{odd}", null, 0, 100).join();
+    assertThat(result.getTotalResults()).isEqualTo(NUM_DOCS / 2);
+
+    Map<String, Object> fetched = async.fetch("7").join();
+    assertThat(fetched).containsEntry("group", "odd").containsEntry("rank", "7");
+    assertThat(index.decodeVector("embedding", fetched.get("embedding")))
+        .containsExactly(7f, 1f, 0.5f);
+    assertThat(async.fetch("7", List.of("rank")).join()).containsOnlyKeys("rank");
+    assertThat(async.fetch("missing").join()).isNull();
+
+    VectorRangeQuery range =
+        VectorRangeQuery.builder()
+            .field("embedding")
+            .vector(new float[] {1.0f, 1.0f, 0.5f})
+            .distanceThreshold(0.2)
+            .numResults(NUM_DOCS)
+            .build();
+    long commands = async.stats().commands();
+    assertThat(async.query(range).join()).hasSameSizeAs(index.query(range)).isNotEmpty();
+    // Range queries are pipelined rather than run on the executor
+    assertThat(async.stats().commands()).isEqualTo(commands + 1);
+
+    List<List<Map<String, Object>>> pages = async.paginate(even, 10).join();
+    assertThat(pages.stream().mapToInt(List::size).sum()).isEqualTo(NUM_DOCS / 2);
+  }
+
+  @Test
+  @DisplayName("Should fail futures for a missing index and after close")
+  void shouldSurfaceFailures() {
+    index.drop();
+
+    assertThatThrownBy(() -> async.search("*").join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RedisVLException.class);
+    assertThatThrownBy(() -> async.count(new CountQuery(Filter.tag("group", "even"))).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RedisVLException.class);
+    FilterQuery filterQuery =
+        FilterQuery.builder().filterExpression(Filter.tag("group", "even")).build();
+    assertThatThrownBy(() -> async.query(filterQuery).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RedisVLException.class);
+
+    index.create(true, true);
+    async.close();
+    assertThatThrownBy(() -> async.search("*").join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RedisVLException.class);
+  }
+}
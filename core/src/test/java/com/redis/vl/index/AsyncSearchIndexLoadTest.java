@@ -0,0 +1,166 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.test.Benchmark;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.*;
+
+/**
+ * Load test comparing vector query latency at high concurrency between blocking searches on a
+ * thread pool (one thread and one pooled connection per in-flight query) and AsyncSearchIndex
+ * (pipelined over a few connections).
+ */
+@Tag("slow")
+@DisplayName("AsyncSearchIndex load test")
+class AsyncSearchIndexLoadTest extends BaseIntegrationTest {
+
+  private static final int DIMS = 64;
+  private static final int NUM_DOCS = 5_000;
+  private static final int CONCURRENT_QUERIES = 10_000;
+  private static final int BLOCKING_THREADS = 8;
+
+  private static SearchIndex index;
+  private static List<VectorQuery> queries;
+
+  @BeforeAll
+  static void setup() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("async_load_test")
+            .prefix("async_load")
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("category").build())
+            .field(
+                VectorField.builder()
+                    .name("embedding")
+                    .dimensions(DIMS)
+                    .distanceMetric(VectorField.DistanceMetric.COSINE)
+                    .build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+
+    Random random = new Random(42);
+    List<Map<String, Object>> docs = new ArrayList<>(NUM_DOCS);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      Map<String, Object> doc = new HashMap<>();
+      doc.put("category", "c" + (i % 10));
+      doc.put("embedding", randomVector(random));
+      docs.add(doc);
+    }
+    index.load(docs);
+
+    queries = new ArrayList<>(256);
+    for (int i = 0; i < 256; i++) {
+      queries.add(
+          VectorQuery.builder()
+              .field("embedding")
+              .vector(randomVector(random))
+              .numResults(10)
+              .build());
+    }
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (index != null) {
+      index.delete(true);
+    }
+  }
+
+  private static float[] randomVector(Random random) {
+    float[] vector = new float[DIMS];
+    for (int i = 0; i < DIMS; i++) {
+      vector[i] = random.nextFloat();
+    }
+    return vector;
+  }
+
+  /** Check that every query of a run completed and print its latency distribution. */
+  private static void report(String label, long[] latencies, long elapsedNanos) {
+    assertThat(latencies).doesNotContain(0L);
+    double qps = Benchmark.perSecond(latencies.length, elapsedNanos);
+    Arrays.sort(latencies);
+    System.out.printf(
+        "%s: %d queries in %.0f ms (%.0f qps), p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+        label,
+        latencies.length,
+        elapsedNanos / 1e6,
+        qps,
+        latencies[latencies.length / 2] / 1e6,
+        latencies[(int) (latencies.length * 0.99)] / 1e6,
+        latencies[latencies.length - 1] / 1e6);
+  }
+
+  /** All queries are submitted at once; latency includes the time spent queued. */
+  private static void runBlocking() throws Exception {
+    long[] latencies = new long[CONCURRENT_QUERIES];
+    ExecutorService pool = Executors.newFixedThreadPool(BLOCKING_THREADS);
+    try {
+      long elapsed =
+          Benchmark.elapsedNanos(
+              () -> {
+                List<Future<?>> futures = new ArrayList<>(CONCURRENT_QUERIES);
+                for (int i = 0; i < CONCURRENT_QUERIES; i++) {
+                  int n = i;
+                  long submitted = System.nanoTime();
+                  futures.add(
+                      pool.submit(
+                          () -> {
+                            index.query(queries.get(n % queries.size()));
+                            latencies[n] = System.nanoTime() - submitted;
+                          }));
+                }
+                for (Future<?> future : futures) {
+                  future.get();
+                }
+              });
+      report("blocking, " + BLOCKING_THREADS + " threads", latencies, elapsed);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void runAsync(int connections) throws Exception {
+    long[] latencies = new long[CONCURRENT_QUERIES];
+    try (AsyncSearchIndex async = index.async().connections(connections).build()) {
+      long elapsed =
+          Benchmark.elapsedNanos(
+              () -> {
+                List<CompletableFuture<?>> futures = new ArrayList<>(CONCURRENT_QUERIES);
+                for (int i = 0; i < CONCURRENT_QUERIES; i++) {
+                  int n = i;
+                  long submitted = System.nanoTime();
+                  futures.add(
+                      async
+                          .query(queries.get(n % queries.size()))
+                          .thenRun(() -> latencies[n] = System.nanoTime() - submitted));
+                }
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+              });
+      report("async, " + connections + " connections", latencies, elapsed);
+      System.out.printf("  average pipeline size %.1f%n", async.stats().averageBatchSize());
+    }
+  }
+
+  @Test
+  void loadTestBlockingVersusPipelined() throws Exception {
+    // Warm up both paths
+    runBlocking();
+    runAsync(2);
+
+    runBlocking();
+    runAsync(2);
+    runAsync(4);
+  }
+}
@@ -3,7 +3,10 @@ package com.redis.vl.index;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.query.CountQuery;
 import com.redis.vl.query.Filter;
+import com.redis.vl.query.FilterQuery;
+import com.redis.vl.query.TextQuery;
 import com.redis.vl.schema.IndexSchema;
 import java.util.*;
 import org.junit.jupiter.api.*;
@@ -231,4 +234,67 @@ class BatchOperationsIntegrationTest extends BaseIntegrationTest {
       assertThat(results).hasSize(queries.size());
     }
   }
+
+  @Test
+  @Order(7)
+  @DisplayName("Test batch query with typed and mixed query lists")
+  void testBatchQueryWithTypedQueries() {
+    List<FilterQuery> filterQueries =
+        Arrays.asList(
+            FilterQuery.builder()
+                .filterExpression(Filter.tag("category", "books"))
+                .numResults(20)
+                .build(),
+            FilterQuery.builder()
+                .filterExpression(Filter.numeric("rating").gt(3))
+                .numResults(20)
+                .build());
+    List<TextQuery> textQueries =
+        Arrays.asList(
+            TextQuery.builder().text("excellent").textField("description").build(),
+            TextQuery.builder().text("value").textField("description").build());
+
+    List<List<Map<String, Object>>> filterResults = index.batchQuery(filterQueries, 1);
+    List<List<Map<String, Object>>> textResults = index.batchQuery(textQueries);
+
+    for (int i = 0; i < filterQueries.size(); i++) {
+      assertThat(filterResults.get(i)).hasSameSizeAs(index.query(filterQueries.get(i)));
+    }
+    for (int i = 0; i < textQueries.size(); i++) {
+      assertThat(textResults.get(i)).hasSameSizeAs(index.query(textQueries.get(i)));
+    }
+
+    // Queries that cannot be pipelined keep their position in the results
+    List<Object> mixed =
+        Arrays.asList(
+            textQueries.get(0),
+            new CountQuery(Filter.tag("category", "food")),
+            filterQueries.get(0),
+            "@category:{clothing}");
+    List<List<Map<String, Object>>> mixedResults = index.batchQuery(mixed, 10);
+
+    assertThat(mixedResults).hasSize(4);
+    assertThat(mixedResults.get(0)).hasSameSizeAs(textResults.get(0));
+    assertThat(mixedResults.get(1)).isEmpty();
+    assertThat(mixedResults.get(2)).hasSameSizeAs(filterResults.get(0));
+    assertThat(mixedResults.get(3)).hasSameSizeAs(index.query("@category:{clothing}"));
+  }
+
+  @Test
+  @Order(8)
+  @DisplayName("Test batch search spread across workers keeps query order")
+  void testBatchSearchWithWorkers() {
+    List<String> queries = new ArrayList<>();
+    for (int i = 0; i < NUM_DOCS; i++) {
+      queries.add("@price:[" + (10 + i * 5) + " " + (10 + i * 5) + "]");
+    }
+
+    List<SearchResult> results = index.batchSearch(queries, 3, 4);
+
+    assertThat(results).hasSize(NUM_DOCS);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      assertThat(results.get(i).getTotalResults()).isEqualTo(1);
+      assertThat(results.get(i).getDocuments().get(0).getId()).isEqualTo("batch:doc" + i);
+    }
+  }
 }
@@ -0,0 +1,127 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.query.Filter;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.NumericField;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.test.Benchmark;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Benchmark comparing batch query throughput when every query is a separate round trip with
+ * pipelined batches, on one connection and spread across workers.
+ */
+@Tag("slow")
+@DisplayName("Batch search benchmark")
+class BatchSearchBenchmarkTest extends BaseIntegrationTest {
+
+  private static final int DIMS = 64;
+  private static final int NUM_DOCS = 5_000;
+  private static final int NUM_QUERIES = 2_000;
+  private static final int BATCH_SIZE = 100;
+
+  private static SearchIndex index;
+  private static List<Object> queries;
+
+  @BeforeAll
+  static void setup() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("batch_search_bench")
+            .prefix("batch_search_bench")
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("category").build())
+            .field(NumericField.of("rank").build())
+            .field(
+                VectorField.builder()
+                    .name("embedding")
+                    .dimensions(DIMS)
+                    .distanceMetric(VectorField.DistanceMetric.COSINE)
+                    .build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+
+    Random random = new Random(42);
+    List<Map<String, Object>> docs = new ArrayList<>(NUM_DOCS);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      Map<String, Object> doc = new HashMap<>();
+      doc.put("category", "c" + (i % 10));
+      doc.put("rank", i);
+      doc.put("embedding", randomVector(random));
+      docs.add(doc);
+    }
+    index.load(docs);
+
+    // Alternate vector and filter queries
+    queries = new ArrayList<>(NUM_QUERIES);
+    for (int i = 0; i < NUM_QUERIES; i++) {
+      if (i % 2 == 0) {
+        queries.add(
+            VectorQuery.builder()
+                .field("embedding")
+                .vector(randomVector(random))
+                .numResults(10)
+                .build());
+      } else {
+        queries.add(
+            Filter.and(Filter.tag("category", "c" + (i % 10)), Filter.numeric("rank").lt(i)));
+      }
+    }
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (index != null) {
+      index.delete(true);
+    }
+  }
+
+  private static float[] randomVector(Random random) {
+    float[] vector = new float[DIMS];
+    for (int i = 0; i < DIMS; i++) {
+      vector[i] = random.nextFloat();
+    }
+    return vector;
+  }
+
+  /** Print the queries per second of a batch run, after one warm-up run. */
+  private static void measure(String label, Benchmark.Operation run) throws Exception {
+    System.out.printf("%s: %.0f qps%n", label, NUM_QUERIES * Benchmark.opsPerSecond(1, 1, run));
+  }
+
+  private static List<List<Map<String, Object>>> sequential() {
+    List<List<Map<String, Object>>> results = new ArrayList<>(NUM_QUERIES);
+    for (Object query : queries) {
+      results.add(index.query(query));
+    }
+    return results;
+  }
+
+  @Test
+  void benchmarkSequentialVersusPipelined() throws Exception {
+    measure("sequential", BatchSearchBenchmarkTest::sequential);
+    measure("pipelined, batch " + BATCH_SIZE, () -> index.batchQuery(queries, BATCH_SIZE));
+    measure(
+        "pipelined, batch " + BATCH_SIZE + ", 4 workers",
+        () -> index.batchQuery(queries, BATCH_SIZE, 4));
+
+    List<List<Map<String, Object>>> expected = sequential();
+    List<List<Map<String, Object>>> pipelined = index.batchQuery(queries, BATCH_SIZE);
+    List<List<Map<String, Object>>> parallel = index.batchQuery(queries, BATCH_SIZE, 4);
+
+    assertThat(pipelined).hasSameSizeAs(expected);
+    assertThat(parallel).hasSameSizeAs(expected);
+    for (int i = 0; i < NUM_QUERIES; i++) {
+      List<Object> ids = expected.get(i).stream().map(doc -> doc.get("id")).toList();
+      assertThat(pipelined.get(i)).extracting(doc -> doc.get("id")).isEqualTo(ids);
+      assertThat(parallel.get(i)).extracting(doc -> doc.get("id")).isEqualTo(ids);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.test.Benchmark;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.*;
+
+/**
+ * Benchmark of BulkLoader throughput (documents per second) at 1, 4, 8 and 16 workers, compared
+ * with the single-threaded {@link SearchIndex#load(List)}.
+ *
+ * <p>Worker counts above the client's pool size (8 connections by default) queue for connections,
+ * so the 16 worker run mostly measures preprocessing overlap.
+ */
+@Tag("slow")
+@DisplayName("BulkLoader benchmark")
+class BulkLoaderBenchmarkTest extends BaseIntegrationTest {
+
+  private static final int DIMS = 256;
+  private static final int NUM_DOCS = 20_000;
+  private static final int BATCH_SIZE = 250;
+
+  private static SearchIndex index;
+
+  @BeforeAll
+  static void setup() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("bulk_loader_bench")
+            .prefix("bulk_bench")
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("category").build())
+            .field(
+                VectorField.builder()
+                    .name("embedding")
+                    .dimensions(DIMS)
+                    .distanceMetric(VectorField.DistanceMetric.COSINE)
+                    .build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (index != null) {
+      index.delete(true);
+    }
+  }
+
+  private static Stream<Map<String, Object>> documents() {
+    Random random = new Random(42);
+    return IntStream.range(0, NUM_DOCS)
+        .mapToObj(
+            i -> {
+              // Vectors arrive as lists, as they would from a JSON source, so workers do the
+              // conversion and encoding
+              List<Float> vector = new ArrayList<>(DIMS);
+              for (int d = 0; d < DIMS; d++) {
+                vector.add(random.nextFloat());
+              }
+              Map<String, Object> doc = new HashMap<>();
+              doc.put("category", "c" + (i % 10));
+              doc.put("embedding", vector);
+              return doc;
+            });
+  }
+
+  @Test
+  void benchmarkWorkers() throws Exception {
+    // Warm up connections and JIT
+    index.bulkLoader().workers(4).batchSize(BATCH_SIZE).build().load(documents().limit(2_000));
+    index.clear();
+
+    long elapsed = Benchmark.elapsedNanos(() -> index.load(documents().toList()));
+    double baseline = Benchmark.perSecond(NUM_DOCS, elapsed);
+    index.clear();
+    System.out.printf("load(List): %.0f docs/sec%n", baseline);
+
+    for (int workers : new int[] {1, 4, 8, 16}) {
+      BulkLoader.Result result =
+          index
+              .bulkLoader()
+              .workers(workers)
+              .batchSize(BATCH_SIZE)
+              .build()
+              .load(documents());
+      index.clear();
+
+      System.out.printf(
+          "BulkLoader with %2d workers: %.0f docs/sec (%.2fx)%n",
+          workers, result.documentsPerSecond(), result.documentsPerSecond() / baseline);
+      assertThat(result.loaded()).isEqualTo(NUM_DOCS);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.NumericField;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.*;
+
+/** Integration tests for the multi-threaded BulkLoader */
+@DisplayName("BulkLoader Integration Tests")
+class BulkLoaderIntegrationTest extends BaseIntegrationTest {
+
+  private static final String PREFIX = "bulk_load";
+  private SearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("test_bulk_loader")
+            .prefix(PREFIX)
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("id").build())
+            .field(NumericField.of("count").build())
+            .field(VectorField.of("embedding", 4).build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    index.delete(true);
+  }
+
+  private static Map<String, Object> doc(int i) {
+    Map<String, Object> doc = new HashMap<>();
+    doc.put("id", "doc" + i);
+    doc.put("count", i);
+    doc.put("embedding", new float[] {i, 1f, 2f, 3f});
+    return doc;
+  }
+
+  private static Map<String, Object> withoutId(int i) {
+    Map<String, Object> doc = doc(i);
+    doc.remove("id");
+    return doc;
+  }
+
+  @Test
+  @DisplayName("Should load a stream of documents across workers and report progress")
+  void shouldLoadStreamWithProgress() {
+    Queue<BulkLoader.BatchProgress> progress = new ConcurrentLinkedQueue<>();
+
+    BulkLoader.Result result =
+        index
+            .bulkLoader()
+            .workers(4)
+            .batchSize(25)
+            .maxInFlightBatches(3)
+            .idField("id")
+            .onProgress(progress::add)
+            .build()
+            .load(IntStream.range(0, 1000).mapToObj(BulkLoaderIntegrationTest::doc));
+
+    assertThat(result.loaded()).isEqualTo(1000);
+    assertThat(result.failed()).isZero();
+    assertThat(result.failures()).isEmpty();
+    assertThat(progress).hasSize(40);
+    assertThat(progress.stream().mapToInt(BulkLoader.BatchProgress::loaded).sum()).isEqualTo(1000);
+
+    Map<String, Object> fetched = index.fetch("doc999");
+    assertThat(fetched).containsEntry("count", "999");
+    assertThat(index.decodeVector("embedding", fetched.get("embedding")))
+        .containsExactly(999f, 1f, 2f, 3f);
+  }
+
+  @Test
+  @DisplayName("Should collect failed batches without aborting the load")
+  void shouldCollectFailures() {
+    // The document without an id makes its whole batch (documents 10-19) fail
+    BulkLoader.Result result =
+        index
+            .bulkLoader()
+            .workers(2)
+            .batchSize(10)
+            .idField("id")
+            .build()
+            .load(
+                IntStream.range(0, 50)
+                    .mapToObj(i -> i == 15 ? withoutId(i) : doc(i))
+                    .iterator());
+
+    assertThat(result.loaded()).isEqualTo(40);
+    assertThat(result.failed()).isEqualTo(10);
+    assertThat(result.failures()).hasSize(1);
+    BulkLoader.BatchFailure failure = result.failures().get(0);
+    assertThat(failure.batchIndex()).isEqualTo(1);
+    assertThat(failure.firstDocument()).isEqualTo(10);
+    assertThat(failure.error()).hasMessageContaining("Missing id field");
+    assertThat(index.fetch("doc49")).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should throw on the first failed batch when fail-fast is enabled")
+  void shouldFailFast() {
+    BulkLoader loader = index.bulkLoader().batchSize(5).idField("id").failFast(true).build();
+    List<Map<String, Object>> docs = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      docs.add(i == 7 ? withoutId(i) : doc(i));
+    }
+
+    assertThatThrownBy(() -> loader.load(docs))
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("batch 1")
+        .hasMessageContaining("documents 5-9");
+  }
+
+  @Test
+  @DisplayName("Should finish submitted batches before propagating a source failure")
+  void shouldDrainWorkersWhenSourceFails() {
+    Queue<BulkLoader.BatchProgress> progress = new ConcurrentLinkedQueue<>();
+    BulkLoader loader =
+        index
+            .bulkLoader()
+            .workers(2)
+            .batchSize(10)
+            .idField("id")
+            .onProgress(
+                p -> {
+                  progress.add(p);
+                  try {
+                    Thread.sleep(200);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                })
+            .build();
+    Iterator<Map<String, Object>> failing =
+        IntStream.range(0, 50)
+            .mapToObj(
+                i -> {
+                  if (i == 30) {
+                    throw new IllegalStateException("source failed");
+                  }
+                  return doc(i);
+                })
+            .iterator();
+
+    assertThatThrownBy(() -> loader.load(failing)).hasMessage("source failed");
+    // Batches 0-2 were handed to workers; all of them reported before load() returned
+    assertThat(progress).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid configuration")
+  void shouldRejectInvalidConfiguration() {
+    assertThatThrownBy(() -> index.bulkLoader().workers(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.bulkLoader().batchSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.bulkLoader().maxInFlightBatches(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
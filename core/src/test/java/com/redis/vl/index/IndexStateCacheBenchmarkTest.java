@@ -0,0 +1,101 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.test.Benchmark;
+import java.time.Duration;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Micro-benchmark comparing vector search throughput with the cached index state against an FT.INFO
+ * existence check on every call.
+ */
+@Tag("slow")
+@DisplayName("Index state cache benchmark")
+class IndexStateCacheBenchmarkTest extends BaseIntegrationTest {
+
+  private static final int DIMS = 128;
+  private static final int NUM_DOCS = 2_000;
+  private static final int WARMUP_QUERIES = 200;
+  private static final int MEASURED_QUERIES = 2_000;
+
+  private static SearchIndex index;
+  private static float[] queryVector;
+
+  @BeforeAll
+  static void setup() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("state_cache_bench")
+            .prefix("state_bench")
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(TagField.of("category").build())
+            .field(
+                VectorField.builder()
+                    .name("embedding")
+                    .dimensions(DIMS)
+                    .distanceMetric(VectorField.DistanceMetric.COSINE)
+                    .build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+
+    Random random = new Random(42);
+    List<Map<String, Object>> docs = new ArrayList<>(NUM_DOCS);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      Map<String, Object> doc = new HashMap<>();
+      doc.put("category", "c" + (i % 10));
+      doc.put("embedding", randomVector(random));
+      docs.add(doc);
+    }
+    index.load(docs);
+    queryVector = randomVector(random);
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (index != null) {
+      index.delete(true);
+    }
+  }
+
+  private static float[] randomVector(Random random) {
+    float[] vector = new float[DIMS];
+    for (int i = 0; i < DIMS; i++) {
+      vector[i] = random.nextFloat();
+    }
+    return vector;
+  }
+
+  private static double queriesPerSecond(Duration refreshInterval) throws Exception {
+    index.setIndexStateRefreshInterval(refreshInterval);
+    index.invalidateIndexState();
+    VectorQuery query = query();
+    return Benchmark.opsPerSecond(WARMUP_QUERIES, MEASURED_QUERIES, () -> index.search(query));
+  }
+
+  private static VectorQuery query() {
+    return VectorQuery.builder().field("embedding").vector(queryVector).numResults(10).build();
+  }
+
+  @Test
+  void benchmarkSearchWithAndWithoutPerCallCheck() throws Exception {
+    double perCallCheckQps = queriesPerSecond(Duration.ZERO);
+    double cachedQps = queriesPerSecond(SearchIndex.DEFAULT_INDEX_STATE_REFRESH_INTERVAL);
+
+    System.out.printf(
+        "search(VectorQuery): per-call FT.INFO %.0f qps, cached index state %.0f qps (%.2fx)%n",
+        perCallCheckQps, cachedQps, cachedQps / perCallCheckQps);
+
+    index.setIndexStateRefreshInterval(Duration.ZERO);
+    List<Map<String, Object>> perCallCheckResults = index.query(query());
+    index.setIndexStateRefreshInterval(SearchIndex.DEFAULT_INDEX_STATE_REFRESH_INTERVAL);
+    assertThat(index.query(query())).isEqualTo(perCallCheckResults);
+  }
+}
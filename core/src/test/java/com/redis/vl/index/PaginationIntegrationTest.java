@@ -1,8 +1,10 @@
 package com.redis.vl.index;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.exceptions.RedisVLException;
 import com.redis.vl.query.Filter;
 import com.redis.vl.query.VectorQuery;
 import com.redis.vl.query.VectorRangeQuery;
@@ -248,4 +250,78 @@ class PaginationIntegrationTest extends BaseIntegrationTest {
     // Should get no results
     assertThat(allResults).isEmpty();
   }
+
+  @Test
+  @Order(7)
+  @DisplayName("Test cursor streams every match of a filter query")
+  void testCursorStreamsFilterQuery() {
+    Filter query = Filter.numeric("$.age").between(20, 100);
+
+    List<Map<String, Object>> allResults = new ArrayList<>();
+    int pages = 0;
+    try (SearchCursor cursor = index.cursor(query).pageSize(3).build()) {
+      while (cursor.hasNext()) {
+        List<Map<String, Object>> page = cursor.next();
+        pages++;
+        assertThat(page).hasSizeLessThanOrEqualTo(3);
+        allResults.addAll(page);
+      }
+    }
+
+    assertThat(allResults).hasSize(NUM_DOCS);
+    assertThat(pages).isGreaterThanOrEqualTo((NUM_DOCS + 2) / 3);
+    assertThat(allResults)
+        .extracting(doc -> doc.get("id"))
+        .doesNotHaveDuplicates()
+        .contains("doc0", "doc9");
+    // Vector fields are only loaded when requested as return fields
+    assertThat(allResults.get(0)).containsKey("$.credit_score").doesNotContainKey("$.embedding");
+  }
+
+  @Test
+  @Order(8)
+  @DisplayName("Test cursor streams a range query and can be closed early")
+  void testCursorStreamsRangeQueryAndCloses() {
+    VectorRangeQuery rangeQuery =
+        VectorRangeQuery.builder()
+            .field("$.embedding")
+            .vector(new float[] {0.5f, 1.0f, 1.5f})
+            .distanceThreshold(5.0)
+            .returnFields("$.credit_score")
+            .build();
+
+    List<Map<String, Object>> streamed = new ArrayList<>();
+    try (SearchCursor cursor = index.cursor(rangeQuery).pageSize(2).build()) {
+      cursor.forEachRemaining(streamed::addAll);
+    }
+    assertThat(streamed).hasSize(index.query(rangeQuery).size());
+    for (Map<String, Object> doc : streamed) {
+      assertThat(Double.parseDouble(doc.get("vector_distance").toString()))
+          .isLessThanOrEqualTo(5.0);
+    }
+
+    // Closing after the first page deletes the server-side cursor
+    SearchCursor cursor = index.cursor(rangeQuery).pageSize(1).build();
+    assertThat(cursor.next()).hasSize(1);
+    cursor.close();
+    assertThat(cursor.hasNext()).isFalse();
+  }
+
+  @Test
+  @Order(9)
+  @DisplayName("Test paginate surfaces search errors")
+  void testPaginateSurfacesErrors() {
+    IndexSchema missing =
+        IndexSchema.fromDict(
+            Map.of(
+                "index",
+                Map.of("name", "test_pagination_missing", "storage_type", "json"),
+                "fields",
+                List.of(Map.of("name", "$.credit_score", "type", "tag"))));
+    SearchIndex missingIndex = new SearchIndex(missing, unifiedJedis);
+
+    Iterator<List<Map<String, Object>>> pages =
+        missingIndex.paginate(Filter.tag("$.credit_score", "high"), 5).iterator();
+    assertThatThrownBy(pages::hasNext).isInstanceOf(RedisVLException.class);
+  }
 }
@@ -0,0 +1,142 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.query.Filter;
+import com.redis.vl.query.TextQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.TagField;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+
+/** Unit tests for SearchCursor paging, cleanup and error handling against a mocked client. */
+@DisplayName("SearchCursor Tests")
+class SearchCursorTest {
+
+  private static final String INDEX_NAME = "cursor_idx";
+  private static final Filter QUERY = Filter.tag("category", "books");
+
+  private UnifiedJedis mockJedis;
+  private SearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    mockJedis = mock(UnifiedJedis.class);
+    when(mockJedis.ftInfo(INDEX_NAME)).thenReturn(Map.of("index_name", INDEX_NAME));
+
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name(INDEX_NAME)
+            .prefix("cursor:")
+            .field(TagField.of("category").build())
+            .build();
+    index = new SearchIndex(schema, mockJedis);
+  }
+
+  private static AggregationResult page(long cursorId, String... keys) {
+    AggregationResult result = mock(AggregationResult.class);
+    when(result.getCursorId()).thenReturn(cursorId);
+    when(result.getResults())
+        .thenReturn(
+            Arrays.stream(keys)
+                .map(key -> Map.<String, Object>of("__key", key, "category", "books"))
+                .toList());
+    return result;
+  }
+
+  @Test
+  @DisplayName("Should read every page and map document keys to ids")
+  void shouldStreamAllPages() {
+    AggregationResult first = page(7, "cursor:1", "cursor:2");
+    AggregationResult last = page(0, "cursor:3");
+    when(mockJedis.ftAggregate(eq(INDEX_NAME), any(AggregationBuilder.class))).thenReturn(first);
+    when(mockJedis.ftCursorRead(INDEX_NAME, 7, 2)).thenReturn(last);
+
+    try (SearchCursor cursor = index.cursor(QUERY).pageSize(2).build()) {
+      List<Map<String, Object>> page = cursor.next();
+      assertThat(page).extracting(doc -> doc.get("id")).containsExactly("cursor:1", "cursor:2");
+      assertThat(page.get(0)).containsEntry("category", "books").doesNotContainKey("__key");
+      assertThat(cursor.next()).extracting(doc -> doc.get("id")).containsExactly("cursor:3");
+      assertThat(cursor.hasNext()).isFalse();
+    }
+
+    verify(mockJedis, times(1)).ftAggregate(eq(INDEX_NAME), any(AggregationBuilder.class));
+    verify(mockJedis, never()).ftCursorDel(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("Should delete an unfinished cursor on close")
+  void shouldDeleteCursorOnClose() {
+    AggregationResult first = page(7, "cursor:1");
+    when(mockJedis.ftAggregate(eq(INDEX_NAME), any(AggregationBuilder.class))).thenReturn(first);
+
+    SearchCursor cursor = index.cursor(QUERY).build();
+    assertThat(cursor.next()).hasSize(1);
+    cursor.close();
+    cursor.close();
+
+    verify(mockJedis, times(1)).ftCursorDel(INDEX_NAME, 7);
+    verify(mockJedis, never()).ftCursorRead(anyString(), anyLong(), anyInt());
+    assertThat(cursor.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should surface an expired cursor instead of ending the iteration")
+  void shouldSurfaceExpiredCursor() {
+    AggregationResult first = page(7, "cursor:1");
+    when(mockJedis.ftAggregate(eq(INDEX_NAME), any(AggregationBuilder.class))).thenReturn(first);
+    when(mockJedis.ftCursorRead(INDEX_NAME, 7, SearchCursor.DEFAULT_PAGE_SIZE))
+        .thenThrow(new JedisDataException("Cursor not found, id: 7"));
+
+    SearchCursor cursor = index.cursor(QUERY).build();
+    cursor.next();
+
+    assertThatThrownBy(cursor::hasNext)
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("maxIdle");
+    assertThat(cursor.hasNext()).isFalse();
+    verify(mockJedis, never()).ftCursorDel(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("Should stream text queries")
+  void shouldStreamTextQuery() {
+    AggregationResult only = page(0, "cursor:1");
+    when(mockJedis.ftAggregate(eq(INDEX_NAME), any(AggregationBuilder.class))).thenReturn(only);
+    TextQuery query = TextQuery.builder().text("books").textField("category").build();
+
+    try (SearchCursor cursor = index.cursor(query).build()) {
+      assertThat(cursor.next()).extracting(doc -> doc.get("id")).containsExactly("cursor:1");
+      assertThat(cursor.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject invalid builder settings and unsupported queries")
+  void shouldValidateBuilder() {
+    assertThatThrownBy(() -> index.cursor(QUERY).pageSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.cursor(QUERY).maxIdle(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.cursor(QUERY).maxIdle(null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.cursor(42).build())
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(mockJedis, never()).ftAggregate(anyString(), any(AggregationBuilder.class));
+  }
+}
@@ -402,6 +402,48 @@ class SearchIndexIntegrationTest extends BaseIntegrationTest {
     index.delete(true);
   }
 
+  @Test
+  @DisplayName("Test search index clear in batches with progress")
+  void testSearchIndexClearInBatches() {
+    index.create(true, true);
+
+    List<Map<String, Object>> data = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      data.add(Map.of("id", String.valueOf(i), "test", "foo"));
+    }
+    List<String> keys = index.load(data, "id");
+    String unrelatedKey = "other_" + TEST_PREFIX + ":1";
+    unifiedJedis.set(unrelatedKey, "keep");
+
+    try {
+      List<IndexClearer.Progress> progress = new ArrayList<>();
+      IndexClearer.Result result =
+          index
+              .clearer()
+              .batchSize(10)
+              .maxKeysPerSecond(10_000)
+              .onProgress(progress::add)
+              .build()
+              .clear();
+
+      assertThat(result.deleted()).isEqualTo(keys.size());
+      assertThat(result.scanned()).isEqualTo(keys.size());
+      assertThat(progress).hasSizeGreaterThanOrEqualTo(3);
+      assertThat(progress.get(progress.size() - 1).deleted()).isEqualTo(keys.size());
+      assertThat(unifiedJedis.exists(keys.toArray(new String[0]))).isZero();
+      assertThat(unifiedJedis.exists(unrelatedKey)).isTrue();
+      assertThat(index.exists()).isTrue();
+
+      assertThatThrownBy(() -> index.clearer().batchSize(0))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> index.clearer().maxKeysPerSecond(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+    } finally {
+      unifiedJedis.del(unrelatedKey);
+      index.delete(true);
+    }
+  }
+
   @Test
   @DisplayName("Test search index drop key")
   void testSearchIndexDropKey() {
@@ -0,0 +1,188 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.VectorField;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.search.FTSearchParams;
+import redis.clients.jedis.search.SearchResult;
+
+/** Unit tests for the index existence and schema cache used by the SearchIndex search methods. */
+@DisplayName("SearchIndex index state cache")
+class SearchIndexStateCacheTest {
+
+  private static final String INDEX_NAME = "state_cache_idx";
+
+  private UnifiedJedis mockJedis;
+  private SearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    mockJedis = mock(UnifiedJedis.class);
+    when(mockJedis.ftInfo(INDEX_NAME)).thenReturn(Map.of("index_name", INDEX_NAME));
+    when(mockJedis.ftSearch(anyString(), anyString(), any(FTSearchParams.class)))
+        .thenReturn(mock(SearchResult.class));
+
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name(INDEX_NAME)
+            .prefix("state:")
+            .field(TagField.of("category").build())
+            .field(VectorField.of("embedding", 3).build())
+            .build();
+    index = new SearchIndex(schema, mockJedis);
+  }
+
+  private VectorQuery query() {
+    return VectorQuery.builder()
+        .field("embedding")
+        .vector(new float[] {0.1f, 0.2f, 0.3f})
+        .numResults(3)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Repeated searches validate the index only once")
+  void testRepeatedSearchesIssueSingleFtInfo() {
+    for (int i = 0; i < 10; i++) {
+      index.search(query());
+    }
+
+    verify(mockJedis, times(1)).ftInfo(INDEX_NAME);
+    verify(mockJedis, times(10)).ftSearch(anyString(), anyString(), any(FTSearchParams.class));
+  }
+
+  @Test
+  @DisplayName("Zero refresh interval checks the index on every search")
+  void testZeroRefreshIntervalChecksEverySearch() {
+    index.setIndexStateRefreshInterval(Duration.ZERO);
+
+    for (int i = 0; i < 5; i++) {
+      index.search(query());
+    }
+
+    verify(mockJedis, times(5)).ftInfo(INDEX_NAME);
+  }
+
+  @Test
+  @DisplayName("Drop invalidates the cached state")
+  void testDropInvalidatesState() {
+    when(mockJedis.ftDropIndex(INDEX_NAME)).thenReturn("OK");
+
+    index.search(query());
+    index.drop();
+    index.search(query());
+
+    verify(mockJedis, times(2)).ftInfo(INDEX_NAME);
+  }
+
+  @Test
+  @DisplayName("Create marks the index as existing without FT.INFO")
+  @SuppressWarnings("unchecked")
+  void testCreateValidatesState() {
+    when(mockJedis.ftCreate(anyString(), any(), any(Iterable.class))).thenReturn("OK");
+
+    index.create();
+    index.search(query());
+
+    verify(mockJedis, never()).ftInfo(INDEX_NAME);
+  }
+
+  @Test
+  @DisplayName("Negative existence checks are not cached")
+  void testMissingIndexIsNotCached() {
+    when(mockJedis.ftInfo(INDEX_NAME)).thenThrow(new JedisDataException("Unknown index name"));
+
+    assertThatThrownBy(() -> index.search(query()))
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("does not exist");
+    assertThatThrownBy(() -> index.search(query())).isInstanceOf(RedisVLException.class);
+
+    verify(mockJedis, times(2)).ftInfo(INDEX_NAME);
+    verify(mockJedis, never()).ftSearch(anyString(), anyString(), any(FTSearchParams.class));
+  }
+
+  @Test
+  @DisplayName("Unknown index errors from FT.SEARCH are mapped lazily")
+  void testUnknownIndexErrorFromSearchIsMapped() {
+    index.search(query());
+
+    // Index dropped by another client: the cached state is stale
+    when(mockJedis.ftSearch(anyString(), anyString(), any(FTSearchParams.class)))
+        .thenThrow(new JedisDataException("state_cache_idx: no such index"));
+
+    assertThatThrownBy(() -> index.search(query()))
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("does not exist");
+
+    // The stale state was discarded, so the next search re-validates
+    when(mockJedis.ftInfo(INDEX_NAME)).thenThrow(new JedisDataException("Unknown index name"));
+    assertThatThrownBy(() -> index.search(query())).isInstanceOf(RedisVLException.class);
+    verify(mockJedis, times(2)).ftInfo(INDEX_NAME);
+  }
+
+  @Test
+  @DisplayName("Index lacking a schema field is rejected and the snapshot is cached")
+  void testSchemaMismatchIsRejected() {
+    when(mockJedis.ftInfo(INDEX_NAME))
+        .thenReturn(
+            Map.of(
+                "index_name",
+                INDEX_NAME,
+                "attributes",
+                List.of(
+                    List.of("identifier", "category", "attribute", "category", "type", "TAG"))));
+
+    assertThatThrownBy(() -> index.search(query()))
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("[embedding]");
+    assertThatThrownBy(() -> index.search(query())).isInstanceOf(RedisVLException.class);
+
+    verify(mockJedis, times(1)).ftInfo(INDEX_NAME);
+    verify(mockJedis, never()).ftSearch(anyString(), anyString(), any(FTSearchParams.class));
+  }
+
+  @Test
+  @DisplayName("Index listing every schema field passes validation")
+  void testMatchingSchemaIsAccepted() {
+    when(mockJedis.ftInfo(INDEX_NAME))
+        .thenReturn(
+            Map.of(
+                "index_name",
+                INDEX_NAME,
+                "attributes",
+                List.of(
+                    List.of("identifier", "category", "attribute", "category", "type", "TAG"),
+                    Map.of("identifier", "embedding", "attribute", "embedding"))));
+
+    index.search(query());
+    index.search(query());
+
+    verify(mockJedis, times(1)).ftInfo(INDEX_NAME);
+    verify(mockJedis, times(2)).ftSearch(anyString(), anyString(), any(FTSearchParams.class));
+  }
+
+  @Test
+  @DisplayName("Negative refresh interval is rejected")
+  void testNegativeRefreshIntervalRejected() {
+    assertThatThrownBy(() -> index.setIndexStateRefreshInterval(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(index.getIndexStateRefreshInterval())
+        .isEqualTo(SearchIndex.DEFAULT_INDEX_STATE_REFRESH_INTERVAL);
+  }
+}
@@ -0,0 +1,170 @@
+package com.redis.vl.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.BaseIntegrationTest;
+import com.redis.vl.query.VectorQuery;
+import com.redis.vl.query.VectorRangeQuery;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.test.Benchmark;
+import java.util.*;
+import java.util.function.Function;
+import org.junit.jupiter.api.*;
+
+/**
+ * Benchmark comparing range queries run as VECTOR_RANGE searches with the earlier emulation: a KNN
+ * query for {@code numResults} documents whose results beyond the threshold are dropped on the
+ * client. Recall is the share of in-range documents a query returns.
+ */
+@Tag("slow")
+@DisplayName("Vector range query benchmark")
+class VectorRangeQueryBenchmarkTest extends BaseIntegrationTest {
+
+  private static final int DIMS = 64;
+  private static final int NUM_DOCS = 5_000;
+  private static final int NUM_QUERIES = 200;
+  private static final double THRESHOLD = 0.2;
+  private static final int PAGE_SIZE = 500;
+
+  private static SearchIndex index;
+  private static List<float[]> queries;
+
+  @BeforeAll
+  static void setup() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("vector_range_bench")
+            .prefix("vector_range_bench")
+            .storageType(IndexSchema.StorageType.HASH)
+            .field(
+                VectorField.builder()
+                    .name("embedding")
+                    .dimensions(DIMS)
+                    .distanceMetric(VectorField.DistanceMetric.COSINE)
+                    .build())
+            .build();
+    index = new SearchIndex(schema, unifiedJedis);
+    index.create(true, true);
+
+    Random random = new Random(42);
+    List<Map<String, Object>> docs = new ArrayList<>(NUM_DOCS);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      docs.add(Map.of("embedding", randomVector(random)));
+    }
+    index.load(docs);
+
+    queries = new ArrayList<>(NUM_QUERIES);
+    for (int i = 0; i < NUM_QUERIES; i++) {
+      queries.add(randomVector(random));
+    }
+  }
+
+  @AfterAll
+  static void cleanup() {
+    if (index != null) {
+      index.delete(true);
+    }
+  }
+
+  private static float[] randomVector(Random random) {
+    float[] vector = new float[DIMS];
+    for (int i = 0; i < DIMS; i++) {
+      vector[i] = random.nextFloat();
+    }
+    return vector;
+  }
+
+  /** Every in-range document of a query, paging through the VECTOR_RANGE search. */
+  private static Set<Object> rangeIds(float[] vector) {
+    VectorRangeQuery query =
+        VectorRangeQuery.builder()
+            .field("embedding")
+            .vector(vector)
+            .distanceThreshold(THRESHOLD)
+            .returnFields("embedding")
+            .build();
+    Set<Object> ids = new HashSet<>();
+    for (List<Map<String, Object>> page : index.paginate(query, PAGE_SIZE)) {
+      page.forEach(doc -> ids.add(doc.get("id")));
+    }
+    return ids;
+  }
+
+  /** The first {@code k} in-range documents of a query, from a single VECTOR_RANGE search. */
+  private static Set<Object> rangeIds(float[] vector, int k) {
+    VectorRangeQuery query =
+        VectorRangeQuery.builder()
+            .field("embedding")
+            .vector(vector)
+            .distanceThreshold(THRESHOLD)
+            .numResults(k)
+            .build();
+    Set<Object> ids = new HashSet<>();
+    index.query(query).forEach(doc -> ids.add(doc.get("id")));
+    return ids;
+  }
+
+  /** The in-range documents found by a KNN query for {@code k} documents. */
+  private static Set<Object> emulatedIds(float[] vector, int k) {
+    VectorQuery query =
+        VectorQuery.builder()
+            .field("embedding")
+            .vector(vector)
+            .numResults(k)
+            .returnFields("vector_distance")
+            .build();
+    Set<Object> ids = new HashSet<>();
+    for (Map<String, Object> doc : index.query(query)) {
+      if (Double.parseDouble(doc.get("vector_distance").toString()) <= THRESHOLD) {
+        ids.add(doc.get("id"));
+      }
+    }
+    return ids;
+  }
+
+  /** Average latency of running a query for every query vector, after one warm-up pass. */
+  private static double millisPerQuery(Function<float[], Set<Object>> query) throws Exception {
+    int[] next = {0};
+    return Benchmark.nanosPerOp(
+            NUM_QUERIES, NUM_QUERIES, () -> query.apply(queries.get(next[0]++ % NUM_QUERIES)))
+        / 1e6;
+  }
+
+  /** Share of the in-range documents of every query that a query returns, in percent. */
+  private static double recall(
+      List<Set<Object>> expected, long inRange, Function<float[], Set<Object>> query) {
+    long found = 0;
+    for (int i = 0; i < NUM_QUERIES; i++) {
+      Set<Object> ids = query.apply(queries.get(i));
+      assertThat(expected.get(i)).containsAll(ids);
+      found += ids.size();
+    }
+    return inRange == 0 ? 100.0 : 100.0 * found / inRange;
+  }
+
+  @Test
+  @DisplayName("Should report VECTOR_RANGE latency and recall against KNN emulation")
+  void benchmarkRangeQueryAgainstKnnEmulation() throws Exception {
+    List<Set<Object>> expected = new ArrayList<>(NUM_QUERIES);
+    queries.forEach(vector -> expected.add(rangeIds(vector)));
+    long inRange = expected.stream().mapToLong(Set::size).sum();
+    System.out.printf(
+        "VECTOR_RANGE, all pages of %d: %.2f ms/query, %.1f in-range documents/query%n",
+        PAGE_SIZE,
+        millisPerQuery(VectorRangeQueryBenchmarkTest::rangeIds),
+        (double) inRange / NUM_QUERIES);
+
+    // numResults = k, as the VECTOR_RANGE search against the KNN query it replaced
+    for (int k : new int[] {10, 100, 1000}) {
+      double rangeRecall = recall(expected, inRange, vector -> rangeIds(vector, k));
+      double knnRecall = recall(expected, inRange, vector -> emulatedIds(vector, k));
+      double rangeMillis = millisPerQuery(vector -> rangeIds(vector, k));
+      double knnMillis = millisPerQuery(vector -> emulatedIds(vector, k));
+      System.out.printf(
+          "numResults %4d: VECTOR_RANGE %.2f ms/query (recall %.1f%%),"
+              + " KNN + client filter %.2f ms/query (recall %.1f%%), KNN/VECTOR_RANGE %.2fx%n",
+          k, rangeMillis, rangeRecall, knnMillis, knnRecall, knnMillis / rangeMillis);
+    }
+  }
+}
@@ -542,6 +542,58 @@ class QueryIntegrationTest extends BaseIntegrationTest {
     }
   }
 
+  @Test
+  @DisplayName("Test range query returns exactly the in-range documents")
+  void testRangeQueryReturnsInRangeSet() {
+    float[] vector = {0.1f, 0.1f, 0.5f};
+    double threshold = 0.2;
+
+    // Every document with its distance, from a KNN query over the whole index
+    List<Map<String, Object>> all =
+        index.query(
+            VectorQuery.builder().vector(vector).field("user_embedding").numResults(100).build());
+    long expected =
+        all.stream()
+            .filter(doc -> Double.parseDouble(doc.get("vector_distance").toString()) <= threshold)
+            .count();
+
+    VectorRangeQuery rangeQuery =
+        VectorRangeQuery.builder()
+            .vector(vector)
+            .field("user_embedding")
+            .returnFields("user", "credit_score")
+            .distanceThreshold(threshold)
+            .numResults(2)
+            .build();
+
+    // A single query returns the closest numResults in-range documents
+    List<Map<String, Object>> firstPage = index.query(rangeQuery);
+    assertThat(firstPage).hasSize((int) Math.min(2, expected));
+
+    // Paging walks the whole in-range set, closest first
+    List<Double> distances = new ArrayList<>();
+    for (List<Map<String, Object>> page : index.paginate(rangeQuery, 2)) {
+      for (Map<String, Object> doc : page) {
+        distances.add(Double.parseDouble(doc.get("vector_distance").toString()));
+      }
+    }
+    assertThat(distances).hasSize((int) expected).isSorted();
+    assertThat(distances).allSatisfy(distance -> assertThat(distance).isLessThan(threshold + 1e-6));
+
+    // Filters are applied on the server together with the range
+    VectorRangeQuery filtered =
+        VectorRangeQuery.builder()
+            .vector(vector)
+            .field("user_embedding")
+            .returnFields("user", "credit_score")
+            .distanceThreshold(threshold)
+            .filterExpression(Filter.tag("credit_score", "high"))
+            .numResults(100)
+            .build();
+    assertThat(index.query(filtered))
+        .allSatisfy(doc -> assertThat(doc.get("credit_score")).isEqualTo("high"));
+  }
+
   @Test
   @DisplayName("Test range query with epsilon")
   void testRangeQueryWithEpsilon() {
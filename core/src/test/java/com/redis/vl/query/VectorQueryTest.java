@@ -233,4 +233,27 @@ class VectorQueryTest {
     assertThat(modified.getNumResults()).isEqualTo(10);
     assertThat(original.getNumResults()).isEqualTo(5); // Original unchanged
   }
+
+  @Test
+  @DisplayName("Should encode query vector with the requested dtype")
+  void shouldEncodeQueryVectorWithDtype() {
+    VectorQuery query =
+        VectorQuery.builder()
+            .field("embedding")
+            .vector(new float[] {0.1f, 0.2f, 0.3f})
+            .dtype("float16")
+            .build();
+
+    assertThat(query.getDtype()).isEqualTo("float16");
+    assertThat((byte[]) query.toParams().get("vec")).hasSize(6);
+    assertThat(query.withNumResults(3).getDtype()).isEqualTo("float16");
+  }
+
+  @Test
+  @DisplayName("Should reject unsupported dtype")
+  void shouldRejectUnsupportedDtype() {
+    assertThatThrownBy(() -> VectorQuery.builder().dtype("float8"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("float8");
+  }
 }
@@ -0,0 +1,64 @@
+package com.redis.vl.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for VectorRangeQuery query strings */
+@DisplayName("VectorRangeQuery Tests")
+class VectorRangeQueryTest {
+
+  private static final float[] VECTOR = {0.1f, 0.2f, 0.3f};
+
+  @Test
+  @DisplayName("Should build a VECTOR_RANGE query that yields the distance")
+  void shouldBuildRangeQuery() {
+    VectorRangeQuery query =
+        VectorRangeQuery.builder().vector(VECTOR).field("embedding").distanceThreshold(0.3).build();
+
+    assertThat(query.toQueryString())
+        .isEqualTo(
+            "@embedding:[VECTOR_RANGE $threshold $vec]=>{$YIELD_DISTANCE_AS: vector_distance}");
+    assertThat(query.toParams()).containsEntry("threshold", 0.3).containsKey("vec");
+  }
+
+  @Test
+  @DisplayName("Should pass epsilon as a parameter referenced by the query attribute")
+  void shouldIncludeEpsilon() {
+    VectorRangeQuery query =
+        VectorRangeQuery.builder().vector(VECTOR).field("embedding").epsilon(0.05).build();
+
+    assertThat(query.toQueryString())
+        .isEqualTo(
+            "@embedding:[VECTOR_RANGE $threshold $vec]=>"
+                + "{$EPSILON: $EPSILON; $YIELD_DISTANCE_AS: vector_distance}");
+    assertThat(query.toParams()).containsEntry("EPSILON", 0.05);
+  }
+
+  @Test
+  @DisplayName("Should intersect the range with a filter expression")
+  void shouldIntersectFilter() {
+    VectorRangeQuery query =
+        VectorRangeQuery.builder()
+            .vector(VECTOR)
+            .field("embedding")
+            .filterExpression(Filter.tag("credit_score", "high"))
+            .build();
+
+    assertThat(query.toQueryString())
+        .isEqualTo(
+            "(@embedding:[VECTOR_RANGE $threshold $vec]=>{$YIELD_DISTANCE_AS: vector_distance} "
+                + Filter.tag("credit_score", "high").build()
+                + ")");
+    assertThat(query.getFilterExpression()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should escape JSONPath field names")
+  void shouldEscapeJsonPath() {
+    VectorRangeQuery query = VectorRangeQuery.builder().vector(VECTOR).field("$.embedding").build();
+
+    assertThat(query.toQueryString()).startsWith("@\\$\\.embedding:[VECTOR_RANGE");
+  }
+}
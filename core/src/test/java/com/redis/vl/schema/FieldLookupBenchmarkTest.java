@@ -0,0 +1,88 @@
+package com.redis.vl.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.redis.vl.test.Benchmark;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Micro-benchmark comparing field resolution through the precomputed lookup against the linear
+ * scans (stream filter per name, then JSONPath and alias retries) it replaced, on a 50-field
+ * schema.
+ */
+@Tag("slow")
+@DisplayName("Field lookup benchmark")
+class FieldLookupBenchmarkTest {
+
+  private static final int NUM_FIELDS = 50;
+  private static final int WARMUP_ROUNDS = 20_000;
+  private static final int MEASURED_ROUNDS = 200_000;
+
+  private static IndexSchema wideSchema() {
+    IndexSchema.Builder builder =
+        IndexSchema.builder().name("lookup_bench").storageType(IndexSchema.StorageType.JSON);
+    for (int i = 0; i < NUM_FIELDS - 1; i++) {
+      builder.field(TagField.of("$.field_" + i).alias("alias_" + i).build());
+    }
+    builder.field(VectorField.of("$.embedding", 128).build());
+    return builder.build();
+  }
+
+  /** Resolution as it was done before the lookup existed: one scan per candidate name. */
+  private static BaseField scan(List<BaseField> fields, String reference) {
+    BaseField field = scanByName(fields, reference);
+    if (field == null) {
+      String twin = reference.startsWith("$.") ? reference.substring(2) : "$." + reference;
+      field = scanByName(fields, twin);
+    }
+    if (field == null) {
+      field = fields.stream().filter(f -> reference.equals(f.getAlias())).findFirst().orElse(null);
+    }
+    return field;
+  }
+
+  private static BaseField scanByName(List<BaseField> fields, String name) {
+    return fields.stream().filter(f -> f.getName().equals(name)).findFirst().orElse(null);
+  }
+
+  private static double lookupsPerSecond(String[] references, Resolver resolver)
+      throws Exception {
+    int[] round = {0};
+    return Benchmark.opsPerSecond(
+        WARMUP_ROUNDS,
+        MEASURED_ROUNDS,
+        () -> {
+          String reference = references[round[0]++ % references.length];
+          if (resolver.resolve(reference) == null) {
+            throw new AssertionError("Unresolved field reference " + reference);
+          }
+        });
+  }
+
+  @Test
+  void benchmarkScanVersusLookup() throws Exception {
+    IndexSchema schema = wideSchema();
+    // Mix of exact names, plain names of JSONPath fields, aliases and the last field
+    String[] references = {"$.field_10", "field_25", "alias_40", "embedding", "$.field_48"};
+
+    // getFields() copies the list, as the per-document code paths did
+    double scanRate = lookupsPerSecond(references, r -> scan(schema.getFields(), r));
+    double lookupRate = lookupsPerSecond(references, schema::resolveField);
+
+    System.out.printf(
+        "%d-field schema: linear scan %.0f lookups/s, FieldLookup %.0f lookups/s (%.1fx)%n",
+        NUM_FIELDS, scanRate, lookupRate, lookupRate / scanRate);
+
+    for (String reference : references) {
+      assertThat(schema.resolveField(reference)).isSameAs(scan(schema.getFields(), reference));
+    }
+  }
+
+  @FunctionalInterface
+  private interface Resolver {
+    BaseField resolve(String reference);
+  }
+}
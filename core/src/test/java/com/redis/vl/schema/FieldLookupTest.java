@@ -0,0 +1,90 @@
+package com.redis.vl.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the precomputed field lookup of IndexSchema */
+@DisplayName("FieldLookup Tests")
+class FieldLookupTest {
+
+  private static IndexSchema jsonSchema() {
+    return IndexSchema.builder()
+        .name("lookup_test")
+        .prefix("lookup")
+        .storageType(IndexSchema.StorageType.JSON)
+        .field(TextField.of("$.title").build())
+        .field(TagField.of("$.category").alias("cat").build())
+        .field(NumericField.of("price").build())
+        .field(VectorField.of("$.embedding", 4).alias("vec").build())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should resolve exact names, JSONPath twins and aliases")
+  void shouldResolveReferences() {
+    FieldLookup lookup = jsonSchema().getFieldLookup();
+
+    assertThat(lookup.get("$.title").getName()).isEqualTo("$.title");
+    assertThat(lookup.get("title")).isNull();
+    assertThat(lookup.resolve("title").getName()).isEqualTo("$.title");
+    assertThat(lookup.resolve("$.price").getName()).isEqualTo("price");
+    assertThat(lookup.resolve("cat").getName()).isEqualTo("$.category");
+    assertThat(lookup.resolve("missing")).isNull();
+    assertThat(lookup.resolve(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should prefer exact names over JSONPath twins over aliases")
+  void shouldApplyPrecedence() {
+    IndexSchema schema =
+        IndexSchema.builder()
+            .name("precedence_test")
+            .field(TagField.of("$.id").build())
+            .field(TagField.of("id").build())
+            .field(TextField.of("$.name").alias("label").build())
+            .field(TextField.of("label_text").alias("name").build())
+            .build();
+    FieldLookup lookup = schema.getFieldLookup();
+
+    assertThat(lookup.resolve("id").getName()).isEqualTo("id");
+    assertThat(lookup.resolve("$.id").getName()).isEqualTo("$.id");
+    assertThat(lookup.resolve("name").getName()).isEqualTo("$.name");
+    assertThat(lookup.resolve("label").getName()).isEqualTo("$.name");
+  }
+
+  @Test
+  @DisplayName("Should list vector fields and resolve them by alias")
+  void shouldResolveVectorFields() {
+    FieldLookup lookup = jsonSchema().getFieldLookup();
+
+    assertThat(lookup.vectorFields()).extracting(BaseField::getName).containsExactly("$.embedding");
+    assertThat(lookup.resolveVector("vec")).isNotNull();
+    assertThat(lookup.resolveVector("embedding").getDimensions()).isEqualTo(4);
+    assertThat(lookup.resolveVector("price")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should rebuild the lookup when fields change")
+  void shouldRebuildOnFieldChanges() {
+    IndexSchema schema = jsonSchema();
+    FieldLookup before = schema.getFieldLookup();
+
+    schema.addField(TagField.of("$.brand").alias("maker").build());
+    schema.removeField("price");
+    schema.addFields(List.of(Map.of("name", "stock", "type", "numeric")));
+
+    FieldLookup after = schema.getFieldLookup();
+    assertThat(after).isNotSameAs(before);
+    assertThat(after.resolve("maker").getName()).isEqualTo("$.brand");
+    assertThat(after.resolve("price")).isNull();
+    assertThat(schema.resolveField("$.stock").getName()).isEqualTo("stock");
+    assertThat(after.fields()).hasSize(5);
+    // Earlier snapshots are unaffected
+    assertThat(before.resolve("price")).isNotNull();
+    assertThat(before.resolve("maker")).isNull();
+  }
+}
@@ -0,0 +1,191 @@
+package com.redis.vl.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.redis.vl.exceptions.RedisVLException;
+import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.schema.NumericField;
+import com.redis.vl.schema.TagField;
+import com.redis.vl.schema.TextField;
+import com.redis.vl.schema.VectorField;
+import com.redis.vl.utils.ArrayUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the streaming file readers */
+@DisplayName("DocumentReader Tests")
+class DocumentReaderTest {
+
+  private static final IndexSchema SCHEMA =
+      IndexSchema.builder()
+          .name("reader_test")
+          .prefix("reader")
+          .field(TagField.of("id").build())
+          .field(TextField.of("title").build())
+          .field(NumericField.of("price").build())
+          .field(VectorField.of("embedding", 3).build())
+          .build();
+
+  @TempDir Path tempDir;
+
+  private static List<Map<String, Object>> readAll(DocumentReader reader) {
+    List<Map<String, Object>> documents = new ArrayList<>();
+    try (reader) {
+      reader.forEachRemaining(documents::add);
+    }
+    return documents;
+  }
+
+  @Test
+  @DisplayName("Should read JSONL with vectors as float arrays")
+  void shouldReadJsonl() throws IOException {
+    Path file = tempDir.resolve("docs.jsonl");
+    Files.writeString(
+        file,
+        "{\"id\": 1, \"title\": \"first\", \"price\": 9.5, \"embedding\": [0.1, 0.2, 0.3]}\n"
+            + "\n"
+            + "{\"id\": \"b\", \"embedding\": [1, 2, 3], \"extra\": {\"nested\": true}}\n");
+
+    List<Map<String, Object>> documents = readAll(DocumentReader.jsonl(file, SCHEMA));
+
+    assertThat(documents).hasSize(2);
+    assertThat(documents.get(0))
+        .containsEntry("id", "1")
+        .containsEntry("title", "first")
+        .containsEntry("price", 9.5);
+    assertThat((float[]) documents.get(0).get("embedding")).containsExactly(0.1f, 0.2f, 0.3f);
+    assertThat((float[]) documents.get(1).get("embedding")).containsExactly(1f, 2f, 3f);
+    assertThat(documents.get(1)).containsEntry("extra", Map.of("nested", true));
+  }
+
+  @Test
+  @DisplayName("Should report the line of malformed JSONL")
+  void shouldReportMalformedJsonl() throws IOException {
+    Path file = tempDir.resolve("bad.jsonl");
+    Files.writeString(file, "{\"id\": \"a\"}\n[1, 2]\n");
+
+    DocumentReader reader = DocumentReader.jsonl(file, SCHEMA);
+    assertThat(reader.next()).containsEntry("id", "a");
+    assertThatThrownBy(reader::hasNext)
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("line 2");
+    reader.close();
+  }
+
+  @Test
+  @DisplayName("Should read CSV with quoting and typed columns")
+  void shouldReadCsv() throws IOException {
+    Path file = tempDir.resolve("docs.csv");
+    Files.writeString(
+        file,
+        "id,title,price,embedding,note\r\n"
+            + "a,\"Hello, \"\"world\"\"\",10,\"[0.5, 1.5, 2.5]\",x\r\n"
+            + "b,\"multi\nline\",2.25,1 2 3,\r\n");
+
+    List<Map<String, Object>> documents = readAll(DocumentReader.csv(file, SCHEMA));
+
+    assertThat(documents).hasSize(2);
+    assertThat(documents.get(0))
+        .containsEntry("id", "a")
+        .containsEntry("title", "Hello, \"world\"")
+        .containsEntry("price", 10L)
+        .containsEntry("note", "x");
+    assertThat((float[]) documents.get(0).get("embedding")).containsExactly(0.5f, 1.5f, 2.5f);
+    assertThat(documents.get(1))
+        .containsEntry("title", "multi\nline")
+        .containsEntry("price", 2.25)
+        .doesNotContainKey("note");
+    assertThat((float[]) documents.get(1).get("embedding")).containsExactly(1f, 2f, 3f);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid CSV numbers with the column name")
+  void shouldRejectInvalidCsvNumber() throws IOException {
+    Path file = tempDir.resolve("bad.csv");
+    Files.writeString(file, "id,price\na,cheap\n");
+
+    try (DocumentReader reader = DocumentReader.csv(file, SCHEMA)) {
+      assertThatThrownBy(reader::next)
+          .isInstanceOf(RedisVLException.class)
+          .hasMessageContaining("'price'");
+    }
+  }
+
+  @Test
+  @DisplayName("Should pass NPY rows through when the data type matches")
+  void shouldReadNpyRows() throws IOException {
+    Path file = writeNpy("<f4", 2, 3, new float[] {1, 2, 3, 4, 5, 6});
+
+    List<Map<String, Object>> documents =
+        readAll(DocumentReader.npy(file, SCHEMA, "embedding", "id"));
+
+    assertThat(documents).hasSize(2);
+    assertThat(documents.get(1)).containsEntry("id", "1");
+    assertThat(documents.get(1).get("embedding")).isInstanceOf(byte[].class);
+    byte[] encoded = (byte[]) documents.get(1).get("embedding");
+    assertThat(ArrayUtils.bytesToFloatArray(encoded)).containsExactly(4f, 5f, 6f);
+  }
+
+  @Test
+  @DisplayName("Should decode NPY rows when the data type differs")
+  void shouldDecodeNpyRows() throws IOException {
+    Path file = writeNpy("<f8", 1, 3, new float[] {0.25f, 0.5f, 0.75f});
+
+    List<Map<String, Object>> documents =
+        readAll(DocumentReader.npy(file, SCHEMA, "embedding", null));
+
+    assertThat(documents).hasSize(1);
+    assertThat(documents.get(0)).doesNotContainKey("id");
+    assertThat((float[]) documents.get(0).get("embedding")).containsExactly(0.25f, 0.5f, 0.75f);
+  }
+
+  @Test
+  @DisplayName("Should reject NPY files with the wrong dimensions")
+  void shouldRejectNpyDimensionMismatch() throws IOException {
+    Path file = writeNpy("<f4", 1, 2, new float[] {1, 2});
+
+    assertThatThrownBy(() -> DocumentReader.npy(file, SCHEMA, "embedding", null))
+        .isInstanceOf(RedisVLException.class)
+        .hasMessageContaining("expects 3");
+  }
+
+  /** Write a version 1.0 NPY file with a float32 or float64 matrix. */
+  private Path writeNpy(String descr, int rows, int dims, float[] values) throws IOException {
+    String header =
+        String.format(
+            "{'descr': '%s', 'fortran_order': False, 'shape': (%d, %d), }", descr, rows, dims);
+    // Pad the header so the data starts on a 64-byte boundary, ending with a newline
+    int padding = 64 - (10 + header.length() + 1) % 64;
+    header = header + " ".repeat(padding) + "\n";
+    int elementSize = descr.endsWith("8") ? 8 : 4;
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(10 + header.length() + values.length * elementSize)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put((byte) 0x93).put("NUMPY".getBytes(StandardCharsets.US_ASCII));
+    buffer.put((byte) 1).put((byte) 0).putShort((short) header.length());
+    buffer.put(header.getBytes(StandardCharsets.US_ASCII));
+    for (float value : values) {
+      if (elementSize == 8) {
+        buffer.putDouble(value);
+      } else {
+        buffer.putFloat(value);
+      }
+    }
+
+    Path file = tempDir.resolve("vectors-" + descr.substring(1) + ".npy");
+    Files.write(file, buffer.array());
+    return file;
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.redis.vl.BaseIntegrationTest;
 import com.redis.vl.schema.IndexSchema;
+import com.redis.vl.utils.ArrayUtils;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -602,4 +603,31 @@ class StorageIntegrationTest extends BaseIntegrationTest {
     List<Map<String, Object>> retrieved = hashStorage.get(jedis, keys2, 3);
     assertThat(retrieved).hasSize(10);
   }
+
+  @Test
+  @DisplayName("Test get with field projection")
+  void testGetWithProjection() {
+    List<Map<String, Object>> objects =
+        List.of(
+            Map.of("name", "John", "age", 30, "embedding", new float[] {0.1f, 0.2f, 0.3f}),
+            Map.of("name", "Jane", "age", 25));
+    List<String> keys = new ArrayList<>(hashStorage.write(jedis, objects));
+    keys.add(TEST_PREFIX + "_hash:missing");
+
+    List<Map<String, Object>> hashResults =
+        hashStorage.get(jedis, keys, 2, List.of("name", "embedding"));
+    assertThat(hashResults).hasSize(2);
+    assertThat(hashResults.get(0)).containsOnlyKeys("name", "embedding");
+    assertThat((byte[]) hashResults.get(0).get("embedding"))
+        .isEqualTo(ArrayUtils.floatArrayToBytes(new float[] {0.1f, 0.2f, 0.3f}));
+    assertThat(hashResults.get(1)).containsOnly(Map.entry("name", "Jane"));
+
+    List<String> jsonKeys = jsonStorage.write(jedis, objects);
+    List<Map<String, Object>> jsonResults = jsonStorage.get(jedis, jsonKeys, 1, List.of("age"));
+    assertThat(jsonResults).hasSize(2);
+    assertThat(jsonResults.get(0)).containsOnlyKeys("age");
+
+    assertThatThrownBy(() -> hashStorage.get(jedis, keys, null, List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
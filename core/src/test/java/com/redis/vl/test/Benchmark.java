@@ -0,0 +1,96 @@
+package com.redis.vl.test;
+
+/**
+ * Timing helpers shared by the {@code @Tag("slow")} benchmark tests, which run with {@code
+ * ./gradlew slowTest} and are excluded from the default test task.
+ *
+ * <p>Timings are taken with {@link System#nanoTime()} after a warm-up. They depend on the machine,
+ * the JIT and the garbage collector, so benchmarks only print them; their assertions check
+ * deterministic outcomes such as result equality or allocation bounds.
+ */
+public final class Benchmark {
+
+  /** Keeps benchmark results reachable so that the JIT cannot eliminate the measured work. */
+  private static volatile Object sink;
+
+  /** Code under measurement. */
+  @FunctionalInterface
+  public interface Operation {
+    void run() throws Exception;
+  }
+
+  /**
+   * Keep a result alive, for operations whose result is otherwise unused.
+   *
+   * @param result Result of the measured operation
+   */
+  public static void consume(Object result) {
+    sink = result;
+  }
+
+  /**
+   * Time a single run of an operation.
+   *
+   * @param operation Operation to run
+   * @return Elapsed time in nanoseconds
+   * @throws Exception if the operation fails
+   */
+  public static long elapsedNanos(Operation operation) throws Exception {
+    long start = System.nanoTime();
+    operation.run();
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Average time of an operation over {@code iterations} runs, after {@code warmups} untimed runs.
+   *
+   * @param warmups Untimed runs before measuring
+   * @param iterations Timed runs, at least 1
+   * @param operation Operation to run
+   * @return Average time per run in nanoseconds
+   * @throws Exception if the operation fails
+   */
+  public static double nanosPerOp(int warmups, int iterations, Operation operation)
+      throws Exception {
+    for (int i = 0; i < warmups; i++) {
+      operation.run();
+    }
+    long elapsed =
+        elapsedNanos(
+            () -> {
+              for (int i = 0; i < iterations; i++) {
+                operation.run();
+              }
+            });
+    return elapsed / (double) iterations;
+  }
+
+  /**
+   * Throughput of an operation over {@code iterations} runs, after {@code warmups} untimed runs.
+   *
+   * @param warmups Untimed runs before measuring
+   * @param iterations Timed runs, at least 1
+   * @param operation Operation to run
+   * @return Runs per second
+   * @throws Exception if the operation fails
+   */
+  public static double opsPerSecond(int warmups, int iterations, Operation operation)
+      throws Exception {
+    return 1e9 / nanosPerOp(warmups, iterations, operation);
+  }
+
+  /**
+   * Convert a count of completed units (documents, queries) and its elapsed time into a rate.
+   *
+   * @param count Completed units
+   * @param elapsedNanos Elapsed time in nanoseconds
+   * @return Units per second
+   */
+  public static double perSecond(long count, long elapsedNanos) {
+    return count / (elapsedNanos / 1e9);
+  }
+
+  private Benchmark() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,108 @@
+package com.redis.vl.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.Gson;
+import com.redis.vl.test.Benchmark;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Micro-benchmark comparing element-by-element vector conversions and boxed JSON serialization
+ * with the bulk buffer and {@link JsonVector} paths, across common embedding sizes.
+ */
+@Tag("slow")
+@DisplayName("ArrayUtils benchmark")
+class ArrayUtilsBenchmarkTest {
+
+  private static final int ITERATIONS = 20_000;
+  private static final Gson GSON = new Gson();
+
+  private static byte[] elementWiseToBytes(float[] floats) {
+    ByteBuffer buffer = ByteBuffer.allocate(floats.length * Float.BYTES);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    for (float f : floats) {
+      buffer.putFloat(f);
+    }
+    return buffer.array();
+  }
+
+  private static float[] elementWiseToFloats(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    float[] floats = new float[bytes.length / Float.BYTES];
+    for (int i = 0; i < floats.length; i++) {
+      floats[i] = buffer.getFloat();
+    }
+    return floats;
+  }
+
+  private static String boxedJson(float[] floats) {
+    List<Float> list = new ArrayList<>(floats.length);
+    for (float f : floats) {
+      list.add(f);
+    }
+    return GSON.toJson(Map.of("embedding", list));
+  }
+
+  private static double nanosPerOp(int iterations, Benchmark.Operation op) throws Exception {
+    return Benchmark.nanosPerOp(iterations / 4, iterations, op);
+  }
+
+  @ParameterizedTest(name = "{0} dims")
+  @ValueSource(ints = {128, 384, 768, 1536, 3072, 4096})
+  void benchmarkConversions(int dims) throws Exception {
+    Random random = new Random(42);
+    float[] vector = new float[dims];
+    for (int i = 0; i < dims; i++) {
+      vector[i] = random.nextFloat() * 2 - 1;
+    }
+    byte[] bytes = ArrayUtils.floatArrayToBytes(vector);
+    byte[] reusedBytes = new byte[bytes.length];
+    float[] reusedFloats = new float[dims];
+    int jsonIterations = ITERATIONS / 10;
+
+    double encodeLoop = nanosPerOp(ITERATIONS, () -> Benchmark.consume(elementWiseToBytes(vector)));
+    double encodeBulk =
+        nanosPerOp(ITERATIONS, () -> Benchmark.consume(ArrayUtils.floatArrayToBytes(vector)));
+    double encodeReuse =
+        nanosPerOp(ITERATIONS, () -> ArrayUtils.floatArrayToBytes(vector, reusedBytes, 0));
+    double decodeLoop = nanosPerOp(ITERATIONS, () -> Benchmark.consume(elementWiseToFloats(bytes)));
+    double decodeBulk =
+        nanosPerOp(ITERATIONS, () -> Benchmark.consume(ArrayUtils.bytesToFloatArray(bytes)));
+    double decodeReuse =
+        nanosPerOp(ITERATIONS, () -> ArrayUtils.bytesToFloatArray(bytes, 0, reusedFloats));
+    double jsonBoxed = nanosPerOp(jsonIterations, () -> Benchmark.consume(boxedJson(vector)));
+    double jsonVector =
+        nanosPerOp(
+            jsonIterations,
+            () -> Benchmark.consume(GSON.toJson(Map.of("embedding", JsonVector.of(vector)))));
+
+    System.out.printf(
+        "%4d dims: encode loop %.0f ns, bulk %.0f ns, reused %.0f ns"
+            + " | decode loop %.0f ns, bulk %.0f ns, reused %.0f ns"
+            + " | JSON boxed %.0f ns, JsonVector %.0f ns%n",
+        dims,
+        encodeLoop,
+        encodeBulk,
+        encodeReuse,
+        decodeLoop,
+        decodeBulk,
+        decodeReuse,
+        jsonBoxed,
+        jsonVector);
+
+    assertThat(ArrayUtils.floatArrayToBytes(vector)).isEqualTo(elementWiseToBytes(vector));
+    assertThat(reusedFloats).containsExactly(vector);
+    assertThat(GSON.toJson(Map.of("embedding", JsonVector.of(vector))))
+        .isEqualTo(boxedJson(vector));
+  }
+}
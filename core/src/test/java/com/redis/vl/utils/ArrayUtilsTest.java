@@ -0,0 +1,101 @@
+package com.redis.vl.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for ArrayUtils and JsonVector */
+@DisplayName("ArrayUtils Tests")
+class ArrayUtilsTest {
+
+  private static final float[] VECTOR = {0.1f, -0.2f, 3.5f, Float.MIN_VALUE, -0f};
+
+  private static byte[] elementWise(float[] floats) {
+    ByteBuffer buffer = ByteBuffer.allocate(floats.length * Float.BYTES);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    for (float f : floats) {
+      buffer.putFloat(f);
+    }
+    return buffer.array();
+  }
+
+  @Test
+  @DisplayName("Should match the element-wise little-endian layout")
+  void shouldMatchElementWiseLayout() {
+    byte[] bytes = ArrayUtils.floatArrayToBytes(VECTOR);
+
+    assertThat(bytes).isEqualTo(elementWise(VECTOR));
+    assertThat(ArrayUtils.bytesToFloatArray(bytes)).containsExactly(VECTOR);
+    assertThat(ArrayUtils.floatArrayToBytes(null)).isNull();
+    assertThat(ArrayUtils.bytesToFloatArray(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should ignore trailing bytes that do not form a float")
+  void shouldIgnoreTrailingBytes() {
+    byte[] bytes = new byte[VECTOR.length * Float.BYTES + 3];
+    System.arraycopy(elementWise(VECTOR), 0, bytes, 0, VECTOR.length * Float.BYTES);
+
+    assertThat(ArrayUtils.bytesToFloatArray(bytes)).containsExactly(VECTOR);
+  }
+
+  @Test
+  @DisplayName("Should write to and read from caller-supplied arrays at an offset")
+  void shouldUseCallerSuppliedArrays() {
+    byte[] target = new byte[7 + VECTOR.length * Float.BYTES];
+    ArrayUtils.floatArrayToBytes(VECTOR, target, 7);
+
+    float[] decoded = new float[VECTOR.length];
+    ArrayUtils.bytesToFloatArray(target, 7, decoded);
+
+    assertThat(decoded).containsExactly(VECTOR);
+    assertThatThrownBy(() -> ArrayUtils.floatArrayToBytes(VECTOR, new byte[8], 0))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  @DisplayName("Should write at the buffer position and advance it")
+  void shouldWriteToByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    buffer.position(4);
+
+    ArrayUtils.floatArrayToBytes(VECTOR, buffer);
+
+    assertThat(buffer.position()).isEqualTo(4 + VECTOR.length * Float.BYTES);
+    assertThat(buffer.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+    byte[] written = new byte[VECTOR.length * Float.BYTES];
+    buffer.get(4, written);
+    assertThat(written).isEqualTo(elementWise(VECTOR));
+  }
+
+  @Test
+  @DisplayName("Should convert lists of numbers")
+  void shouldConvertNumberLists() {
+    assertThat(ArrayUtils.numberListToFloats(List.of(1, 2.5d, 3.25f)))
+        .containsExactly(1f, 2.5f, 3.25f);
+    assertThat(ArrayUtils.numberListToFloats(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("JsonVector should serialize like a boxed list of floats")
+  void shouldSerializeJsonVectorLikeBoxedList() {
+    Gson gson = new Gson();
+    Map<String, Object> boxed = new LinkedHashMap<>();
+    boxed.put("embedding", List.of(0.1f, -0.2f, 3.5f));
+    Map<String, Object> unboxed = new LinkedHashMap<>();
+    unboxed.put("embedding", JsonVector.of(new float[] {0.1f, -0.2f, 3.5f}));
+
+    assertThat(gson.toJson(unboxed)).isEqualTo(gson.toJson(boxed));
+    assertThat(gson.fromJson("[0.1,-0.2,3.5]", JsonVector.class).toFloatArray())
+        .containsExactly(0.1f, -0.2f, 3.5f);
+    assertThat(JsonVector.of(null)).isNull();
+  }
+}
@@ -0,0 +1,121 @@
+package com.redis.vl.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.redis.vl.schema.VectorField;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/** Unit tests for VectorCodec and the built-in codecs */
+@DisplayName("VectorCodec Tests")
+class VectorCodecTest {
+
+  @ParameterizedTest
+  @EnumSource(VectorField.VectorDataType.class)
+  @DisplayName("Should round-trip small integers for every data type")
+  void shouldRoundTripEveryDataType(VectorField.VectorDataType dataType) {
+    VectorCodec codec = VectorCodec.forDataType(dataType);
+    float[] vector = {0f, 1f, 2f, 100f};
+
+    byte[] bytes = codec.encode(vector);
+
+    assertThat(codec.getDataType()).isEqualTo(dataType);
+    assertThat(bytes).hasSize(vector.length * codec.getBytesPerElement());
+    assertThat(codec.decode(bytes)).containsExactly(vector);
+  }
+
+  @Test
+  @DisplayName("FLOAT32 encoding should match ArrayUtils")
+  void shouldMatchArrayUtilsForFloat32() {
+    float[] vector = {0.1f, -0.2f, 0.3f};
+
+    assertThat(VectorCodec.forDtype("float32").encode(vector))
+        .isEqualTo(ArrayUtils.floatArrayToBytes(vector));
+  }
+
+  @Test
+  @DisplayName("FLOAT16 should round to nearest half precision value")
+  void shouldRoundFloat16() {
+    assertThat(StandardVectorCodec.floatToHalf(1.0f)).isEqualTo((short) 0x3C00);
+    assertThat(StandardVectorCodec.floatToHalf(65504f)).isEqualTo((short) 0x7BFF);
+    assertThat(StandardVectorCodec.floatToHalf(1e6f)).isEqualTo((short) 0x7C00);
+    assertThat(StandardVectorCodec.halfToFloat((short) 0x2E66)).isCloseTo(0.1f, within(1e-4f));
+
+    float[] decoded =
+        StandardVectorCodec.FLOAT16.decode(
+            StandardVectorCodec.FLOAT16.encode(new float[] {0.1f, -3.14159f}));
+    assertThat(decoded[0]).isCloseTo(0.1f, within(1e-4f));
+    assertThat(decoded[1]).isCloseTo(-3.14159f, within(2e-3f));
+  }
+
+  @Test
+  @DisplayName("BFLOAT16 should keep float32 range")
+  void shouldKeepRangeForBFloat16() {
+    float[] decoded =
+        StandardVectorCodec.BFLOAT16.decode(
+            StandardVectorCodec.BFLOAT16.encode(new float[] {1e30f, -0.5f}));
+
+    assertThat(decoded[0]).isCloseTo(1e30f, within(1e28f));
+    assertThat(decoded[1]).isEqualTo(-0.5f);
+  }
+
+  @Test
+  @DisplayName("Integer codecs should clamp out of range values")
+  void shouldClampIntegerCodecs() {
+    byte[] int8 = StandardVectorCodec.INT8.encode(new float[] {-300f, 300f, 1.6f});
+    byte[] uint8 = StandardVectorCodec.UINT8.encode(new float[] {-1f, 255f, 300f});
+
+    assertThat(StandardVectorCodec.INT8.decode(int8)).containsExactly(-128f, 127f, 2f);
+    assertThat(StandardVectorCodec.UINT8.decode(uint8)).containsExactly(0f, 255f, 255f);
+  }
+
+  @Test
+  @DisplayName("Should encode into a caller-supplied buffer at an offset")
+  void shouldEncodeIntoBufferAtOffset() {
+    byte[] target = new byte[10];
+    StandardVectorCodec.FLOAT32.encode(new float[] {1f, 2f}, target, 2);
+
+    float[] decoded = new float[2];
+    StandardVectorCodec.FLOAT32.decode(target, 2, decoded);
+    assertThat(decoded).containsExactly(1f, 2f);
+
+    assertThatThrownBy(() -> StandardVectorCodec.FLOAT16.encode(new float[] {1f, 2f}, target, 8))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  @DisplayName("Should convert document values to bytes")
+  void shouldConvertValuesToBytes() {
+    VectorCodec codec = VectorCodec.forDtype("FLOAT64");
+    byte[] raw = {1, 2, 3};
+
+    assertThat(codec.toBytes(raw)).isSameAs(raw);
+    assertThat(codec.toBytes(new double[] {1.0, 2.0})).hasSize(16);
+    assertThat(codec.toBytes(List.of(1, 2.5, 3f))).hasSize(24);
+    assertThat(codec.toBytes("not a vector")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should parse dtype strings case-insensitively")
+  void shouldParseDtypeStrings() {
+    assertThat(VectorCodec.forDtype(null)).isEqualTo(StandardVectorCodec.FLOAT32);
+    assertThat(VectorCodec.forDtype("bfloat16")).isEqualTo(StandardVectorCodec.BFLOAT16);
+    assertThat(VectorCodec.forDtype("UINT8")).isEqualTo(StandardVectorCodec.UINT8);
+    assertThatThrownBy(() -> VectorCodec.forDtype("complex64"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("complex64");
+  }
+
+  @Test
+  @DisplayName("Should reject byte arrays with a partial element")
+  void shouldRejectPartialElement() {
+    assertThatThrownBy(() -> StandardVectorCodec.FLOAT16.decode(new byte[3]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("multiple of 2");
+  }
+}
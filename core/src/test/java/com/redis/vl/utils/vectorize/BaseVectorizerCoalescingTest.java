@@ -0,0 +1,146 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for request coalescing in BaseVectorizer */
+@DisplayName("BaseVectorizer Coalescing Tests")
+class BaseVectorizerCoalescingTest {
+
+  /** A vectorizer whose generations block until released. */
+  private static class GatedVectorizer extends BaseVectorizer {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger generated = new AtomicInteger();
+    final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    volatile boolean fail;
+
+    GatedVectorizer() {
+      super("gated", 4);
+    }
+
+    @Override
+    protected float[] generateEmbedding(String text) {
+      generated.incrementAndGet();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (fail) {
+        throw new IllegalStateException("model unavailable");
+      }
+      return new float[] {text.length(), 1, 2, 3};
+    }
+
+    @Override
+    protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+      batches.add(List.copyOf(texts));
+      List<float[]> embeddings = new ArrayList<>();
+      for (String text : texts) {
+        embeddings.add(generateEmbedding(text));
+      }
+      return embeddings;
+    }
+  }
+
+  private static void awaitCoalesced(BaseVectorizer vectorizer, long count)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (vectorizer.getCoalescedCount() < count && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(vectorizer.getCoalescedCount()).isEqualTo(count);
+  }
+
+  @Test
+  @DisplayName("Should generate once for concurrent calls with the same text")
+  void shouldCoalesceConcurrentEmbeds() throws Exception {
+    GatedVectorizer vectorizer = new GatedVectorizer();
+    List<CompletableFuture<float[]>> calls = new ArrayList<>();
+    calls.add(CompletableFuture.supplyAsync(() -> vectorizer.embed("trending")));
+    assertThat(vectorizer.started.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 7; i++) {
+      calls.add(CompletableFuture.supplyAsync(() -> vectorizer.embed("trending")));
+    }
+    awaitCoalesced(vectorizer, 7);
+
+    vectorizer.release.countDown();
+    List<float[]> results = new ArrayList<>();
+    for (CompletableFuture<float[]> call : calls) {
+      results.add(call.get(5, TimeUnit.SECONDS));
+    }
+
+    assertThat(vectorizer.generated).hasValue(1);
+    assertThat(results).allSatisfy(r -> assertThat(r).containsExactly(8, 1, 2, 3));
+    assertThat(results).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("Should coalesce batch misses with in-flight calls and repeated texts")
+  void shouldCoalesceBatchMisses() throws Exception {
+    GatedVectorizer vectorizer = new GatedVectorizer();
+    CompletableFuture<float[]> single = CompletableFuture.supplyAsync(() -> vectorizer.embed("a"));
+    assertThat(vectorizer.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<List<float[]>> batch =
+        CompletableFuture.supplyAsync(() -> vectorizer.embedBatch(List.of("a", "bb", "bb")));
+    awaitCoalesced(vectorizer, 2);
+    vectorizer.release.countDown();
+
+    List<float[]> results = batch.get(5, TimeUnit.SECONDS);
+    assertThat(single.get(5, TimeUnit.SECONDS)).containsExactly(1, 1, 2, 3);
+    assertThat(vectorizer.batches).containsExactly(List.of("bb"));
+    assertThat(vectorizer.generated).hasValue(2);
+    assertThat(results.get(0)).containsExactly(1, 1, 2, 3);
+    assertThat(results.get(1)).containsExactly(2, 1, 2, 3);
+    assertThat(results.get(2)).containsExactly(2, 1, 2, 3).isNotSameAs(results.get(1));
+  }
+
+  @Test
+  @DisplayName("Should fail coalesced calls with the leader's error and retry afterwards")
+  void shouldShareFailures() throws Exception {
+    GatedVectorizer vectorizer = new GatedVectorizer();
+    vectorizer.fail = true;
+    CompletableFuture<float[]> leader = CompletableFuture.supplyAsync(() -> vectorizer.embed("x"));
+    assertThat(vectorizer.started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<float[]> follower =
+        CompletableFuture.supplyAsync(() -> vectorizer.embed("x"));
+    awaitCoalesced(vectorizer, 1);
+    vectorizer.release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+
+    vectorizer.fail = false;
+    assertThat(vectorizer.embed("x")).containsExactly(1, 1, 2, 3);
+    assertThat(vectorizer.generated).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should not coalesce calls that skip the cache or when disabled")
+  void shouldNotCoalesceWhenSkippingOrDisabled() {
+    GatedVectorizer vectorizer = new GatedVectorizer();
+    vectorizer.release.countDown();
+
+    vectorizer.embedBatch(List.of("a", "a"), null, 10, false, true);
+    vectorizer.setCoalesceRequests(false);
+    vectorizer.embedBatch(List.of("a", "a"));
+
+    assertThat(vectorizer.generated).hasValue(4);
+    assertThat(vectorizer.getCoalescedCount()).isZero();
+  }
+}
@@ -0,0 +1,140 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.redis.vl.exceptions.RedisVLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for MicroBatchingVectorizer */
+@DisplayName("MicroBatchingVectorizer Tests")
+class MicroBatchingVectorizerTest {
+
+  /** A vectorizer that records the batches it is asked to generate. */
+  private static class RecordingVectorizer extends BaseVectorizer {
+    final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    volatile boolean fail;
+
+    RecordingVectorizer() {
+      super("recording", 2);
+    }
+
+    @Override
+    protected float[] generateEmbedding(String text) {
+      return new float[] {text.length(), 1};
+    }
+
+    @Override
+    protected List<float[]> generateEmbeddingsBatch(List<String> texts, int batchSize) {
+      batches.add(List.copyOf(texts));
+      if (fail) {
+        throw new IllegalStateException("model unavailable");
+      }
+      List<float[]> embeddings = new ArrayList<>();
+      for (String text : texts) {
+        embeddings.add(generateEmbedding(text));
+      }
+      return embeddings;
+    }
+  }
+
+  @Test
+  @DisplayName("Should generate concurrent embeds in bounded batches")
+  void shouldBatchConcurrentEmbeds() throws Exception {
+    RecordingVectorizer delegate = new RecordingVectorizer();
+    ExecutorService callers = Executors.newFixedThreadPool(32);
+    try (MicroBatchingVectorizer vectorizer =
+        new MicroBatchingVectorizer(delegate, 8, Duration.ofMillis(100))) {
+      List<CompletableFuture<float[]>> calls = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        String text = "x".repeat(i + 1);
+        calls.add(CompletableFuture.supplyAsync(() -> vectorizer.embed(text), callers));
+      }
+      for (int i = 0; i < 32; i++) {
+        assertThat(calls.get(i).get(5, TimeUnit.SECONDS)).containsExactly(i + 1, 1);
+      }
+
+      assertThat(delegate.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThan(9));
+      assertThat(delegate.batches).hasSizeLessThan(32);
+      assertThat(vectorizer.getBatchedCount()).isEqualTo(32);
+      assertThat(vectorizer.getBatchCount()).isEqualTo(delegate.batches.size());
+      long[] sizes = vectorizer.getBatchSizeCounts();
+      assertThat(sizes).hasSize(9);
+      long weighted = 0;
+      for (int n = 0; n < sizes.length; n++) {
+        weighted += n * sizes[n];
+      }
+      assertThat(weighted).isEqualTo(32);
+      assertThat(vectorizer.getMeanBatchSize()).isGreaterThan(1);
+      assertThat(vectorizer.getMaxQueueDelay())
+          .isGreaterThanOrEqualTo(vectorizer.getMeanQueueDelay());
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Should dispatch a lone embed once the linger time has passed")
+  void shouldDispatchAfterLinger() {
+    RecordingVectorizer delegate = new RecordingVectorizer();
+    try (MicroBatchingVectorizer vectorizer =
+        new MicroBatchingVectorizer(delegate, 64, Duration.ofMillis(20))) {
+      assertThat(vectorizer.embed("alone")).containsExactly(5, 1);
+
+      assertThat(delegate.batches).containsExactly(List.of("alone"));
+      assertThat(vectorizer.getMaxQueueDelay()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+      assertThat(vectorizer.getBatchSizeCounts()[1]).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should fail every caller of a failed batch")
+  void shouldFailBatchCallers() {
+    RecordingVectorizer delegate = new RecordingVectorizer();
+    delegate.fail = true;
+    try (MicroBatchingVectorizer vectorizer =
+        new MicroBatchingVectorizer(delegate, 8, Duration.ZERO)) {
+      assertThatThrownBy(() -> vectorizer.embed("text"))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("model unavailable");
+    }
+  }
+
+  @Test
+  @DisplayName("Should send batch calls to the delegate and reject embeds after close")
+  void shouldBypassQueueForBatches() {
+    RecordingVectorizer delegate = new RecordingVectorizer();
+    MicroBatchingVectorizer vectorizer =
+        new MicroBatchingVectorizer(delegate, 8, Duration.ofSeconds(10));
+
+    List<float[]> embeddings = vectorizer.embedBatch(List.of("a", "bb"));
+    vectorizer.close();
+
+    assertThat(embeddings).hasSize(2);
+    assertThat(vectorizer.getBatchCount()).isZero();
+    assertThat(vectorizer.getModelName()).isEqualTo("recording");
+    assertThat(vectorizer.getDimensions()).isEqualTo(2);
+    assertThatThrownBy(() -> vectorizer.embed("late")).isInstanceOf(RedisVLException.class);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    RecordingVectorizer delegate = new RecordingVectorizer();
+    assertThatThrownBy(() -> new MicroBatchingVectorizer(null, 8, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new MicroBatchingVectorizer(delegate, 0, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new MicroBatchingVectorizer(delegate, 8, Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
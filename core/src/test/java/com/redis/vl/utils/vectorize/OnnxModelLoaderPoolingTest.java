@@ -0,0 +1,118 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.redis.vl.utils.vectorize.OnnxModelLoader.Pooling;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for pooling token embeddings from a flat buffer in OnnxModelLoader */
+@DisplayName("OnnxModelLoader Pooling Tests")
+class OnnxModelLoaderPoolingTest {
+
+  // Two inputs of three tokens with two dimensions; the last token of the second is padding
+  private static final float[] TOKENS = {1, 2, 3, 4, 5, 6, -1, 8, 3, -2, 100, 100};
+  private static final long[] SHAPE = {2, 3, 2};
+  private static final long[] MASK = {1, 1, 1, 1, 1, 0};
+
+  private static float[][] pool(Pooling pooling) {
+    return OnnxModelLoader.pool(FloatBuffer.wrap(TOKENS), SHAPE, MASK, pooling, null);
+  }
+
+  @Test
+  @DisplayName("Should mean pool non-padding tokens")
+  void shouldMeanPool() {
+    float[][] pooled = pool(Pooling.MEAN);
+
+    assertThat(pooled[0]).containsExactly(3, 4);
+    assertThat(pooled[1]).containsExactly(1, 3);
+  }
+
+  @Test
+  @DisplayName("Should take the first token for CLS pooling")
+  void shouldClsPool() {
+    float[][] pooled = pool(Pooling.CLS);
+
+    assertThat(pooled[0]).containsExactly(1, 2);
+    assertThat(pooled[1]).containsExactly(-1, 8);
+  }
+
+  @Test
+  @DisplayName("Should max pool non-padding tokens")
+  void shouldMaxPool() {
+    float[][] pooled = pool(Pooling.MAX);
+
+    assertThat(pooled[0]).containsExactly(5, 6);
+    assertThat(pooled[1]).containsExactly(3, 8);
+  }
+
+  @Test
+  @DisplayName("Should match mean pooling of nested arrays")
+  void shouldMatchNestedMeanPooling() {
+    Random random = new Random(42);
+    int batch = 4;
+    int sequence = 16;
+    int hidden = 32;
+    float[] flat = new float[batch * sequence * hidden];
+    float[][][] nested = new float[batch][sequence][hidden];
+    long[] mask = new long[batch * sequence];
+    long[][] nestedMask = new long[batch][sequence];
+    for (int b = 0; b < batch; b++) {
+      int length = 1 + random.nextInt(sequence);
+      for (int s = 0; s < sequence; s++) {
+        mask[b * sequence + s] = s < length ? 1 : 0;
+        nestedMask[b][s] = mask[b * sequence + s];
+        for (int h = 0; h < hidden; h++) {
+          float value = random.nextFloat() * 2 - 1;
+          flat[(b * sequence + s) * hidden + h] = value;
+          nested[b][s][h] = value;
+        }
+      }
+    }
+
+    float[][] pooled =
+        OnnxModelLoader.pool(
+            FloatBuffer.wrap(flat), new long[] {batch, sequence, hidden}, mask, Pooling.MEAN, null);
+    float[][] expected = new OnnxModelLoader().meanPoolingWithAttention(nested, nestedMask);
+
+    for (int b = 0; b < batch; b++) {
+      assertThat(pooled[b]).containsExactly(expected[b], within(0f));
+    }
+  }
+
+  @Test
+  @DisplayName("Should copy embeddings the model already pooled")
+  void shouldCopyPooledOutput() {
+    float[][] pooled =
+        OnnxModelLoader.pool(
+            FloatBuffer.wrap(new float[] {1, 2, 3, 4}),
+            new long[] {2, 2},
+            null,
+            Pooling.MEAN,
+            null);
+
+    assertThat(pooled[0]).containsExactly(1, 2);
+    assertThat(pooled[1]).containsExactly(3, 4);
+  }
+
+  @Test
+  @DisplayName("Should write into a supplied output array and reject a mismatched one")
+  void shouldReuseOutput() {
+    float[][] output = new float[2][2];
+
+    float[][] pooled =
+        OnnxModelLoader.pool(FloatBuffer.wrap(TOKENS), SHAPE, MASK, Pooling.MEAN, output);
+
+    assertThat(pooled).isSameAs(output);
+    assertThat(output[1]).containsExactly(1, 3);
+    assertThatThrownBy(
+            () ->
+                OnnxModelLoader.pool(
+                    FloatBuffer.wrap(TOKENS), SHAPE, MASK, Pooling.MEAN, new float[2][3]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
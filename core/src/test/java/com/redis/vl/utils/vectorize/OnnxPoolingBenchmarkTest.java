@@ -0,0 +1,121 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import com.redis.vl.test.Benchmark;
+import com.redis.vl.utils.vectorize.OnnxModelLoader.Pooling;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Latency, allocation and GC activity of post-processing a {@code [32, 512, 384]} output tensor:
+ * materializing nested arrays with {@code getValue()} and pooling them, as earlier versions did,
+ * against pooling from the flat buffer into a reused output array.
+ */
+@Tag("slow")
+@DisplayName("ONNX pooling benchmark")
+class OnnxPoolingBenchmarkTest {
+
+  private static final int BATCH = 32;
+  private static final int SEQUENCE = 512;
+  private static final int HIDDEN = 384;
+  private static final int ITERATIONS = 50;
+
+  private interface PostProcess {
+    float[][] apply() throws Exception;
+  }
+
+  private record Measurement(double millisPerCall, long bytesPerCall, long gcCount, long gcMillis) {
+    @Override
+    public String toString() {
+      return String.format(
+          "%.2f ms/call, %,d KB allocated/call, %d GCs (%d ms)",
+          millisPerCall, bytesPerCall / 1024, gcCount, gcMillis);
+    }
+  }
+
+  private static Measurement measure(PostProcess postProcess) throws Exception {
+    for (int i = 0; i < ITERATIONS / 5; i++) {
+      Benchmark.consume(postProcess.apply());
+    }
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long gcCount = 0;
+    long gcMillis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount -= gc.getCollectionCount();
+      gcMillis -= gc.getCollectionTime();
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes();
+    long elapsed =
+        Benchmark.elapsedNanos(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                Benchmark.consume(postProcess.apply());
+              }
+            });
+    allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount += gc.getCollectionCount();
+      gcMillis += gc.getCollectionTime();
+    }
+    return new Measurement(elapsed / 1e6 / ITERATIONS, allocated / ITERATIONS, gcCount, gcMillis);
+  }
+
+  @Test
+  void benchmarkPooling() throws Exception {
+    Random random = new Random(42);
+    float[] values = new float[BATCH * SEQUENCE * HIDDEN];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextFloat() * 2 - 1;
+    }
+    long[] mask = new long[BATCH * SEQUENCE];
+    long[][] nestedMask = new long[BATCH][SEQUENCE];
+    for (int b = 0; b < BATCH; b++) {
+      int length = 16 + random.nextInt(SEQUENCE - 16);
+      for (int s = 0; s < length; s++) {
+        mask[b * SEQUENCE + s] = 1;
+        nestedMask[b][s] = 1;
+      }
+    }
+    long[] shape = {BATCH, SEQUENCE, HIDDEN};
+    OnnxModelLoader loader = new OnnxModelLoader();
+    float[][] output = new float[BATCH][HIDDEN];
+
+    OrtEnvironment environment = OrtEnvironment.getEnvironment();
+    try (OnnxTensor tensor =
+        OnnxTensor.createTensor(environment, FloatBuffer.wrap(values), shape)) {
+      Measurement nested =
+          measure(
+              () ->
+                  loader.normalize(
+                      loader.meanPoolingWithAttention(
+                          (float[][][]) tensor.getValue(), nestedMask)));
+      Measurement flat =
+          measure(
+              () ->
+                  loader.normalize(
+                      OnnxModelLoader.pool(
+                          tensor.getFloatBuffer(), shape, mask, Pooling.MEAN, output)));
+      System.out.printf("nested arrays: %s%nflat buffer:   %s%n", nested, flat);
+
+      // The nested path allocates the whole [32, 512, 384] tensor again on every call
+      assertThat(flat.bytesPerCall()).isLessThan(nested.bytesPerCall() / 10);
+
+      float[][] expected =
+          loader.normalize(
+              loader.meanPoolingWithAttention((float[][][]) tensor.getValue(), nestedMask));
+      float[][] actual =
+          loader.normalize(
+              OnnxModelLoader.pool(tensor.getFloatBuffer(), shape, mask, Pooling.MEAN, null));
+      assertThat(actual).isDeepEqualTo(expected);
+    }
+  }
+}
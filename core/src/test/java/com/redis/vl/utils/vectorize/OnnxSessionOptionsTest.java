@@ -0,0 +1,60 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for OnnxSessionOptions */
+@DisplayName("OnnxSessionOptions Tests")
+class OnnxSessionOptionsTest {
+
+  @Test
+  @DisplayName("Should default to one shared session with runtime threading")
+  void shouldUseDefaults() {
+    OnnxSessionOptions options = OnnxSessionOptions.defaults();
+
+    assertThat(options.getIntraOpThreads()).isZero();
+    assertThat(options.getInterOpThreads()).isZero();
+    assertThat(options.getExecutionMode()).isEqualTo(ExecutionMode.SEQUENTIAL);
+    assertThat(options.isMemoryArena()).isTrue();
+    assertThat(options.isMemoryPattern()).isTrue();
+    assertThat(options.getSessionPoolSize()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep configured settings")
+  void shouldKeepSettings() {
+    OnnxSessionOptions options =
+        OnnxSessionOptions.builder()
+            .intraOpThreads(2)
+            .interOpThreads(3)
+            .executionMode(ExecutionMode.PARALLEL)
+            .memoryArena(false)
+            .memoryPattern(false)
+            .sessionPoolSize(4)
+            .build();
+
+    assertThat(options.getIntraOpThreads()).isEqualTo(2);
+    assertThat(options.getInterOpThreads()).isEqualTo(3);
+    assertThat(options.getExecutionMode()).isEqualTo(ExecutionMode.PARALLEL);
+    assertThat(options.isMemoryArena()).isFalse();
+    assertThat(options.isMemoryPattern()).isFalse();
+    assertThat(options.getSessionPoolSize()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    assertThatThrownBy(() -> OnnxSessionOptions.builder().intraOpThreads(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OnnxSessionOptions.builder().interOpThreads(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OnnxSessionOptions.builder().executionMode(null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OnnxSessionOptions.builder().sessionPoolSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
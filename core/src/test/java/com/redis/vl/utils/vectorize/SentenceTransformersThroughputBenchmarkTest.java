@@ -0,0 +1,113 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import com.redis.vl.test.Benchmark;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Throughput of local embedding on the CPU across caller thread counts, for a shared session with
+ * the runtime's default threading, a shared session with single-threaded operators, and a pool of
+ * one session per caller splitting the cores between them.
+ */
+@Tag("slow")
+@DisplayName("SentenceTransformersVectorizer throughput benchmark")
+class SentenceTransformersThroughputBenchmarkTest {
+
+  private static final String MODEL = "sentence-transformers/all-MiniLM-L6-v2";
+  private static final int TEXTS = 256;
+  private static final String REFERENCE_TEXT = "Vector search in Redis.";
+
+  private static double textsPerSecond(SentenceTransformersVectorizer vectorizer, int threads)
+      throws Exception {
+    List<String> texts = new ArrayList<>(TEXTS);
+    for (int i = 0; i < TEXTS; i++) {
+      texts.add("Benchmark sentence number " + i + " about vector search in Redis.");
+    }
+    ExecutorService callers = Executors.newFixedThreadPool(threads);
+    try {
+      // Warm up each session and thread pool once
+      run(vectorizer, texts.subList(0, threads * 2), threads, callers);
+      long elapsed = Benchmark.elapsedNanos(() -> run(vectorizer, texts, threads, callers));
+      return Benchmark.perSecond(texts.size(), elapsed);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  private static void run(
+      SentenceTransformersVectorizer vectorizer,
+      List<String> texts,
+      int threads,
+      ExecutorService callers)
+      throws Exception {
+    List<Future<?>> calls = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int first = t;
+      calls.add(
+          callers.submit(
+              () -> {
+                for (int i = first; i < texts.size(); i += threads) {
+                  assertThat(vectorizer.embed(texts.get(i), null, false, true)).hasSize(384);
+                }
+              }));
+    }
+    for (Future<?> call : calls) {
+      call.get();
+    }
+  }
+
+  @Test
+  void benchmarkThreadCounts() throws Exception {
+    int cores = Runtime.getRuntime().availableProcessors();
+    List<Integer> threadCounts = new ArrayList<>(List.of(1, 2, 4));
+    if (cores > 4) {
+      threadCounts.add(cores);
+    }
+
+    float[] expected = null;
+    for (int threads : threadCounts) {
+      Map<String, OnnxSessionOptions> configurations = new LinkedHashMap<>();
+      configurations.put("shared", OnnxSessionOptions.defaults());
+      configurations.put("shared-intra1", OnnxSessionOptions.builder().intraOpThreads(1).build());
+      configurations.put(
+          "pool",
+          OnnxSessionOptions.builder()
+              .sessionPoolSize(threads)
+              .intraOpThreads(Math.max(1, cores / threads))
+              .executionMode(ExecutionMode.SEQUENTIAL)
+              .build());
+
+      StringBuilder report = new StringBuilder();
+      for (Map.Entry<String, OnnxSessionOptions> configuration : configurations.entrySet()) {
+        SentenceTransformersVectorizer vectorizer =
+            new SentenceTransformersVectorizer(MODEL, configuration.getValue());
+        try {
+          double rate = textsPerSecond(vectorizer, threads);
+          report.append(String.format(" | %s %,.1f", configuration.getKey(), rate));
+          // Threading settings only change the order of floating point sums
+          float[] embedding = vectorizer.embed(REFERENCE_TEXT, null, false, true);
+          if (expected == null) {
+            expected = embedding;
+          } else {
+            assertThat(embedding).containsExactly(expected, within(1e-4f));
+          }
+        } finally {
+          vectorizer.close();
+        }
+      }
+      System.out.printf("%2d threads (%d cores), texts/s%s%n", threads, cores, report);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.redis.vl.utils.vectorize;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +74,20 @@ class SentenceTransformersVectorizerTest {
     assertThat(cosineDist).isBetween(0.07, 0.17);
   }
 
+  @Test
+  void testMixedLengthBatchMatchesSingleEmbeddings() {
+    String longText = "Redis is an in-memory data store used as a vector database. ".repeat(20);
+    List<String> texts = List.of("are aliens real?", longText, "hello", "what is redis?");
+
+    List<float[]> batch = vectorizer.embedBatch(texts, null, 2, false, true);
+
+    assertThat(batch).hasSize(texts.size());
+    for (int i = 0; i < texts.size(); i++) {
+      float[] single = vectorizer.embed(texts.get(i), null, false, true);
+      assertThat(computeCosineDistance(batch.get(i), single)).isLessThan(1e-4);
+    }
+  }
+
   private double computeL2Norm(float[] vector) {
     double sum = 0.0;
     for (float v : vector) {
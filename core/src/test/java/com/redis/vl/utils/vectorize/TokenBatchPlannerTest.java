@@ -0,0 +1,68 @@
+package com.redis.vl.utils.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for TokenBatchPlanner */
+@DisplayName("TokenBatchPlanner Tests")
+class TokenBatchPlannerTest {
+
+  @Test
+  @DisplayName("Should group texts by length within the item cap")
+  void shouldGroupByLength() {
+    int[] lengths = {10, 500, 12, 11, 480, 9};
+
+    List<int[]> batches = TokenBatchPlanner.plan(lengths, 3, 100_000);
+
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0)).containsExactly(5, 0, 3);
+    assertThat(batches.get(1)).containsExactly(2, 4, 1);
+  }
+
+  @Test
+  @DisplayName("Should cap batches by padded token count")
+  void shouldCapByTokens() {
+    int[] lengths = {8, 8, 8, 8, 64, 64, 300};
+
+    List<int[]> batches = TokenBatchPlanner.plan(lengths, 32, 128);
+
+    assertThat(batches).hasSize(3);
+    assertThat(batches.get(0)).containsExactly(0, 1, 2, 3);
+    assertThat(batches.get(1)).containsExactly(4, 5);
+    // Longer than the budget, so it runs alone
+    assertThat(batches.get(2)).containsExactly(6);
+  }
+
+  @Test
+  @DisplayName("Should plan every text exactly once")
+  void shouldCoverEveryText() {
+    int[] lengths = new int[100];
+    for (int i = 0; i < lengths.length; i++) {
+      lengths[i] = 3 + (i * 37) % 200;
+    }
+
+    List<int[]> batches = TokenBatchPlanner.plan(lengths, 16, 1024);
+
+    boolean[] seen = new boolean[lengths.length];
+    for (int[] batch : batches) {
+      int longest = 0;
+      for (int index : batch) {
+        assertThat(seen[index]).isFalse();
+        seen[index] = true;
+        longest = Math.max(longest, lengths[index]);
+      }
+      assertThat(batch.length).isLessThanOrEqualTo(16);
+      assertThat(batch.length == 1 || batch.length * longest <= 1024).isTrue();
+    }
+    assertThat(seen).doesNotContain(false);
+  }
+
+  @Test
+  @DisplayName("Should return no batches for no texts")
+  void shouldHandleEmptyInput() {
+    assertThat(TokenBatchPlanner.plan(new int[0], 8, 1024)).isEmpty();
+  }
+}